@@ -19,6 +19,7 @@ import org.hyperledger.besu.ethereum.api.graphql.GraphQLHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketService;
 import org.hyperledger.besu.ethereum.api.query.AutoTransactionLogBloomCachingService;
+import org.hyperledger.besu.ethereum.api.query.LogIndexingService;
 import org.hyperledger.besu.ethereum.api.query.TransactionLogBloomCacher;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.p2p.network.NetworkRunner;
@@ -70,6 +71,7 @@ public class Runner implements AutoCloseable {
   private final Optional<StratumServer> stratumServer;
   private final Optional<AutoTransactionLogBloomCachingService>
       autoTransactionLogBloomCachingService;
+  private final Optional<LogIndexingService> logIndexingService;
 
   Runner(
       final Vertx vertx,
@@ -85,6 +87,7 @@ public class Runner implements AutoCloseable {
       final Path dataDir,
       final Optional<Path> pidPath,
       final Optional<TransactionLogBloomCacher> transactionLogBloomCacher,
+      final Optional<LogIndexingService> logIndexingService,
       final Blockchain blockchain) {
     this.vertx = vertx;
     this.networkRunner = networkRunner;
@@ -101,12 +104,14 @@ public class Runner implements AutoCloseable {
     this.autoTransactionLogBloomCachingService =
         transactionLogBloomCacher.map(
             cacher -> new AutoTransactionLogBloomCachingService(blockchain, cacher));
+    this.logIndexingService = logIndexingService;
   }
 
   public void start() {
     try {
       LOG.info("Starting Ethereum main loop ... ");
       natService.start();
+      logIndexingService.ifPresent(LogIndexingService::start);
       networkRunner.start();
       if (networkRunner.getNetwork().isP2pEnabled()) {
         besuController.getSynchronizer().start();
@@ -151,6 +156,7 @@ public class Runner implements AutoCloseable {
     networkRunner.stop();
     waitForServiceToStop("Network", networkRunner::awaitStop);
     autoTransactionLogBloomCachingService.ifPresent(AutoTransactionLogBloomCachingService::stop);
+    logIndexingService.ifPresent(LogIndexingService::stop);
     natService.stop();
     besuController.close();
     vertx.close((res) -> vertxShutdownLatch.countDown());
@@ -32,6 +32,7 @@ import org.hyperledger.besu.ethereum.api.graphql.GraphQLProvider;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcApi;
+import org.hyperledger.besu.ethereum.api.jsonrpc.cache.JsonRpcResponseCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.LivenessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.ReadinessCheck;
@@ -51,6 +52,8 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.pending.
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.pending.PendingTransactionSubscriptionService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.SyncingSubscriptionService;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.LogIndex;
+import org.hyperledger.besu.ethereum.api.query.LogIndexingService;
 import org.hyperledger.besu.ethereum.api.query.PrivacyQueries;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
@@ -66,6 +69,7 @@ import org.hyperledger.besu.ethereum.p2p.config.DiscoveryConfiguration;
 import org.hyperledger.besu.ethereum.p2p.config.NetworkingConfiguration;
 import org.hyperledger.besu.ethereum.p2p.config.RlpxConfiguration;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
+import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeerCache;
 import org.hyperledger.besu.ethereum.p2p.network.DefaultP2PNetwork;
 import org.hyperledger.besu.ethereum.p2p.network.NetworkRunner;
 import org.hyperledger.besu.ethereum.p2p.network.NetworkRunner.NetworkBuilder;
@@ -163,6 +167,7 @@ public class RunnerBuilder {
   private Optional<String> identityString = Optional.empty();
   private BesuPluginContextImpl besuPluginContext;
   private boolean autoLogBloomCaching = true;
+  private boolean logIndexing = false;
 
   public RunnerBuilder vertx(final Vertx vertx) {
     this.vertx = vertx;
@@ -319,6 +324,11 @@ public class RunnerBuilder {
     return this;
   }
 
+  public RunnerBuilder logIndexing(final boolean logIndexing) {
+    this.logIndexing = logIndexing;
+    return this;
+  }
+
   public Runner build() {
 
     Preconditions.checkNotNull(besuController);
@@ -336,7 +346,9 @@ public class RunnerBuilder {
               .setBindHost(p2pListenInterface)
               .setBindPort(p2pListenPort)
               .setAdvertisedHost(p2pAdvertisedHost)
-              .setBootnodes(bootstrap);
+              .setBootnodes(bootstrap)
+              .setPeerCacheFile(
+                  dataDir.resolve(CACHE_PATH).resolve(DiscoveryPeerCache.DEFAULT_FILE_NAME));
     } else {
       discoveryConfiguration = DiscoveryConfiguration.create().setActive(false);
     }
@@ -364,7 +376,21 @@ public class RunnerBuilder {
             .setSupportedProtocols(subProtocols)
             .setClientId(BesuInfo.nodeName(identityString))
             .setLimitRemoteWireConnectionsEnabled(limitRemoteWireConnectionsEnabled)
-            .setFractionRemoteWireConnectionsAllowed(fractionRemoteConnectionsAllowed);
+            .setFractionRemoteWireConnectionsAllowed(fractionRemoteConnectionsAllowed)
+            .setWriteBufferWaterMarks(
+                networkingConfiguration.getRlpx().getWriteBufferLowWaterMark(),
+                networkingConfiguration.getRlpx().getWriteBufferHighWaterMark())
+            .setNativeTransportEnabled(networkingConfiguration.getRlpx().isNativeTransportEnabled())
+            .setNettyWorkerThreads(networkingConfiguration.getRlpx().getNettyWorkerThreads())
+            .setNettyDirectArenas(networkingConfiguration.getRlpx().getNettyDirectArenas())
+            .setSocketSendBufferSize(networkingConfiguration.getRlpx().getSocketSendBufferSize())
+            .setSocketReceiveBufferSize(
+                networkingConfiguration.getRlpx().getSocketReceiveBufferSize())
+            .setHandshakeThreads(networkingConfiguration.getRlpx().getHandshakeThreads())
+            .setMaxPendingInboundHandshakes(
+                networkingConfiguration.getRlpx().getMaxPendingInboundHandshakes())
+            .setMaxInboundHandshakesPerIpPerMinute(
+                networkingConfiguration.getRlpx().getMaxInboundHandshakesPerIpPerMinute());
     networkingConfiguration.setRlpx(rlpxConfiguration).setDiscovery(discoveryConfiguration);
 
     final PeerPermissionsDenylist bannedNodes = PeerPermissionsDenylist.create();
@@ -422,12 +448,20 @@ public class RunnerBuilder {
     final TransactionPool transactionPool = besuController.getTransactionPool();
     final MiningCoordinator miningCoordinator = besuController.getMiningCoordinator();
 
+    final Optional<LogIndex> logIndex =
+        logIndexing
+            ? Optional.of(
+                new LogIndex(
+                    context.getBlockchain(),
+                    besuController.getStorageProvider().createLogIndexStorage()))
+            : Optional.empty();
     final BlockchainQueries blockchainQueries =
         new BlockchainQueries(
             context.getBlockchain(),
             context.getWorldStateArchive(),
             Optional.of(dataDir.resolve(CACHE_PATH)),
-            Optional.of(besuController.getProtocolManager().ethContext().getScheduler()));
+            Optional.of(besuController.getProtocolManager().ethContext().getScheduler()),
+            logIndex);
 
     final PrivacyParameters privacyParameters = besuController.getPrivacyParameters();
 
@@ -453,7 +487,8 @@ public class RunnerBuilder {
                   miningCoordinator,
                   miningParameters.getStratumPort(),
                   miningParameters.getStratumNetworkInterface(),
-                  miningParameters.getStratumExtranonce()));
+                  miningParameters.getStratumExtranonce(),
+                  metricsSystem));
       miningCoordinator.addEthHashObserver(stratumServer.get());
     }
 
@@ -475,7 +510,7 @@ public class RunnerBuilder {
 
     Optional<JsonRpcHttpService> jsonRpcHttpService = Optional.empty();
     if (jsonRpcConfiguration.isEnabled()) {
-      final Map<String, JsonRpcMethod> jsonRpcMethods =
+      final Map<String, JsonRpcMethod> enabledJsonRpcMethods =
           jsonRpcMethods(
               protocolSchedule,
               besuController,
@@ -496,6 +531,11 @@ public class RunnerBuilder {
               metricsConfiguration,
               natService,
               besuPluginContext.getNamedPlugins());
+      final Map<String, JsonRpcMethod> jsonRpcMethods =
+          jsonRpcConfiguration.isResponseCacheEnabled()
+              ? new JsonRpcResponseCache(context.getBlockchain(), metricsSystem)
+                  .decorate(enabledJsonRpcMethods)
+              : enabledJsonRpcMethods;
       jsonRpcHttpService =
           Optional.of(
               new JsonRpcHttpService(
@@ -521,7 +561,8 @@ public class RunnerBuilder {
               synchronizer);
       final GraphQL graphQL;
       try {
-        graphQL = GraphQLProvider.buildGraphQL(fetchers);
+        graphQL =
+            GraphQLProvider.buildGraphQL(fetchers, graphQLConfiguration.getMaxQueryComplexity());
       } catch (final IOException ioe) {
         throw new RuntimeException(ioe);
       }
@@ -626,6 +667,12 @@ public class RunnerBuilder {
         dataDir,
         pidPath,
         autoLogBloomCaching ? blockchainQueries.getTransactionLogBloomCacher() : Optional.empty(),
+        logIndex.map(
+            index ->
+                new LogIndexingService(
+                    context.getBlockchain(),
+                    index,
+                    besuController.getProtocolManager().ethContext().getScheduler())),
         context.getBlockchain());
   }
 
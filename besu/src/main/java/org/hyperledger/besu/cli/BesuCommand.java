@@ -23,7 +23,9 @@ import static org.hyperledger.besu.cli.config.NetworkName.MAINNET;
 import static org.hyperledger.besu.cli.util.CommandLineUtils.DEPENDENCY_WARNING_MSG;
 import static org.hyperledger.besu.controller.BesuController.DATABASE_PATH;
 import static org.hyperledger.besu.ethereum.api.graphql.GraphQLConfiguration.DEFAULT_GRAPHQL_HTTP_PORT;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_EXPENSIVE_REQUEST_THREADS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_JSON_RPC_PORT;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_MAX_QUEUED_REQUESTS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.RpcApis.DEFAULT_JSON_RPC_APIS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketConfiguration.DEFAULT_WEBSOCKET_PORT;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_REMOTE_SEALERS_LIMIT;
@@ -80,6 +82,7 @@ import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcApi;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcApis;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketConfiguration;
 import org.hyperledger.besu.ethereum.api.tls.FileBasedPasswordProvider;
 import org.hyperledger.besu.ethereum.api.tls.TlsClientAuthConfiguration;
@@ -463,6 +466,15 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
   private final CorsAllowedOriginsProperty graphQLHttpCorsAllowedOrigins =
       new CorsAllowedOriginsProperty();
 
+  @Option(
+      names = {"--graphql-http-max-query-complexity"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Maximum complexity of a GraphQL query, counting each selected field once per block of a requested range (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer graphQLHttpMaxQueryComplexity =
+      GraphQLConfiguration.DEFAULT_MAX_QUERY_COMPLEXITY;
+
   @Option(
       names = {"--rpc-http-enabled"},
       description = "Set to start the JSON-RPC HTTP service (default: ${DEFAULT-VALUE})")
@@ -560,6 +572,37 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
           "Enable to accept clients certificate signed by a valid CA for client authentication (default: ${DEFAULT-VALUE})")
   private final Boolean isRpcHttpTlsCAClientsEnabled = false;
 
+  @Option(
+      names = {"--rpc-http-max-queued-requests"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Maximum number of JSON-RPC HTTP requests waiting for each worker pool before further requests are rejected (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rpcHttpMaxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+
+  @Option(
+      names = {"--rpc-http-expensive-method-threads"},
+      paramLabel = MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Number of threads serving expensive JSON-RPC HTTP methods such as tracing and log queries (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rpcHttpExpensiveMethodThreads = DEFAULT_EXPENSIVE_REQUEST_THREADS;
+
+  @Option(
+      names = {"--rpc-http-method-concurrency-limits"},
+      paramLabel = "METHOD=LIMIT",
+      description =
+          "Maximum number of concurrent JSON-RPC HTTP requests for a method, further requests are rejected (default: no limit)",
+      arity = "*",
+      split = ",")
+  private final Map<String, Integer> rpcHttpMethodConcurrencyLimits = new HashMap<>();
+
+  @Option(
+      names = {"--rpc-http-response-cache-enabled"},
+      description =
+          "Cache responses of JSON-RPC HTTP methods that only depend on the canonical chain until the chain head changes (default: ${DEFAULT-VALUE})")
+  private final Boolean isRpcHttpResponseCacheEnabled = false;
+
   @Option(
       names = {"--rpc-ws-enabled"},
       description = "Set to start the JSON-RPC WebSocket service (default: ${DEFAULT-VALUE})")
@@ -763,6 +806,20 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
           "Specifies the lifetime of each entry in the cache. An entry will be automatically deleted if no update has been received before the deadline (default: ${DEFAULT-VALUE} minutes)")
   private final Long remoteSealersTimeToLive = DEFAULT_REMOTE_SEALERS_TTL;
 
+  @Option(
+      hidden = true,
+      names = {"--Xminer-continuous-block-building-enabled"},
+      description =
+          "Set if Clique and IBFT proposers build their next block from pending transactions while waiting for it to be due (default: ${DEFAULT-VALUE})")
+  private final Boolean isContinuousBlockBuildingEnabled = false;
+
+  @Option(
+      hidden = true,
+      names = {"--Xminer-ethash-full-dataset-enabled"},
+      description =
+          "Set if EthHash mining uses the full dataset of each epoch, generated in the background and stored in the data directory (default: ${DEFAULT-VALUE})")
+  private final Boolean isEthHashFullDatasetEnabled = false;
+
   @SuppressWarnings({"FieldCanBeFinal", "FieldMayBeFinal"}) // PicoCLI requires non-final Strings.
   @Option(
       hidden = true,
@@ -979,6 +1036,13 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
       arity = "1")
   private final Boolean autoLogBloomCachingEnabled = true;
 
+  @Option(
+      names = {"--log-index-enabled"},
+      description =
+          "Maintain an index of log addresses and topics to speed up log queries (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Boolean logIndexEnabled = false;
+
   @Option(
       names = {"--override-genesis-config"},
       paramLabel = "NAME=VALUE",
@@ -1536,7 +1600,9 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
                 Optional.empty(),
                 minBlockOccupancyRatio,
                 remoteSealersLimit,
-                remoteSealersTimeToLive))
+                remoteSealersTimeToLive,
+                isContinuousBlockBuildingEnabled,
+                isEthHashFullDatasetEnabled))
         .transactionPoolConfiguration(buildTransactionPoolConfiguration())
         .nodeKey(buildNodeKey())
         .metricsSystem(metricsSystem.get())
@@ -1560,7 +1626,16 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
         commandLine,
         "--graphql-http-enabled",
         !isGraphQLHttpEnabled,
-        asList("--graphql-http-cors-origins", "--graphql-http-host", "--graphql-http-port"));
+        asList(
+            "--graphql-http-cors-origins",
+            "--graphql-http-host",
+            "--graphql-http-port",
+            "--graphql-http-max-query-complexity"));
+
+    if (graphQLHttpMaxQueryComplexity < 1) {
+      throw new ParameterException(
+          commandLine, "--graphql-http-max-query-complexity must be greater than zero");
+    }
 
     final GraphQLConfiguration graphQLConfiguration = GraphQLConfiguration.createDefault();
     graphQLConfiguration.setEnabled(isGraphQLHttpEnabled);
@@ -1569,6 +1644,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     graphQLConfiguration.setHostsAllowlist(hostsAllowlist);
     graphQLConfiguration.setCorsAllowedDomains(graphQLHttpCorsAllowedOrigins);
     graphQLConfiguration.setHttpTimeoutSec(httpTimeoutSec);
+    graphQLConfiguration.setMaxQueryComplexity(graphQLHttpMaxQueryComplexity);
 
     return graphQLConfiguration;
   }
@@ -1596,7 +1672,13 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             "--rpc-http-tls-keystore-password-file",
             "--rpc-http-tls-client-auth-enabled",
             "--rpc-http-tls-known-clients-file",
-            "--rpc-http-tls-ca-clients-enabled"));
+            "--rpc-http-tls-ca-clients-enabled",
+            "--rpc-http-max-queued-requests",
+            "--rpc-http-expensive-method-threads",
+            "--rpc-http-method-concurrency-limits",
+            "--rpc-http-response-cache-enabled"));
+
+    checkRpcHttpRequestLimits();
 
     if (isRpcHttpAuthenticationEnabled
         && rpcHttpAuthenticationCredentialsFile() == null
@@ -1618,9 +1700,39 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     jsonRpcConfiguration.setAuthenticationPublicKeyFile(rpcHttpAuthenticationPublicKeyFile);
     jsonRpcConfiguration.setTlsConfiguration(rpcHttpTlsConfiguration());
     jsonRpcConfiguration.setHttpTimeoutSec(httpTimeoutSec);
+    jsonRpcConfiguration.setMaxQueuedRequests(rpcHttpMaxQueuedRequests);
+    jsonRpcConfiguration.setExpensiveRequestThreads(rpcHttpExpensiveMethodThreads);
+    jsonRpcConfiguration.setMethodConcurrencyLimits(rpcHttpMethodConcurrencyLimits);
+    jsonRpcConfiguration.setResponseCacheEnabled(isRpcHttpResponseCacheEnabled);
     return jsonRpcConfiguration;
   }
 
+  private void checkRpcHttpRequestLimits() {
+    if (rpcHttpMaxQueuedRequests < 1) {
+      throw new ParameterException(
+          commandLine, "--rpc-http-max-queued-requests must be greater than zero");
+    }
+    if (rpcHttpExpensiveMethodThreads < 1) {
+      throw new ParameterException(
+          commandLine, "--rpc-http-expensive-method-threads must be greater than zero");
+    }
+    rpcHttpMethodConcurrencyLimits.forEach(
+        (method, limit) -> {
+          if (!RpcMethod.rpcMethodExists(method)) {
+            throw new ParameterException(
+                commandLine,
+                String.format(
+                    "Invalid method for --rpc-http-method-concurrency-limits: %s", method));
+          }
+          if (limit < 1) {
+            throw new ParameterException(
+                commandLine,
+                String.format(
+                    "Concurrency limit for %s must be greater than zero: %d", method, limit));
+          }
+        });
+  }
+
   private void checkRpcTlsOptionsDependencies() {
     CommandLineUtils.checkOptionDependencies(
         logger,
@@ -2088,6 +2200,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
             .identityString(identityString)
             .besuPluginContext(besuPluginContext)
             .autoLogBloomCaching(autoLogBloomCachingEnabled)
+            .logIndexing(logIndexEnabled)
             .ethstatsUrl(ethstatsOptions.getEthstatsUrl())
             .ethstatsContact(ethstatsOptions.getEthstatsContact())
             .build();
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.cli.options;
 
 import org.hyperledger.besu.ethereum.p2p.config.NetworkingConfiguration;
+import org.hyperledger.besu.ethereum.p2p.config.RlpxConfiguration;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +27,18 @@ public class NetworkingOptions implements CLIOptions<NetworkingConfiguration> {
       "--Xp2p-initiate-connections-frequency";
   private final String CHECK_MAINTAINED_CONNECTIONS_FREQUENCY_FLAG =
       "--Xp2p-check-maintained-connections-frequency";
+  private final String WRITE_BUFFER_LOW_WATER_MARK_FLAG = "--Xp2p-write-buffer-low-water-mark";
+  private final String WRITE_BUFFER_HIGH_WATER_MARK_FLAG = "--Xp2p-write-buffer-high-water-mark";
+  private final String NATIVE_TRANSPORT_ENABLED_FLAG = "--Xp2p-native-transport-enabled";
+  private final String NETTY_WORKER_THREADS_FLAG = "--Xp2p-netty-worker-threads";
+  private final String NETTY_DIRECT_ARENAS_FLAG = "--Xp2p-netty-direct-arenas";
+  private final String SOCKET_SEND_BUFFER_SIZE_FLAG = "--Xp2p-socket-send-buffer-size";
+  private final String SOCKET_RECEIVE_BUFFER_SIZE_FLAG = "--Xp2p-socket-receive-buffer-size";
+  private final String HANDSHAKE_THREADS_FLAG = "--Xp2p-handshake-threads";
+  private final String MAX_PENDING_INBOUND_HANDSHAKES_FLAG =
+      "--Xp2p-max-pending-inbound-handshakes";
+  private final String MAX_INBOUND_HANDSHAKES_PER_IP_FLAG =
+      "--Xp2p-max-inbound-handshakes-per-ip-per-minute";
 
   @CommandLine.Option(
       names = INITIATE_CONNECTIONS_FREQUENCY_FLAG,
@@ -47,6 +60,99 @@ public class NetworkingOptions implements CLIOptions<NetworkingConfiguration> {
   private int checkMaintainedConnectionsFrequencySec =
       NetworkingConfiguration.DEFAULT_CHECK_MAINTAINED_CONNECTSION_FREQUENCY_SEC;
 
+  @CommandLine.Option(
+      names = WRITE_BUFFER_LOW_WATER_MARK_FLAG,
+      hidden = true,
+      defaultValue = "524288",
+      paramLabel = "<INTEGER>",
+      description =
+          "The number of bytes queued for a peer below which the connection accepts deferrable messages again (default: ${DEFAULT-VALUE})")
+  private int writeBufferLowWaterMark = RlpxConfiguration.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+
+  @CommandLine.Option(
+      names = WRITE_BUFFER_HIGH_WATER_MARK_FLAG,
+      hidden = true,
+      defaultValue = "1048576",
+      paramLabel = "<INTEGER>",
+      description =
+          "The number of bytes queued for a peer above which deferrable messages are held back (default: ${DEFAULT-VALUE})")
+  private int writeBufferHighWaterMark = RlpxConfiguration.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+
+  @CommandLine.Option(
+      names = NATIVE_TRANSPORT_ENABLED_FLAG,
+      hidden = true,
+      defaultValue = "true",
+      paramLabel = "<Boolean>",
+      description =
+          "Use the native epoll transport for peer connections when it is available (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Boolean nativeTransportEnabled = true;
+
+  @CommandLine.Option(
+      names = NETTY_WORKER_THREADS_FLAG,
+      hidden = true,
+      defaultValue = "10",
+      paramLabel = "<INTEGER>",
+      description =
+          "The number of event loop threads serving peer connections (default: ${DEFAULT-VALUE})")
+  private int nettyWorkerThreads = RlpxConfiguration.DEFAULT_NETTY_WORKER_THREADS;
+
+  @CommandLine.Option(
+      names = NETTY_DIRECT_ARENAS_FLAG,
+      hidden = true,
+      defaultValue = "0",
+      paramLabel = "<INTEGER>",
+      description =
+          "The number of direct memory arenas of the buffer pool used by peer connections, 0 to share Netty's default pool (default: ${DEFAULT-VALUE})")
+  private int nettyDirectArenas = 0;
+
+  @CommandLine.Option(
+      names = SOCKET_SEND_BUFFER_SIZE_FLAG,
+      hidden = true,
+      defaultValue = "0",
+      paramLabel = "<INTEGER>",
+      description =
+          "The socket send buffer size in bytes of peer connections, 0 for the system default (default: ${DEFAULT-VALUE})")
+  private int socketSendBufferSize = 0;
+
+  @CommandLine.Option(
+      names = SOCKET_RECEIVE_BUFFER_SIZE_FLAG,
+      hidden = true,
+      defaultValue = "0",
+      paramLabel = "<INTEGER>",
+      description =
+          "The socket receive buffer size in bytes of peer connections, 0 for the system default (default: ${DEFAULT-VALUE})")
+  private int socketReceiveBufferSize = 0;
+
+  @CommandLine.Option(
+      names = HANDSHAKE_THREADS_FLAG,
+      hidden = true,
+      defaultValue = "4",
+      paramLabel = "<INTEGER>",
+      description =
+          "The number of threads performing the encryption handshake of new peer connections (default: ${DEFAULT-VALUE})")
+  private int handshakeThreads = RlpxConfiguration.DEFAULT_HANDSHAKE_THREADS;
+
+  @CommandLine.Option(
+      names = MAX_PENDING_INBOUND_HANDSHAKES_FLAG,
+      hidden = true,
+      defaultValue = "256",
+      paramLabel = "<INTEGER>",
+      description =
+          "The maximum number of incoming peer connections that may be handshaking at the same time (default: ${DEFAULT-VALUE})")
+  private int maxPendingInboundHandshakes =
+      RlpxConfiguration.DEFAULT_MAX_PENDING_INBOUND_HANDSHAKES;
+
+  @CommandLine.Option(
+      names = MAX_INBOUND_HANDSHAKES_PER_IP_FLAG,
+      hidden = true,
+      defaultValue = "60",
+      paramLabel = "<INTEGER>",
+      description =
+          "The maximum number of incoming peer connections accepted from a single IP address per minute (default: ${DEFAULT-VALUE})")
+  private int maxInboundHandshakesPerIpPerMinute =
+      RlpxConfiguration.DEFAULT_MAX_INBOUND_HANDSHAKES_PER_IP_PER_MINUTE;
+
   private NetworkingOptions() {}
 
   public static NetworkingOptions create() {
@@ -59,6 +165,18 @@ public class NetworkingOptions implements CLIOptions<NetworkingConfiguration> {
         networkingConfig.getCheckMaintainedConnectionsFrequencySec();
     cliOptions.initiateConnectionsFrequencySec =
         networkingConfig.getInitiateConnectionsFrequencySec();
+    cliOptions.writeBufferLowWaterMark = networkingConfig.getRlpx().getWriteBufferLowWaterMark();
+    cliOptions.writeBufferHighWaterMark = networkingConfig.getRlpx().getWriteBufferHighWaterMark();
+    cliOptions.nativeTransportEnabled = networkingConfig.getRlpx().isNativeTransportEnabled();
+    cliOptions.nettyWorkerThreads = networkingConfig.getRlpx().getNettyWorkerThreads();
+    cliOptions.nettyDirectArenas = networkingConfig.getRlpx().getNettyDirectArenas();
+    cliOptions.socketSendBufferSize = networkingConfig.getRlpx().getSocketSendBufferSize();
+    cliOptions.socketReceiveBufferSize = networkingConfig.getRlpx().getSocketReceiveBufferSize();
+    cliOptions.handshakeThreads = networkingConfig.getRlpx().getHandshakeThreads();
+    cliOptions.maxPendingInboundHandshakes =
+        networkingConfig.getRlpx().getMaxPendingInboundHandshakes();
+    cliOptions.maxInboundHandshakesPerIpPerMinute =
+        networkingConfig.getRlpx().getMaxInboundHandshakesPerIpPerMinute();
     return cliOptions;
   }
 
@@ -67,6 +185,17 @@ public class NetworkingOptions implements CLIOptions<NetworkingConfiguration> {
     NetworkingConfiguration config = NetworkingConfiguration.create();
     config.setCheckMaintainedConnectionsFrequency(checkMaintainedConnectionsFrequencySec);
     config.setInitiateConnectionsFrequency(initiateConnectionsFrequencySec);
+    config
+        .getRlpx()
+        .setWriteBufferWaterMarks(writeBufferLowWaterMark, writeBufferHighWaterMark)
+        .setNativeTransportEnabled(nativeTransportEnabled)
+        .setNettyWorkerThreads(nettyWorkerThreads)
+        .setNettyDirectArenas(nettyDirectArenas)
+        .setSocketSendBufferSize(socketSendBufferSize)
+        .setSocketReceiveBufferSize(socketReceiveBufferSize)
+        .setHandshakeThreads(handshakeThreads)
+        .setMaxPendingInboundHandshakes(maxPendingInboundHandshakes)
+        .setMaxInboundHandshakesPerIpPerMinute(maxInboundHandshakesPerIpPerMinute);
     return config;
   }
 
@@ -76,6 +205,26 @@ public class NetworkingOptions implements CLIOptions<NetworkingConfiguration> {
         CHECK_MAINTAINED_CONNECTIONS_FREQUENCY_FLAG,
         OptionParser.format(checkMaintainedConnectionsFrequencySec),
         INITIATE_CONNECTIONS_FREQUENCY_FLAG,
-        OptionParser.format(initiateConnectionsFrequencySec));
+        OptionParser.format(initiateConnectionsFrequencySec),
+        WRITE_BUFFER_LOW_WATER_MARK_FLAG,
+        OptionParser.format(writeBufferLowWaterMark),
+        WRITE_BUFFER_HIGH_WATER_MARK_FLAG,
+        OptionParser.format(writeBufferHighWaterMark),
+        NATIVE_TRANSPORT_ENABLED_FLAG,
+        nativeTransportEnabled.toString(),
+        NETTY_WORKER_THREADS_FLAG,
+        OptionParser.format(nettyWorkerThreads),
+        NETTY_DIRECT_ARENAS_FLAG,
+        OptionParser.format(nettyDirectArenas),
+        SOCKET_SEND_BUFFER_SIZE_FLAG,
+        OptionParser.format(socketSendBufferSize),
+        SOCKET_RECEIVE_BUFFER_SIZE_FLAG,
+        OptionParser.format(socketReceiveBufferSize),
+        HANDSHAKE_THREADS_FLAG,
+        OptionParser.format(handshakeThreads),
+        MAX_PENDING_INBOUND_HANDSHAKES_FLAG,
+        OptionParser.format(maxPendingInboundHandshakes),
+        MAX_INBOUND_HANDSHAKES_PER_IP_FLAG,
+        OptionParser.format(maxInboundHandshakesPerIpPerMinute));
   }
 }
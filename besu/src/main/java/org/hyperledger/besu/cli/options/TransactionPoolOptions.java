@@ -24,6 +24,7 @@ import picocli.CommandLine;
 public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfiguration.Builder> {
   private static final String TX_MESSAGE_KEEP_ALIVE_SEC_FLAG =
       "--Xincoming-tx-messages-keep-alive-seconds";
+  private static final String TX_POOL_MAX_BYTES_FLAG = "--Xtx-pool-max-bytes";
 
   @CommandLine.Option(
       names = {TX_MESSAGE_KEEP_ALIVE_SEC_FLAG},
@@ -35,6 +36,15 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
   private Integer txMessageKeepAliveSeconds =
       TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE;
 
+  @CommandLine.Option(
+      names = {TX_POOL_MAX_BYTES_FLAG},
+      paramLabel = "<LONG>",
+      hidden = true,
+      description =
+          "Maximum estimated memory, in bytes, used by pending transactions before the remote transactions paying the least gas price per byte are evicted (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private Long txPoolMaxBytes = TransactionPoolConfiguration.MAX_PENDING_TRANSACTIONS_BYTES;
+
   private TransactionPoolOptions() {}
 
   public static TransactionPoolOptions create() {
@@ -44,18 +54,23 @@ public class TransactionPoolOptions implements CLIOptions<TransactionPoolConfigu
   public static TransactionPoolOptions fromConfig(final TransactionPoolConfiguration config) {
     final TransactionPoolOptions options = TransactionPoolOptions.create();
     options.txMessageKeepAliveSeconds = config.getTxMessageKeepAliveSeconds();
+    options.txPoolMaxBytes = config.getTxPoolMaxBytes();
     return options;
   }
 
   @Override
   public TransactionPoolConfiguration.Builder toDomainObject() {
     return TransactionPoolConfiguration.builder()
-        .txMessageKeepAliveSeconds(txMessageKeepAliveSeconds);
+        .txMessageKeepAliveSeconds(txMessageKeepAliveSeconds)
+        .txPoolMaxBytes(txPoolMaxBytes);
   }
 
   @Override
   public List<String> getCLIOptions() {
     return Arrays.asList(
-        TX_MESSAGE_KEEP_ALIVE_SEC_FLAG, OptionParser.format(txMessageKeepAliveSeconds));
+        TX_MESSAGE_KEEP_ALIVE_SEC_FLAG,
+        OptionParser.format(txMessageKeepAliveSeconds),
+        TX_POOL_MAX_BYTES_FLAG,
+        OptionParser.format(txPoolMaxBytes));
   }
 }
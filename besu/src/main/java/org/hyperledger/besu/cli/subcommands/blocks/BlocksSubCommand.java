@@ -249,7 +249,9 @@ public class BlocksSubCommand implements Runnable {
           Optional.of(new IncrementingNonceGenerator(0)),
           0.0,
           DEFAULT_REMOTE_SEALERS_LIMIT,
-          DEFAULT_REMOTE_SEALERS_TTL);
+          DEFAULT_REMOTE_SEALERS_TTL,
+          false,
+          false);
     }
 
     private void importJsonBlocks(final BesuController controller, final Path path)
@@ -0,0 +1,98 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ */
+package org.hyperledger.besu.cli.subcommands.operator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.hyperledger.besu.cli.DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP;
+
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.ethereum.api.query.LogIndex;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParentCommand;
+
+@Command(
+    name = "generate-log-index",
+    description = "Backfill the index of log addresses and topics used by log queries.",
+    mixinStandardHelpOptions = true)
+public class GenerateLogIndex implements Runnable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int BATCH_SIZE = 10_000;
+
+  @Option(
+      names = "--start-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description = "The block to start indexing from (default: ${DEFAULT-VALUE})",
+      arity = "1..1")
+  private final Long startBlock = 0L;
+
+  @Option(
+      names = "--end-block",
+      paramLabel = MANDATORY_LONG_FORMAT_HELP,
+      description = "The block to stop indexing at (default is last block of the chain).",
+      arity = "1..1")
+  private final Long endBlock = Long.MAX_VALUE;
+
+  @ParentCommand private OperatorSubCommand parentCommand;
+
+  @Override
+  public void run() {
+    checkPreconditions();
+    final BesuController besuController = createBesuController();
+    try {
+      final MutableBlockchain blockchain = besuController.getProtocolContext().getBlockchain();
+      final LogIndex logIndex =
+          new LogIndex(blockchain, besuController.getStorageProvider().createLogIndexStorage());
+      final long finalBlock = Math.min(blockchain.getChainHeadBlockNumber(), endBlock);
+      LOG.info("Indexing logs from block {} to block {}", startBlock, finalBlock);
+      for (long from = startBlock; from <= finalBlock; from += BATCH_SIZE) {
+        final long to = Math.min(finalBlock, from + BATCH_SIZE - 1);
+        final long indexedTo = logIndex.indexBlocks(from, to);
+        if (indexedTo < to) {
+          LOG.error("Unable to index logs of block {}, receipts are not available", indexedTo + 1);
+          break;
+        }
+        LOG.info("Indexed logs up to block {}", indexedTo);
+      }
+      logIndex
+          .getIndexedRange()
+          .ifPresent(
+              range ->
+                  LOG.info(
+                      "Log index covers blocks {} to {}",
+                      range.getFirstBlock(),
+                      range.getLastBlock()));
+    } finally {
+      besuController.close();
+    }
+  }
+
+  private void checkPreconditions() {
+    checkNotNull(parentCommand.parentCommand.dataDir());
+    checkState(startBlock >= 0, "Start block must not be negative");
+    checkState(startBlock <= endBlock, "Start block must not be after end block");
+  }
+
+  private BesuController createBesuController() {
+    return parentCommand.parentCommand.buildController();
+  }
+}
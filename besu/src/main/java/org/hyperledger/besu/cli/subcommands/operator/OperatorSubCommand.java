@@ -33,6 +33,7 @@ import picocli.CommandLine.Spec;
     subcommands = {
       GenerateBlockchainConfig.class,
       GenerateLogBloomCache.class,
+      GenerateLogIndex.class,
       BackupState.class,
       RestoreState.class
     })
@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
+import org.hyperledger.besu.ethereum.storage.StorageProvider;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -47,6 +48,7 @@ public class BesuController implements java.io.Closeable {
 
   public static final String DATABASE_PATH = "database";
   public static final String CACHE_PATH = "caches";
+  public static final String ETHASH_DATASET_PATH = "ethash";
   private final ProtocolSchedule protocolSchedule;
   private final ProtocolContext protocolContext;
   private final EthProtocolManager ethProtocolManager;
@@ -63,6 +65,7 @@ public class BesuController implements java.io.Closeable {
   private final MiningParameters miningParameters;
   private final PluginServiceFactory additionalPluginServices;
   private final SyncState syncState;
+  private final StorageProvider storageProvider;
 
   BesuController(
       final ProtocolSchedule protocolSchedule,
@@ -79,7 +82,8 @@ public class BesuController implements java.io.Closeable {
       final JsonRpcMethods additionalJsonRpcMethodsFactory,
       final NodeKey nodeKey,
       final List<Closeable> closeables,
-      final PluginServiceFactory additionalPluginServices) {
+      final PluginServiceFactory additionalPluginServices,
+      final StorageProvider storageProvider) {
     this.protocolSchedule = protocolSchedule;
     this.protocolContext = protocolContext;
     this.ethProtocolManager = ethProtocolManager;
@@ -95,6 +99,7 @@ public class BesuController implements java.io.Closeable {
     this.closeables = closeables;
     this.miningParameters = miningParameters;
     this.additionalPluginServices = additionalPluginServices;
+    this.storageProvider = storageProvider;
   }
 
   public ProtocolContext getProtocolContext() {
@@ -167,6 +172,10 @@ public class BesuController implements java.io.Closeable {
     return additionalPluginServices;
   }
 
+  public StorageProvider getStorageProvider() {
+    return storageProvider;
+  }
+
   public static class Builder {
 
     public BesuControllerBuilder fromEthNetworkConfig(final EthNetworkConfig ethNetworkConfig) {
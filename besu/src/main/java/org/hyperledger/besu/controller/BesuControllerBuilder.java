@@ -38,6 +38,7 @@ import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.eth.manager.ForkIdManager;
 import org.hyperledger.besu.ethereum.eth.peervalidation.ClassicForkPeerValidator;
 import org.hyperledger.besu.ethereum.eth.peervalidation.DaoForkPeerValidator;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
@@ -345,7 +346,8 @@ public abstract class BesuControllerBuilder {
         additionalJsonRpcMethodFactory,
         nodeKey,
         closeables,
-        additionalPluginServices);
+        additionalPluginServices,
+        storageProvider);
   }
 
   protected void prepForBuild() {}
@@ -401,7 +403,8 @@ public abstract class BesuControllerBuilder {
         peerValidators,
         fastSyncEnabled,
         scheduler,
-        genesisConfig.getForks());
+        new ForkIdManager(protocolContext.getBlockchain(), genesisConfig.getForks()),
+        metricsSystem);
   }
 
   private List<PeerValidator> createPeerValidators(final ProtocolSchedule protocolSchedule) {
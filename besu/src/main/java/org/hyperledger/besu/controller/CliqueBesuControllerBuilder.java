@@ -92,7 +92,8 @@ public class CliqueBesuControllerBuilder extends BesuControllerBuilder {
                 localAddress,
                 secondsBetweenBlocks),
             epochManager,
-            gasLimitCalculator);
+            gasLimitCalculator,
+            metricsSystem);
     final CliqueMiningCoordinator miningCoordinator =
         new CliqueMiningCoordinator(
             protocolContext.getBlockchain(),
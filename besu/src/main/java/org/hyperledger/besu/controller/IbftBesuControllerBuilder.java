@@ -126,7 +126,8 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder {
             protocolSchedule,
             miningParameters,
             localAddress,
-            ibftConfig.getMiningBeneficiary().map(Address::fromHexString).orElse(localAddress));
+            ibftConfig.getMiningBeneficiary().map(Address::fromHexString).orElse(localAddress),
+            metricsSystem);
 
     // NOTE: peers should not be used for accessing the network as it does not enforce the
     // "only send once" filter applied by the UniqueMessageMulticaster.
@@ -155,7 +156,8 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder {
                 ibftEventQueue, ibftConfig.getBlockPeriodSeconds(), ibftExecutors, clock),
             blockCreatorFactory,
             new MessageFactory(nodeKey),
-            clock);
+            clock,
+            ibftExecutors);
 
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(proposerSelector, protocolSchedule, protocolContext);
@@ -17,6 +17,7 @@ package org.hyperledger.besu.cli;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.hyperledger.besu.cli.config.NetworkName.CLASSIC;
 import static org.hyperledger.besu.cli.config.NetworkName.DEV;
 import static org.hyperledger.besu.cli.config.NetworkName.GOERLI;
@@ -180,6 +181,7 @@ public class BesuCommandTest extends CommandTestAbstract {
     verify(mockRunnerBuilder).metricsConfiguration(eq(DEFAULT_METRICS_CONFIGURATION));
     verify(mockRunnerBuilder).ethNetworkConfig(ethNetworkArg.capture());
     verify(mockRunnerBuilder).autoLogBloomCaching(eq(true));
+    verify(mockRunnerBuilder).logIndexing(eq(false));
     verify(mockRunnerBuilder).build();
 
     verify(mockControllerBuilderFactory).fromEthNetworkConfig(ethNetworkArg.capture(), any());
@@ -1662,6 +1664,70 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString()).isEmpty();
   }
 
+  @Test
+  public void rpcHttpRequestLimitOptionsMustBeUsed() {
+    parseCommand(
+        "--rpc-http-enabled",
+        "--rpc-http-max-queued-requests",
+        "50",
+        "--rpc-http-expensive-method-threads",
+        "2",
+        "--rpc-http-method-concurrency-limits",
+        "debug_traceBlock=1,eth_getLogs=3");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxQueuedRequests()).isEqualTo(50);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getExpensiveRequestThreads()).isEqualTo(2);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMethodConcurrencyLimits())
+        .containsOnly(entry("debug_traceBlock", 1), entry("eth_getLogs", 3));
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpRequestLimitsDefaultWhenNotSpecified() {
+    parseCommand("--rpc-http-enabled");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxQueuedRequests())
+        .isEqualTo(JsonRpcConfiguration.DEFAULT_MAX_QUEUED_REQUESTS);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getExpensiveRequestThreads())
+        .isEqualTo(JsonRpcConfiguration.DEFAULT_EXPENSIVE_REQUEST_THREADS);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMethodConcurrencyLimits()).isEmpty();
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpResponseCacheEnabledPropertyMustBeUsed() {
+    parseCommand("--rpc-http-enabled", "--rpc-http-response-cache-enabled");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().isResponseCacheEnabled()).isTrue();
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpMethodConcurrencyLimitsMustUseKnownMethods() {
+    parseCommand("--rpc-http-enabled", "--rpc-http-method-concurrency-limits", "eth_unknown=1");
+
+    verifyNoInteractions(mockRunnerBuilder);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString())
+        .contains("Invalid method for --rpc-http-method-concurrency-limits: eth_unknown");
+  }
+
   @Test
   public void rpcHttpHostMayBeLocalhost() {
 
@@ -1935,6 +2001,29 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString()).isEmpty();
   }
 
+  @Test
+  public void graphQLHttpMaxQueryComplexityOptionMustBeUsed() {
+    parseCommand("--graphql-http-enabled", "--graphql-http-max-query-complexity", "500");
+
+    verify(mockRunnerBuilder).graphQLConfiguration(graphQLConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(graphQLConfigArgumentCaptor.getValue().getMaxQueryComplexity()).isEqualTo(500);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void graphQLHttpMaxQueryComplexityMustBePositive() {
+    parseCommand("--graphql-http-enabled", "--graphql-http-max-query-complexity", "0");
+
+    verifyNoInteractions(mockRunnerBuilder);
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString())
+        .contains("--graphql-http-max-query-complexity must be greater than zero");
+  }
+
   @Test
   public void graphQLHttpHostMayBeLocalhost() {
 
@@ -2705,6 +2794,36 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(miningArg.getValue().getExtraData()).isEqualTo(Bytes.fromHexString(extraDataString));
   }
 
+  @Test
+  public void continuousBlockBuildingCanBeEnabled() {
+    parseCommand("--Xminer-continuous-block-building-enabled");
+
+    final ArgumentCaptor<MiningParameters> miningArg =
+        ArgumentCaptor.forClass(MiningParameters.class);
+
+    verify(mockControllerBuilder).miningParameters(miningArg.capture());
+    verify(mockControllerBuilder).build();
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(miningArg.getValue().isContinuousBlockBuildingEnabled()).isTrue();
+  }
+
+  @Test
+  public void ethHashFullDatasetCanBeEnabled() {
+    parseCommand("--Xminer-ethash-full-dataset-enabled");
+
+    final ArgumentCaptor<MiningParameters> miningArg =
+        ArgumentCaptor.forClass(MiningParameters.class);
+
+    verify(mockControllerBuilder).miningParameters(miningArg.capture());
+    verify(mockControllerBuilder).build();
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(miningArg.getValue().isEthHashFullDatasetEnabled()).isTrue();
+  }
+
   @Test
   public void colorCanBeEnabledOrDisabledExplicitly() {
     Stream.of(true, false)
@@ -17,6 +17,7 @@ package org.hyperledger.besu.cli.options;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.ethereum.p2p.config.NetworkingConfiguration;
+import org.hyperledger.besu.ethereum.p2p.config.RlpxConfiguration;
 
 import org.junit.Test;
 
@@ -71,6 +72,121 @@ public class NetworkingOptionsTest
     assertThat(commandOutput.toString()).isEmpty();
   }
 
+  @Test
+  public void writeBufferWaterMarkFlags_areSet() {
+    final TestBesuCommand cmd =
+        parseCommand(
+            "--Xp2p-write-buffer-low-water-mark",
+            "1024",
+            "--Xp2p-write-buffer-high-water-mark",
+            "4096");
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final NetworkingConfiguration networkingConfig = options.toDomainObject();
+    assertThat(networkingConfig.getRlpx().getWriteBufferLowWaterMark()).isEqualTo(1024);
+    assertThat(networkingConfig.getRlpx().getWriteBufferHighWaterMark()).isEqualTo(4096);
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void writeBufferWaterMarkFlags_areNotSet() {
+    final TestBesuCommand cmd = parseCommand();
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final NetworkingConfiguration networkingConfig = options.toDomainObject();
+    assertThat(networkingConfig.getRlpx().getWriteBufferLowWaterMark())
+        .isEqualTo(RlpxConfiguration.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK);
+    assertThat(networkingConfig.getRlpx().getWriteBufferHighWaterMark())
+        .isEqualTo(RlpxConfiguration.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK);
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void nettyFlags_areSet() {
+    final TestBesuCommand cmd =
+        parseCommand(
+            "--Xp2p-native-transport-enabled",
+            "false",
+            "--Xp2p-netty-worker-threads",
+            "32",
+            "--Xp2p-netty-direct-arenas",
+            "8",
+            "--Xp2p-socket-send-buffer-size",
+            "262144",
+            "--Xp2p-socket-receive-buffer-size",
+            "131072");
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final RlpxConfiguration rlpxConfig = options.toDomainObject().getRlpx();
+    assertThat(rlpxConfig.isNativeTransportEnabled()).isFalse();
+    assertThat(rlpxConfig.getNettyWorkerThreads()).isEqualTo(32);
+    assertThat(rlpxConfig.getNettyDirectArenas()).isEqualTo(8);
+    assertThat(rlpxConfig.getSocketSendBufferSize()).isEqualTo(262144);
+    assertThat(rlpxConfig.getSocketReceiveBufferSize()).isEqualTo(131072);
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void nettyFlags_areNotSet() {
+    final TestBesuCommand cmd = parseCommand();
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final RlpxConfiguration rlpxConfig = options.toDomainObject().getRlpx();
+    assertThat(rlpxConfig.isNativeTransportEnabled()).isTrue();
+    assertThat(rlpxConfig.getNettyWorkerThreads())
+        .isEqualTo(RlpxConfiguration.DEFAULT_NETTY_WORKER_THREADS);
+    assertThat(rlpxConfig.getNettyDirectArenas()).isZero();
+    assertThat(rlpxConfig.getSocketSendBufferSize()).isZero();
+    assertThat(rlpxConfig.getSocketReceiveBufferSize()).isZero();
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void handshakeFlags_areSet() {
+    final TestBesuCommand cmd =
+        parseCommand(
+            "--Xp2p-handshake-threads",
+            "8",
+            "--Xp2p-max-pending-inbound-handshakes",
+            "100",
+            "--Xp2p-max-inbound-handshakes-per-ip-per-minute",
+            "10");
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final RlpxConfiguration rlpxConfig = options.toDomainObject().getRlpx();
+    assertThat(rlpxConfig.getHandshakeThreads()).isEqualTo(8);
+    assertThat(rlpxConfig.getMaxPendingInboundHandshakes()).isEqualTo(100);
+    assertThat(rlpxConfig.getMaxInboundHandshakesPerIpPerMinute()).isEqualTo(10);
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void handshakeFlags_areNotSet() {
+    final TestBesuCommand cmd = parseCommand();
+
+    final NetworkingOptions options = cmd.getNetworkingOptions();
+    final RlpxConfiguration rlpxConfig = options.toDomainObject().getRlpx();
+    assertThat(rlpxConfig.getHandshakeThreads())
+        .isEqualTo(RlpxConfiguration.DEFAULT_HANDSHAKE_THREADS);
+    assertThat(rlpxConfig.getMaxPendingInboundHandshakes())
+        .isEqualTo(RlpxConfiguration.DEFAULT_MAX_PENDING_INBOUND_HANDSHAKES);
+    assertThat(rlpxConfig.getMaxInboundHandshakesPerIpPerMinute())
+        .isEqualTo(RlpxConfiguration.DEFAULT_MAX_INBOUND_HANDSHAKES_PER_IP_PER_MINUTE);
+
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(commandOutput.toString()).isEmpty();
+  }
+
   @Override
   NetworkingConfiguration createDefaultDomainObject() {
     return NetworkingConfiguration.create();
@@ -83,6 +199,21 @@ public class NetworkingOptionsTest
         NetworkingConfiguration.DEFAULT_INITIATE_CONNECTIONS_FREQUENCY_SEC + 10);
     config.setCheckMaintainedConnectionsFrequency(
         NetworkingConfiguration.DEFAULT_CHECK_MAINTAINED_CONNECTSION_FREQUENCY_SEC + 10);
+    config
+        .getRlpx()
+        .setWriteBufferWaterMarks(
+            RlpxConfiguration.DEFAULT_WRITE_BUFFER_LOW_WATER_MARK / 2,
+            RlpxConfiguration.DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK * 2)
+        .setNativeTransportEnabled(false)
+        .setNettyWorkerThreads(RlpxConfiguration.DEFAULT_NETTY_WORKER_THREADS + 10)
+        .setNettyDirectArenas(4)
+        .setSocketSendBufferSize(1 << 20)
+        .setSocketReceiveBufferSize(1 << 20)
+        .setHandshakeThreads(RlpxConfiguration.DEFAULT_HANDSHAKE_THREADS + 2)
+        .setMaxPendingInboundHandshakes(
+            RlpxConfiguration.DEFAULT_MAX_PENDING_INBOUND_HANDSHAKES * 2)
+        .setMaxInboundHandshakesPerIpPerMinute(
+            RlpxConfiguration.DEFAULT_MAX_INBOUND_HANDSHAKES_PER_IP_PER_MINUTE / 2);
     return config;
   }
 
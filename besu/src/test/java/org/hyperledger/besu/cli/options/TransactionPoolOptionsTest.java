@@ -39,6 +39,20 @@ public class TransactionPoolOptionsTest
     assertThat(commandErrorOutput.toString()).isEmpty();
   }
 
+  @Test
+  public void txPoolMaxBytes() {
+    final long txPoolMaxBytes = 1024 * 1024;
+    final TestBesuCommand cmd =
+        parseCommand("--Xtx-pool-max-bytes", String.valueOf(txPoolMaxBytes));
+
+    final TransactionPoolOptions options = getOptionsFromBesuCommand(cmd);
+    final TransactionPoolConfiguration config = options.toDomainObject().build();
+    assertThat(config.getTxPoolMaxBytes()).isEqualTo(txPoolMaxBytes);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
   @Override
   TransactionPoolConfiguration.Builder createDefaultDomainObject() {
     return TransactionPoolConfiguration.builder();
@@ -47,7 +61,8 @@ public class TransactionPoolOptionsTest
   @Override
   TransactionPoolConfiguration.Builder createCustomizedDomainObject() {
     return TransactionPoolConfiguration.builder()
-        .txMessageKeepAliveSeconds(TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE + 1);
+        .txMessageKeepAliveSeconds(TransactionPoolConfiguration.DEFAULT_TX_MSG_KEEP_ALIVE + 1)
+        .txPoolMaxBytes(TransactionPoolConfiguration.MAX_PENDING_TRANSACTIONS_BYTES + 1);
   }
 
   @Override
@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.clique.blockcreation;
 import org.hyperledger.besu.consensus.clique.CliqueHelpers;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.blockcreation.AbstractBlockScheduler;
+import org.hyperledger.besu.ethereum.blockcreation.BlockCreationMetrics;
 import org.hyperledger.besu.ethereum.blockcreation.BlockMiner;
 import org.hyperledger.besu.ethereum.chain.MinedBlockObserver;
 import org.hyperledger.besu.ethereum.core.Address;
@@ -37,8 +38,18 @@ public class CliqueBlockMiner extends BlockMiner<CliqueBlockCreator> {
       final Subscribers<MinedBlockObserver> observers,
       final AbstractBlockScheduler scheduler,
       final BlockHeader parentHeader,
-      final Address localAddress) {
-    super(blockCreator, protocolSchedule, protocolContext, observers, scheduler, parentHeader);
+      final Address localAddress,
+      final boolean continuousBlockBuilding,
+      final BlockCreationMetrics blockCreationMetrics) {
+    super(
+        blockCreator,
+        protocolSchedule,
+        protocolContext,
+        observers,
+        scheduler,
+        parentHeader,
+        continuousBlockBuilding,
+        blockCreationMetrics);
     this.localAddress = localAddress;
   }
 
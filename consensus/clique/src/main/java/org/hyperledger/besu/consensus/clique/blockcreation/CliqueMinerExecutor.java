@@ -23,6 +23,7 @@ import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.blockcreation.AbstractBlockScheduler;
 import org.hyperledger.besu.ethereum.blockcreation.AbstractMinerExecutor;
+import org.hyperledger.besu.ethereum.blockcreation.BlockCreationMetrics;
 import org.hyperledger.besu.ethereum.chain.EthHashObserver;
 import org.hyperledger.besu.ethereum.chain.MinedBlockObserver;
 import org.hyperledger.besu.ethereum.core.Address;
@@ -31,6 +32,7 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Util;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.List;
@@ -46,6 +48,8 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueBlockMiner>
   private final Address localAddress;
   private final NodeKey nodeKey;
   private final EpochManager epochManager;
+  private final boolean continuousBlockBuilding;
+  private final BlockCreationMetrics blockCreationMetrics;
 
   public CliqueMinerExecutor(
       final ProtocolContext protocolContext,
@@ -55,7 +59,8 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueBlockMiner>
       final MiningParameters miningParams,
       final AbstractBlockScheduler blockScheduler,
       final EpochManager epochManager,
-      final Function<Long, Long> gasLimitCalculator) {
+      final Function<Long, Long> gasLimitCalculator,
+      final MetricsSystem metricsSystem) {
     super(
         protocolContext,
         protocolSchedule,
@@ -66,6 +71,8 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueBlockMiner>
     this.nodeKey = nodeKey;
     this.localAddress = Util.publicKeyToAddress(nodeKey.getPublicKey());
     this.epochManager = epochManager;
+    this.continuousBlockBuilding = miningParams.isContinuousBlockBuildingEnabled();
+    this.blockCreationMetrics = new BlockCreationMetrics(metricsSystem);
   }
 
   @Override
@@ -95,7 +102,9 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueBlockMiner>
         observers,
         blockScheduler,
         parentHeader,
-        localAddress);
+        localAddress,
+        continuousBlockBuilding,
+        blockCreationMetrics);
   }
 
   @Override
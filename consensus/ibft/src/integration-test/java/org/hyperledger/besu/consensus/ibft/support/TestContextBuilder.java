@@ -315,7 +315,8 @@ public class TestContextBuilder {
             protocolSchedule,
             miningParams,
             localAddress,
-            localAddress);
+            localAddress,
+            metricsSystem);
 
     final ProposerSelector proposerSelector =
         new ProposerSelector(blockChain, blockInterface, true, voteTallyCache);
@@ -333,7 +334,8 @@ public class TestContextBuilder {
                 ibftEventQueue, BLOCK_TIMER_SEC * 1000, ibftExecutors, TestClock.fixed()),
             blockCreatorFactory,
             new MessageFactory(nodeKey),
-            clock);
+            clock,
+            ibftExecutors);
 
     final MessageValidatorFactory messageValidatorFactory =
         new MessageValidatorFactory(proposerSelector, protocolSchedule, protocolContext);
@@ -77,8 +77,7 @@ public class BlockTimer {
 
     final long now = clock.millis();
 
-    // absolute time when the timer is supposed to expire
-    final long expiryTime = chainHeadHeader.getTimestamp() * 1_000 + minimumTimeBetweenBlocksMillis;
+    final long expiryTime = getExpiryTime(chainHeadHeader);
 
     if (expiryTime > now) {
       final long delay = expiryTime - now;
@@ -92,4 +91,14 @@ public class BlockTimer {
       queue.add(new BlockTimerExpiry(round));
     }
   }
+
+  /**
+   * The absolute time at which a timer started for the supplied chain head expires
+   *
+   * @param chainHeadHeader The header of the chain head
+   * @return the expiry time in milliseconds since the epoch
+   */
+  public long getExpiryTime(final BlockHeader chainHeadHeader) {
+    return chainHeadHeader.getTimestamp() * 1_000 + minimumTimeBetweenBlocksMillis;
+  }
 }
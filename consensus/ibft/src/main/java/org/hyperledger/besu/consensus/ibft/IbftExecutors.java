@@ -22,6 +22,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +45,7 @@ public class IbftExecutors {
 
   private volatile ScheduledExecutorService timerExecutor;
   private volatile ExecutorService ibftProcessorExecutor;
+  private volatile ExecutorService blockBuilderExecutor;
   private volatile State state = State.IDLE;
 
   private IbftExecutors(final MetricsSystem metricsSystem) {
@@ -61,6 +63,7 @@ public class IbftExecutors {
     }
     state = State.RUNNING;
     ibftProcessorExecutor = Executors.newSingleThreadExecutor();
+    blockBuilderExecutor = Executors.newSingleThreadExecutor();
     timerExecutor = newScheduledThreadPool("IbftTimerExecutor", 1, metricsSystem);
   }
 
@@ -74,6 +77,7 @@ public class IbftExecutors {
 
     timerExecutor.shutdownNow();
     ibftProcessorExecutor.shutdownNow();
+    blockBuilderExecutor.shutdownNow();
   }
 
   public void awaitStop() throws InterruptedException {
@@ -83,6 +87,9 @@ public class IbftExecutors {
     if (!ibftProcessorExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
       LOG.error("{} ibftProcessor executor did not shutdown cleanly.", getClass().getSimpleName());
     }
+    if (!blockBuilderExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
+      LOG.error("{} blockBuilder executor did not shutdown cleanly.", getClass().getSimpleName());
+    }
   }
 
   public synchronized void executeIbftProcessor(final IbftProcessor ibftProcessor) {
@@ -90,6 +97,11 @@ public class IbftExecutors {
     ibftProcessorExecutor.execute(ibftProcessor);
   }
 
+  public synchronized Future<?> executeBlockBuilder(final Runnable blockBuilder) {
+    assertRunning();
+    return blockBuilderExecutor.submit(blockBuilder);
+  }
+
   public synchronized ScheduledFuture<?> scheduleTask(
       final Runnable command, final long delay, final TimeUnit unit) {
     assertRunning();
@@ -21,12 +21,14 @@ import org.hyperledger.besu.consensus.ibft.IbftContext;
 import org.hyperledger.besu.consensus.ibft.IbftExtraData;
 import org.hyperledger.besu.consensus.ibft.Vote;
 import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.blockcreation.BlockCreationMetrics;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,6 +46,8 @@ public class IbftBlockCreatorFactory {
   protected final ProtocolSchedule protocolSchedule;
   private final Address localAddress;
   final Address miningBeneficiary;
+  private final boolean continuousBlockBuilding;
+  private final BlockCreationMetrics blockCreationMetrics;
 
   private volatile Bytes vanityData;
   private volatile Wei minTransactionGasPrice;
@@ -56,7 +60,8 @@ public class IbftBlockCreatorFactory {
       final ProtocolSchedule protocolSchedule,
       final MiningParameters miningParams,
       final Address localAddress,
-      final Address miningBeneficiary) {
+      final Address miningBeneficiary,
+      final MetricsSystem metricsSystem) {
     this.gasLimitCalculator = gasLimitCalculator;
     this.pendingTransactions = pendingTransactions;
     this.protocolContext = protocolContext;
@@ -66,6 +71,8 @@ public class IbftBlockCreatorFactory {
     this.minBlockOccupancyRatio = miningParams.getMinBlockOccupancyRatio();
     this.vanityData = miningParams.getExtraData();
     this.miningBeneficiary = miningBeneficiary;
+    this.continuousBlockBuilding = miningParams.isContinuousBlockBuildingEnabled();
+    this.blockCreationMetrics = new BlockCreationMetrics(metricsSystem);
   }
 
   public IbftBlockCreator create(final BlockHeader parentHeader, final int round) {
@@ -124,6 +131,14 @@ public class IbftBlockCreatorFactory {
     return localAddress;
   }
 
+  public boolean isContinuousBlockBuildingEnabled() {
+    return continuousBlockBuilding;
+  }
+
+  public BlockCreationMetrics getBlockCreationMetrics() {
+    return blockCreationMetrics;
+  }
+
   private static Optional<Vote> toVote(final Optional<ValidatorVote> input) {
     return input
         .map(v -> Optional.of(new Vote(v.getRecipient(), v.getVotePolarity())))
@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.ibft.protocol;
 
 import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
 
 public class IbftSubProtocol implements SubProtocol {
@@ -68,4 +69,9 @@ public class IbftSubProtocol implements SubProtocol {
         return INVALID_MESSAGE_NAME;
     }
   }
+
+  @Override
+  public MessagePriority messagePriority(final int protocolVersion, final int code) {
+    return MessagePriority.HIGH;
+  }
 }
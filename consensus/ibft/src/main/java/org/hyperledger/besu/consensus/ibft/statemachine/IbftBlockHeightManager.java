@@ -103,13 +103,33 @@ public class IbftBlockHeightManager implements BlockHeightManager {
     currentRound = roundFactory.createNewRound(parentHeader, 0);
     if (finalState.isLocalNodeProposerForRound(currentRound.getRoundIdentifier())) {
       blockTimer.startTimer(currentRound.getRoundIdentifier(), parentHeader);
+      if (finalState.isContinuousBlockBuildingEnabled()) {
+        startBuildingProposalCandidate();
+      }
+    }
+  }
+
+  private void startBuildingProposalCandidate() {
+    final long expiryTime = blockTimer.getExpiryTime(parentHeader);
+    final long millisecondsUntilDue = expiryTime - clock.millis();
+    if (millisecondsUntilDue <= 0) {
+      return;
     }
+    // the block timer fires at the expiry time, so the proposal is expected to carry its timestamp
+    final IbftRound round = currentRound;
+    finalState
+        .getIbftExecutors()
+        .executeBlockBuilder(
+            () -> round.buildProposalCandidate(expiryTime / 1000, millisecondsUntilDue));
   }
 
   @Override
   public void handleBlockTimerExpiry(final ConsensusRoundIdentifier roundIdentifier) {
     if (roundIdentifier.equals(currentRound.getRoundIdentifier())) {
-      currentRound.createAndSendProposalMessage(clock.millis() / 1000);
+      finalState
+          .getBlockCreationMetrics()
+          .timeBlockCreation(
+              () -> currentRound.createAndSendProposalMessage(clock.millis() / 1000));
     } else {
       LOG.trace(
           "Block timer expired for a round ({}) other than current ({})",
@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.ibft.statemachine;
 import org.hyperledger.besu.consensus.common.VoteTallyCache;
 import org.hyperledger.besu.consensus.ibft.BlockTimer;
 import org.hyperledger.besu.consensus.ibft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.ibft.IbftExecutors;
 import org.hyperledger.besu.consensus.ibft.IbftHelpers;
 import org.hyperledger.besu.consensus.ibft.RoundTimer;
 import org.hyperledger.besu.consensus.ibft.blockcreation.IbftBlockCreatorFactory;
@@ -25,6 +26,7 @@ import org.hyperledger.besu.consensus.ibft.network.IbftMessageTransmitter;
 import org.hyperledger.besu.consensus.ibft.network.ValidatorMulticaster;
 import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
 import org.hyperledger.besu.crypto.NodeKey;
+import org.hyperledger.besu.ethereum.blockcreation.BlockCreationMetrics;
 import org.hyperledger.besu.ethereum.core.Address;
 
 import java.time.Clock;
@@ -42,6 +44,7 @@ public class IbftFinalState {
   private final MessageFactory messageFactory;
   private final IbftMessageTransmitter messageTransmitter;
   private final Clock clock;
+  private final IbftExecutors ibftExecutors;
 
   public IbftFinalState(
       final VoteTallyCache voteTallyCache,
@@ -53,7 +56,8 @@ public class IbftFinalState {
       final BlockTimer blockTimer,
       final IbftBlockCreatorFactory blockCreatorFactory,
       final MessageFactory messageFactory,
-      final Clock clock) {
+      final Clock clock,
+      final IbftExecutors ibftExecutors) {
     this.voteTallyCache = voteTallyCache;
     this.nodeKey = nodeKey;
     this.localAddress = localAddress;
@@ -63,6 +67,7 @@ public class IbftFinalState {
     this.blockCreatorFactory = blockCreatorFactory;
     this.messageFactory = messageFactory;
     this.clock = clock;
+    this.ibftExecutors = ibftExecutors;
     this.messageTransmitter = new IbftMessageTransmitter(messageFactory, validatorMulticaster);
   }
 
@@ -102,6 +107,14 @@ public class IbftFinalState {
     return blockCreatorFactory;
   }
 
+  public boolean isContinuousBlockBuildingEnabled() {
+    return blockCreatorFactory.isContinuousBlockBuildingEnabled();
+  }
+
+  public BlockCreationMetrics getBlockCreationMetrics() {
+    return blockCreatorFactory.getBlockCreationMetrics();
+  }
+
   public MessageFactory getMessageFactory() {
     return messageFactory;
   }
@@ -117,4 +130,8 @@ public class IbftFinalState {
   public Clock getClock() {
     return clock;
   }
+
+  public IbftExecutors getIbftExecutors() {
+    return ibftExecutors;
+  }
 }
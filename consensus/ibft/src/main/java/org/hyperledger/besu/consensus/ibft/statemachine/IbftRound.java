@@ -41,6 +41,7 @@ import org.hyperledger.besu.plugin.services.securitymodule.SecurityModuleExcepti
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -84,13 +85,33 @@ public class IbftRound {
     return roundState.getRoundIdentifier();
   }
 
-  public void createAndSendProposalMessage(final long headerTimeStampSeconds) {
+  /**
+   * Executes pending transactions into the block this round will propose, until the proposal is due
+   * or has been sent.
+   *
+   * @param headerTimeStampSeconds the timestamp the proposed block is expected to have
+   * @param millisecondsUntilDue how long until the proposal is due
+   */
+  public void buildProposalCandidate(
+      final long headerTimeStampSeconds, final long millisecondsUntilDue) {
+    LOG.trace("Building candidate block. round={}", roundState.getRoundIdentifier());
+    try {
+      blockCreator.buildCandidateUntil(headerTimeStampSeconds, millisecondsUntilDue);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final CancellationException e) {
+      LOG.trace("Block creator cancelled. round={}", roundState.getRoundIdentifier());
+    }
+  }
+
+  public Block createAndSendProposalMessage(final long headerTimeStampSeconds) {
     final Block block = blockCreator.createBlock(headerTimeStampSeconds);
     final IbftExtraData extraData = IbftExtraData.decode(block.getHeader());
     LOG.debug("Creating proposed block. round={}", roundState.getRoundIdentifier());
     LOG.trace(
         "Creating proposed block with extraData={} blockHeader={}", extraData, block.getHeader());
     updateStateWithProposalAndTransmit(block, Optional.empty());
+    return block;
   }
 
   public void startRoundWith(
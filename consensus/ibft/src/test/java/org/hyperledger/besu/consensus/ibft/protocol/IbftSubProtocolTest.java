@@ -16,6 +16,8 @@ package org.hyperledger.besu.consensus.ibft.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
+
 import org.junit.Test;
 
 public class IbftSubProtocolTest {
@@ -43,4 +45,13 @@ public class IbftSubProtocolTest {
 
     assertThat(subProt.isValidMessageCode(1, 4)).isFalse();
   }
+
+  @Test
+  public void allIbftMessagesAreSentWithHighPriority() {
+    final IbftSubProtocol subProt = new IbftSubProtocol();
+
+    for (int code = 0; code < 4; code++) {
+      assertThat(subProt.messagePriority(1, code)).isEqualTo(MessagePriority.HIGH);
+    }
+  }
 }
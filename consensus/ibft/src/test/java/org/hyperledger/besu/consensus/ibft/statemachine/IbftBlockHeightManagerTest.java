@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.consensus.ibft.BlockTimer;
 import org.hyperledger.besu.consensus.ibft.ConsensusRoundIdentifier;
+import org.hyperledger.besu.consensus.ibft.IbftExecutors;
 import org.hyperledger.besu.consensus.ibft.IbftExtraData;
 import org.hyperledger.besu.consensus.ibft.RoundTimer;
 import org.hyperledger.besu.consensus.ibft.blockcreation.IbftBlockCreator;
@@ -50,6 +52,7 @@ import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.crypto.NodeKeyUtils;
 import org.hyperledger.besu.crypto.SECP256K1.Signature;
 import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.blockcreation.BlockCreationMetrics;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
@@ -58,6 +61,7 @@ import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.BlockImporter;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Util;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.math.BigInteger;
@@ -93,6 +97,7 @@ public class IbftBlockHeightManagerTest {
   @Mock private IbftBlockCreator blockCreator;
   @Mock private BlockImporter blockImporter;
   @Mock private BlockTimer blockTimer;
+  @Mock private IbftExecutors ibftExecutors;
   @Mock private RoundTimer roundTimer;
   @Mock private FutureRoundProposalMessageValidator futureRoundProposalMessageValidator;
 
@@ -133,6 +138,9 @@ public class IbftBlockHeightManagerTest {
     when(finalState.getBlockTimer()).thenReturn(blockTimer);
     when(finalState.getQuorum()).thenReturn(3);
     when(finalState.getMessageFactory()).thenReturn(messageFactory);
+    lenient()
+        .when(finalState.getBlockCreationMetrics())
+        .thenReturn(new BlockCreationMetrics(new NoOpMetricsSystem()));
     when(blockCreator.createBlock(anyLong())).thenReturn(createdBlock);
 
     when(futureRoundProposalMessageValidator.validateProposalMessage(any())).thenReturn(true);
@@ -194,6 +202,51 @@ public class IbftBlockHeightManagerTest {
     verify(blockTimer, times(1)).startTimer(any(), any());
   }
 
+  @Test
+  public void buildsProposalCandidateUntilBlockTimerExpiryIfContinuousBuildingIsEnabled()
+      throws InterruptedException {
+    when(finalState.isLocalNodeProposerForRound(any())).thenReturn(true);
+    when(finalState.isContinuousBlockBuildingEnabled()).thenReturn(true);
+    when(finalState.getIbftExecutors()).thenReturn(ibftExecutors);
+    when(clock.millis()).thenReturn(10_000L);
+    when(blockTimer.getExpiryTime(any())).thenReturn(12_000L);
+    when(ibftExecutors.executeBlockBuilder(any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            });
+
+    new IbftBlockHeightManager(
+        headerTestFixture.buildHeader(),
+        finalState,
+        roundChangeManager,
+        roundFactory,
+        clock,
+        messageValidatorFactory);
+
+    verify(ibftExecutors, times(1)).executeBlockBuilder(any());
+    verify(blockCreator, times(1)).buildCandidateUntil(12, 2_000);
+  }
+
+  @Test
+  public void doesNotBuildProposalCandidateIfBlockIsAlreadyDue() {
+    when(finalState.isLocalNodeProposerForRound(any())).thenReturn(true);
+    when(finalState.isContinuousBlockBuildingEnabled()).thenReturn(true);
+    when(clock.millis()).thenReturn(12_000L);
+    when(blockTimer.getExpiryTime(any())).thenReturn(12_000L);
+
+    new IbftBlockHeightManager(
+        headerTestFixture.buildHeader(),
+        finalState,
+        roundChangeManager,
+        roundFactory,
+        clock,
+        messageValidatorFactory);
+
+    verify(finalState, never()).getIbftExecutors();
+  }
+
   @Test
   public void onBlockTimerExpiryProposalMessageIsTransmitted() {
     final IbftBlockHeightManager manager =
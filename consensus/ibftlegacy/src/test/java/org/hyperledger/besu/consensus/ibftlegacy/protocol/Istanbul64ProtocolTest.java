@@ -0,0 +1,61 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.ibftlegacy.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV65;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
+
+import org.junit.Test;
+
+public class Istanbul64ProtocolTest {
+
+  private final Istanbul64Protocol protocol = Istanbul64Protocol.get();
+
+  @Test
+  public void statusNewBlocksAndIstanbulMessagesAreSentWithHighPriority() {
+    assertPriority(EthPV62.STATUS, MessagePriority.HIGH);
+    assertPriority(EthPV62.NEW_BLOCK, MessagePriority.HIGH);
+    assertPriority(EthPV62.NEW_BLOCK_HASHES, MessagePriority.HIGH);
+    assertPriority(Istanbul64Protocol.INSTANBUL_MSG, MessagePriority.HIGH);
+  }
+
+  @Test
+  public void transactionAnnouncementsAreSentWithLowPriority() {
+    assertPriority(EthPV62.TRANSACTIONS, MessagePriority.LOW);
+    assertPriority(EthPV65.NEW_POOLED_TRANSACTION_HASHES, MessagePriority.LOW);
+  }
+
+  @Test
+  public void requestsAndResponsesAreSentWithNormalPriority() {
+    assertPriority(EthPV62.GET_BLOCK_HEADERS, MessagePriority.NORMAL);
+    assertPriority(EthPV62.BLOCK_HEADERS, MessagePriority.NORMAL);
+    assertPriority(EthPV62.GET_BLOCK_BODIES, MessagePriority.NORMAL);
+    assertPriority(EthPV62.BLOCK_BODIES, MessagePriority.NORMAL);
+    assertPriority(EthPV63.GET_NODE_DATA, MessagePriority.NORMAL);
+    assertPriority(EthPV63.NODE_DATA, MessagePriority.NORMAL);
+    assertPriority(EthPV63.GET_RECEIPTS, MessagePriority.NORMAL);
+    assertPriority(EthPV63.RECEIPTS, MessagePriority.NORMAL);
+    assertPriority(EthPV65.GET_POOLED_TRANSACTIONS, MessagePriority.NORMAL);
+    assertPriority(EthPV65.POOLED_TRANSACTIONS, MessagePriority.NORMAL);
+  }
+
+  private void assertPriority(final int code, final MessagePriority priority) {
+    assertThat(protocol.messagePriority(64, code)).isEqualTo(priority);
+  }
+}
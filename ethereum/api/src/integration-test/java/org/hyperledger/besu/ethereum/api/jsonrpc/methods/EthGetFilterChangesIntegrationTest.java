@@ -227,7 +227,7 @@ public class EthGetFilterChangesIntegrationTest {
     JsonRpcResponse actual = method.response(request);
     assertThat(actual).isEqualToComparingFieldByField(expected);
 
-    transactions.addRemoteTransaction(transaction);
+    transactions.addRemoteTransaction(transaction, 1);
 
     // We've added one transaction, so there should be one new hash.
     expected =
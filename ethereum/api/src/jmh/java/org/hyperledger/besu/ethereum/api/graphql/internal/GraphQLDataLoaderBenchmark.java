@@ -0,0 +1,97 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql.internal;
+
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryBlockchain;
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryWorldStateArchive;
+
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures resolving the gas used by every transaction of a block, as a GraphQL query selecting
+ * {@code block { transactions { gasUsed } } } does, with each transaction looking up its own
+ * receipt against sharing the lookups of one query through a {@link GraphQLDataLoader}. The chain
+ * is kept in memory, so the difference comes from decoding blocks and receipts rather than from
+ * storage reads, which would only widen it.
+ */
+@State(Scope.Benchmark)
+public class GraphQLDataLoaderBenchmark {
+
+  @Param({"10", "200"})
+  public int transactionsPerBlock;
+
+  private BlockchainQueries blockchainQueries;
+  private Hash blockHash;
+
+  @Setup
+  public void createChain() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final MutableBlockchain blockchain = createInMemoryBlockchain(gen.genesisBlock());
+    final BlockOptions blockOptions = gen.nextBlockOptions(blockchain.getChainHeadBlock());
+    for (int i = 0; i < transactionsPerBlock; i++) {
+      blockOptions.addTransaction(gen.transaction());
+    }
+    final Block block = gen.block(blockOptions);
+    blockchain.appendBlock(block, gen.receipts(block));
+    blockchainQueries = new BlockchainQueries(blockchain, createInMemoryWorldStateArchive());
+    blockHash = block.getHash();
+  }
+
+  @Benchmark
+  public long lookupPerTransaction() {
+    long gasUsed = 0;
+    final BlockWithMetadata<TransactionWithMetadata, Hash> block =
+        blockchainQueries.blockByHash(blockHash).orElseThrow();
+    for (final TransactionWithMetadata transaction : block.getTransactions()) {
+      gasUsed +=
+          blockchainQueries
+              .transactionReceiptByTransactionHash(transaction.getTransaction().getHash())
+              .map(TransactionReceiptWithMetadata::getGasUsed)
+              .orElseThrow();
+    }
+    return gasUsed;
+  }
+
+  @Benchmark
+  public long memoizedPerQuery() {
+    // a new loader per invocation, as each query gets its own
+    final GraphQLDataLoader dataLoader = new GraphQLDataLoader(blockchainQueries);
+    long gasUsed = 0;
+    final BlockWithMetadata<TransactionWithMetadata, Hash> block =
+        dataLoader.blockByHash(blockHash).orElseThrow();
+    for (final TransactionWithMetadata transaction : block.getTransactions()) {
+      gasUsed +=
+          dataLoader
+              .transactionReceipt(transaction)
+              .map(TransactionReceiptWithMetadata::getGasUsed)
+              .orElseThrow();
+    }
+    return gasUsed;
+  }
+}
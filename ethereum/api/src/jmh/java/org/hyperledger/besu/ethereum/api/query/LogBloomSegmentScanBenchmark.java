@@ -0,0 +1,110 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.hyperledger.besu.ethereum.api.query.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.LogsBloomFilter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares range queries over a complete log bloom cache segment in the row-per-block format, read
+ * the way {@code BlockchainQueries} reads it, against the same segment in the bit-sliced format.
+ */
+@State(Scope.Benchmark)
+public class LogBloomSegmentScanBenchmark {
+
+  // roughly the number of distinct addresses and topics logged by a busy mainnet block
+  private static final int ENTRIES_PER_BLOCK = 40;
+
+  @Param({"1000", "100000"})
+  public int rangeSize;
+
+  private Path cacheDir;
+  private Path rowFile;
+  private Path slicedFile;
+  private LogsQuery query;
+
+  @Setup
+  public void prepare() throws IOException {
+    cacheDir = Files.createTempDirectory("logBloomBenchmark");
+    rowFile = cacheDir.resolve("logBloom-0.cache");
+    slicedFile = BitSlicedLogBloomSegment.slicedFile(cacheDir, 0);
+
+    final Random random = new Random(42);
+    final Address queriedAddress = Address.fromHexString("0x1234");
+    final byte[] entry = new byte[Address.SIZE];
+    try (final RandomAccessFile file = new RandomAccessFile(rowFile.toFile(), "rw")) {
+      for (int block = 0; block < BLOCKS_PER_BLOOM_CACHE; block++) {
+        final LogsBloomFilter.Builder bloom = LogsBloomFilter.builder();
+        for (int i = 0; i < ENTRIES_PER_BLOCK; i++) {
+          random.nextBytes(entry);
+          bloom.insertBytes(Bytes.wrap(entry));
+        }
+        if (block % 100 == 0) {
+          bloom.insertBytes(queriedAddress);
+        }
+        file.write(bloom.build().toArray());
+      }
+    }
+    BitSlicedLogBloomSegment.transpose(rowFile, slicedFile);
+    query = new LogsQuery(List.of(queriedAddress), List.of());
+  }
+
+  @TearDown
+  public void cleanUp() throws IOException {
+    Files.deleteIfExists(rowFile);
+    Files.deleteIfExists(slicedFile);
+    Files.deleteIfExists(cacheDir);
+  }
+
+  @Benchmark
+  public int rowPerBlockScan() throws IOException {
+    int matches = 0;
+    try (final RandomAccessFile raf = new RandomAccessFile(rowFile.toFile(), "r")) {
+      final byte[] bloomBuff = new byte[LogsBloomFilter.BYTE_SIZE];
+      final LogsBloomFilter bloom = new LogsBloomFilter(Bytes.wrap(bloomBuff));
+      for (int pos = 0; pos < rangeSize; pos++) {
+        raf.readFully(bloomBuff);
+        if (query.couldMatch(bloom)) {
+          matches++;
+        }
+      }
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public int bitSlicedScan() throws IOException {
+    return BitSlicedLogBloomSegment.open(slicedFile)
+        .matchingOffsets(0, rangeSize - 1, query)
+        .length;
+  }
+}
@@ -29,6 +29,7 @@ import com.google.common.base.MoreObjects;
 public class GraphQLConfiguration {
   private static final String DEFAULT_GRAPHQL_HTTP_HOST = "127.0.0.1";
   public static final int DEFAULT_GRAPHQL_HTTP_PORT = 8547;
+  public static final int DEFAULT_MAX_QUERY_COMPLEXITY = GraphQLProvider.MAX_COMPLEXITY;
 
   private boolean enabled;
   private int port;
@@ -36,6 +37,7 @@ public class GraphQLConfiguration {
   private List<String> corsAllowedDomains = Collections.emptyList();
   private List<String> hostsAllowlist = Arrays.asList("localhost", "127.0.0.1");
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
+  private int maxQueryComplexity = DEFAULT_MAX_QUERY_COMPLEXITY;
 
   public static GraphQLConfiguration createDefault() {
     final GraphQLConfiguration config = new GraphQLConfiguration();
@@ -98,6 +100,14 @@ public class GraphQLConfiguration {
     this.httpTimeoutSec = httpTimeoutSec;
   }
 
+  public int getMaxQueryComplexity() {
+    return maxQueryComplexity;
+  }
+
+  public void setMaxQueryComplexity(final int maxQueryComplexity) {
+    this.maxQueryComplexity = maxQueryComplexity;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -107,6 +117,7 @@ public class GraphQLConfiguration {
         .add("corsAllowedDomains", corsAllowedDomains)
         .add("hostsAllowlist", hostsAllowlist)
         .add("httpTimeoutSec", httpTimeoutSec)
+        .add("maxQueryComplexity", maxQueryComplexity)
         .toString();
   }
 
@@ -123,11 +134,13 @@ public class GraphQLConfiguration {
         && port == that.port
         && Objects.equals(host, that.host)
         && Objects.equals(corsAllowedDomains, that.corsAllowedDomains)
+        && maxQueryComplexity == that.maxQueryComplexity
         && Objects.equals(hostsAllowlist, that.hostsAllowlist);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, port, host, corsAllowedDomains, hostsAllowlist);
+    return Objects.hash(
+        enabled, port, host, corsAllowedDomains, hostsAllowlist, maxQueryComplexity);
   }
 }
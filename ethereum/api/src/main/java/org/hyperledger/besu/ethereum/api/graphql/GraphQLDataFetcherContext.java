@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.handlers.IsAliveHandler;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
@@ -27,6 +28,8 @@ public interface GraphQLDataFetcherContext {
 
   BlockchainQueries getBlockchainQueries();
 
+  GraphQLDataLoader getDataLoader();
+
   MiningCoordinator getMiningCoordinator();
 
   Synchronizer getSynchronizer();
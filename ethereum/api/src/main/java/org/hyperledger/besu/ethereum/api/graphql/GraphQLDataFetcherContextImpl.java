@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.handlers.IsAliveHandler;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
@@ -29,6 +30,7 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
   private final ProtocolSchedule protocolSchedule;
   private final TransactionPool transactionPool;
   private final IsAliveHandler isAliveHandler;
+  private final GraphQLDataLoader dataLoader;
 
   public GraphQLDataFetcherContextImpl(
       final GraphQLDataFetcherContext context, final IsAliveHandler isAliveHandler) {
@@ -69,6 +71,7 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
     this.synchronizer = synchronizer;
     this.transactionPool = transactionPool;
     this.isAliveHandler = isAliveHandler;
+    this.dataLoader = new GraphQLDataLoader(blockchainQueries);
   }
 
   @Override
@@ -81,6 +84,11 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
     return blockchainQueries;
   }
 
+  @Override
+  public GraphQLDataLoader getDataLoader() {
+    return dataLoader;
+  }
+
   @Override
   public MiningCoordinator getMiningCoordinator() {
     return miningCoordinator;
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.api.graphql;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.AccountAdapter;
 import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.LogAdapter;
 import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.NormalBlockAdapter;
@@ -125,8 +126,9 @@ public class GraphQLDataFetchers {
   DataFetcher<List<NormalBlockAdapter>> getRangeBlockDataFetcher() {
 
     return dataFetchingEnvironment -> {
-      final BlockchainQueries blockchainQuery =
-          ((GraphQLDataFetcherContext) dataFetchingEnvironment.getContext()).getBlockchainQueries();
+      final GraphQLDataFetcherContext dataFetcherContext = dataFetchingEnvironment.getContext();
+      final BlockchainQueries blockchainQuery = dataFetcherContext.getBlockchainQueries();
+      final GraphQLDataLoader dataLoader = dataFetcherContext.getDataLoader();
 
       final long from = dataFetchingEnvironment.getArgument("from");
       final long to;
@@ -142,7 +144,7 @@ public class GraphQLDataFetchers {
       final List<NormalBlockAdapter> results = new ArrayList<>();
       for (long i = from; i <= to; i++) {
         final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block =
-            blockchainQuery.blockByNumber(i);
+            dataLoader.blockByNumber(i);
         block.ifPresent(e -> results.add(new NormalBlockAdapter(e)));
       }
       return results;
@@ -152,8 +154,9 @@ public class GraphQLDataFetchers {
   public DataFetcher<Optional<NormalBlockAdapter>> getBlockDataFetcher() {
 
     return dataFetchingEnvironment -> {
-      final BlockchainQueries blockchain =
-          ((GraphQLDataFetcherContext) dataFetchingEnvironment.getContext()).getBlockchainQueries();
+      final GraphQLDataFetcherContext dataFetcherContext = dataFetchingEnvironment.getContext();
+      final BlockchainQueries blockchain = dataFetcherContext.getBlockchainQueries();
+      final GraphQLDataLoader dataLoader = dataFetcherContext.getDataLoader();
       final Long number = dataFetchingEnvironment.getArgument("number");
       final Bytes32 hash = dataFetchingEnvironment.getArgument("hash");
       if ((number != null) && (hash != null)) {
@@ -162,10 +165,10 @@ public class GraphQLDataFetchers {
 
       final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block;
       if (number != null) {
-        block = blockchain.blockByNumber(number);
+        block = dataLoader.blockByNumber(number);
         checkArgument(block.isPresent(), "Block number %s was not found", number);
       } else if (hash != null) {
-        block = blockchain.blockByHash(Hash.wrap(hash));
+        block = dataLoader.blockByHash(Hash.wrap(hash));
         Preconditions.checkArgument(block.isPresent(), "Block hash %s was not found", hash);
       } else {
         block = blockchain.latestBlock();
@@ -176,12 +179,13 @@ public class GraphQLDataFetchers {
 
   DataFetcher<Optional<AccountAdapter>> getAccountDataFetcher() {
     return dataFetchingEnvironment -> {
-      final BlockchainQueries blockchainQuery =
-          ((GraphQLDataFetcherContext) dataFetchingEnvironment.getContext()).getBlockchainQueries();
+      final GraphQLDataFetcherContext dataFetcherContext = dataFetchingEnvironment.getContext();
+      final BlockchainQueries blockchainQuery = dataFetcherContext.getBlockchainQueries();
+      final GraphQLDataLoader dataLoader = dataFetcherContext.getDataLoader();
       final Address addr = dataFetchingEnvironment.getArgument("address");
       final Long bn = dataFetchingEnvironment.getArgument("blockNumber");
       if (bn != null) {
-        final Optional<MutableWorldState> ws = blockchainQuery.getWorldState(bn);
+        final Optional<MutableWorldState> ws = dataLoader.getWorldState(bn);
         if (ws.isPresent()) {
           final Account account = ws.get().get(addr);
           Preconditions.checkArgument(
@@ -197,7 +201,7 @@ public class GraphQLDataFetchers {
       } else {
         // return account on latest block
         final long latestBn = blockchainQuery.latestBlock().get().getHeader().getNumber();
-        final Optional<MutableWorldState> ows = blockchainQuery.getWorldState(latestBn);
+        final Optional<MutableWorldState> ows = dataLoader.getWorldState(latestBn);
         return ows.flatMap(
                 ws -> {
                   Account account = ws.get(addr);
@@ -251,10 +255,10 @@ public class GraphQLDataFetchers {
 
   DataFetcher<Optional<TransactionAdapter>> getTransactionDataFetcher() {
     return dataFetchingEnvironment -> {
-      final BlockchainQueries blockchain =
-          ((GraphQLDataFetcherContext) dataFetchingEnvironment.getContext()).getBlockchainQueries();
+      final GraphQLDataLoader dataLoader =
+          ((GraphQLDataFetcherContext) dataFetchingEnvironment.getContext()).getDataLoader();
       final Bytes32 hash = dataFetchingEnvironment.getArgument("hash");
-      final Optional<TransactionWithMetadata> tran = blockchain.transactionByHash(Hash.wrap(hash));
+      final Optional<TransactionWithMetadata> tran = dataLoader.transactionByHash(Hash.wrap(hash));
       return tran.map(TransactionAdapter::new);
     };
   }
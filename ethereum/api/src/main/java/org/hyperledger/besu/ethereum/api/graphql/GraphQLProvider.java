@@ -39,13 +39,19 @@ public class GraphQLProvider {
 
   public static GraphQL buildGraphQL(final GraphQLDataFetchers graphQLDataFetchers)
       throws IOException {
+    return buildGraphQL(graphQLDataFetchers, MAX_COMPLEXITY);
+  }
+
+  public static GraphQL buildGraphQL(
+      final GraphQLDataFetchers graphQLDataFetchers, final int maxQueryComplexity)
+      throws IOException {
     final URL url = Resources.getResource("schema.graphqls");
     final String sdl = Resources.toString(url, Charsets.UTF_8);
     final GraphQLSchema graphQLSchema = buildSchema(sdl, graphQLDataFetchers);
     return GraphQL.newGraphQL(graphQLSchema)
         .instrumentation(
             new MaxQueryComplexityInstrumentation(
-                MAX_COMPLEXITY, GraphQLProvider::calculateFieldCost))
+                maxQueryComplexity, GraphQLProvider::calculateFieldCost))
         .build();
   }
 
@@ -88,7 +94,11 @@ public class GraphQLProvider {
     final String childTypeName = environment.getParentType().getName();
     final String fieldName = environment.getField().getName();
 
-    if (childTypeName.equals("Transaction") && fieldName.equals("block")) {
+    if (childTypeName.equals("Query") && fieldName.equals("blocks")) {
+      // each block of the range costs one more, so long ranges are refused without pricing a
+      // 100 block range of a few fields like 100 separate queries
+      return (int) Math.min(Integer.MAX_VALUE, childComplexity + rangeSize(environment));
+    } else if (childTypeName.equals("Transaction") && fieldName.equals("block")) {
       return childComplexity + 100;
     } else if (childTypeName.equals("__Type") && fieldName.equals("fields")) {
       return childComplexity + 100;
@@ -96,4 +106,14 @@ public class GraphQLProvider {
       return childComplexity + 1;
     }
   }
+
+  private static long rangeSize(final FieldComplexityEnvironment environment) {
+    final Object from = environment.getArguments().get("from");
+    final Object to = environment.getArguments().get("to");
+    if (!(from instanceof Long) || !(to instanceof Long)) {
+      // an open range ends at the chain head, which isn't known while validating the query
+      return 1;
+    }
+    return Math.max(1, (Long) to - (Long) from + 1);
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql.internal;
+
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes the blockchain lookups made while executing a single GraphQL query.
+ *
+ * <p>Nested selections resolve the same blocks, world states and receipts many times over: every
+ * transaction of a block asks for its own receipt, every log for its own transaction, and so on.
+ * Within one query these are answered from this loader so each is read from storage once, and the
+ * receipts of a block are loaded together the first time any of them is needed.
+ *
+ * <p>A loader must not outlive the query it was created for, as it never observes new blocks.
+ */
+public class GraphQLDataLoader {
+
+  private final BlockchainQueries blockchainQueries;
+
+  private final Map<Hash, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>> blocksByHash =
+      new ConcurrentHashMap<>();
+  private final Map<Long, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>>
+      blocksByNumber = new ConcurrentHashMap<>();
+  private final Map<Hash, Optional<TransactionWithMetadata>> transactionsByHash =
+      new ConcurrentHashMap<>();
+  private final Map<Hash, Optional<List<TransactionReceipt>>> receiptsByBlockHash =
+      new ConcurrentHashMap<>();
+  private final Map<Long, Optional<MutableWorldState>> worldStatesByNumber =
+      new ConcurrentHashMap<>();
+
+  public GraphQLDataLoader(final BlockchainQueries blockchainQueries) {
+    this.blockchainQueries = blockchainQueries;
+  }
+
+  public Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> blockByHash(
+      final Hash blockHash) {
+    return blocksByHash.computeIfAbsent(blockHash, blockchainQueries::blockByHash);
+  }
+
+  public Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> blockByNumber(
+      final long number) {
+    return blocksByNumber.computeIfAbsent(number, blockchainQueries::blockByNumber);
+  }
+
+  public Optional<TransactionWithMetadata> transactionByHash(final Hash transactionHash) {
+    return transactionsByHash.computeIfAbsent(
+        transactionHash, blockchainQueries::transactionByHash);
+  }
+
+  /**
+   * Returns the receipt of a transaction. For a mined transaction the receipts of its whole block
+   * are loaded at once and shared with the other transactions of that block.
+   *
+   * @param transaction the transaction to get the receipt of
+   * @return the receipt, or empty if the transaction has not been mined
+   */
+  public Optional<TransactionReceiptWithMetadata> transactionReceipt(
+      final TransactionWithMetadata transaction) {
+    final Optional<Hash> blockHash = transaction.getBlockHash();
+    final Optional<Integer> index = transaction.getTransactionIndex();
+    final Optional<Long> blockNumber = transaction.getBlockNumber();
+    if (blockHash.isEmpty() || index.isEmpty() || blockNumber.isEmpty()) {
+      return blockchainQueries.transactionReceiptByTransactionHash(
+          transaction.getTransaction().getHash());
+    }
+
+    final int transactionIndex = index.get();
+    return receiptsByBlockHash
+        .computeIfAbsent(
+            blockHash.get(), hash -> blockchainQueries.getBlockchain().getTxReceipts(hash))
+        .filter(receipts -> transactionIndex < receipts.size())
+        .map(
+            receipts -> {
+              final TransactionReceipt receipt = receipts.get(transactionIndex);
+              final long gasUsed =
+                  transactionIndex == 0
+                      ? receipt.getCumulativeGasUsed()
+                      : receipt.getCumulativeGasUsed()
+                          - receipts.get(transactionIndex - 1).getCumulativeGasUsed();
+              return TransactionReceiptWithMetadata.create(
+                  receipt,
+                  transaction.getTransaction(),
+                  transaction.getTransaction().getHash(),
+                  transactionIndex,
+                  gasUsed,
+                  blockHash.get(),
+                  blockNumber.get());
+            });
+  }
+
+  public Optional<MutableWorldState> getWorldState(final long blockNumber) {
+    return worldStatesByNumber.computeIfAbsent(blockNumber, blockchainQueries::getWorldState);
+  }
+}
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetcherContext;
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 
 import graphql.schema.DataFetchingEnvironment;
@@ -23,4 +24,8 @@ abstract class AdapterBase {
   BlockchainQueries getBlockchainQueries(final DataFetchingEnvironment environment) {
     return ((GraphQLDataFetcherContext) environment.getContext()).getBlockchainQueries();
   }
+
+  GraphQLDataLoader getDataLoader(final DataFetchingEnvironment environment) {
+    return ((GraphQLDataFetcherContext) environment.getContext()).getDataLoader();
+  }
 }
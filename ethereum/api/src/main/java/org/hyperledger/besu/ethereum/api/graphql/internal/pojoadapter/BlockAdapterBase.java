@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetcherContext;
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.LogsQuery;
@@ -54,10 +55,9 @@ public class BlockAdapterBase extends AdapterBase {
   }
 
   public Optional<NormalBlockAdapter> getParent(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Hash parentHash = header.getParentHash();
     final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block =
-        query.blockByHash(parentHash);
+        getDataLoader(environment).blockByHash(parentHash);
     return block.map(NormalBlockAdapter::new);
   }
 
@@ -85,14 +85,15 @@ public class BlockAdapterBase extends AdapterBase {
 
   public Optional<AdapterBase> getMiner(final DataFetchingEnvironment environment) {
 
-    final BlockchainQueries query = getBlockchainQueries(environment);
+    final GraphQLDataLoader dataLoader = getDataLoader(environment);
     long blockNumber = header.getNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
       blockNumber = bn;
     }
 
-    return Optional.ofNullable(query.getWorldState(blockNumber).get().get(header.getCoinbase()))
+    return Optional.ofNullable(
+            dataLoader.getWorldState(blockNumber).get().get(header.getCoinbase()))
         .map(account -> (AdapterBase) new AccountAdapter(account))
         .or(() -> Optional.of(new EmptyAccountAdapter(header.getCoinbase())));
   }
@@ -136,9 +137,8 @@ public class BlockAdapterBase extends AdapterBase {
 
   public Optional<AccountAdapter> getAccount(final DataFetchingEnvironment environment) {
 
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final long bn = header.getNumber();
-    final WorldState ws = query.getWorldState(bn).get();
+    final WorldState ws = getDataLoader(environment).getWorldState(bn).get();
 
     if (ws != null) {
       final Address addr = environment.getArgument("address");
@@ -14,14 +14,13 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
-import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
-import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.Wei;
 
@@ -54,13 +53,13 @@ public class TransactionAdapter extends AdapterBase {
   }
 
   public Optional<AccountAdapter> getFrom(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+    final GraphQLDataLoader dataLoader = getDataLoader(environment);
     final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
     final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
     if (!txBlockNumber.isPresent() && !bn.isPresent()) {
       return Optional.empty();
     }
-    return query
+    return dataLoader
         .getWorldState(bn.orElseGet(txBlockNumber::get))
         .map(
             mutableWorldState ->
@@ -69,14 +68,14 @@ public class TransactionAdapter extends AdapterBase {
   }
 
   public Optional<AccountAdapter> getTo(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+    final GraphQLDataLoader dataLoader = getDataLoader(environment);
     final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
     final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
     if (!txBlockNumber.isPresent() && !bn.isPresent()) {
       return Optional.empty();
     }
 
-    return query
+    return dataLoader
         .getWorldState(bn.orElseGet(txBlockNumber::get))
         .flatMap(
             ws ->
@@ -105,14 +104,13 @@ public class TransactionAdapter extends AdapterBase {
   public Optional<NormalBlockAdapter> getBlock(final DataFetchingEnvironment environment) {
     return transactionWithMetadata
         .getBlockHash()
-        .flatMap(blockHash -> getBlockchainQueries(environment).blockByHash(blockHash))
+        .flatMap(blockHash -> getDataLoader(environment).blockByHash(blockHash))
         .map(NormalBlockAdapter::new);
   }
 
   public Optional<Long> getStatus(final DataFetchingEnvironment environment) {
-    return Optional.ofNullable(transactionWithMetadata.getTransaction())
-        .map(Transaction::getHash)
-        .flatMap(rpt -> getBlockchainQueries(environment).transactionReceiptByTransactionHash(rpt))
+    return getDataLoader(environment)
+        .transactionReceipt(transactionWithMetadata)
         .map(TransactionReceiptWithMetadata::getReceipt)
         .flatMap(
             receipt ->
@@ -122,18 +120,14 @@ public class TransactionAdapter extends AdapterBase {
   }
 
   public Optional<Long> getGasUsed(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Optional<TransactionReceiptWithMetadata> rpt =
-        query.transactionReceiptByTransactionHash(
-            transactionWithMetadata.getTransaction().getHash());
+        getDataLoader(environment).transactionReceipt(transactionWithMetadata);
     return rpt.map(TransactionReceiptWithMetadata::getGasUsed);
   }
 
   public Optional<Long> getCumulativeGasUsed(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Optional<TransactionReceiptWithMetadata> rpt =
-        query.transactionReceiptByTransactionHash(
-            transactionWithMetadata.getTransaction().getHash());
+        getDataLoader(environment).transactionReceipt(transactionWithMetadata);
     if (rpt.isPresent()) {
       final TransactionReceipt receipt = rpt.get().getReceipt();
       return Optional.of(receipt.getCumulativeGasUsed());
@@ -147,7 +141,7 @@ public class TransactionAdapter extends AdapterBase {
       final Optional<Address> addr = transactionWithMetadata.getTransaction().getTo();
 
       if (addr.isPresent()) {
-        final BlockchainQueries query = getBlockchainQueries(environment);
+        final GraphQLDataLoader dataLoader = getDataLoader(environment);
         final Optional<Long> txBlockNumber = transactionWithMetadata.getBlockNumber();
         final Optional<Long> bn = Optional.ofNullable(environment.getArgument("block"));
         if (!txBlockNumber.isPresent() && !bn.isPresent()) {
@@ -155,7 +149,7 @@ public class TransactionAdapter extends AdapterBase {
         }
         final long blockNumber = bn.orElseGet(txBlockNumber::get);
 
-        final Optional<MutableWorldState> ws = query.getWorldState(blockNumber);
+        final Optional<MutableWorldState> ws = dataLoader.getWorldState(blockNumber);
         if (ws.isPresent()) {
           return Optional.of(new AccountAdapter(ws.get().get(addr.get())));
         }
@@ -165,10 +159,9 @@ public class TransactionAdapter extends AdapterBase {
   }
 
   public List<LogAdapter> getLogs(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Hash hash = transactionWithMetadata.getTransaction().getHash();
     final Optional<TransactionReceiptWithMetadata> maybeTransactionReceiptWithMetadata =
-        query.transactionReceiptByTransactionHash(hash);
+        getDataLoader(environment).transactionReceipt(transactionWithMetadata);
     final List<LogAdapter> results = new ArrayList<>();
     if (maybeTransactionReceiptWithMetadata.isPresent()) {
       final List<LogWithMetadata> logs =
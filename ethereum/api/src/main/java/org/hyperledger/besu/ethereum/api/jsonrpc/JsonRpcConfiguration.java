@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -31,6 +32,8 @@ import com.google.common.base.MoreObjects;
 public class JsonRpcConfiguration {
   private static final String DEFAULT_JSON_RPC_HOST = "127.0.0.1";
   public static final int DEFAULT_JSON_RPC_PORT = 8545;
+  public static final int DEFAULT_MAX_QUEUED_REQUESTS = 1000;
+  public static final int DEFAULT_EXPENSIVE_REQUEST_THREADS = 4;
 
   private boolean enabled;
   private int port;
@@ -43,6 +46,10 @@ public class JsonRpcConfiguration {
   private File authenticationPublicKeyFile;
   private Optional<TlsConfiguration> tlsConfiguration = Optional.empty();
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
+  private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+  private int expensiveRequestThreads = DEFAULT_EXPENSIVE_REQUEST_THREADS;
+  private Map<String, Integer> methodConcurrencyLimits = Collections.emptyMap();
+  private boolean responseCacheEnabled = false;
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -151,6 +158,38 @@ public class JsonRpcConfiguration {
     this.httpTimeoutSec = httpTimeoutSec;
   }
 
+  public int getMaxQueuedRequests() {
+    return maxQueuedRequests;
+  }
+
+  public void setMaxQueuedRequests(final int maxQueuedRequests) {
+    this.maxQueuedRequests = maxQueuedRequests;
+  }
+
+  public int getExpensiveRequestThreads() {
+    return expensiveRequestThreads;
+  }
+
+  public void setExpensiveRequestThreads(final int expensiveRequestThreads) {
+    this.expensiveRequestThreads = expensiveRequestThreads;
+  }
+
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
+
+  public void setMethodConcurrencyLimits(final Map<String, Integer> methodConcurrencyLimits) {
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+  }
+
+  public boolean isResponseCacheEnabled() {
+    return responseCacheEnabled;
+  }
+
+  public void setResponseCacheEnabled(final boolean responseCacheEnabled) {
+    this.responseCacheEnabled = responseCacheEnabled;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -165,6 +204,10 @@ public class JsonRpcConfiguration {
         .add("authenticationPublicKeyFile", authenticationPublicKeyFile)
         .add("tlsConfiguration", tlsConfiguration)
         .add("httpTimeoutSec", httpTimeoutSec)
+        .add("maxQueuedRequests", maxQueuedRequests)
+        .add("expensiveRequestThreads", expensiveRequestThreads)
+        .add("methodConcurrencyLimits", methodConcurrencyLimits)
+        .add("responseCacheEnabled", responseCacheEnabled)
         .toString();
   }
 
@@ -185,7 +228,11 @@ public class JsonRpcConfiguration {
         && Objects.equals(rpcApis, that.rpcApis)
         && Objects.equals(hostsAllowlist, that.hostsAllowlist)
         && Objects.equals(authenticationCredentialsFile, that.authenticationCredentialsFile)
-        && Objects.equals(authenticationPublicKeyFile, that.authenticationPublicKeyFile);
+        && Objects.equals(authenticationPublicKeyFile, that.authenticationPublicKeyFile)
+        && maxQueuedRequests == that.maxQueuedRequests
+        && expensiveRequestThreads == that.expensiveRequestThreads
+        && responseCacheEnabled == that.responseCacheEnabled
+        && Objects.equals(methodConcurrencyLimits, that.methodConcurrencyLimits);
   }
 
   @Override
@@ -199,6 +246,10 @@ public class JsonRpcConfiguration {
         hostsAllowlist,
         authenticationEnabled,
         authenticationCredentialsFile,
-        authenticationPublicKeyFile);
+        authenticationPublicKeyFile,
+        maxQueuedRequests,
+        expensiveRequestThreads,
+        methodConcurrencyLimits,
+        responseCacheEnabled);
   }
 }
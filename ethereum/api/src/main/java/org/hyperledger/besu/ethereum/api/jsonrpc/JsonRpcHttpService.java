@@ -24,6 +24,7 @@ import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationUtils;
 import org.hyperledger.besu.ethereum.api.jsonrpc.context.ContextKey;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcRequestScheduler;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
@@ -58,12 +59,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -101,6 +104,7 @@ public class JsonRpcHttpService {
   private final NatService natService;
   private final Path dataDir;
   private final LabelledMetric<OperationTimer> requestTimer;
+  private final JsonRpcRequestScheduler requestScheduler;
 
   @VisibleForTesting public final Optional<AuthenticationService> authenticationService;
 
@@ -159,6 +163,7 @@ public class JsonRpcHttpService {
             "Time taken to process a JSON-RPC request",
             "methodName");
     validateConfig(config);
+    requestScheduler = new JsonRpcRequestScheduler(config, metricsSystem);
     this.config = config;
     this.vertx = vertx;
     this.natService = natService;
@@ -389,6 +394,7 @@ public class JsonRpcHttpService {
   }
 
   public CompletableFuture<?> stop() {
+    requestScheduler.stop();
     if (httpServer == null) {
       return CompletableFuture.completedFuture(null);
     }
@@ -468,27 +474,51 @@ public class JsonRpcHttpService {
   private void handleJsonSingleRequest(
       final RoutingContext routingContext, final JsonObject request, final Optional<User> user) {
     final HttpServerResponse response = routingContext.response();
-    vertx.executeBlocking(
-        future -> {
-          final JsonRpcResponse jsonRpcResponse = process(routingContext, request, user);
-          future.complete(jsonRpcResponse);
-        },
-        false,
-        (res) -> {
-          if (!response.closed() && !response.headWritten()) {
-            if (res.failed()) {
-              response.setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
-              return;
-            }
-
-            final JsonRpcResponse jsonRpcResponse = (JsonRpcResponse) res.result();
-
-            response
-                .setStatusCode(status(jsonRpcResponse).code())
-                .putHeader("Content-Type", APPLICATION_JSON)
-                .end(serialize(jsonRpcResponse));
-          }
-        });
+    final Context context = vertx.getOrCreateContext();
+    requestScheduler
+        .submit(methodName(request), () -> process(routingContext, request, user))
+        .whenComplete(
+            (jsonRpcResponse, error) ->
+                context.runOnContext(
+                    v -> {
+                      if (response.closed() || response.headWritten()) {
+                        return;
+                      }
+                      if (error instanceof RejectedExecutionException) {
+                        response
+                            .setStatusCode(HttpResponseStatus.TOO_MANY_REQUESTS.code())
+                            .putHeader("Content-Type", APPLICATION_JSON)
+                            .end(
+                                Json.encode(
+                                    errorResponse(
+                                        requestId(request), JsonRpcError.REQUEST_LIMIT_EXCEEDED)));
+                        return;
+                      }
+                      if (error != null) {
+                        response
+                            .setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code())
+                            .end();
+                        return;
+                      }
+
+                      response
+                          .setStatusCode(status(jsonRpcResponse).code())
+                          .putHeader("Content-Type", APPLICATION_JSON)
+                          .end(serialize(jsonRpcResponse));
+                    }));
+  }
+
+  private Optional<String> methodName(final JsonObject request) {
+    final Object method = request.getValue("method");
+    return method instanceof String ? Optional.of((String) method) : Optional.empty();
+  }
+
+  private Object requestId(final JsonObject request) {
+    try {
+      return new JsonRpcRequestId(request.getValue("id")).getValue();
+    } catch (final IllegalArgumentException e) {
+      return null;
+    }
   }
 
   private HttpResponseStatus status(final JsonRpcResponse response) {
@@ -518,6 +548,7 @@ public class JsonRpcHttpService {
   private void handleJsonBatchRequest(
       final RoutingContext routingContext, final JsonArray jsonArray, final Optional<User> user) {
     // Interpret json as rpc request
+    final Context context = vertx.getOrCreateContext();
     final List<Future> responses =
         jsonArray.stream()
             .map(
@@ -529,16 +560,23 @@ public class JsonRpcHttpService {
 
                   final JsonObject req = (JsonObject) obj;
                   final Future<JsonRpcResponse> fut = Future.future();
-                  vertx.executeBlocking(
-                      future -> future.complete(process(routingContext, req, user)),
-                      false,
-                      ar -> {
-                        if (ar.failed()) {
-                          fut.fail(ar.cause());
-                        } else {
-                          fut.complete((JsonRpcResponse) ar.result());
-                        }
-                      });
+                  requestScheduler
+                      .submit(methodName(req), () -> process(routingContext, req, user))
+                      .whenComplete(
+                          (jsonRpcResponse, error) ->
+                              context.runOnContext(
+                                  v -> {
+                                    if (error instanceof RejectedExecutionException) {
+                                      // only the rejected entries of a batch fail
+                                      fut.complete(
+                                          errorResponse(
+                                              requestId(req), JsonRpcError.REQUEST_LIMIT_EXCEEDED));
+                                    } else if (error != null) {
+                                      fut.fail(error);
+                                    } else {
+                                      fut.complete(jsonRpcResponse);
+                                    }
+                                  }));
                   return fut;
                 })
             .collect(toList());
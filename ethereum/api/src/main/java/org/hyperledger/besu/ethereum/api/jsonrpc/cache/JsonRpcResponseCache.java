@@ -0,0 +1,193 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.cache;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A short lived cache of successful responses to JSON-RPC methods whose result only depends on
+ * their parameters and the canonical chain.
+ *
+ * <p>Entries are keyed by method, parameters and the hash of the chain head the request was served
+ * against, so a request naming {@code latest} or a block number is never answered from an older
+ * view of the chain. Reorgs additionally clear the cache, and requests referring to the {@code
+ * pending} block are never cached. Results are stored already serialized to JSON so a hit skips
+ * both the work of the method and the serialization of its result.
+ */
+public class JsonRpcResponseCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(2);
+  static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+  private static final Set<String> CACHEABLE_METHODS =
+      Stream.of(
+              RpcMethod.ETH_CALL,
+              RpcMethod.ETH_GET_BALANCE,
+              RpcMethod.ETH_GET_BLOCK_BY_HASH,
+              RpcMethod.ETH_GET_BLOCK_BY_NUMBER,
+              RpcMethod.ETH_GET_BLOCK_TRANSACTION_COUNT_BY_HASH,
+              RpcMethod.ETH_GET_BLOCK_TRANSACTION_COUNT_BY_NUMBER,
+              RpcMethod.ETH_GET_CODE,
+              RpcMethod.ETH_GET_STORAGE_AT,
+              RpcMethod.ETH_GET_TRANSACTION_BY_BLOCK_HASH_AND_INDEX,
+              RpcMethod.ETH_GET_TRANSACTION_BY_BLOCK_NUMBER_AND_INDEX,
+              RpcMethod.ETH_GET_TRANSACTION_COUNT,
+              RpcMethod.ETH_GET_TRANSACTION_RECEIPT,
+              RpcMethod.ETH_GET_UNCLE_BY_BLOCK_HASH_AND_INDEX,
+              RpcMethod.ETH_GET_UNCLE_BY_BLOCK_NUMBER_AND_INDEX,
+              RpcMethod.ETH_GET_UNCLE_COUNT_BY_BLOCK_HASH,
+              RpcMethod.ETH_GET_UNCLE_COUNT_BY_BLOCK_NUMBER)
+          .map(RpcMethod::getMethodName)
+          .collect(Collectors.toUnmodifiableSet());
+
+  private final Blockchain blockchain;
+  private final Cache<String, String> responses;
+  private final LabelledMetric<Counter> hits;
+  private final LabelledMetric<Counter> misses;
+
+  public JsonRpcResponseCache(final Blockchain blockchain, final MetricsSystem metricsSystem) {
+    this(
+        blockchain,
+        metricsSystem,
+        DEFAULT_TIME_TO_LIVE,
+        DEFAULT_MAX_ENTRIES,
+        Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  JsonRpcResponseCache(
+      final Blockchain blockchain,
+      final MetricsSystem metricsSystem,
+      final Duration timeToLive,
+      final long maxEntries,
+      final Ticker ticker) {
+    this.blockchain = blockchain;
+    this.responses =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .build();
+    this.hits =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "response_cache_hits_total",
+            "Number of JSON-RPC requests answered from the response cache",
+            "methodName");
+    this.misses =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "response_cache_misses_total",
+            "Number of cacheable JSON-RPC requests that were not in the response cache",
+            "methodName");
+    blockchain.observeChainReorg((blockWithReceipts, chain) -> responses.invalidateAll());
+  }
+
+  public static boolean isCacheable(final String methodName) {
+    return CACHEABLE_METHODS.contains(methodName);
+  }
+
+  /**
+   * Wraps the cacheable methods of the given set so their responses are served through this cache.
+   *
+   * @param methods the enabled JSON-RPC methods, by name
+   * @return the same methods with the cacheable ones decorated
+   */
+  public Map<String, JsonRpcMethod> decorate(final Map<String, JsonRpcMethod> methods) {
+    return methods.entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                entry ->
+                    isCacheable(entry.getKey())
+                        ? new CachingJsonRpcMethod(entry.getValue(), this)
+                        : entry.getValue()));
+  }
+
+  JsonRpcResponse response(final JsonRpcMethod method, final JsonRpcRequestContext request) {
+    final Optional<String> key = cacheKey(method.getName(), request);
+    if (key.isEmpty()) {
+      return method.response(request);
+    }
+
+    final String cached = responses.getIfPresent(key.get());
+    if (cached != null) {
+      hits.labels(method.getName()).inc();
+      return new JsonRpcSuccessResponse(request.getRequest().getId(), new RawValue(cached));
+    }
+
+    misses.labels(method.getName()).inc();
+    final JsonRpcResponse response = method.response(request);
+    if (response.getType() == JsonRpcResponseType.SUCCESS) {
+      try {
+        responses.put(key.get(), Json.encode(((JsonRpcSuccessResponse) response).getResult()));
+      } catch (final EncodeException e) {
+        LOG.debug("Unable to cache response for {}", method.getName(), e);
+      }
+    }
+    return response;
+  }
+
+  private Optional<String> cacheKey(final String methodName, final JsonRpcRequestContext request) {
+    final String params;
+    try {
+      // hex quantities and hashes are case insensitive, as are the block tags
+      params = Json.encode(request.getRequest().getParams()).toLowerCase(Locale.US);
+    } catch (final EncodeException e) {
+      return Optional.empty();
+    }
+    if (params.contains("\"pending\"")) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        methodName + '|' + blockchain.getChainHeadHash().toHexString() + '|' + params);
+  }
+
+  @VisibleForTesting
+  long size() {
+    responses.cleanUp();
+    return responses.size();
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs JSON-RPC requests on bounded worker pools, one per {@link RpcCostClass}, instead of the
+ * shared Vert.x worker pool.
+ *
+ * <p>Requests are rejected rather than queued indefinitely when the pool for their cost class has a
+ * full queue, or when a method already has as many requests in flight as its configured concurrency
+ * limit allows.
+ */
+public class JsonRpcRequestScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int CHEAP_REQUEST_THREADS = 4;
+  static final int STANDARD_REQUEST_THREADS = 16;
+
+  private final Map<RpcCostClass, ExecutorService> executors = new EnumMap<>(RpcCostClass.class);
+  private final Map<String, Semaphore> concurrencyLimits;
+  private final LabelledMetric<OperationTimer> queueTimer;
+  private final LabelledMetric<Counter> rejectedRequests;
+
+  public JsonRpcRequestScheduler(
+      final JsonRpcConfiguration config, final MetricsSystem metricsSystem) {
+    executors.put(
+        RpcCostClass.CHEAP,
+        newExecutor("rpc-cheap-requests", CHEAP_REQUEST_THREADS, config, metricsSystem));
+    executors.put(
+        RpcCostClass.STANDARD,
+        newExecutor("rpc-standard-requests", STANDARD_REQUEST_THREADS, config, metricsSystem));
+    executors.put(
+        RpcCostClass.EXPENSIVE,
+        newExecutor(
+            "rpc-expensive-requests", config.getExpensiveRequestThreads(), config, metricsSystem));
+    concurrencyLimits =
+        config.getMethodConcurrencyLimits().entrySet().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Map.Entry::getKey, entry -> new Semaphore(entry.getValue())));
+    queueTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.RPC,
+            "request_queue_time",
+            "Time a JSON-RPC request waited for a worker before being processed",
+            "methodName");
+    rejectedRequests =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "requests_rejected_total",
+            "Number of JSON-RPC requests rejected because the node was too busy",
+            "methodName",
+            "reason");
+  }
+
+  private static ExecutorService newExecutor(
+      final String name,
+      final int workerCount,
+      final JsonRpcConfiguration config,
+      final MetricsSystem metricsSystem) {
+    return MonitoredExecutors.newFixedThreadPool(
+        name, workerCount, new ArrayBlockingQueue<>(config.getMaxQueuedRequests()), metricsSystem);
+  }
+
+  /**
+   * Schedules a request on the worker pool for its method's cost class.
+   *
+   * @param methodName the JSON-RPC method being requested, if it could be determined
+   * @param task the work required to produce the response
+   * @param <T> the type of the response
+   * @return a future completed with the response, or failed with a {@link
+   *     RejectedExecutionException} if the request was not accepted
+   */
+  public <T> CompletableFuture<T> submit(
+      final Optional<String> methodName, final Supplier<T> task) {
+    // only known method names are used as labels, so callers cannot create arbitrary metrics
+    final Optional<String> knownMethod = methodName.filter(RpcMethod::rpcMethodExists);
+    final String label = knownMethod.orElse("unknown");
+    final Optional<Semaphore> limit = knownMethod.map(concurrencyLimits::get);
+    if (limit.isPresent() && !limit.get().tryAcquire()) {
+      return reject(label, "concurrency_limit");
+    }
+
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final OperationTimer.TimingContext queued = queueTimer.labels(label).startTimer();
+    final ExecutorService executor =
+        executors.get(knownMethod.map(RpcCostClass::forMethod).orElse(RpcCostClass.STANDARD));
+    try {
+      executor.execute(
+          () -> {
+            queued.stopTimer();
+            try {
+              result.complete(task.get());
+            } catch (final Throwable t) {
+              result.completeExceptionally(t);
+            } finally {
+              limit.ifPresent(Semaphore::release);
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      limit.ifPresent(Semaphore::release);
+      return reject(label, "queue_full");
+    }
+    return result;
+  }
+
+  private <T> CompletableFuture<T> reject(final String methodName, final String reason) {
+    LOG.debug("Rejecting JSON-RPC request {}: {}", methodName, reason);
+    rejectedRequests.labels(methodName, reason).inc();
+    return CompletableFuture.failedFuture(
+        new RejectedExecutionException("JSON-RPC request rejected: " + reason));
+  }
+
+  public void stop() {
+    executors.values().forEach(ExecutorService::shutdownNow);
+  }
+}
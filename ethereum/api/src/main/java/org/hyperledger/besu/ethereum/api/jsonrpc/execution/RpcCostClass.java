@@ -0,0 +1,87 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Rough cost of serving a JSON-RPC method. Each class is served by its own pool of workers so that
+ * a burst of expensive requests cannot hold up the cheap ones.
+ */
+public enum RpcCostClass {
+  /** Answered from in-memory state, such as the chain head or node configuration. */
+  CHEAP,
+  /** Reads a bounded amount of chain or world state data. */
+  STANDARD,
+  /** Replays transactions or scans an unbounded range of blocks. */
+  EXPENSIVE;
+
+  private static final Set<String> CHEAP_METHODS =
+      methodNames(
+          RpcMethod.ETH_ACCOUNTS,
+          RpcMethod.ETH_BLOCK_NUMBER,
+          RpcMethod.ETH_CHAIN_ID,
+          RpcMethod.ETH_COINBASE,
+          RpcMethod.ETH_GAS_PRICE,
+          RpcMethod.ETH_HASHRATE,
+          RpcMethod.ETH_MINING,
+          RpcMethod.ETH_PROTOCOL_VERSION,
+          RpcMethod.ETH_SYNCING,
+          RpcMethod.NET_ENODE,
+          RpcMethod.NET_LISTENING,
+          RpcMethod.NET_PEER_COUNT,
+          RpcMethod.NET_SERVICES,
+          RpcMethod.NET_VERSION,
+          RpcMethod.RPC_MODULES,
+          RpcMethod.WEB3_CLIENT_VERSION,
+          RpcMethod.WEB3_SHA3);
+
+  private static final Set<String> EXPENSIVE_METHODS =
+      methodNames(
+          RpcMethod.DEBUG_STORAGE_RANGE_AT,
+          RpcMethod.DEBUG_TRACE_BLOCK,
+          RpcMethod.DEBUG_TRACE_BLOCK_BY_HASH,
+          RpcMethod.DEBUG_TRACE_BLOCK_BY_NUMBER,
+          RpcMethod.DEBUG_TRACE_TRANSACTION,
+          RpcMethod.ETH_CALL,
+          RpcMethod.ETH_ESTIMATE_GAS,
+          RpcMethod.ETH_GET_FILTER_LOGS,
+          RpcMethod.ETH_GET_LOGS,
+          RpcMethod.ETH_GET_PROOF,
+          RpcMethod.PRIV_CALL,
+          RpcMethod.PRIV_GET_FILTER_LOGS,
+          RpcMethod.PRIV_GET_LOGS,
+          RpcMethod.TRACE_BLOCK,
+          RpcMethod.TRACE_REPLAY_BLOCK_TRANSACTIONS,
+          RpcMethod.TRACE_TRANSACTION);
+
+  public static RpcCostClass forMethod(final String methodName) {
+    if (CHEAP_METHODS.contains(methodName)) {
+      return CHEAP;
+    }
+    if (EXPENSIVE_METHODS.contains(methodName)) {
+      return EXPENSIVE;
+    }
+    return STANDARD;
+  }
+
+  private static Set<String> methodNames(final RpcMethod... methods) {
+    return Stream.of(methods).map(RpcMethod::getMethodName).collect(Collectors.toUnmodifiableSet());
+  }
+}
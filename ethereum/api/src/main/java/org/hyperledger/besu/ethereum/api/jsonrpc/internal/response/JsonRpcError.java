@@ -31,6 +31,9 @@ public enum JsonRpcError {
 
   METHOD_NOT_ENABLED(-32604, "Method not enabled"),
 
+  // Request admission control
+  REQUEST_LIMIT_EXCEEDED(-32005, "Request limit exceeded, server busy"),
+
   // eth_sendTransaction specific error message
   ETH_SEND_TX_NOT_AVAILABLE(
       -32604,
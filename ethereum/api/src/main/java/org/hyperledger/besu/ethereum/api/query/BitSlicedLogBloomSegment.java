@@ -0,0 +1,228 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.hyperledger.besu.ethereum.api.query.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
+
+import org.hyperledger.besu.ethereum.core.LogsBloomFilter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A sealed log bloom cache segment stored transposed: instead of one 2048-bit bloom per block, the
+ * file holds one bitvector per bloom bit, with one bit per block of the segment.
+ *
+ * <p>A logs query only needs the (at most) three bloom bits set by each address or topic, so a scan
+ * reads three slices per criterion through a memory mapping and combines them 64 blocks at a time,
+ * rather than reading and testing every block's full bloom.
+ */
+final class BitSlicedLogBloomSegment {
+
+  static final int BLOOM_BITS = LogsBloomFilter.BYTE_SIZE * Byte.SIZE;
+  static final int WORDS_PER_SLICE = (BLOCKS_PER_BLOOM_CACHE + Long.SIZE - 1) / Long.SIZE;
+  static final long FILE_SIZE = (long) BLOOM_BITS * WORDS_PER_SLICE * Long.BYTES;
+
+  private static final int ROW_FILE_SIZE = BLOCKS_PER_BLOOM_CACHE * LogsBloomFilter.BYTE_SIZE;
+
+  private final LongBuffer slices;
+
+  private BitSlicedLogBloomSegment(final LongBuffer slices) {
+    this.slices = slices;
+  }
+
+  static Path slicedFile(final Path cacheDir, final long segment) {
+    return cacheDir.resolve("logBloom-" + segment + ".sliced");
+  }
+
+  static boolean isPresent(final Path cacheDir, final long segment) {
+    final Path file = slicedFile(cacheDir, segment);
+    try {
+      return Files.isRegularFile(file) && Files.size(file) == FILE_SIZE;
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
+  static BitSlicedLogBloomSegment open(final Path file) throws IOException {
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() != FILE_SIZE) {
+        throw new IOException(
+            String.format(
+                "Unexpected size for bit-sliced log bloom segment %s: %d", file, channel.size()));
+      }
+      // the mapping remains valid once the channel is closed
+      return new BitSlicedLogBloomSegment(
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE).asLongBuffer());
+    }
+  }
+
+  /**
+   * Converts a complete segment in the row-per-block format into the bit-sliced format. The sliced
+   * file is written next to the target and atomically moved into place, so readers never see a
+   * partially written segment.
+   *
+   * @param rowFile a complete segment of consecutive 256 byte blooms
+   * @param slicedFile the file to write the transposed segment to
+   * @throws IOException if either file cannot be read or written
+   */
+  static void transpose(final Path rowFile, final Path slicedFile) throws IOException {
+    final Path tempFile = slicedFile.resolveSibling(slicedFile.getFileName() + ".tmp");
+    checkArgument(
+        Files.size(rowFile) == ROW_FILE_SIZE,
+        "Log bloom cache segment %s is not complete",
+        rowFile);
+    try (final FileChannel in = FileChannel.open(rowFile, StandardOpenOption.READ);
+        final RandomAccessFile out = new RandomAccessFile(tempFile.toFile(), "rw")) {
+      out.setLength(FILE_SIZE);
+      final MappedByteBuffer rows = in.map(FileChannel.MapMode.READ_ONLY, 0, ROW_FILE_SIZE);
+      final LongBuffer slices =
+          out.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE).asLongBuffer();
+      final long[] words = new long[BLOOM_BITS];
+      for (int word = 0; word < WORDS_PER_SLICE; word++) {
+        Arrays.fill(words, 0L);
+        final int firstBlock = word * Long.SIZE;
+        final int lastBlock = Math.min(firstBlock + Long.SIZE, BLOCKS_PER_BLOOM_CACHE);
+        for (int block = firstBlock; block < lastBlock; block++) {
+          final long blockBit = 1L << block;
+          final int rowStart = block * LogsBloomFilter.BYTE_SIZE;
+          for (int i = 0; i < LogsBloomFilter.BYTE_SIZE; i++) {
+            int value = rows.get(rowStart + i) & 0xFF;
+            while (value != 0) {
+              words[i * Byte.SIZE + Integer.numberOfTrailingZeros(value)] |= blockBit;
+              value &= value - 1;
+            }
+          }
+        }
+        for (int bit = 0; bit < BLOOM_BITS; bit++) {
+          slices.put(bit * WORDS_PER_SLICE + word, words[bit]);
+        }
+      }
+    }
+    Files.move(
+        tempFile, slicedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Overwrites the bloom of a single block in an existing bit-sliced segment, for example when a
+   * reorg replaces a block that has already been sealed.
+   */
+  static void writeBloom(final Path slicedFile, final int offset, final Bytes bloom)
+      throws IOException {
+    checkArgument(bloom.size() == LogsBloomFilter.BYTE_SIZE, "Invalid bloom size");
+    try (final FileChannel channel =
+        FileChannel.open(slicedFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final LongBuffer slices =
+          channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE).asLongBuffer();
+      final int word = offset / Long.SIZE;
+      final long blockBit = 1L << offset;
+      for (int bit = 0; bit < BLOOM_BITS; bit++) {
+        final int index = bit * WORDS_PER_SLICE + word;
+        final boolean set = (bloom.get(bit / Byte.SIZE) & (1 << (bit % Byte.SIZE))) != 0;
+        final long current = slices.get(index);
+        final long updated = set ? current | blockBit : current & ~blockBit;
+        if (updated != current) {
+          slices.put(index, updated);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the offsets, in ascending order, of the blocks in {@code [fromOffset, toOffset]} whose
+   * bloom could match the query. This gives exactly the same answer as {@link
+   * LogsQuery#couldMatch(LogsBloomFilter)} applied to each block's bloom.
+   */
+  int[] matchingOffsets(final int fromOffset, final int toOffset, final LogsQuery query) {
+    if (fromOffset > toOffset) {
+      return new int[0];
+    }
+    final int[][] addressBits = bloomBits(query.getAddressBlooms());
+    final int[][][] topicBits =
+        query.getTopicsBlooms().stream()
+            .filter(topics -> !topics.isEmpty())
+            .map(BitSlicedLogBloomSegment::bloomBits)
+            .toArray(int[][][]::new);
+
+    final IntStream.Builder matches = IntStream.builder();
+    final int firstWord = fromOffset / Long.SIZE;
+    final int lastWord = toOffset / Long.SIZE;
+    for (int word = firstWord; word <= lastWord; word++) {
+      long candidates = -1L;
+      if (word == firstWord) {
+        candidates &= -1L << fromOffset;
+      }
+      if (word == lastWord) {
+        candidates &= -1L >>> (Long.SIZE - 1 - (toOffset % Long.SIZE));
+      }
+      if (addressBits.length > 0) {
+        candidates &= anyOf(word, addressBits);
+      }
+      for (int i = 0; i < topicBits.length && candidates != 0; i++) {
+        candidates &= anyOf(word, topicBits[i]);
+      }
+      while (candidates != 0) {
+        matches.add(word * Long.SIZE + Long.numberOfTrailingZeros(candidates));
+        candidates &= candidates - 1;
+      }
+    }
+    return matches.build().toArray();
+  }
+
+  private long anyOf(final int word, final int[][] filters) {
+    long result = 0;
+    for (final int[] bits : filters) {
+      result |= allOf(word, bits);
+    }
+    return result;
+  }
+
+  private long allOf(final int word, final int[] bits) {
+    long result = -1L;
+    for (int i = 0; i < bits.length && result != 0; i++) {
+      result &= slices.get(bits[i] * WORDS_PER_SLICE + word);
+    }
+    return result;
+  }
+
+  private static int[][] bloomBits(final List<LogsBloomFilter> blooms) {
+    return blooms.stream().map(BitSlicedLogBloomSegment::bloomBits).toArray(int[][]::new);
+  }
+
+  private static int[] bloomBits(final LogsBloomFilter bloom) {
+    final IntStream.Builder bits = IntStream.builder();
+    for (int i = 0; i < LogsBloomFilter.BYTE_SIZE; i++) {
+      int value = bloom.get(i) & 0xFF;
+      while (value != 0) {
+        bits.add(i * Byte.SIZE + Integer.numberOfTrailingZeros(value));
+        value &= value - 1;
+      }
+    }
+    return bits.build().toArray();
+  }
+}
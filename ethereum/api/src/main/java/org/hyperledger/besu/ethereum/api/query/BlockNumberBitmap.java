@@ -0,0 +1,257 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of block numbers within a single chunk of {@link #CHUNK_SIZE} consecutive
+ * blocks, in the style of a roaring bitmap container.
+ *
+ * <p>Sparse chunks are held as a sorted array of 16-bit offsets, dense chunks as a plain bitmap.
+ * The representation switches automatically once the cardinality crosses {@link
+ * #MAX_ARRAY_CARDINALITY}, which is the point where the bitmap becomes the smaller of the two.
+ */
+final class BlockNumberBitmap {
+
+  static final int CHUNK_BITS = 16;
+  static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  static final int MAX_ARRAY_CARDINALITY = 4096;
+
+  private static final int BITMAP_WORDS = CHUNK_SIZE / Long.SIZE;
+  private static final byte ARRAY_CONTAINER = 0;
+  private static final byte BITMAP_CONTAINER = 1;
+
+  // exactly one of these is non-null
+  private char[] array;
+  private long[] bitmap;
+  private int cardinality;
+
+  private BlockNumberBitmap(final char[] array, final long[] bitmap, final int cardinality) {
+    this.array = array;
+    this.bitmap = bitmap;
+    this.cardinality = cardinality;
+  }
+
+  static BlockNumberBitmap empty() {
+    return new BlockNumberBitmap(new char[4], null, 0);
+  }
+
+  static long chunkOf(final long blockNumber) {
+    return blockNumber >>> CHUNK_BITS;
+  }
+
+  static int offsetOf(final long blockNumber) {
+    return (int) (blockNumber & (CHUNK_SIZE - 1));
+  }
+
+  static BlockNumberBitmap fromBytes(final byte[] bytes) {
+    checkArgument(bytes.length > 0, "Cannot decode an empty block number bitmap");
+    if (bytes[0] == BITMAP_CONTAINER) {
+      checkArgument(
+          bytes.length == 1 + BITMAP_WORDS * Long.BYTES, "Invalid bitmap container length");
+      final long[] words = new long[BITMAP_WORDS];
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = 0;
+        for (int b = 0; b < Long.BYTES; b++) {
+          word = (word << 8) | (bytes[1 + i * Long.BYTES + b] & 0xFFL);
+        }
+        words[i] = word;
+        count += Long.bitCount(word);
+      }
+      return new BlockNumberBitmap(null, words, count);
+    }
+    checkArgument(bytes[0] == ARRAY_CONTAINER, "Unknown container type %s", bytes[0]);
+    checkArgument((bytes.length - 1) % Character.BYTES == 0, "Invalid array container length");
+    final int count = (bytes.length - 1) / Character.BYTES;
+    final char[] values = new char[Math.max(count, 4)];
+    for (int i = 0; i < count; i++) {
+      values[i] = (char) (((bytes[1 + 2 * i] & 0xFF) << 8) | (bytes[2 + 2 * i] & 0xFF));
+    }
+    return new BlockNumberBitmap(values, null, count);
+  }
+
+  byte[] toBytes() {
+    if (bitmap != null) {
+      final byte[] bytes = new byte[1 + BITMAP_WORDS * Long.BYTES];
+      bytes[0] = BITMAP_CONTAINER;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        final long word = bitmap[i];
+        for (int b = 0; b < Long.BYTES; b++) {
+          bytes[1 + i * Long.BYTES + b] = (byte) (word >>> (8 * (Long.BYTES - 1 - b)));
+        }
+      }
+      return bytes;
+    }
+    final byte[] bytes = new byte[1 + cardinality * Character.BYTES];
+    bytes[0] = ARRAY_CONTAINER;
+    for (int i = 0; i < cardinality; i++) {
+      bytes[1 + 2 * i] = (byte) (array[i] >>> 8);
+      bytes[2 + 2 * i] = (byte) array[i];
+    }
+    return bytes;
+  }
+
+  boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  int cardinality() {
+    return cardinality;
+  }
+
+  boolean contains(final int offset) {
+    if (bitmap != null) {
+      return (bitmap[offset >>> 6] & (1L << offset)) != 0;
+    }
+    return Arrays.binarySearch(array, 0, cardinality, (char) offset) >= 0;
+  }
+
+  void add(final int offset) {
+    if (bitmap != null) {
+      final long before = bitmap[offset >>> 6];
+      final long after = before | (1L << offset);
+      bitmap[offset >>> 6] = after;
+      if (before != after) {
+        cardinality++;
+      }
+      return;
+    }
+    final int index = Arrays.binarySearch(array, 0, cardinality, (char) offset);
+    if (index >= 0) {
+      return;
+    }
+    if (cardinality == MAX_ARRAY_CARDINALITY) {
+      convertToBitmap();
+      add(offset);
+      return;
+    }
+    final int insertAt = -index - 1;
+    if (cardinality == array.length) {
+      array = Arrays.copyOf(array, Math.min(array.length * 2, MAX_ARRAY_CARDINALITY));
+    }
+    System.arraycopy(array, insertAt, array, insertAt + 1, cardinality - insertAt);
+    array[insertAt] = (char) offset;
+    cardinality++;
+  }
+
+  void remove(final int offset) {
+    if (bitmap != null) {
+      final long before = bitmap[offset >>> 6];
+      final long after = before & ~(1L << offset);
+      bitmap[offset >>> 6] = after;
+      if (before != after) {
+        cardinality--;
+        if (cardinality <= MAX_ARRAY_CARDINALITY) {
+          convertToArray();
+        }
+      }
+      return;
+    }
+    final int index = Arrays.binarySearch(array, 0, cardinality, (char) offset);
+    if (index >= 0) {
+      System.arraycopy(array, index + 1, array, index, cardinality - index - 1);
+      cardinality--;
+    }
+  }
+
+  /** Adds every block number contained in {@code other} to this bitmap. */
+  void or(final BlockNumberBitmap other) {
+    if (other.bitmap != null || cardinality + other.cardinality > MAX_ARRAY_CARDINALITY) {
+      convertToBitmap();
+      final long[] words = bitmap;
+      other.forEach(offset -> words[offset >>> 6] |= 1L << offset);
+      cardinality = countBits(words);
+    } else {
+      other.forEach(this::add);
+    }
+  }
+
+  /** Removes every block number not contained in {@code other} from this bitmap. */
+  void and(final BlockNumberBitmap other) {
+    if (bitmap != null && other.bitmap != null) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        bitmap[i] &= other.bitmap[i];
+      }
+      cardinality = countBits(bitmap);
+      if (cardinality <= MAX_ARRAY_CARDINALITY) {
+        convertToArray();
+      }
+      return;
+    }
+    final char[] source = bitmap != null ? other.array : array;
+    final int sourceCount = bitmap != null ? other.cardinality : cardinality;
+    final BlockNumberBitmap filter = bitmap != null ? this : other;
+    final char[] result = new char[Math.max(sourceCount, 4)];
+    int count = 0;
+    for (int i = 0; i < sourceCount; i++) {
+      if (filter.contains(source[i])) {
+        result[count++] = source[i];
+      }
+    }
+    array = result;
+    bitmap = null;
+    cardinality = count;
+  }
+
+  /** Visits each offset contained in this bitmap in ascending order. */
+  void forEach(final IntConsumer consumer) {
+    if (bitmap != null) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = bitmap[i];
+        while (word != 0) {
+          consumer.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    } else {
+      for (int i = 0; i < cardinality; i++) {
+        consumer.accept(array[i]);
+      }
+    }
+  }
+
+  private void convertToBitmap() {
+    if (bitmap != null) {
+      return;
+    }
+    final long[] words = new long[BITMAP_WORDS];
+    for (int i = 0; i < cardinality; i++) {
+      words[array[i] >>> 6] |= 1L << array[i];
+    }
+    bitmap = words;
+    array = null;
+  }
+
+  private void convertToArray() {
+    final char[] values = new char[Math.max(cardinality, 4)];
+    final int[] count = {0};
+    forEach(offset -> values[count[0]++] = (char) offset);
+    array = values;
+    bitmap = null;
+  }
+
+  private static int countBits(final long[] words) {
+    int count = 0;
+    for (final long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
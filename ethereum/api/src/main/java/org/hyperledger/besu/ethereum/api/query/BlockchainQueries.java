@@ -34,6 +34,7 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.io.EOFException;
@@ -64,6 +65,7 @@ public class BlockchainQueries {
   private final Blockchain blockchain;
   private final Optional<Path> cachePath;
   private final Optional<TransactionLogBloomCacher> transactionLogBloomCacher;
+  private final Optional<LogIndex> logIndex;
 
   public BlockchainQueries(final Blockchain blockchain, final WorldStateArchive worldStateArchive) {
     this(blockchain, worldStateArchive, Optional.empty(), Optional.empty());
@@ -81,6 +83,15 @@ public class BlockchainQueries {
       final WorldStateArchive worldStateArchive,
       final Optional<Path> cachePath,
       final Optional<EthScheduler> scheduler) {
+    this(blockchain, worldStateArchive, cachePath, scheduler, Optional.empty());
+  }
+
+  public BlockchainQueries(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final Optional<Path> cachePath,
+      final Optional<EthScheduler> scheduler,
+      final Optional<LogIndex> logIndex) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.cachePath = cachePath;
@@ -89,6 +100,7 @@ public class BlockchainQueries {
             ? Optional.of(
                 new TransactionLogBloomCacher(blockchain, cachePath.get(), scheduler.get()))
             : Optional.empty();
+    this.logIndex = logIndex;
   }
 
   public Blockchain getBlockchain() {
@@ -103,6 +115,10 @@ public class BlockchainQueries {
     return transactionLogBloomCacher;
   }
 
+  public Optional<LogIndex> getLogIndex() {
+    return logIndex;
+  }
+
   /**
    * Retrieves the header hash of the block at the given height in the canonical chain.
    *
@@ -169,12 +185,7 @@ public class BlockchainQueries {
       return Optional.empty();
     }
     return Optional.of(
-        blockchain
-            .getBlockHashByNumber(blockNumber)
-            .flatMap(this::blockByHashWithTxHashes)
-            .map(BlockWithMetadata::getTransactions)
-            .map(List::size)
-            .orElse(-1));
+        blockchain.getBlockHashByNumber(blockNumber).map(this::getTransactionCount).orElse(-1));
   }
 
   /**
@@ -185,8 +196,8 @@ public class BlockchainQueries {
    */
   public Integer getTransactionCount(final Hash blockHeaderHash) {
     return blockchain
-        .getBlockBody(blockHeaderHash)
-        .map(body -> body.getTransactions().size())
+        .getBlockBodyRlp(blockHeaderHash)
+        .map(body -> BlockBody.readTransactionCount(RLP.input(body)))
         .orElse(-1);
   }
 
@@ -232,7 +243,9 @@ public class BlockchainQueries {
    * @return The number of ommers in the referenced block.
    */
   public Optional<Integer> getOmmerCount(final Hash blockHeaderHash) {
-    return blockchain.getBlockBody(blockHeaderHash).map(b -> b.getOmmers().size());
+    return blockchain
+        .getBlockBodyRlp(blockHeaderHash)
+        .map(body -> BlockBody.readOmmerCount(RLP.input(body)));
   }
 
   /**
@@ -547,6 +560,58 @@ public class BlockchainQueries {
       final long toBlockNumber,
       final LogsQuery query,
       final Supplier<Boolean> isQueryAlive) {
+    final Optional<LogIndex.IndexedRange> indexedRange =
+        logIndex.filter(index -> index.canAnswer(query)).flatMap(LogIndex::getIndexedRange);
+    if (indexedRange.isPresent()) {
+      final long indexedFrom = Math.max(fromBlockNumber, indexedRange.get().getFirstBlock());
+      final long indexedTo = Math.min(toBlockNumber, indexedRange.get().getLastBlock());
+      if (indexedFrom <= indexedTo) {
+        final List<LogWithMetadata> result = new ArrayList<>();
+        if (fromBlockNumber < indexedFrom) {
+          result.addAll(
+              matchingLogsFromBlooms(fromBlockNumber, indexedFrom - 1, query, isQueryAlive));
+        }
+        result.addAll(matchingLogsIndexed(indexedFrom, indexedTo, query, isQueryAlive));
+        if (indexedTo < toBlockNumber) {
+          result.addAll(matchingLogsFromBlooms(indexedTo + 1, toBlockNumber, query, isQueryAlive));
+        }
+        return result;
+      }
+    }
+    return matchingLogsFromBlooms(fromBlockNumber, toBlockNumber, query, isQueryAlive);
+  }
+
+  private List<LogWithMetadata> matchingLogsIndexed(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
+    try {
+      final List<LogWithMetadata> result = new ArrayList<>();
+      for (final long blockNumber :
+          logIndex.orElseThrow().matchingBlockNumbers(fromBlockNumber, toBlockNumber, query)) {
+        BackendQuery.stopIfExpired(isQueryAlive);
+        final Optional<Hash> blockHash = blockchain.getBlockHashByNumber(blockNumber);
+        if (blockHash.isEmpty()) {
+          break;
+        }
+        result.addAll(matchingLogs(blockHash.get(), query, isQueryAlive));
+      }
+      return result;
+    } catch (RpcMethodTimeoutException e) {
+      LOG.error("Error retrieving indexed matching logs", e);
+      throw e;
+    } catch (Exception e) {
+      LOG.error("Error retrieving indexed matching logs", e);
+      throw new RuntimeException(e);
+    }
+  }
+
+  private List<LogWithMetadata> matchingLogsFromBlooms(
+      final long fromBlockNumber,
+      final long toBlockNumber,
+      final LogsQuery query,
+      final Supplier<Boolean> isQueryAlive) {
     try {
       final List<LogWithMetadata> result = new ArrayList<>();
       final long startSegment = fromBlockNumber / BLOCKS_PER_BLOOM_CACHE;
@@ -557,6 +622,22 @@ public class BlockchainQueries {
         final long thisStep = currentStep;
         final long nextStep = (segment + 1) * BLOCKS_PER_BLOOM_CACHE;
         BackendQuery.stopIfExpired(isQueryAlive);
+        final Optional<Path> slicedFile =
+            cachePath
+                .filter(path -> BitSlicedLogBloomSegment.isPresent(path, thisSegment))
+                .map(path -> BitSlicedLogBloomSegment.slicedFile(path, thisSegment));
+        if (slicedFile.isPresent()) {
+          result.addAll(
+              matchingLogsSliced(
+                  thisSegment * BLOCKS_PER_BLOOM_CACHE,
+                  thisStep % BLOCKS_PER_BLOOM_CACHE,
+                  Math.min(toBlockNumber, nextStep - 1) % BLOCKS_PER_BLOOM_CACHE,
+                  query,
+                  slicedFile.get(),
+                  isQueryAlive));
+          currentStep = nextStep;
+          continue;
+        }
         result.addAll(
             cachePath
                 .map(path -> path.resolve("logBloom-" + thisSegment + ".cache"))
@@ -651,6 +732,29 @@ public class BlockchainQueries {
     return results;
   }
 
+  private List<LogWithMetadata> matchingLogsSliced(
+      final long segmentStart,
+      final long offset,
+      final long endOffset,
+      final LogsQuery query,
+      final Path slicedFile,
+      final Supplier<Boolean> isQueryAlive)
+      throws Exception {
+    final List<LogWithMetadata> results = new ArrayList<>();
+    final int[] candidates =
+        BitSlicedLogBloomSegment.open(slicedFile)
+            .matchingOffsets((int) offset, (int) endOffset, query);
+    for (final int pos : candidates) {
+      BackendQuery.stopIfExpired(isQueryAlive);
+      results.addAll(
+          matchingLogs(
+              blockchain.getBlockHashByNumber(segmentStart + pos).orElseThrow(),
+              query,
+              isQueryAlive));
+    }
+    return results;
+  }
+
   public List<LogWithMetadata> matchingLogs(
       final Hash blockHash, final LogsQuery query, final Supplier<Boolean> isQueryAlive) {
     try {
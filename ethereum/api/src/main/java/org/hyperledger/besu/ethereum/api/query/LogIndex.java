@@ -0,0 +1,438 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent.EventType;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * An inverted index from log addresses and topics to the numbers of the canonical blocks that
+ * contain them.
+ *
+ * <p>Block numbers are grouped into chunks of {@link BlockNumberBitmap#CHUNK_SIZE} blocks and each
+ * (key, chunk) pair is stored as its own compressed bitmap, so that appending a block only rewrites
+ * the small bitmaps of the keys it touches and a range query only reads the chunks it spans.
+ *
+ * <p>The index tracks the contiguous range of blocks it covers. Queries must only rely on the index
+ * for blocks inside {@link #getIndexedRange()}; blocks outside of it may be partially indexed. The
+ * hash of the last block of the range is kept with it, so that blocks which left the canonical
+ * chain while the index wasn't following it can be detected.
+ */
+public class LogIndex {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Bytes INDEXED_RANGE_KEY = Bytes.wrap("logIndexRange".getBytes(UTF_8));
+  private static final Bytes LAST_BLOCK_HASH_KEY =
+      Bytes.wrap("logIndexLastBlockHash".getBytes(UTF_8));
+  private static final Bytes ADDRESS_PREFIX = Bytes.of(1);
+  private static final Bytes TOPIC_PREFIX = Bytes.of(2);
+
+  private final Blockchain blockchain;
+  private final KeyValueStorage storage;
+
+  private volatile Optional<IndexedRange> indexedRange;
+
+  public LogIndex(final Blockchain blockchain, final KeyValueStorage storage) {
+    this.blockchain = blockchain;
+    this.storage = storage;
+    this.indexedRange = storage.get(INDEXED_RANGE_KEY.toArrayUnsafe()).map(IndexedRange::decode);
+  }
+
+  public Optional<IndexedRange> getIndexedRange() {
+    return indexedRange;
+  }
+
+  /**
+   * Anchors an empty index at the current chain head so that newly imported blocks extend it.
+   * Blocks below the anchor can be added later with {@link #indexBlocks(long, long)}.
+   */
+  public synchronized void initialize() {
+    if (indexedRange.isPresent()) {
+      return;
+    }
+    final long chainHead = blockchain.getChainHeadBlockNumber();
+    // the genesis block cannot contain logs, so a fresh chain is trivially fully indexed
+    final IndexedRange initialRange =
+        chainHead == BlockHeader.GENESIS_BLOCK_NUMBER
+            ? new IndexedRange(chainHead, chainHead)
+            : new IndexedRange(chainHead + 1, chainHead);
+    final Updater updater = new Updater();
+    updater.setLastBlockHash(blockchain.getChainHeadHash());
+    updater.commit(Optional.of(initialRange));
+    LOG.info("Initialized log index at block {}", initialRange.getFirstBlock());
+  }
+
+  /**
+   * Rewinds the indexed range to the last block it shares with the canonical chain. Blocks that
+   * were reorganised out of the chain while the index wasn't following it, because indexing was
+   * disabled or the node was down, are removed from the index where their receipts are still
+   * available, and the canonical blocks that replaced them are left to be indexed again.
+   */
+  public synchronized void rewindToCanonicalChain() {
+    final Optional<Hash> lastBlockHash =
+        storage.get(LAST_BLOCK_HASH_KEY.toArrayUnsafe()).map(Bytes32::wrap).map(Hash::wrap);
+    if (indexedRange.isEmpty() || lastBlockHash.isEmpty()) {
+      return;
+    }
+    final IndexedRange range = indexedRange.get();
+    final Updater updater = new Updater();
+    Optional<BlockHeader> header = blockchain.getBlockHeader(lastBlockHash.get());
+    while (header.isPresent() && !isCanonical(header.get())) {
+      final BlockHeader removedHeader = header.get();
+      blockchain
+          .getTxReceipts(removedHeader.getHash())
+          .ifPresent(
+              receipts ->
+                  receipts.stream()
+                      .flatMap(receipt -> receipt.getLogs().stream())
+                      .forEach(log -> updater.remove(removedHeader.getNumber(), log)));
+      header = blockchain.getBlockHeader(removedHeader.getParentHash());
+    }
+    if (header.isPresent() && header.get().getHash().equals(lastBlockHash.get())) {
+      return;
+    }
+    // without a common ancestor, none of the indexed blocks can be trusted to be canonical
+    final long commonAncestor =
+        header.map(BlockHeader::getNumber).orElse(range.getFirstBlock() - 1);
+    LOG.info(
+        "Rewinding log index from block {} to common ancestor {} with the canonical chain",
+        range.getLastBlock(),
+        commonAncestor);
+    header
+        .map(BlockHeader::getHash)
+        .or(() -> blockchain.getBlockHashByNumber(commonAncestor))
+        .ifPresent(updater::setLastBlockHash);
+    updater.commit(
+        Optional.of(
+            new IndexedRange(Math.min(range.getFirstBlock(), commonAncestor + 1), commonAncestor)));
+  }
+
+  private boolean isCanonical(final BlockHeader header) {
+    return blockchain
+        .getBlockHashByNumber(header.getNumber())
+        .map(header.getHash()::equals)
+        .orElse(false);
+  }
+
+  /**
+   * Whether the index can narrow down the blocks matching the query. Queries without any address or
+   * topic constraint match every block and gain nothing from the index.
+   */
+  public boolean canAnswer(final LogsQuery query) {
+    return !query.getAddresses().isEmpty()
+        || query.getTopics().stream().anyMatch(LogIndex::isConstrained);
+  }
+
+  /**
+   * Returns, in ascending order, the numbers of the blocks between {@code fromBlockNumber} and
+   * {@code toBlockNumber} (both inclusive) that may contain logs matching the query. Callers must
+   * still filter the logs of each returned block with {@link LogsQuery#matches(Log)}, as the index
+   * does not record which log within a block matched which constraint.
+   */
+  public List<Long> matchingBlockNumbers(
+      final long fromBlockNumber, final long toBlockNumber, final LogsQuery query) {
+    checkArgument(canAnswer(query), "Query has no constraints that can be answered by the index");
+    final List<Long> result = new ArrayList<>();
+    for (long chunk = BlockNumberBitmap.chunkOf(fromBlockNumber);
+        chunk <= BlockNumberBitmap.chunkOf(toBlockNumber);
+        chunk++) {
+      final BlockNumberBitmap candidates = matchingBlocksInChunk(chunk, query);
+      final long chunkStart = chunk << BlockNumberBitmap.CHUNK_BITS;
+      candidates.forEach(
+          offset -> {
+            final long blockNumber = chunkStart + offset;
+            if (blockNumber >= fromBlockNumber && blockNumber <= toBlockNumber) {
+              result.add(blockNumber);
+            }
+          });
+    }
+    return result;
+  }
+
+  private BlockNumberBitmap matchingBlocksInChunk(final long chunk, final LogsQuery query) {
+    BlockNumberBitmap candidates = null;
+    if (!query.getAddresses().isEmpty()) {
+      candidates = BlockNumberBitmap.empty();
+      for (final Address address : query.getAddresses()) {
+        readChunk(addressKey(address, chunk)).ifPresent(candidates::or);
+      }
+    }
+    final List<List<LogTopic>> topics = query.getTopics();
+    for (int position = 0; position < topics.size(); position++) {
+      if (candidates != null && candidates.isEmpty()) {
+        break;
+      }
+      final List<LogTopic> topicsAtPosition = topics.get(position);
+      if (!isConstrained(topicsAtPosition)) {
+        continue;
+      }
+      final BlockNumberBitmap topicCandidates = BlockNumberBitmap.empty();
+      for (final LogTopic topic : topicsAtPosition) {
+        readChunk(topicKey(position, topic, chunk)).ifPresent(topicCandidates::or);
+      }
+      if (candidates == null) {
+        candidates = topicCandidates;
+      } else {
+        candidates.and(topicCandidates);
+      }
+    }
+    return candidates;
+  }
+
+  private static boolean isConstrained(final List<LogTopic> topicsAtPosition) {
+    return !topicsAtPosition.isEmpty() && !topicsAtPosition.contains(null);
+  }
+
+  /**
+   * Applies a block added event to the index: logs of blocks leaving the canonical chain are
+   * removed and logs of blocks joining it are added. The indexed range is extended if the event
+   * continues it.
+   */
+  public synchronized void onBlockAdded(final BlockAddedEvent event) {
+    if (!event.isNewCanonicalHead()) {
+      return;
+    }
+    final Updater updater = new Updater();
+    // removed logs are listed first, so a key present in both the old and new block at the same
+    // height is cleared and then set again
+    for (final LogWithMetadata log : event.getLogsWithMetadata()) {
+      if (log.isRemoved()) {
+        updater.remove(log.getBlockNumber(), log);
+      } else {
+        updater.add(log.getBlockNumber(), log);
+      }
+    }
+    final long newHead = event.getBlock().getHeader().getNumber();
+    final Optional<IndexedRange> newRange =
+        indexedRange.map(
+            range -> {
+              final long lastContinuousBlock =
+                  event.getEventType() == EventType.CHAIN_REORG
+                      ? blockchain
+                          .getBlockHeader(event.getCommonAncestorHash())
+                          .map(BlockHeader::getNumber)
+                          .orElse(Long.MAX_VALUE)
+                      : newHead - 1;
+              if (lastContinuousBlock > range.getLastBlock()) {
+                return range;
+              }
+              updater.setLastBlockHash(event.getBlock().getHash());
+              return new IndexedRange(range.getFirstBlock(), newHead);
+            });
+    updater.commit(newRange);
+  }
+
+  /**
+   * Indexes the canonical blocks between {@code fromBlockNumber} and {@code toBlockNumber} (both
+   * inclusive), and merges them into the indexed range if they are adjacent to it.
+   *
+   * @return the number of the last block that was indexed, which is lower than {@code
+   *     toBlockNumber} if the blockchain is missing a block or its receipts.
+   */
+  public synchronized long indexBlocks(final long fromBlockNumber, final long toBlockNumber) {
+    final Updater updater = new Updater();
+    long lastIndexed = fromBlockNumber - 1;
+    Hash lastIndexedHash = null;
+    for (long blockNumber = fromBlockNumber; blockNumber <= toBlockNumber; blockNumber++) {
+      final Optional<Hash> blockHash = blockchain.getBlockHashByNumber(blockNumber);
+      final Optional<List<TransactionReceipt>> receipts =
+          blockHash.flatMap(blockchain::getTxReceipts);
+      if (receipts.isEmpty()) {
+        break;
+      }
+      for (final TransactionReceipt receipt : receipts.get()) {
+        for (final Log log : receipt.getLogs()) {
+          updater.add(blockNumber, log);
+        }
+      }
+      lastIndexed = blockNumber;
+      lastIndexedHash = blockHash.get();
+    }
+    if (lastIndexed < fromBlockNumber) {
+      return lastIndexed;
+    }
+    final IndexedRange indexed = new IndexedRange(fromBlockNumber, lastIndexed);
+    final IndexedRange newRange = indexedRange.map(range -> range.merge(indexed)).orElse(indexed);
+    if (newRange.getLastBlock() == lastIndexed) {
+      updater.setLastBlockHash(lastIndexedHash);
+    }
+    updater.commit(Optional.of(newRange));
+    return lastIndexed;
+  }
+
+  private Optional<BlockNumberBitmap> readChunk(final Bytes key) {
+    return storage.get(key.toArrayUnsafe()).map(BlockNumberBitmap::fromBytes);
+  }
+
+  private static Bytes addressKey(final Address address, final long chunk) {
+    return Bytes.concatenate(ADDRESS_PREFIX, address, Bytes.ofUnsignedInt(chunk));
+  }
+
+  private static Bytes topicKey(final int position, final LogTopic topic, final long chunk) {
+    return Bytes.concatenate(TOPIC_PREFIX, Bytes.of(position), topic, Bytes.ofUnsignedInt(chunk));
+  }
+
+  /** Accumulates bitmap changes in memory so that each touched chunk is written only once. */
+  private class Updater {
+    private final Map<Bytes, BlockNumberBitmap> updatedChunks = new HashMap<>();
+    private Optional<Hash> lastBlockHash = Optional.empty();
+
+    void add(final long blockNumber, final Log log) {
+      forEachKey(blockNumber, log, key -> getChunk(key).add(offset(blockNumber)));
+    }
+
+    void remove(final long blockNumber, final Log log) {
+      forEachKey(blockNumber, log, key -> getChunk(key).remove(offset(blockNumber)));
+    }
+
+    private void forEachKey(final long blockNumber, final Log log, final Consumer<Bytes> action) {
+      final long chunk = BlockNumberBitmap.chunkOf(blockNumber);
+      action.accept(addressKey(log.getLogger(), chunk));
+      final List<LogTopic> topics = log.getTopics();
+      for (int position = 0; position < topics.size(); position++) {
+        action.accept(topicKey(position, topics.get(position), chunk));
+      }
+    }
+
+    private int offset(final long blockNumber) {
+      return BlockNumberBitmap.offsetOf(blockNumber);
+    }
+
+    /** Records the hash of the block the committed range ends at, when it ends at a new block. */
+    void setLastBlockHash(final Hash hash) {
+      lastBlockHash = Optional.of(hash);
+    }
+
+    private BlockNumberBitmap getChunk(final Bytes key) {
+      return updatedChunks.computeIfAbsent(
+          key, k -> readChunk(k).orElseGet(BlockNumberBitmap::empty));
+    }
+
+    void commit(final Optional<IndexedRange> newRange) {
+      final KeyValueStorageTransaction transaction = storage.startTransaction();
+      updatedChunks.forEach(
+          (key, bitmap) -> {
+            if (bitmap.isEmpty()) {
+              transaction.remove(key.toArrayUnsafe());
+            } else {
+              transaction.put(key.toArrayUnsafe(), bitmap.toBytes());
+            }
+          });
+      newRange.ifPresent(
+          range -> transaction.put(INDEXED_RANGE_KEY.toArrayUnsafe(), range.encode().toArray()));
+      lastBlockHash.ifPresent(
+          hash -> transaction.put(LAST_BLOCK_HASH_KEY.toArrayUnsafe(), hash.toArray()));
+      transaction.commit();
+      indexedRange = newRange;
+    }
+  }
+
+  /** A contiguous range of block numbers, which is empty when the first block is after the last. */
+  public static final class IndexedRange {
+    private final long firstBlock;
+    private final long lastBlock;
+
+    IndexedRange(final long firstBlock, final long lastBlock) {
+      this.firstBlock = firstBlock;
+      this.lastBlock = lastBlock;
+    }
+
+    public long getFirstBlock() {
+      return firstBlock;
+    }
+
+    public long getLastBlock() {
+      return lastBlock;
+    }
+
+    public boolean isEmpty() {
+      return firstBlock > lastBlock;
+    }
+
+    IndexedRange merge(final IndexedRange other) {
+      if (isEmpty() && other.isEmpty()) {
+        return this;
+      }
+      if (other.firstBlock > lastBlock + 1 || other.lastBlock < firstBlock - 1) {
+        LOG.warn(
+            "Indexed blocks {} to {} are not adjacent to the log index range {} to {}",
+            other.firstBlock,
+            other.lastBlock,
+            firstBlock,
+            lastBlock);
+        return this;
+      }
+      return new IndexedRange(
+          Math.min(firstBlock, other.firstBlock), Math.max(lastBlock, other.lastBlock));
+    }
+
+    Bytes encode() {
+      return Bytes.concatenate(Bytes.ofUnsignedLong(firstBlock), Bytes.ofUnsignedLong(lastBlock));
+    }
+
+    static IndexedRange decode(final byte[] bytes) {
+      final Bytes value = Bytes.wrap(bytes);
+      return new IndexedRange(value.slice(0, 8).toLong(), value.slice(8, 8).toLong());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final IndexedRange that = (IndexedRange) o;
+      return firstBlock == that.firstBlock && lastBlock == that.lastBlock;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(firstBlock, lastBlock);
+    }
+
+    @Override
+    public String toString() {
+      return "IndexedRange{" + firstBlock + ".." + lastBlock + "}";
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+
+import java.util.OptionalLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps the {@link LogIndex} up to date with the canonical chain: new blocks and reorgs are applied
+ * as they happen, and blocks imported while the node was running without the index are caught up in
+ * the background. Indexed blocks that were reorganised out of the chain in the meantime are rewound
+ * on start, before the index follows the chain again.
+ */
+public class LogIndexingService {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int CATCH_UP_BATCH_SIZE = 100;
+
+  private final Blockchain blockchain;
+  private final LogIndex logIndex;
+  private final EthScheduler scheduler;
+  private OptionalLong blockAddedSubscriptionId = OptionalLong.empty();
+  private volatile boolean running;
+
+  public LogIndexingService(
+      final Blockchain blockchain, final LogIndex logIndex, final EthScheduler scheduler) {
+    this.blockchain = blockchain;
+    this.logIndex = logIndex;
+    this.scheduler = scheduler;
+  }
+
+  public void start() {
+    LOG.info("Starting log indexing service.");
+    running = true;
+    logIndex.initialize();
+    // must happen before new blocks extend the index, or they would hide the stale blocks below
+    logIndex.rewindToCanonicalChain();
+    blockAddedSubscriptionId =
+        OptionalLong.of(blockchain.observeBlockAdded(logIndex::onBlockAdded));
+    scheduler.scheduleComputationTask(
+        () -> {
+          catchUp();
+          return null;
+        });
+  }
+
+  public void stop() {
+    LOG.info("Shutting down log indexing service.");
+    running = false;
+    blockAddedSubscriptionId.ifPresent(blockchain::removeObserver);
+  }
+
+  void catchUp() {
+    long lastIndexed = logIndex.getIndexedRange().orElseThrow().getLastBlock();
+    final long chainHead = blockchain.getChainHeadBlockNumber();
+    if (lastIndexed < chainHead) {
+      LOG.info("Catching up log index from block {} to block {}", lastIndexed + 1, chainHead);
+    }
+    // work in small batches so that block imports are never blocked on the index for long
+    while (running && lastIndexed < blockchain.getChainHeadBlockNumber()) {
+      final long from = lastIndexed + 1;
+      final long to =
+          Math.min(blockchain.getChainHeadBlockNumber(), from + CATCH_UP_BATCH_SIZE - 1);
+      final long indexedTo = logIndex.indexBlocks(from, to);
+      if (indexedTo < to) {
+        LOG.warn("Unable to index logs of block {}, receipts are not available", indexedTo + 1);
+        return;
+      }
+      lastIndexed = logIndex.getIndexedRange().orElseThrow().getLastBlock();
+    }
+  }
+}
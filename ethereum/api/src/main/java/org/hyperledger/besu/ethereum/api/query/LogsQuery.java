@@ -77,6 +77,22 @@ public class LogsQuery {
             .collect(toUnmodifiableList());
   }
 
+  public List<Address> getAddresses() {
+    return addresses;
+  }
+
+  public List<List<LogTopic>> getTopics() {
+    return topics;
+  }
+
+  List<LogsBloomFilter> getAddressBlooms() {
+    return addressBlooms;
+  }
+
+  List<List<LogsBloomFilter>> getTopicsBlooms() {
+    return topicsBlooms;
+  }
+
   public boolean couldMatch(final LogsBloomFilter bloom) {
     return (addressBlooms.isEmpty() || addressBlooms.stream().anyMatch(bloom::couldContain))
         && (topicsBlooms.isEmpty()
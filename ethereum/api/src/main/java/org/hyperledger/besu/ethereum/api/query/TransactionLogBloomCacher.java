@@ -89,6 +89,10 @@ public class TransactionLogBloomCacher {
     return calculateCacheFileName(Long.toString(blockNumber / BLOCKS_PER_BLOOM_CACHE), cacheDir);
   }
 
+  private static Path calculateSlicedFileName(final long blockNumber, final Path cacheDir) {
+    return BitSlicedLogBloomSegment.slicedFile(cacheDir, blockNumber / BLOCKS_PER_BLOOM_CACHE);
+  }
+
   public CachingStatus generateLogBloomCache(final long start, final long stop) {
     checkArgument(
         start % BLOCKS_PER_BLOOM_CACHE == 0, "Start block must be at the beginning of a file");
@@ -116,6 +120,7 @@ public class TransactionLogBloomCacher {
           try (final OutputStream os = new FileOutputStream(cacheFile)) {
             fillCacheFile(blockNum, blockNum + BLOCKS_PER_BLOOM_CACHE, os);
           }
+          sealIfComplete(blockNum);
         }
       } catch (final Exception e) {
         LOG.error("Unhandled caching exception", e);
@@ -156,8 +161,17 @@ public class TransactionLogBloomCacher {
         ensurePreviousSegmentsArePresent(blockNumber, false);
       }
       final File cacheFile = reusedCacheFile.orElse(calculateCacheFileName(blockNumber, cacheDir));
-      if (cacheFile.exists()) {
+      if (reusedCacheFile.isEmpty()
+          && BitSlicedLogBloomSegment.isPresent(cacheDir, blockNumber / BLOCKS_PER_BLOOM_CACHE)) {
+        BitSlicedLogBloomSegment.writeBloom(
+            calculateSlicedFileName(blockNumber, cacheDir),
+            (int) (blockNumber % BLOCKS_PER_BLOOM_CACHE),
+            blockHeader.getLogsBloom());
+      } else if (cacheFile.exists()) {
         cacheSingleBlock(blockHeader, cacheFile);
+        if (reusedCacheFile.isEmpty()) {
+          sealIfComplete(blockNumber);
+        }
       } else {
         scheduler.scheduleComputationTask(() -> this.populateLatestSegment(blockNumber));
       }
@@ -194,9 +208,10 @@ public class TransactionLogBloomCacher {
           }
           Files.move(
               currentFile.toPath(),
-              calculateCacheFileName(blockNumber, cacheDir).toPath(),
+              calculateCacheFileName(segmentNumber * BLOCKS_PER_BLOOM_CACHE, cacheDir).toPath(),
               StandardCopyOption.REPLACE_EXISTING,
               StandardCopyOption.ATOMIC_MOVE);
+          sealIfComplete(segmentNumber * BLOCKS_PER_BLOOM_CACHE);
           return true;
         } catch (final IOException e) {
           LOG.error("Unhandled caching exception.", e);
@@ -210,6 +225,31 @@ public class TransactionLogBloomCacher {
     return false;
   }
 
+  /**
+   * Once every block of a segment has been cached the segment can no longer grow, so it is
+   * transposed into the bit-sliced format that queries can scan by bloom bit rather than by block.
+   */
+  private void sealIfComplete(final long blockNumber) {
+    final File cacheFile = calculateCacheFileName(blockNumber, cacheDir);
+    if (cacheFile.isFile() && cacheFile.length() == EXPECTED_BLOOM_FILE_SIZE) {
+      sealSegment(blockNumber);
+    }
+  }
+
+  private boolean sealSegment(final long blockNumber) {
+    final File cacheFile = calculateCacheFileName(blockNumber, cacheDir);
+    try {
+      BitSlicedLogBloomSegment.transpose(
+          cacheFile.toPath(), calculateSlicedFileName(blockNumber, cacheDir));
+      Files.deleteIfExists(cacheFile.toPath());
+      LOG.debug("Sealed transaction log bloom cache segment {}", cacheFile.getName());
+      return true;
+    } catch (final IOException e) {
+      LOG.error("Unable to seal transaction log bloom cache segment " + cacheFile.getName(), e);
+      return false;
+    }
+  }
+
   public void removeSegments(final Long startBlock, final Long stopBlock) {
     if (!cachingStatus.isCaching()) {
       LOG.info(
@@ -224,7 +264,9 @@ public class TransactionLogBloomCacher {
           final long fromBlock = segmentNumber * BLOCKS_PER_BLOOM_CACHE;
           final File cacheFile = calculateCacheFileName(fromBlock, cacheDir);
           cachedSegments.remove(segmentNumber);
-          if (Files.deleteIfExists(cacheFile.toPath())) {
+          final boolean deletedSlicedFile =
+              Files.deleteIfExists(calculateSlicedFileName(fromBlock, cacheDir));
+          if (Files.deleteIfExists(cacheFile.toPath()) || deletedSlicedFile) {
             LOG.info(
                 "Deleted transaction log bloom cache file: {}/{}", cacheDir, cacheFile.getName());
           } else {
@@ -252,10 +294,17 @@ public class TransactionLogBloomCacher {
                 if (overrideCacheCheck || !cachedSegments.getOrDefault(currentSegment, false)) {
                   final long startBlock = currentSegment * BLOCKS_PER_BLOOM_CACHE;
                   final File cacheFile = calculateCacheFileName(startBlock, cacheDir);
-                  if (overrideCacheCheck
-                      || !cacheFile.isFile()
-                      || cacheFile.length() != EXPECTED_BLOOM_FILE_SIZE) {
+                  if (overrideCacheCheck) {
                     generateLogBloomCache(startBlock, startBlock + BLOCKS_PER_BLOOM_CACHE);
+                  } else if (!BitSlicedLogBloomSegment.isPresent(cacheDir, currentSegment)) {
+                    // complete segments written in the row-per-block format are migrated in place
+                    final boolean migrated =
+                        cacheFile.isFile()
+                            && cacheFile.length() == EXPECTED_BLOOM_FILE_SIZE
+                            && sealSegment(startBlock);
+                    if (!migrated) {
+                      generateLogBloomCache(startBlock, startBlock + BLOCKS_PER_BLOOM_CACHE);
+                    }
                   }
                   cachedSegments.put(currentSegment, true);
                 }
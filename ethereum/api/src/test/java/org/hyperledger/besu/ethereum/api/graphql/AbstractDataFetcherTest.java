@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.GraphQLDataLoader;
 import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.NormalBlockAdapter;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -51,5 +52,6 @@ public abstract class AbstractDataFetcherTest {
     fetcher = fetchers.getBlockDataFetcher();
     Mockito.when(environment.getContext()).thenReturn(context);
     Mockito.when(context.getBlockchainQueries()).thenReturn(query);
+    Mockito.when(context.getDataLoader()).thenReturn(new GraphQLDataLoader(query));
   }
 }
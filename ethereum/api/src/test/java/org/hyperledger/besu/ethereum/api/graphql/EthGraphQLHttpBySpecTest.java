@@ -103,6 +103,8 @@ public class EthGraphQLHttpBySpecTest extends AbstractEthGraphQLHttpServiceTest
     specs.add("graphql_blocks_byFrom");
     specs.add("graphql_blocks_byRange");
     specs.add("graphql_blocks_byWrongRange");
+    specs.add("graphql_blocks_tooComplexRange");
+    specs.add("graphql_blocks_wideRange");
 
     specs.add("graphql_pending");
 
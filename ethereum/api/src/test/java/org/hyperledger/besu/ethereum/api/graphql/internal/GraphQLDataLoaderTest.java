@@ -0,0 +1,149 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GraphQLDataLoaderTest {
+
+  private static final Hash BLOCK_HASH = Hash.hash(Bytes.of(1));
+  private static final long BLOCK_NUMBER = 7L;
+
+  private final BlockchainQueries blockchainQueries = mock(BlockchainQueries.class);
+  private final Blockchain blockchain = mock(Blockchain.class);
+
+  private GraphQLDataLoader dataLoader;
+
+  @Before
+  public void setUp() {
+    when(blockchainQueries.getBlockchain()).thenReturn(blockchain);
+    dataLoader = new GraphQLDataLoader(blockchainQueries);
+  }
+
+  @Test
+  public void blocksAreLoadedOnce() {
+    final BlockWithMetadata<TransactionWithMetadata, Hash> block = block();
+    when(blockchainQueries.blockByNumber(BLOCK_NUMBER)).thenReturn(Optional.of(block));
+
+    when(blockchainQueries.blockByHash(BLOCK_HASH)).thenReturn(Optional.of(block));
+
+    assertThat(dataLoader.blockByNumber(BLOCK_NUMBER)).contains(block);
+    assertThat(dataLoader.blockByNumber(BLOCK_NUMBER)).contains(block);
+    assertThat(dataLoader.blockByHash(BLOCK_HASH)).contains(block);
+    assertThat(dataLoader.blockByHash(BLOCK_HASH)).contains(block);
+
+    verify(blockchainQueries, times(1)).blockByNumber(BLOCK_NUMBER);
+    verify(blockchainQueries, times(1)).blockByHash(BLOCK_HASH);
+  }
+
+  @Test
+  public void missingBlocksAreRemembered() {
+    when(blockchainQueries.blockByHash(BLOCK_HASH)).thenReturn(Optional.empty());
+
+    assertThat(dataLoader.blockByHash(BLOCK_HASH)).isEmpty();
+    assertThat(dataLoader.blockByHash(BLOCK_HASH)).isEmpty();
+
+    verify(blockchainQueries, times(1)).blockByHash(BLOCK_HASH);
+  }
+
+  @Test
+  public void receiptsOfABlockAreLoadedTogether() {
+    when(blockchain.getTxReceipts(BLOCK_HASH))
+        .thenReturn(Optional.of(List.of(receipt(21_000), receipt(50_000), receipt(120_000))));
+
+    final Optional<TransactionReceiptWithMetadata> first =
+        dataLoader.transactionReceipt(minedTransaction(0));
+    final Optional<TransactionReceiptWithMetadata> third =
+        dataLoader.transactionReceipt(minedTransaction(2));
+
+    assertThat(first).isPresent();
+    assertThat(first.get().getGasUsed()).isEqualTo(21_000);
+    assertThat(first.get().getBlockNumber()).isEqualTo(BLOCK_NUMBER);
+    assertThat(third).isPresent();
+    assertThat(third.get().getGasUsed()).isEqualTo(70_000);
+    assertThat(third.get().getReceipt().getCumulativeGasUsed()).isEqualTo(120_000);
+    verify(blockchain, times(1)).getTxReceipts(BLOCK_HASH);
+    verify(blockchainQueries, never()).transactionReceiptByTransactionHash(any());
+  }
+
+  @Test
+  public void pendingTransactionReceiptFallsBackToLookupByHash() {
+    final Transaction transaction = mock(Transaction.class);
+    final Hash transactionHash = Hash.hash(Bytes.of(2));
+    when(transaction.getHash()).thenReturn(transactionHash);
+    when(blockchainQueries.transactionReceiptByTransactionHash(transactionHash))
+        .thenReturn(Optional.empty());
+
+    assertThat(dataLoader.transactionReceipt(new TransactionWithMetadata(transaction))).isEmpty();
+
+    verify(blockchain, never()).getTxReceipts(any());
+  }
+
+  @Test
+  public void worldStatesAreLoadedOnce() {
+    final MutableWorldState worldState = mock(MutableWorldState.class);
+    when(blockchainQueries.getWorldState(BLOCK_NUMBER)).thenReturn(Optional.of(worldState));
+
+    assertThat(dataLoader.getWorldState(BLOCK_NUMBER)).containsSame(worldState);
+    assertThat(dataLoader.getWorldState(BLOCK_NUMBER)).containsSame(worldState);
+
+    verify(blockchainQueries, times(1)).getWorldState(BLOCK_NUMBER);
+  }
+
+  private static BlockWithMetadata<TransactionWithMetadata, Hash> block() {
+    return new BlockWithMetadata<>(
+        mock(BlockHeader.class),
+        Collections.emptyList(),
+        Collections.emptyList(),
+        Difficulty.ONE,
+        0);
+  }
+
+  private static TransactionWithMetadata minedTransaction(final int index) {
+    final Transaction transaction = mock(Transaction.class);
+    when(transaction.getHash()).thenReturn(Hash.hash(Bytes.of(index)));
+    return new TransactionWithMetadata(transaction, BLOCK_NUMBER, BLOCK_HASH, index);
+  }
+
+  private static TransactionReceipt receipt(final long cumulativeGasUsed) {
+    return new TransactionReceipt(1, cumulativeGasUsed, Collections.emptyList(), Optional.empty());
+  }
+}
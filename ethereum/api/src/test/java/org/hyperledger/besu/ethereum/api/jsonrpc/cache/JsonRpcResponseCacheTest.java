@@ -0,0 +1,195 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.chain.ChainReorgObserver;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class JsonRpcResponseCacheTest {
+
+  private static final String BALANCE = RpcMethod.ETH_GET_BALANCE.getMethodName();
+  private static final Hash HEAD_1 = Hash.fromHexStringLenient("0x01");
+  private static final Hash HEAD_2 = Hash.fromHexStringLenient("0x02");
+
+  private final Blockchain blockchain = mock(Blockchain.class);
+  private final FakeTicker ticker = new FakeTicker();
+  private final CountingMethod balance = new CountingMethod(BALANCE, true);
+
+  private JsonRpcResponseCache cache;
+  private ChainReorgObserver reorgObserver;
+
+  @Before
+  public void setUp() {
+    when(blockchain.getChainHeadHash()).thenReturn(HEAD_1);
+    cache =
+        new JsonRpcResponseCache(
+            blockchain, new NoOpMetricsSystem(), Duration.ofSeconds(2), 100, ticker);
+    final ArgumentCaptor<ChainReorgObserver> captor =
+        ArgumentCaptor.forClass(ChainReorgObserver.class);
+    verify(blockchain).observeChainReorg(captor.capture());
+    reorgObserver = captor.getValue();
+  }
+
+  @Test
+  public void repeatedRequestIsServedFromCache() {
+    final JsonRpcResponse first = cache.response(balance, request(1, "0xab", "latest"));
+    final JsonRpcResponse second = cache.response(balance, request(2, "0xAB", "LATEST"));
+
+    assertThat(balance.calls.get()).isEqualTo(1);
+    assertThat(((JsonRpcSuccessResponse) second).getId()).isEqualTo(2);
+    assertThat(Json.encode(second)).isEqualTo(Json.encode(first).replace("\"id\":1", "\"id\":2"));
+  }
+
+  @Test
+  public void newChainHeadMissesCache() {
+    cache.response(balance, request(1, "0xab", "latest"));
+    when(blockchain.getChainHeadHash()).thenReturn(HEAD_2);
+    cache.response(balance, request(1, "0xab", "latest"));
+
+    assertThat(balance.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void pendingBlockIsNeverCached() {
+    cache.response(balance, request(1, "0xab", "pending"));
+    cache.response(balance, request(1, "0xab", "pending"));
+
+    assertThat(balance.calls.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void errorResponsesAreNotCached() {
+    final CountingMethod failing = new CountingMethod(BALANCE, false);
+    cache.response(failing, request(1, "0xab", "latest"));
+    cache.response(failing, request(1, "0xab", "latest"));
+
+    assertThat(failing.calls.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void reorgClearsCache() {
+    cache.response(balance, request(1, "0xab", "latest"));
+    assertThat(cache.size()).isEqualTo(1);
+
+    reorgObserver.onBlockAdded(null, blockchain);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void entriesExpireAfterTimeToLive() {
+    cache.response(balance, request(1, "0xab", "0x10"));
+    ticker.advance(Duration.ofMillis(1_999));
+    cache.response(balance, request(1, "0xab", "0x10"));
+    assertThat(balance.calls.get()).isEqualTo(1);
+
+    ticker.advance(Duration.ofMillis(1));
+    cache.response(balance, request(1, "0xab", "0x10"));
+    assertThat(balance.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void decorateOnlyWrapsCacheableMethods() {
+    final String blockNumber = RpcMethod.ETH_BLOCK_NUMBER.getMethodName();
+    final JsonRpcMethod head = new CountingMethod(blockNumber, true);
+
+    final Map<String, JsonRpcMethod> decorated =
+        cache.decorate(Map.of(BALANCE, balance, blockNumber, head));
+
+    assertThat(decorated.get(BALANCE)).isInstanceOf(CachingJsonRpcMethod.class);
+    assertThat(decorated.get(BALANCE).getName()).isEqualTo(BALANCE);
+    assertThat(decorated.get(blockNumber)).isSameAs(head);
+  }
+
+  private static JsonRpcRequestContext request(final int id, final Object... params) {
+    final JsonObject request =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("id", id)
+            .put("method", BALANCE)
+            .put("params", new JsonArray(List.of(params)));
+    return new JsonRpcRequestContext(request.mapTo(JsonRpcRequest.class));
+  }
+
+  private static class CountingMethod implements JsonRpcMethod {
+    private final String name;
+    private final boolean succeed;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    CountingMethod(final String name, final boolean succeed) {
+      this.name = name;
+      this.succeed = succeed;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public JsonRpcResponse response(final JsonRpcRequestContext request) {
+      final Object id = request.getRequest().getId();
+      final int call = calls.incrementAndGet();
+      return succeed
+          ? new JsonRpcSuccessResponse(id, "0x" + Integer.toHexString(call))
+          : new JsonRpcErrorResponse(id, JsonRpcError.INTERNAL_ERROR);
+    }
+  }
+
+  private static class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    void advance(final Duration duration) {
+      nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(duration.toMillis()));
+    }
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+  }
+}
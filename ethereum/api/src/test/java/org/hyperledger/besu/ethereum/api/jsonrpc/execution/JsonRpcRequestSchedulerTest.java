@@ -0,0 +1,146 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class JsonRpcRequestSchedulerTest {
+
+  private static final Optional<String> TRACE_BLOCK =
+      Optional.of(RpcMethod.DEBUG_TRACE_BLOCK.getMethodName());
+  private static final Optional<String> BLOCK_NUMBER =
+      Optional.of(RpcMethod.ETH_BLOCK_NUMBER.getMethodName());
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private JsonRpcRequestScheduler scheduler;
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+  }
+
+  @Test
+  public void methodsAreAssignedCostClasses() {
+    assertThat(RpcCostClass.forMethod("eth_blockNumber")).isEqualTo(RpcCostClass.CHEAP);
+    assertThat(RpcCostClass.forMethod("eth_getBalance")).isEqualTo(RpcCostClass.STANDARD);
+    assertThat(RpcCostClass.forMethod("debug_traceBlock")).isEqualTo(RpcCostClass.EXPENSIVE);
+    assertThat(RpcCostClass.forMethod("eth_getLogs")).isEqualTo(RpcCostClass.EXPENSIVE);
+    assertThat(RpcCostClass.forMethod("not_aMethod")).isEqualTo(RpcCostClass.STANDARD);
+  }
+
+  @Test
+  public void completesWithTaskResult() throws Exception {
+    scheduler = createScheduler(10, 1, Map.of());
+
+    assertThat(scheduler.submit(BLOCK_NUMBER, () -> "0x1").get(5, TimeUnit.SECONDS))
+        .isEqualTo("0x1");
+  }
+
+  @Test
+  public void rejectsRequestsOnceQueueIsFull() throws Exception {
+    scheduler = createScheduler(2, 1, Map.of());
+
+    // one running and two queued expensive requests fill the expensive pool
+    final List<CompletableFuture<String>> accepted = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      accepted.add(scheduler.submit(TRACE_BLOCK, this::blockUntilReleased));
+    }
+    final CompletableFuture<String> rejected = scheduler.submit(TRACE_BLOCK, () -> "rejected");
+
+    assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+    // cheap requests are served by their own pool and are unaffected
+    assertThat(scheduler.submit(BLOCK_NUMBER, () -> "0x1").get(5, TimeUnit.SECONDS))
+        .isEqualTo("0x1");
+
+    release.countDown();
+    for (final CompletableFuture<String> future : accepted) {
+      assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+  }
+
+  @Test
+  public void rejectsRequestsOverMethodConcurrencyLimit() throws Exception {
+    scheduler = createScheduler(10, 4, Map.of(RpcMethod.DEBUG_TRACE_BLOCK.getMethodName(), 1));
+
+    final CompletableFuture<String> running =
+        scheduler.submit(TRACE_BLOCK, this::blockUntilReleased);
+    final CompletableFuture<String> rejected = scheduler.submit(TRACE_BLOCK, () -> "rejected");
+
+    assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+
+    release.countDown();
+    assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    // the permit is returned once the running request completes
+    assertThat(scheduler.submit(TRACE_BLOCK, () -> "again").get(5, TimeUnit.SECONDS))
+        .isEqualTo("again");
+  }
+
+  @Test
+  public void failedTaskFailsFuture() {
+    scheduler = createScheduler(10, 1, Map.of());
+
+    final CompletableFuture<String> result =
+        scheduler.submit(
+            BLOCK_NUMBER,
+            () -> {
+              throw new IllegalStateException("boom");
+            });
+
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  private String blockUntilReleased() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return "done";
+  }
+
+  private JsonRpcRequestScheduler createScheduler(
+      final int maxQueuedRequests,
+      final int expensiveThreads,
+      final Map<String, Integer> concurrencyLimits) {
+    final JsonRpcConfiguration config = JsonRpcConfiguration.createDefault();
+    config.setMaxQueuedRequests(maxQueuedRequests);
+    config.setExpensiveRequestThreads(expensiveThreads);
+    config.setMethodConcurrencyLimits(concurrencyLimits);
+    return new JsonRpcRequestScheduler(config, new NoOpMetricsSystem());
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hyperledger.besu.ethereum.api.query.TransactionLogBloomCacher.BLOCKS_PER_BLOOM_CACHE;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+import org.hyperledger.besu.ethereum.core.LogsBloomFilter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BitSlicedLogBloomSegmentTest {
+
+  @ClassRule public static TemporaryFolder cacheDir = new TemporaryFolder();
+
+  private static final Address ADDRESS_A = Address.fromHexString("0x0a");
+  private static final Address ADDRESS_B = Address.fromHexString("0x0b");
+  private static final LogTopic TOPIC_1 = LogTopic.of(Bytes32.fromHexStringLenient("0x01"));
+  private static final LogTopic TOPIC_2 = LogTopic.of(Bytes32.fromHexStringLenient("0x02"));
+
+  private static LogsBloomFilter[] blooms;
+  private static Path rowFile;
+  private static BitSlicedLogBloomSegment segment;
+
+  @BeforeClass
+  public static void setupSegment() throws IOException {
+    blooms = new LogsBloomFilter[BLOCKS_PER_BLOOM_CACHE];
+    rowFile = cacheDir.getRoot().toPath().resolve("logBloom-0.cache");
+    try (final RandomAccessFile file = new RandomAccessFile(rowFile.toFile(), "rw")) {
+      file.setLength((long) BLOCKS_PER_BLOOM_CACHE * LogsBloomFilter.BYTE_SIZE);
+      for (int block = 0; block < BLOCKS_PER_BLOOM_CACHE; block++) {
+        final LogsBloomFilter.Builder builder = LogsBloomFilter.builder();
+        if (block % 3 == 0) {
+          builder.insertBytes(ADDRESS_A).insertBytes(TOPIC_1);
+        }
+        if (block % 7 == 0) {
+          builder.insertBytes(ADDRESS_B).insertBytes(TOPIC_2);
+        }
+        if (block % 11 == 0) {
+          builder.insertBytes(TOPIC_2);
+        }
+        blooms[block] = builder.build();
+        file.seek((long) block * LogsBloomFilter.BYTE_SIZE);
+        file.write(blooms[block].toArray());
+      }
+    }
+    final Path slicedFile = BitSlicedLogBloomSegment.slicedFile(cacheDir.getRoot().toPath(), 0);
+    BitSlicedLogBloomSegment.transpose(rowFile, slicedFile);
+    segment = BitSlicedLogBloomSegment.open(slicedFile);
+  }
+
+  @Test
+  public void transposedSegmentHasExpectedSize() {
+    assertThat(BitSlicedLogBloomSegment.isPresent(cacheDir.getRoot().toPath(), 0)).isTrue();
+    assertThat(BitSlicedLogBloomSegment.isPresent(cacheDir.getRoot().toPath(), 1)).isFalse();
+  }
+
+  @Test
+  public void matchesAgreeWithRowByRowBloomChecks() {
+    final List<LogsQuery> queries =
+        List.of(
+            new LogsQuery(List.of(ADDRESS_A), List.of()),
+            new LogsQuery(List.of(ADDRESS_A, ADDRESS_B), List.of()),
+            new LogsQuery(List.of(), List.of(List.of(TOPIC_2))),
+            new LogsQuery(List.of(ADDRESS_A), List.of(List.of(TOPIC_1, TOPIC_2))),
+            new LogsQuery(List.of(ADDRESS_B), List.of(Collections.emptyList(), List.of(TOPIC_1))),
+            new LogsQuery(List.of(), Arrays.asList(Arrays.asList((LogTopic) null))),
+            new LogsQuery(List.of(), List.of()));
+    final int[][] ranges = {
+      {0, BLOCKS_PER_BLOOM_CACHE - 1}, {0, 0}, {5, 63}, {63, 64}, {1000, 1130}, {99_990, 99_999}
+    };
+    for (final LogsQuery query : queries) {
+      for (final int[] range : ranges) {
+        assertThat(segment.matchingOffsets(range[0], range[1], query))
+            .isEqualTo(expectedOffsets(range[0], range[1], query));
+      }
+    }
+  }
+
+  @Test
+  public void invertedRangeMatchesNothing() {
+    assertThat(segment.matchingOffsets(10, 9, new LogsQuery(List.of(), List.of()))).isEmpty();
+  }
+
+  @Test
+  public void writeBloomReplacesSingleBlock() throws IOException {
+    final Path slicedFile = cacheDir.getRoot().toPath().resolve("logBloom-write.sliced");
+    BitSlicedLogBloomSegment.transpose(rowFile, slicedFile);
+    final LogsQuery queryA = new LogsQuery(List.of(ADDRESS_A), List.of());
+    final LogsQuery queryB = new LogsQuery(List.of(ADDRESS_B), List.of());
+
+    BitSlicedLogBloomSegment.writeBloom(
+        slicedFile, 3, LogsBloomFilter.builder().insertBytes(ADDRESS_B).build());
+
+    final BitSlicedLogBloomSegment updated = BitSlicedLogBloomSegment.open(slicedFile);
+    assertThat(updated.matchingOffsets(0, 10, queryA)).containsExactly(0, 6, 9);
+    assertThat(updated.matchingOffsets(0, 10, queryB)).containsExactly(0, 3, 7);
+  }
+
+  @Test
+  public void incompleteSegmentCannotBeTransposed() throws IOException {
+    final Path partial = cacheDir.newFile("logBloom-partial.cache").toPath();
+    Files.write(partial, blooms[0].toArray());
+    assertThatThrownBy(
+            () ->
+                BitSlicedLogBloomSegment.transpose(
+                    partial, cacheDir.getRoot().toPath().resolve("logBloom-partial.sliced")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static int[] expectedOffsets(final int from, final int to, final LogsQuery query) {
+    return IntStream.rangeClosed(from, to).filter(i -> query.couldMatch(blooms[i])).toArray();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BlockNumberBitmapTest {
+
+  @Test
+  public void shouldAddAndRemoveOffsets() {
+    final BlockNumberBitmap bitmap = BlockNumberBitmap.empty();
+    bitmap.add(7);
+    bitmap.add(3);
+    bitmap.add(7);
+    bitmap.add(65535);
+
+    assertThat(bitmap.cardinality()).isEqualTo(3);
+    assertThat(bitmap.contains(3)).isTrue();
+    assertThat(bitmap.contains(4)).isFalse();
+    assertThat(offsets(bitmap)).containsExactly(3, 7, 65535);
+
+    bitmap.remove(7);
+    bitmap.remove(8);
+
+    assertThat(offsets(bitmap)).containsExactly(3, 65535);
+  }
+
+  @Test
+  public void shouldSwitchRepresentationWhenDense() {
+    final BlockNumberBitmap bitmap = BlockNumberBitmap.empty();
+    for (int i = 0; i <= BlockNumberBitmap.MAX_ARRAY_CARDINALITY; i++) {
+      bitmap.add(i * 2);
+    }
+    final byte[] dense = bitmap.toBytes();
+    assertThat(dense.length).isEqualTo(1 + BlockNumberBitmap.CHUNK_SIZE / 8);
+    assertThat(bitmap.cardinality()).isEqualTo(BlockNumberBitmap.MAX_ARRAY_CARDINALITY + 1);
+
+    bitmap.remove(0);
+    assertThat(bitmap.toBytes().length)
+        .isEqualTo(1 + BlockNumberBitmap.MAX_ARRAY_CARDINALITY * Character.BYTES);
+    assertThat(bitmap.contains(2)).isTrue();
+    assertThat(bitmap.contains(0)).isFalse();
+  }
+
+  @Test
+  public void shouldRoundTripThroughBytes() {
+    final BlockNumberBitmap sparse = BlockNumberBitmap.empty();
+    sparse.add(1);
+    sparse.add(40_000);
+    assertThat(offsets(BlockNumberBitmap.fromBytes(sparse.toBytes()))).containsExactly(1, 40_000);
+
+    final BlockNumberBitmap dense = BlockNumberBitmap.empty();
+    for (int i = 0; i < 10_000; i++) {
+      dense.add(i * 3);
+    }
+    final BlockNumberBitmap decoded = BlockNumberBitmap.fromBytes(dense.toBytes());
+    assertThat(decoded.cardinality()).isEqualTo(10_000);
+    assertThat(offsets(decoded)).isEqualTo(offsets(dense));
+  }
+
+  @Test
+  public void shouldComputeUnionAndIntersection() {
+    final BlockNumberBitmap first = BlockNumberBitmap.empty();
+    final BlockNumberBitmap second = BlockNumberBitmap.empty();
+    for (int i = 0; i < 6_000; i++) {
+      first.add(i * 2);
+    }
+    second.add(4);
+    second.add(5);
+    second.add(60_000);
+
+    final BlockNumberBitmap intersection = BlockNumberBitmap.fromBytes(second.toBytes());
+    intersection.and(first);
+    assertThat(offsets(intersection)).containsExactly(4);
+
+    final BlockNumberBitmap union = BlockNumberBitmap.fromBytes(second.toBytes());
+    union.or(first);
+    assertThat(union.cardinality()).isEqualTo(6_002);
+    assertThat(union.contains(5)).isTrue();
+    assertThat(union.contains(60_000)).isTrue();
+  }
+
+  private static List<Integer> offsets(final BlockNumberBitmap bitmap) {
+    final List<Integer> offsets = new ArrayList<>();
+    bitmap.forEach(offsets::add);
+    return offsets;
+  }
+}
@@ -36,8 +36,10 @@ import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -81,6 +83,20 @@ public class BlockchainQueriesLogCacheTest {
       file.seek((BLOCKS_PER_BLOOM_CACHE - 3) * LogsBloomFilter.BYTE_SIZE);
       writeThreeEntries(testLogsBloomFilter, file);
     }
+
+    // segments 4 and 5 are complete and have been sealed into the bit-sliced format
+    for (int i = 4; i < 6; i++) {
+      final File rowFile = cacheDir.newFile("logBloom-" + i + ".cache");
+      try (final RandomAccessFile file = new RandomAccessFile(rowFile, "rws")) {
+        file.setLength((long) BLOCKS_PER_BLOOM_CACHE * LogsBloomFilter.BYTE_SIZE);
+        writeThreeEntries(testLogsBloomFilter, file);
+        file.seek((BLOCKS_PER_BLOOM_CACHE - 3) * LogsBloomFilter.BYTE_SIZE);
+        writeThreeEntries(testLogsBloomFilter, file);
+      }
+      BitSlicedLogBloomSegment.transpose(
+          rowFile.toPath(), BitSlicedLogBloomSegment.slicedFile(cacheDir.getRoot().toPath(), i));
+      Files.delete(rowFile.toPath());
+    }
   }
 
   private static void writeThreeEntries(final LogsBloomFilter filter, final RandomAccessFile file)
@@ -196,4 +212,26 @@ public class BlockchainQueriesLogCacheTest {
 
     verifyNoMoreInteractions(blockchain);
   }
+
+  /**
+   * Tests fours sets of a three block range where the seam (where the segment changes) is in all
+   * possible positions in the range.
+   *
+   * <p>For this test both sides of the seam are sealed into bit-sliced segments.
+   */
+  @Test
+  public void slicedSlicedSeamTest() {
+    for (long i = (5 * BLOCKS_PER_BLOOM_CACHE) - 3; i <= 5 * BLOCKS_PER_BLOOM_CACHE; i++) {
+      blockchainQueries.matchingLogs(i, i + 2, logsQuery, () -> true);
+    }
+
+    // 4 ranges of 3 hits a piece = 12 calls - 97-99, 98-00, 99-01, 00-02
+    verify(blockchain, times(12)).getBlockHashByNumber(anyLong());
+    verify(blockchain, times(12)).getBlockHeader(testHash);
+    verify(blockchain, times(12)).getTxReceipts(testHash);
+    verify(blockchain, times(12)).getBlockBody(testHash);
+    verify(blockchain, times(12)).blockIsOnCanonicalChain(testHash);
+
+    verifyNoMoreInteractions(blockchain);
+  }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryBlockchain;
+import static org.hyperledger.besu.ethereum.core.InMemoryStorageProvider.createInMemoryWorldStateArchive;
+
+import org.hyperledger.besu.ethereum.api.query.LogIndex.IndexedRange;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+import org.hyperledger.besu.ethereum.core.LogsBloomFilter;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LogIndexTest {
+
+  private static final Address CONTRACT = Address.fromHexString("0x1234");
+  private static final LogTopic TRANSFER =
+      LogTopic.fromHexString("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef");
+  private static final LogTopic APPROVAL =
+      LogTopic.fromHexString("8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925");
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final InMemoryKeyValueStorage storage = new InMemoryKeyValueStorage();
+  private MutableBlockchain blockchain;
+  private LogIndex logIndex;
+
+  @Before
+  public void setUp() {
+    blockchain = createInMemoryBlockchain(gen.genesisBlock());
+    logIndex = new LogIndex(blockchain, storage);
+  }
+
+  @Test
+  public void shouldIndexExistingBlocks() {
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+    appendBlock(gen.log(1));
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(APPROVAL)));
+
+    assertThat(logIndex.indexBlocks(1, 3)).isEqualTo(3);
+
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(1, 3));
+    assertThat(logIndex.matchingBlockNumbers(0, 3, addressQuery(CONTRACT))).containsExactly(1L, 3L);
+    assertThat(logIndex.matchingBlockNumbers(0, 3, topicQuery(APPROVAL))).containsExactly(3L);
+    assertThat(logIndex.matchingBlockNumbers(2, 3, addressQuery(CONTRACT))).containsExactly(3L);
+    assertThat(
+            logIndex.matchingBlockNumbers(
+                0, 3, new LogsQuery(List.of(CONTRACT), List.of(List.of(TRANSFER)))))
+        .containsExactly(1L);
+  }
+
+  @Test
+  public void shouldStopIndexingAtMissingBlocks() {
+    appendBlock(gen.log(1));
+
+    assertThat(logIndex.indexBlocks(1, 5)).isEqualTo(1);
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(1, 1));
+  }
+
+  @Test
+  public void shouldExtendRangeOnNewBlocks() {
+    logIndex.initialize();
+    blockchain.observeBlockAdded(logIndex::onBlockAdded);
+
+    appendBlock(gen.log(1));
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(0, 2));
+    assertThat(logIndex.matchingBlockNumbers(0, 2, addressQuery(CONTRACT))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldAnchorAtChainHeadWhenInitializedOnExistingChain() {
+    appendBlock(gen.log(1));
+    appendBlock(gen.log(1));
+    logIndex.initialize();
+
+    final IndexedRange range = logIndex.getIndexedRange().orElseThrow();
+    assertThat(range.isEmpty()).isTrue();
+    assertThat(range.getFirstBlock()).isEqualTo(3);
+
+    logIndex.indexBlocks(1, 2);
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(1, 2));
+  }
+
+  @Test
+  public void shouldReplaceLogsOfReorganisedBlocks() {
+    logIndex.initialize();
+    blockchain.observeBlockAdded(logIndex::onBlockAdded);
+    final Block first = appendBlock(gen.log(1));
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+
+    final Block fork =
+        gen.block(
+            new BlockOptions()
+                .setParentHash(first.getHash())
+                .setBlockNumber(2)
+                .setDifficulty(blockchain.getBlockHeader(2).get().getDifficulty().add(10L)));
+    blockchain.appendBlock(fork, receipts(fork, new Log(CONTRACT, Bytes.EMPTY, List.of(APPROVAL))));
+
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(0, 2));
+    assertThat(logIndex.matchingBlockNumbers(0, 2, topicQuery(TRANSFER))).isEmpty();
+    assertThat(logIndex.matchingBlockNumbers(0, 2, topicQuery(APPROVAL))).containsExactly(2L);
+    assertThat(logIndex.matchingBlockNumbers(0, 2, addressQuery(CONTRACT))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldRewindBlocksReorganisedWhileNotFollowingTheChain() {
+    logIndex.initialize();
+    final long observerId = blockchain.observeBlockAdded(logIndex::onBlockAdded);
+    final Block first = appendBlock(gen.log(1));
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+    blockchain.removeObserver(observerId);
+
+    final Block fork =
+        gen.block(
+            new BlockOptions()
+                .setParentHash(first.getHash())
+                .setBlockNumber(2)
+                .setDifficulty(
+                    blockchain.getTotalDifficultyByHash(blockchain.getChainHeadHash()).get()));
+    blockchain.appendBlock(fork, receipts(fork, new Log(CONTRACT, Bytes.EMPTY, List.of(APPROVAL))));
+    assertThat(blockchain.getChainHeadHash()).isEqualTo(fork.getHash());
+
+    // as if the node restarted with the index enabled again
+    logIndex = new LogIndex(blockchain, storage);
+    logIndex.rewindToCanonicalChain();
+
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(0, 1));
+    assertThat(logIndex.matchingBlockNumbers(0, 3, topicQuery(TRANSFER))).isEmpty();
+
+    assertThat(logIndex.indexBlocks(2, 2)).isEqualTo(2);
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(0, 2));
+    assertThat(logIndex.matchingBlockNumbers(0, 2, topicQuery(APPROVAL))).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldNotRewindWhenLastIndexedBlockIsCanonical() {
+    logIndex.initialize();
+    appendBlock(new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER)));
+    appendBlock(gen.log(1));
+    logIndex.indexBlocks(1, 2);
+
+    logIndex.rewindToCanonicalChain();
+
+    assertThat(logIndex.getIndexedRange()).contains(new IndexedRange(0, 2));
+    assertThat(logIndex.matchingBlockNumbers(0, 2, topicQuery(TRANSFER))).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotAnswerUnconstrainedQueries() {
+    assertThat(logIndex.canAnswer(new LogsQuery.Builder().build())).isFalse();
+    assertThat(logIndex.canAnswer(new LogsQuery(List.of(), List.of(List.of())))).isFalse();
+    assertThat(logIndex.canAnswer(addressQuery(CONTRACT))).isTrue();
+    assertThat(logIndex.canAnswer(topicQuery(TRANSFER))).isTrue();
+  }
+
+  @Test
+  public void blockchainQueriesShouldReturnSameLogsWithAndWithoutIndex() {
+    for (int i = 0; i < 10; i++) {
+      appendBlock(
+          i % 3 == 0 ? new Log(CONTRACT, Bytes.EMPTY, List.of(TRANSFER, APPROVAL)) : gen.log(2));
+    }
+    // only index part of the chain so that both lookup paths are used
+    logIndex.indexBlocks(3, 7);
+    final BlockchainQueries indexedQueries =
+        new BlockchainQueries(
+            blockchain,
+            createInMemoryWorldStateArchive(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.of(logIndex));
+    final BlockchainQueries plainQueries =
+        new BlockchainQueries(blockchain, createInMemoryWorldStateArchive());
+
+    for (final LogsQuery query :
+        List.of(
+            addressQuery(CONTRACT),
+            topicQuery(APPROVAL),
+            new LogsQuery(List.of(), List.of(Arrays.asList((LogTopic) null), List.of(APPROVAL))))) {
+      final List<LogWithMetadata> indexed = indexedQueries.matchingLogs(0, 10, query, () -> true);
+      assertThat(indexed).isEqualTo(plainQueries.matchingLogs(0, 10, query, () -> true));
+    }
+    assertThat(
+            indexedQueries.matchingLogs(0, 10, addressQuery(CONTRACT), () -> true).stream()
+                .map(LogWithMetadata::getBlockNumber)
+                .distinct()
+                .collect(Collectors.toList()))
+        .containsExactly(1L, 4L, 7L, 10L);
+  }
+
+  private Block appendBlock(final Log log) {
+    // give the header a matching bloom so that the unindexed lookup finds the log too
+    final Block block =
+        gen.block(
+            gen.nextBlockOptions(blockchain.getChainHeadBlock())
+                .setLogsBloom(LogsBloomFilter.builder().insertLog(log).build()));
+    blockchain.appendBlock(block, receipts(block, log));
+    return block;
+  }
+
+  private List<TransactionReceipt> receipts(final Block block, final Log log) {
+    return block.getBody().getTransactions().stream()
+        .map(transaction -> gen.receipt(List.of(log)))
+        .collect(Collectors.toList());
+  }
+
+  private static LogsQuery addressQuery(final Address address) {
+    return new LogsQuery(List.of(address), List.of());
+  }
+
+  private static LogsQuery topicQuery(final LogTopic topic) {
+    return new LogsQuery(List.of(), List.of(List.of(topic)));
+  }
+}
@@ -34,19 +34,19 @@ import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.core.fees.EIP1559;
 import org.hyperledger.besu.ethereum.core.fees.FeeMarket;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
-import org.hyperledger.besu.ethereum.mainnet.AbstractBlockProcessor;
 import org.hyperledger.besu.ethereum.mainnet.BodyValidation;
 import org.hyperledger.besu.ethereum.mainnet.DifficultyCalculator;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
-import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.plugin.services.securitymodule.SecurityModuleException;
 
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -81,6 +81,10 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
 
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
 
+  // guarded by this
+  private Optional<BlockCandidate> candidate = Optional.empty();
+  private boolean blockCreated = false;
+
   protected AbstractBlockCreator(
       final Address coinbase,
       final ExtraDataCalculator extraDataCalculator,
@@ -134,28 +138,83 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
     return createBlock(Optional.of(transactions), Optional.of(ommers), timestamp);
   }
 
-  private Block createBlock(
+  /**
+   * Executes pending transactions into a candidate for the block with the given timestamp.
+   *
+   * <p>The candidate keeps its world state between calls, so a later call with the same timestamp
+   * only executes the transactions that have become available since. A subsequent {@link
+   * #createBlock(long)} with that timestamp then only has to finalize and seal the candidate.
+   *
+   * @param timestamp the timestamp of the block being built
+   */
+  public synchronized void buildCandidate(final long timestamp) {
+    if (blockCreated) {
+      return;
+    }
+    throwIfStopped();
+    candidateFor(timestamp).selector.buildTransactionListForBlock();
+  }
+
+  /**
+   * Keeps extending the candidate for the block with the given timestamp as transactions arrive in
+   * the pool, until the given time has elapsed or the block has been created.
+   *
+   * @param timestamp the timestamp of the block being built
+   * @param millisecondsToBuild how long to keep building for
+   * @throws InterruptedException if the thread is interrupted while waiting for transactions
+   */
+  public void buildCandidateUntil(final long timestamp, final long millisecondsToBuild)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millisecondsToBuild);
+    final Semaphore transactionsAdded = new Semaphore(0);
+    final long subscriberId =
+        pendingTransactions.subscribePendingTransactions(
+            transaction -> transactionsAdded.release());
+    try {
+      long remaining;
+      do {
+        transactionsAdded.drainPermits();
+        buildCandidate(timestamp);
+        remaining = deadline - System.nanoTime();
+      } while (!isBlockCreated()
+          && remaining > 0
+          && transactionsAdded.tryAcquire(remaining, TimeUnit.NANOSECONDS));
+    } finally {
+      pendingTransactions.unsubscribePendingTransactions(subscriberId);
+    }
+  }
+
+  private synchronized boolean isBlockCreated() {
+    return blockCreated;
+  }
+
+  private synchronized Block createBlock(
       final Optional<List<Transaction>> maybeTransactions,
       final Optional<List<BlockHeader>> maybeOmmers,
       final long timestamp) {
     try {
-      final ProcessableBlockHeader processableBlockHeader = createPendingBlockHeader(timestamp);
-
-      throwIfStopped();
-
-      final MutableWorldState disposableWorldState = duplicateWorldStateAtParent();
+      final BlockCandidate blockCandidate;
+      final BlockTransactionSelector.TransactionSelectionResults transactionResults;
+      if (maybeTransactions.isPresent()) {
+        blockCandidate = createCandidate(timestamp);
+        throwIfStopped();
+        transactionResults = blockCandidate.selector.evaluateTransactions(maybeTransactions.get());
+      } else {
+        blockCandidate = candidateFor(timestamp);
+        throwIfStopped();
+        transactionResults = blockCandidate.selector.buildTransactionListForBlock();
+      }
+      // finalizing changes the candidate's world state, so it can't be extended afterwards
+      candidate = Optional.empty();
 
       throwIfStopped();
 
+      final ProcessableBlockHeader processableBlockHeader = blockCandidate.processableBlockHeader;
+      final MutableWorldState disposableWorldState = blockCandidate.worldState;
       final List<BlockHeader> ommers = maybeOmmers.orElse(selectOmmers());
 
       throwIfStopped();
 
-      final BlockTransactionSelector.TransactionSelectionResults transactionResults =
-          selectTransactions(processableBlockHeader, disposableWorldState, maybeTransactions);
-
-      throwIfStopped();
-
       final ProtocolSpec protocolSpec =
           protocolSchedule.getByBlockNumber(processableBlockHeader.getNumber());
 
@@ -186,6 +245,7 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
 
       final BlockHeader blockHeader = createFinalBlockHeader(sealableBlockHeader);
 
+      blockCreated = true;
       return new Block(blockHeader, new BlockBody(transactionResults.getTransactions(), ommers));
     } catch (final SecurityModuleException ex) {
       LOG.warn("Failed to create block signature.", ex);
@@ -200,24 +260,28 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
     }
   }
 
-  private BlockTransactionSelector.TransactionSelectionResults selectTransactions(
-      final ProcessableBlockHeader processableBlockHeader,
-      final MutableWorldState disposableWorldState,
-      final Optional<List<Transaction>> transactions)
-      throws RuntimeException {
-    final TransactionProcessor transactionProcessor = protocolSpec.getTransactionProcessor();
+  private BlockCandidate candidateFor(final long timestamp) {
+    if (candidate.isEmpty() || candidate.get().processableBlockHeader.getTimestamp() != timestamp) {
+      candidate = Optional.of(createCandidate(timestamp));
+    }
+    return candidate.get();
+  }
 
-    final AbstractBlockProcessor.TransactionReceiptFactory transactionReceiptFactory =
-        protocolSpec.getTransactionReceiptFactory();
+  private BlockCandidate createCandidate(final long timestamp) {
+    final ProcessableBlockHeader processableBlockHeader = createPendingBlockHeader(timestamp);
+
+    throwIfStopped();
+
+    final MutableWorldState disposableWorldState = duplicateWorldStateAtParent();
 
     final BlockTransactionSelector selector =
         new BlockTransactionSelector(
-            transactionProcessor,
+            protocolSpec.getTransactionProcessor(),
             protocolContext.getBlockchain(),
             disposableWorldState,
             pendingTransactions,
             processableBlockHeader,
-            transactionReceiptFactory,
+            protocolSpec.getTransactionReceiptFactory(),
             minTransactionGasPrice,
             minBlockOccupancyRatio,
             isCancelled::get,
@@ -225,11 +289,7 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
             protocolSpec.getTransactionPriceCalculator(),
             protocolSpec.getEip1559());
 
-    if (transactions.isPresent()) {
-      return selector.evaluateTransactions(transactions.get());
-    } else {
-      return selector.buildTransactionListForBlock();
-    }
+    return new BlockCandidate(processableBlockHeader, disposableWorldState, selector);
   }
 
   private MutableWorldState duplicateWorldStateAtParent() {
@@ -349,4 +409,22 @@ public abstract class AbstractBlockCreator implements AsyncBlockCreator {
 
   protected abstract BlockHeader createFinalBlockHeader(
       final SealableBlockHeader sealableBlockHeader);
+
+  /**
+   * A block under construction: its header, the world state and the transactions executed so far.
+   */
+  private static class BlockCandidate {
+    private final ProcessableBlockHeader processableBlockHeader;
+    private final MutableWorldState worldState;
+    private final BlockTransactionSelector selector;
+
+    private BlockCandidate(
+        final ProcessableBlockHeader processableBlockHeader,
+        final MutableWorldState worldState,
+        final BlockTransactionSelector selector) {
+      this.processableBlockHeader = processableBlockHeader;
+      this.worldState = worldState;
+      this.selector = selector;
+    }
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.blockcreation;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.function.Supplier;
+
+/** Metrics on the blocks this node proposes. */
+public class BlockCreationMetrics {
+
+  private final OperationTimer timeToProposeTimer;
+  private volatile double lastBlockGasUsedRatio;
+
+  public BlockCreationMetrics(final MetricsSystem metricsSystem) {
+    timeToProposeTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.BLOCKCHAIN,
+            "block_creation_time_to_propose_seconds",
+            "Time from when a block is due until it has been created");
+    metricsSystem.createGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "block_creation_gas_used_ratio",
+        "Proportion of the gas limit used by the last block created",
+        () -> lastBlockGasUsedRatio);
+  }
+
+  /**
+   * Runs the creation of a block that is due now, recording how long it took and how full the block
+   * is.
+   *
+   * @param blockCreation creates the block
+   * @return the created block
+   */
+  public Block timeBlockCreation(final Supplier<Block> blockCreation) {
+    final OperationTimer.TimingContext timingContext = timeToProposeTimer.startTimer();
+    final Block block = blockCreation.get();
+    timingContext.stopTimer();
+    lastBlockGasUsedRatio =
+        (double) block.getHeader().getGasUsed() / block.getHeader().getGasLimit();
+    return block;
+  }
+}
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.blockcreation;
 
 import org.hyperledger.besu.ethereum.ProtocolContext;
+import org.hyperledger.besu.ethereum.blockcreation.AbstractBlockScheduler.BlockCreationTimeResult;
 import org.hyperledger.besu.ethereum.chain.MinedBlockObserver;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -22,6 +23,7 @@ import org.hyperledger.besu.ethereum.core.BlockImporter;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.List;
@@ -56,6 +58,8 @@ public class BlockMiner<M extends AbstractBlockCreator> implements Runnable {
   private final ProtocolSchedule protocolSchedule;
   private final Subscribers<MinedBlockObserver> observers;
   private final AbstractBlockScheduler scheduler;
+  private final boolean continuousBlockBuilding;
+  private final BlockCreationMetrics blockCreationMetrics;
 
   public BlockMiner(
       final Function<BlockHeader, M> blockCreatorFactory,
@@ -64,6 +68,31 @@ public class BlockMiner<M extends AbstractBlockCreator> implements Runnable {
       final Subscribers<MinedBlockObserver> observers,
       final AbstractBlockScheduler scheduler,
       final BlockHeader parentHeader) {
+    this(
+        blockCreatorFactory,
+        protocolSchedule,
+        protocolContext,
+        observers,
+        scheduler,
+        parentHeader,
+        false,
+        new BlockCreationMetrics(new NoOpMetricsSystem()));
+  }
+
+  /**
+   * Creates a miner which, if continuous block building is enabled, keeps executing pending
+   * transactions into the block while waiting for it to be due, rather than starting on the block
+   * once it is due.
+   */
+  public BlockMiner(
+      final Function<BlockHeader, M> blockCreatorFactory,
+      final ProtocolSchedule protocolSchedule,
+      final ProtocolContext protocolContext,
+      final Subscribers<MinedBlockObserver> observers,
+      final AbstractBlockScheduler scheduler,
+      final BlockHeader parentHeader,
+      final boolean continuousBlockBuilding,
+      final BlockCreationMetrics blockCreationMetrics) {
     this.blockCreatorFactory = blockCreatorFactory;
     this.minerBlockCreator = blockCreatorFactory.apply(parentHeader);
     this.protocolContext = protocolContext;
@@ -71,6 +100,8 @@ public class BlockMiner<M extends AbstractBlockCreator> implements Runnable {
     this.observers = observers;
     this.scheduler = scheduler;
     this.parentHeader = parentHeader;
+    this.continuousBlockBuilding = continuousBlockBuilding;
+    this.blockCreationMetrics = blockCreationMetrics;
   }
 
   @Override
@@ -116,11 +147,22 @@ public class BlockMiner<M extends AbstractBlockCreator> implements Runnable {
     // ahead of the parent, and still within allowable clock tolerance.
     LOG.trace("Started a mining operation.");
 
-    final long newBlockTimestamp = scheduler.waitUntilNextBlockCanBeMined(parentHeader);
+    final long newBlockTimestamp;
+    if (continuousBlockBuilding) {
+      final BlockCreationTimeResult nextBlock = scheduler.getNextTimestamp(parentHeader);
+      newBlockTimestamp = nextBlock.getTimestampForHeader();
+      LOG.trace("Building a new block with timestamp {} until it is due", newBlockTimestamp);
+      minerBlockCreator.buildCandidateUntil(
+          newBlockTimestamp, nextBlock.getMillisecondsUntilValid());
+    } else {
+      newBlockTimestamp = scheduler.waitUntilNextBlockCanBeMined(parentHeader);
+    }
 
     final Stopwatch stopwatch = Stopwatch.createStarted();
     LOG.trace("Mining a new block with timestamp {}", newBlockTimestamp);
-    final Block block = minerBlockCreator.createBlock(newBlockTimestamp);
+    final Block block =
+        blockCreationMetrics.timeBlockCreation(
+            () -> minerBlockCreator.createBlock(newBlockTimestamp));
     LOG.trace(
         "Block created, importing to local chain, block includes {} transactions",
         block.getBody().getTransactions().size());
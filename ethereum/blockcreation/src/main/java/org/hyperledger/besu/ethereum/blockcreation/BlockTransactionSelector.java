@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.blockcreation;
 import org.hyperledger.besu.config.experimental.ExperimentalEIPs;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -33,8 +34,12 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.function.Supplier;
 
@@ -57,8 +62,10 @@ import com.google.common.collect.Lists;
  *   <li>The amount of gas consumed when executing all transactions.
  * </ul>
  *
- * Once "used" this class must be discarded and another created. This class contains state which is
- * not cleared between executions of buildTransactionListForBlock().
+ * This class contains state which is not cleared between executions of
+ * buildTransactionListForBlock(). Calling it again continues the same block: transactions that were
+ * already selected are skipped, and only those that have become available since are executed on top
+ * of the world state. Once the block has been created this class must be discarded.
  */
 public class BlockTransactionSelector {
 
@@ -114,9 +121,13 @@ public class BlockTransactionSelector {
   private final Address miningBeneficiary;
   private final TransactionPriceCalculator transactionPriceCalculator;
   private final Optional<EIP1559> eip1559;
+  private final BlockHashLookup blockHashLookup;
 
   private final TransactionSelectionResults transactionSelectionResult =
       new TransactionSelectionResults();
+  private final Set<Hash> selectedTransactions = new HashSet<>();
+  // the nonce of the first transaction selected from each sender; later ones have higher nonces
+  private final Map<Address, Long> firstSelectedNonces = new HashMap<>();
 
   public BlockTransactionSelector(
       final TransactionProcessor transactionProcessor,
@@ -143,6 +154,7 @@ public class BlockTransactionSelector {
     this.miningBeneficiary = miningBeneficiary;
     this.transactionPriceCalculator = transactionPriceCalculator;
     this.eip1559 = eip1559;
+    this.blockHashLookup = new BlockHashLookup(processableBlockHeader, blockchain);
   }
 
   /*
@@ -181,6 +193,10 @@ public class BlockTransactionSelector {
       throw new CancellationException("Cancelled during transaction selection.");
     }
 
+    if (selectedTransactions.contains(transaction.getHash())) {
+      return TransactionSelectionResult.CONTINUE;
+    }
+
     if (transactionTooLargeForBlock(transaction)) {
       if (blockOccupancyAboveThreshold()) {
         return TransactionSelectionResult.COMPLETE_OPERATION;
@@ -198,7 +214,6 @@ public class BlockTransactionSelector {
     }
 
     final WorldUpdater worldStateUpdater = worldState.updater();
-    final BlockHashLookup blockHashLookup = new BlockHashLookup(processableBlockHeader, blockchain);
 
     final TransactionProcessor.Result result =
         transactionProcessor.processTransaction(
@@ -215,11 +230,16 @@ public class BlockTransactionSelector {
       worldStateUpdater.commit();
       updateTransactionResultTracking(transaction, result);
     } else {
+      final TransactionValidator.TransactionInvalidReason invalidReason =
+          result.getValidationResult().getInvalidReason();
       // If the transaction has an incorrect nonce, leave it in the pool and continue
-      if (result
-          .getValidationResult()
-          .getInvalidReason()
-          .equals(TransactionValidator.TransactionInvalidReason.INCORRECT_NONCE)) {
+      if (invalidReason.equals(TransactionValidator.TransactionInvalidReason.INCORRECT_NONCE)) {
+        return TransactionSelectionResult.CONTINUE;
+      }
+      // A transaction arriving after another one with its nonce was selected, such as a
+      // replacement, is only too low for this block. Leave it in the pool for the next one.
+      if (invalidReason.equals(TransactionValidator.TransactionInvalidReason.NONCE_TOO_LOW)
+          && nonceUsedBySelectedTransaction(transaction)) {
         return TransactionSelectionResult.CONTINUE;
       }
       // If the transaction was invalid for any other reason, delete it, and continue.
@@ -244,12 +264,19 @@ public class BlockTransactionSelector {
           transactionSelectionResult.getFrontierCumulativeGasUsed() + gasUsedByTransaction;
     }
 
+    selectedTransactions.add(transaction.getHash());
+    firstSelectedNonces.putIfAbsent(transaction.getSender(), transaction.getNonce());
     transactionSelectionResult.update(
         transaction,
         transactionReceiptFactory.create(result, worldState, cumulativeGasUsed),
         gasUsedByTransaction);
   }
 
+  private boolean nonceUsedBySelectedTransaction(final Transaction transaction) {
+    final Long firstSelectedNonce = firstSelectedNonces.get(transaction.getSender());
+    return firstSelectedNonce != null && transaction.getNonce() >= firstSelectedNonce;
+  }
+
   private boolean transactionTooLargeForBlock(final Transaction transaction) {
 
     final long blockGasRemaining;
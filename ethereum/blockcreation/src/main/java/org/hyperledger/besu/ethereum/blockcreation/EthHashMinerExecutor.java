@@ -34,6 +34,7 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<EthHashBlockMine
   private volatile Optional<Address> coinbase;
   private boolean stratumMiningEnabled;
   private final Iterable<Long> nonceGenerator;
+  private final EthHasher ethHasher;
 
   public EthHashMinerExecutor(
       final ProtocolContext protocolContext,
@@ -42,6 +43,24 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<EthHashBlockMine
       final MiningParameters miningParams,
       final AbstractBlockScheduler blockScheduler,
       final Function<Long, Long> gasLimitCalculator) {
+    this(
+        protocolContext,
+        protocolSchedule,
+        pendingTransactions,
+        miningParams,
+        blockScheduler,
+        gasLimitCalculator,
+        new EthHasher.Light());
+  }
+
+  public EthHashMinerExecutor(
+      final ProtocolContext protocolContext,
+      final ProtocolSchedule protocolSchedule,
+      final PendingTransactions pendingTransactions,
+      final MiningParameters miningParams,
+      final AbstractBlockScheduler blockScheduler,
+      final Function<Long, Long> gasLimitCalculator,
+      final EthHasher ethHasher) {
     super(
         protocolContext,
         protocolSchedule,
@@ -51,6 +70,7 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<EthHashBlockMine
         gasLimitCalculator);
     this.coinbase = miningParams.getCoinbase();
     this.nonceGenerator = miningParams.getNonceGenerator().orElse(new RandomNonceGenerator());
+    this.ethHasher = ethHasher;
   }
 
   @Override
@@ -70,8 +90,7 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<EthHashBlockMine
       final Subscribers<EthHashObserver> ethHashObservers,
       final BlockHeader parentHeader) {
     final EthHashSolver solver =
-        new EthHashSolver(
-            nonceGenerator, new EthHasher.Light(), stratumMiningEnabled, ethHashObservers);
+        new EthHashSolver(nonceGenerator, ethHasher, stratumMiningEnabled, ethHashObservers);
     final Function<BlockHeader, EthHashBlockCreator> blockCreator =
         (header) ->
             new EthHashBlockCreator(
@@ -19,6 +19,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
@@ -26,7 +28,9 @@ import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.AddressHelpers;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderBuilder;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.InMemoryStorageProvider;
@@ -135,7 +139,7 @@ public class BlockTransactionSelectorTest {
   @Test
   public void failedTransactionsAreIncludedInTheBlock() {
     final Transaction transaction = createTransaction(1);
-    pendingTransactions.addRemoteTransaction(transaction);
+    pendingTransactions.addRemoteTransaction(transaction, 1);
 
     when(transactionProcessor.processTransaction(
             any(), any(), any(), eq(transaction), any(), any(), anyBoolean(), any()))
@@ -178,7 +182,7 @@ public class BlockTransactionSelectorTest {
     for (int i = 0; i < 5; i++) {
       final Transaction tx = createTransaction(i);
       transactionsToInject.add(tx);
-      pendingTransactions.addRemoteTransaction(tx);
+      pendingTransactions.addRemoteTransaction(tx, 0);
     }
 
     when(transactionProcessor.processTransaction(
@@ -236,7 +240,7 @@ public class BlockTransactionSelectorTest {
     for (int i = 0; i < 5; i++) {
       final Transaction tx = createTransaction(i);
       transactionsToInject.add(tx);
-      pendingTransactions.addRemoteTransaction(tx);
+      pendingTransactions.addRemoteTransaction(tx, 0);
     }
 
     when(transactionProcessor.processTransaction(
@@ -300,7 +304,7 @@ public class BlockTransactionSelectorTest {
             Optional.empty());
 
     final Transaction tx = createTransaction(1);
-    pendingTransactions.addRemoteTransaction(tx);
+    pendingTransactions.addRemoteTransaction(tx, 1);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -354,7 +358,7 @@ public class BlockTransactionSelectorTest {
             .createTransaction(keyPair));
 
     for (final Transaction tx : transactionsToInject) {
-      pendingTransactions.addRemoteTransaction(tx);
+      pendingTransactions.addRemoteTransaction(tx, 1);
     }
 
     final BlockTransactionSelector.TransactionSelectionResults results =
@@ -418,10 +422,10 @@ public class BlockTransactionSelectorTest {
             .nonce(4)
             .createTransaction(keyPair);
 
-    pendingTransactions.addRemoteTransaction(transaction1);
-    pendingTransactions.addRemoteTransaction(transaction2);
-    pendingTransactions.addRemoteTransaction(transaction3);
-    pendingTransactions.addRemoteTransaction(transaction4);
+    pendingTransactions.addRemoteTransaction(transaction1, 1);
+    pendingTransactions.addRemoteTransaction(transaction2, 1);
+    pendingTransactions.addRemoteTransaction(transaction3, 1);
+    pendingTransactions.addRemoteTransaction(transaction4, 1);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -459,8 +463,8 @@ public class BlockTransactionSelectorTest {
     final Transaction invalidTransaction =
         txTestFixture.nonce(2).gasLimit(2).createTransaction(keyPair);
 
-    pendingTransactions.addRemoteTransaction(validTransaction);
-    pendingTransactions.addRemoteTransaction(invalidTransaction);
+    pendingTransactions.addRemoteTransaction(validTransaction, 1);
+    pendingTransactions.addRemoteTransaction(invalidTransaction, 1);
 
     when(transactionProcessor.processTransaction(
             eq(blockchain),
@@ -504,7 +508,7 @@ public class BlockTransactionSelectorTest {
     final Transaction futureTransaction =
         txTestFixture.nonce(5).gasLimit(1).createTransaction(keyPair);
 
-    pendingTransactions.addRemoteTransaction(futureTransaction);
+    pendingTransactions.addRemoteTransaction(futureTransaction, 5);
 
     when(transactionProcessor.processTransaction(
             eq(blockchain),
@@ -544,6 +548,122 @@ public class BlockTransactionSelectorTest {
     assertThat(results.getTransactions().size()).isEqualTo(0);
   }
 
+  @Test
+  public void repeatedSelectionOnlyEvaluatesNewlyAddedTransactions() {
+    final Transaction firstTransaction = createTransaction(0);
+    final Transaction secondTransaction = createTransaction(1);
+    pendingTransactions.addRemoteTransaction(firstTransaction, 0);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            0.8,
+            this::isCancelled,
+            AddressHelpers.ofValue(1),
+            TransactionPriceCalculator.frontier(),
+            Optional.empty());
+
+    assertThat(selector.buildTransactionListForBlock().getTransactions())
+        .containsExactly(firstTransaction);
+
+    pendingTransactions.addRemoteTransaction(secondTransaction, 0);
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).containsExactly(firstTransaction, secondTransaction);
+    assertThat(results.getReceipts().size()).isEqualTo(2);
+    assertThat(results.getFrontierCumulativeGasUsed()).isEqualTo(200);
+    verify(transactionProcessor, times(1))
+        .processTransaction(
+            any(), any(), any(), eq(firstTransaction), any(), any(), anyBoolean(), any());
+  }
+
+  @Test
+  public void replacementOfSelectedTransactionRemainsInPoolForNextBlock() {
+    final Transaction originalTransaction = createTransaction(0);
+    final Transaction replacementTransaction =
+        Transaction.builder()
+            .gasLimit(100)
+            .gasPrice(Wei.of(10))
+            .nonce(0)
+            .payload(Bytes.EMPTY)
+            .to(Address.ID)
+            .value(Wei.ZERO)
+            .sender(Address.ID)
+            .chainId(BigInteger.ONE)
+            .signAndBuild(keyPair);
+    // replacing a transaction compares prices at the chain head, which the reference test
+    // blockchain refuses to provide
+    final BlockHeader chainHeadHeader = new BlockHeaderTestFixture().buildHeader();
+    final PendingTransactions pendingTransactions =
+        new PendingTransactions(
+            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+            5,
+            5,
+            TestClock.fixed(),
+            metricsSystem,
+            () -> chainHeadHeader,
+            Optional.empty(),
+            TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
+    pendingTransactions.addRemoteTransaction(originalTransaction, 0);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), eq(originalTransaction), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, 0, Bytes.EMPTY, ValidationResult.valid()));
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), eq(replacementTransaction), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.invalid(
+                ValidationResult.invalid(
+                    TransactionValidator.TransactionInvalidReason.NONCE_TOO_LOW)));
+
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            0.8,
+            this::isCancelled,
+            AddressHelpers.ofValue(1),
+            TransactionPriceCalculator.frontier(),
+            Optional.empty());
+
+    assertThat(selector.buildTransactionListForBlock().getTransactions())
+        .containsExactly(originalTransaction);
+
+    pendingTransactions.addRemoteTransaction(replacementTransaction, 0);
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).containsExactly(originalTransaction);
+    assertThat(pendingTransactions.getTransactionByHash(replacementTransaction.getHash()))
+        .isPresent();
+    assertThat(pendingTransactions.getTransactionByHash(originalTransaction.getHash()))
+        .isNotPresent();
+  }
+
   private Transaction createTransaction(final int transactionNumber) {
     return Transaction.builder()
         .gasLimit(100)
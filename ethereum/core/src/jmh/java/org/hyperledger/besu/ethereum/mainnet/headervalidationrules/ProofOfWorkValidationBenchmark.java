@@ -0,0 +1,79 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.headervalidationrules;
+
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures headers validated per second by the proof of work rule, for a batch of headers as
+ * received from a peer during sync. The parallel variant stands in for validating the batch across
+ * the computation executor.
+ */
+@State(Scope.Thread)
+public class ProofOfWorkValidationBenchmark {
+
+  // the default number of headers requested from a peer at once
+  private static final int BATCH_SIZE = 192;
+
+  private final ProofOfWorkValidationRule rule = new ProofOfWorkValidationRule();
+  private long nextNonce;
+  private BlockHeader[] headers;
+
+  @Setup(Level.Trial)
+  public void generateEpochCache() {
+    // keeps the one-off light cache generation of the epoch out of the measurements
+    rule.validate(header(0), null);
+  }
+
+  @Setup(Level.Invocation)
+  public void createHeaders() {
+    // fresh nonces, so every invocation validates headers that have not been seen before
+    headers = new BlockHeader[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      headers[i] = header(++nextNonce);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long validateSequentially() {
+    return Arrays.stream(headers).filter(header -> rule.validate(header, null)).count();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public long validateInParallel() {
+    return Arrays.stream(headers).parallel().filter(header -> rule.validate(header, null)).count();
+  }
+
+  private static BlockHeader header(final long nonce) {
+    return new BlockHeaderTestFixture()
+        .number(1)
+        .difficulty(Difficulty.ONE)
+        .nonce(nonce)
+        .buildHeader();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm.operations;
+
+import static java.util.Collections.emptyList;
+
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.ExecutionContextTestFixture;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Simulates importing consecutive blocks whose transactions call BLOCKHASH on the oldest block
+ * available, which walks back through all 256 ancestors. Compares creating a lookup for every
+ * transaction, creating one per block, and creating each block's lookup from its parent's.
+ */
+@State(Scope.Thread)
+public class BlockHashLookupBenchmark {
+
+  private static final int CHAIN_LENGTH = 1024;
+  private static final int BLOCKS_PER_INVOCATION = CHAIN_LENGTH - 257;
+
+  @Param({"10"})
+  public int transactionsPerBlock;
+
+  private MutableBlockchain blockchain;
+  private BlockHeader[] headers;
+
+  @Setup(Level.Trial)
+  public void createChain() {
+    blockchain = ExecutionContextTestFixture.create().getBlockchain();
+    headers = new BlockHeader[CHAIN_LENGTH];
+    headers[0] = blockchain.getChainHeadHeader();
+    for (int i = 1; i < CHAIN_LENGTH; i++) {
+      headers[i] =
+          new BlockHeaderTestFixture()
+              .parentHash(headers[i - 1].getHash())
+              .number(i)
+              .difficulty(Difficulty.ONE)
+              .buildHeader();
+      blockchain.appendBlock(
+          new Block(headers[i], new BlockBody(emptyList(), emptyList())), emptyList());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BLOCKS_PER_INVOCATION)
+  public Hash lookupPerTransaction() {
+    Hash hash = null;
+    for (int i = 257; i < CHAIN_LENGTH; i++) {
+      for (int transaction = 0; transaction < transactionsPerBlock; transaction++) {
+        hash = new BlockHashLookup(headers[i], blockchain).getBlockHash(i - 256);
+      }
+    }
+    return hash;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BLOCKS_PER_INVOCATION)
+  public Hash lookupPerBlock() {
+    Hash hash = null;
+    for (int i = 257; i < CHAIN_LENGTH; i++) {
+      final BlockHashLookup lookup = new BlockHashLookup(headers[i], blockchain);
+      for (int transaction = 0; transaction < transactionsPerBlock; transaction++) {
+        hash = lookup.getBlockHash(i - 256);
+      }
+    }
+    return hash;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BLOCKS_PER_INVOCATION)
+  public Hash lookupSharedAcrossBlocks() {
+    Hash hash = null;
+    BlockHashLookup lookup = new BlockHashLookup(headers[256], blockchain);
+    for (int i = 257; i < CHAIN_LENGTH; i++) {
+      lookup = lookup.forBlock(headers[i], blockchain);
+      for (int transaction = 0; transaction < transactionsPerBlock; transaction++) {
+        hash = lookup.getBlockHash(i - 256);
+      }
+    }
+    return hash;
+  }
+}
@@ -22,11 +22,14 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.apache.tuweni.bytes.Bytes;
+
 /** An interface for reading data from the blockchain. */
 public interface Blockchain {
   /**
@@ -138,6 +141,18 @@ public interface Blockchain {
    */
   Optional<BlockBody> getBlockBody(Hash blockHeaderHash);
 
+  /**
+   * Returns the RLP encoding of the block body corresponding to the given block header hash,
+   * without decoding it. Associated block is not necessarily on the canonical chain.
+   *
+   * @param blockHeaderHash The block header hash identifying the block whose body should be
+   *     returned.
+   * @return The RLP encoded block body corresponding to the target block.
+   */
+  default Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return getBlockBody(blockHeaderHash).map(body -> RLP.encode(body::writeTo));
+  }
+
   /**
    * Given a block's hash, returns the list of transaction receipts associated with this block's
    * transactions. Associated block is not necessarily on the canonical chain.
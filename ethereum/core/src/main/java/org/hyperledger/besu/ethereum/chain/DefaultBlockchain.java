@@ -51,6 +51,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 
 public class DefaultBlockchain implements MutableBlockchain {
   private static final Logger LOG = LogManager.getLogger();
@@ -196,6 +197,11 @@ public class DefaultBlockchain implements MutableBlockchain {
     return blockchainStorage.getBlockBody(blockHeaderHash);
   }
 
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockBodyRlp(blockHeaderHash);
+  }
+
   @Override
   public Optional<List<TransactionReceipt>> getTxReceipts(final Hash blockHeaderHash) {
     return blockchainStorage.getTransactionReceipts(blockHeaderHash);
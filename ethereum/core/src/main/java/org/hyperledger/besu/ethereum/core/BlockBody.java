@@ -74,6 +74,30 @@ public class BlockBody implements org.hyperledger.besu.plugin.data.BlockBody {
     return body;
   }
 
+  /**
+   * Reads the number of transactions of an RLP encoded block body, without decoding them.
+   *
+   * @param input The RLP encoded block body
+   * @return The number of transactions of the block
+   */
+  public static int readTransactionCount(final RLPInput input) {
+    input.enterList();
+    return input.enterList();
+  }
+
+  /**
+   * Reads the number of ommers of an RLP encoded block body, without decoding them or the
+   * transactions.
+   *
+   * @param input The RLP encoded block body
+   * @return The number of ommers of the block
+   */
+  public static int readOmmerCount(final RLPInput input) {
+    input.enterList();
+    input.skipNext();
+    return input.enterList();
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (obj == this) {
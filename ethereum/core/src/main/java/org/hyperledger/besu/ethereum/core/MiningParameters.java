@@ -38,6 +38,8 @@ public class MiningParameters {
   private final Double minBlockOccupancyRatio;
   private final int remoteSealersLimit;
   private final long remoteSealersTimeToLive;
+  private final boolean continuousBlockBuildingEnabled;
+  private final boolean ethHashFullDatasetEnabled;
 
   public MiningParameters(
       final Address coinbase,
@@ -56,7 +58,9 @@ public class MiningParameters {
         Optional.empty(),
         0.8,
         DEFAULT_REMOTE_SEALERS_LIMIT,
-        DEFAULT_REMOTE_SEALERS_TTL);
+        DEFAULT_REMOTE_SEALERS_TTL,
+        false,
+        false);
   }
 
   public MiningParameters(
@@ -71,7 +75,9 @@ public class MiningParameters {
       final Optional<Iterable<Long>> maybeNonceGenerator,
       final Double minBlockOccupancyRatio,
       final int remoteSealersLimit,
-      final long remoteSealersTimeToLive) {
+      final long remoteSealersTimeToLive,
+      final boolean continuousBlockBuildingEnabled,
+      final boolean ethHashFullDatasetEnabled) {
     this.coinbase = Optional.ofNullable(coinbase);
     this.minTransactionGasPrice = minTransactionGasPrice;
     this.extraData = extraData;
@@ -84,6 +90,8 @@ public class MiningParameters {
     this.minBlockOccupancyRatio = minBlockOccupancyRatio;
     this.remoteSealersLimit = remoteSealersLimit;
     this.remoteSealersTimeToLive = remoteSealersTimeToLive;
+    this.continuousBlockBuildingEnabled = continuousBlockBuildingEnabled;
+    this.ethHashFullDatasetEnabled = ethHashFullDatasetEnabled;
   }
 
   public Optional<Address> getCoinbase() {
@@ -134,6 +142,14 @@ public class MiningParameters {
     return remoteSealersTimeToLive;
   }
 
+  public boolean isContinuousBlockBuildingEnabled() {
+    return continuousBlockBuildingEnabled;
+  }
+
+  public boolean isEthHashFullDatasetEnabled() {
+    return ethHashFullDatasetEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -149,7 +165,9 @@ public class MiningParameters {
         && Objects.equals(stratumExtranonce, that.stratumExtranonce)
         && Objects.equals(minBlockOccupancyRatio, that.minBlockOccupancyRatio)
         && Objects.equals(remoteSealersTimeToLive, that.remoteSealersTimeToLive)
-        && Objects.equals(remoteSealersLimit, that.remoteSealersLimit);
+        && Objects.equals(remoteSealersLimit, that.remoteSealersLimit)
+        && continuousBlockBuildingEnabled == that.continuousBlockBuildingEnabled
+        && ethHashFullDatasetEnabled == that.ethHashFullDatasetEnabled;
   }
 
   @Override
@@ -165,7 +183,9 @@ public class MiningParameters {
         stratumExtranonce,
         minBlockOccupancyRatio,
         remoteSealersLimit,
-        remoteSealersTimeToLive);
+        remoteSealersTimeToLive,
+        continuousBlockBuildingEnabled,
+        ethHashFullDatasetEnabled);
   }
 
   @Override
@@ -197,6 +217,10 @@ public class MiningParameters {
         + remoteSealersLimit
         + ", remoteSealersTimeToLive="
         + remoteSealersTimeToLive
+        + ", continuousBlockBuildingEnabled="
+        + continuousBlockBuildingEnabled
+        + ", ethHashFullDatasetEnabled="
+        + ethHashFullDatasetEnabled
         + '}';
   }
 }
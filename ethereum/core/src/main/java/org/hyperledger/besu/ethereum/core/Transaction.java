@@ -81,14 +81,24 @@ public class Transaction implements org.hyperledger.besu.plugin.data.Transaction
   // Caches the hash used to uniquely identify the transaction.
   protected volatile Hash hash;
 
+  // The encoding this transaction was decoded from, if any, kept until its hash is first needed.
+  private volatile Bytes encoded;
+
   public static Builder builder() {
     return new Builder();
   }
 
-  public static Transaction readFrom(final RLPInput input) throws RLPException {
-    if (ExperimentalEIPs.eip1559Enabled) {
-      return readFromExperimental(input);
-    }
+  public static Transaction readFrom(final RLPInput rlpInput) throws RLPException {
+    // Decodes the transaction from its own encoding, so that its hash can be computed from the
+    // bytes that were read rather than by encoding the transaction again.
+    final RLPInput input = rlpInput.readAsRlp();
+    final Transaction transaction =
+        ExperimentalEIPs.eip1559Enabled ? readFromExperimental(input) : readFromLegacy(input);
+    transaction.encoded = input.raw();
+    return transaction;
+  }
+
+  private static Transaction readFromLegacy(final RLPInput input) throws RLPException {
     input.enterList();
     final Builder builder =
         builder()
@@ -470,8 +480,11 @@ public class Transaction implements org.hyperledger.besu.plugin.data.Transaction
   @Override
   public Hash getHash() {
     if (hash == null) {
-      final Bytes rlp = RLP.encode(this::writeTo);
+      final Bytes rlp = encoded != null ? encoded : RLP.encode(this::writeTo);
       hash = Hash.hash(rlp);
+      // the encoding may be a slice of a whole message, which shouldn't be retained with the
+      // transaction once it is no longer needed
+      encoded = null;
     }
     return hash;
   }
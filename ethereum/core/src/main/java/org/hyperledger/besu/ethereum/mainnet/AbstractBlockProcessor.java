@@ -94,6 +94,9 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
 
   private final TransactionGasBudgetCalculator gasBudgetCalculator;
 
+  // the lookup of the last block processed, shared with the next block when importing in order
+  private volatile BlockHashLookup lastBlockHashLookup;
+
   protected AbstractBlockProcessor(
       final TransactionProcessor transactionProcessor,
       final TransactionReceiptFactory transactionReceiptFactory,
@@ -122,6 +125,9 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     long eip1556GasUsed = 0;
     final List<TransactionReceipt> receipts = new ArrayList<>();
 
+    final BlockHashLookup blockHashLookup = createBlockHashLookup(blockchain, blockHeader);
+    final Address miningBeneficiary = miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
+
     for (final Transaction transaction : transactions) {
       long currentGasUsed;
       if (ExperimentalEIPs.eip1559Enabled && transaction.isEIP1559Transaction()) {
@@ -140,9 +146,6 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       }
 
       final WorldUpdater worldStateUpdater = worldState.updater();
-      final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
-      final Address miningBeneficiary =
-          miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
 
       final TransactionProcessor.Result result =
           transactionProcessor.processTransaction(
@@ -183,6 +186,17 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     return AbstractBlockProcessor.Result.successful(receipts);
   }
 
+  private BlockHashLookup createBlockHashLookup(
+      final Blockchain blockchain, final BlockHeader blockHeader) {
+    final BlockHashLookup previousLookup = lastBlockHashLookup;
+    final BlockHashLookup blockHashLookup =
+        previousLookup == null
+            ? new BlockHashLookup(blockHeader, blockchain)
+            : previousLookup.forBlock(blockHeader, blockchain);
+    lastBlockHashLookup = blockHashLookup;
+    return blockHashLookup;
+  }
+
   protected MiningBeneficiaryCalculator getMiningBeneficiaryCalculator() {
     return miningBeneficiaryCalculator;
   }
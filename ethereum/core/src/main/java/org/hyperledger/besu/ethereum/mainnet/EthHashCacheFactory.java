@@ -42,10 +42,20 @@ public class EthHashCacheFactory {
 
   Cache<Long, EthHashDescriptor> descriptorCache = CacheBuilder.newBuilder().maximumSize(5).build();
 
+  // nearly every lookup is for the same epoch as the one before, which skips the shared cache
+  private volatile EpochDescriptor lastDescriptor = new EpochDescriptor(-1, null);
+
   public EthHashDescriptor ethHashCacheFor(final long blockNumber) {
     final long epochIndex = EthHash.epoch(blockNumber);
+    final EpochDescriptor last = lastDescriptor;
+    if (last.epoch == epochIndex) {
+      return last.descriptor;
+    }
     try {
-      return descriptorCache.get(epochIndex, () -> createHashCache(epochIndex, blockNumber));
+      final EthHashDescriptor descriptor =
+          descriptorCache.get(epochIndex, () -> createHashCache(epochIndex, blockNumber));
+      lastDescriptor = new EpochDescriptor(epochIndex, descriptor);
+      return descriptor;
     } catch (final ExecutionException ex) {
       throw new RuntimeException("Failed to create a suitable cache for EthHash calculations.", ex);
     }
@@ -56,4 +66,14 @@ public class EthHashCacheFactory {
         EthHash.mkCache(Ints.checkedCast(EthHash.cacheSize(epochIndex)), blockNumber);
     return new EthHashDescriptor(EthHash.datasetSize(epochIndex), cache);
   }
+
+  private static class EpochDescriptor {
+    private final long epoch;
+    private final EthHashDescriptor descriptor;
+
+    private EpochDescriptor(final long epoch, final EthHashDescriptor descriptor) {
+      this.epoch = epoch;
+      this.descriptor = descriptor;
+    }
+  }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The full EthHash dataset (DAG) of one epoch, stored in a file and read through memory mappings.
+ *
+ * <p>Looking an item up in the full dataset is a memory read, whereas the light cache has to
+ * compute every item from 256 cache rows. The dataset is generated once per epoch, in parallel
+ * across all cores, and written to disk so that it is reused across restarts.
+ */
+public final class EthHashDataset {
+
+  // a multiple of the bytes generated per task, so no task straddles two mappings
+  private static final int BYTES_PER_MAPPING = 1 << 30;
+
+  private static final int ITEMS_PER_TASK = 1 << 14;
+
+  static final String FILE_PREFIX = "ethash-dataset-";
+
+  private final ByteBuffer[] mappings;
+
+  private EthHashDataset(final ByteBuffer[] mappings) {
+    this.mappings = mappings;
+  }
+
+  static Path datasetFile(final Path directory, final long epoch) {
+    return directory.resolve(FILE_PREFIX + epoch);
+  }
+
+  /**
+   * Opens the dataset file of an epoch, generating it first if it is missing or does not hold the
+   * expected dataset.
+   *
+   * @param file the file holding the dataset
+   * @param cache the EthHash cache of the epoch
+   * @param size the size of the dataset of the epoch
+   * @return the dataset
+   * @throws IOException if the dataset file cannot be read or written
+   */
+  public static EthHashDataset loadOrGenerate(final Path file, final int[] cache, final long size)
+      throws IOException {
+    if (Files.isRegularFile(file) && Files.size(file) == size) {
+      final EthHashDataset dataset = open(file, size);
+      if (dataset.isConsistentWith(cache, size)) {
+        return dataset;
+      }
+    }
+    generate(file, cache, size);
+    return open(file, size);
+  }
+
+  /**
+   * Writes a dataset to a file. The dataset is written next to the target and atomically moved into
+   * place, so a partially written dataset is never opened.
+   *
+   * @param file the file to write the dataset to
+   * @param cache the EthHash cache of the epoch
+   * @param size the size of the dataset of the epoch
+   * @throws IOException if the dataset file cannot be written
+   */
+  static void generate(final Path file, final int[] cache, final long size) throws IOException {
+    checkArgument(size % EthHash.HASH_BYTES == 0, "Dataset size must be a multiple of items");
+    final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (final RandomAccessFile out = new RandomAccessFile(tempFile.toFile(), "rw")) {
+      out.setLength(size);
+      final MappedByteBuffer[] mappings =
+          map(out.getChannel(), FileChannel.MapMode.READ_WRITE, size);
+      final int items = Math.toIntExact(size / EthHash.HASH_BYTES);
+      final int tasks = (items + ITEMS_PER_TASK - 1) / ITEMS_PER_TASK;
+      IntStream.range(0, tasks)
+          .parallel()
+          .forEach(
+              task -> {
+                final int start = task * ITEMS_PER_TASK;
+                final int end = Math.min(items, start + ITEMS_PER_TASK);
+                final long offset = (long) start * EthHash.HASH_BYTES;
+                // each task writes through its own view, as buffer positions are not thread safe
+                final ByteBuffer target = mappings[(int) (offset / BYTES_PER_MAPPING)].duplicate();
+                target.position((int) (offset % BYTES_PER_MAPPING));
+                final byte[] item = new byte[EthHash.HASH_BYTES];
+                for (int index = start; index < end; index++) {
+                  EthHash.calcDatasetItem(item, cache, index);
+                  target.put(item);
+                }
+              });
+      for (final MappedByteBuffer mapping : mappings) {
+        mapping.force();
+      }
+    }
+    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  static EthHashDataset open(final Path file, final long size) throws IOException {
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // the mappings remain valid once the channel is closed
+      return new EthHashDataset(map(channel, FileChannel.MapMode.READ_ONLY, size));
+    }
+  }
+
+  /**
+   * Copies a dataset item into a buffer. Safe to call from several threads at once.
+   *
+   * @param buffer buffer of at least {@link EthHash#HASH_BYTES} bytes to copy the item into
+   * @param index index of the dataset item
+   */
+  public void lookup(final byte[] buffer, final int index) {
+    final long offset = (long) index * EthHash.HASH_BYTES;
+    final ByteBuffer mapping = mappings[(int) (offset / BYTES_PER_MAPPING)];
+    final int position = (int) (offset % BYTES_PER_MAPPING);
+    for (int i = 0; i < EthHash.HASH_BYTES; i++) {
+      buffer[i] = mapping.get(position + i);
+    }
+  }
+
+  private boolean isConsistentWith(final int[] cache, final long size) {
+    // spot check the first and last items to catch a dataset written for another epoch
+    final int lastIndex = Math.toIntExact(size / EthHash.HASH_BYTES - 1);
+    return IntStream.of(0, lastIndex)
+        .allMatch(
+            index -> {
+              final byte[] expected = new byte[EthHash.HASH_BYTES];
+              final byte[] actual = new byte[EthHash.HASH_BYTES];
+              EthHash.calcDatasetItem(expected, cache, index);
+              lookup(actual, index);
+              return Arrays.equals(expected, actual);
+            });
+  }
+
+  private static MappedByteBuffer[] map(
+      final FileChannel channel, final FileChannel.MapMode mode, final long size)
+      throws IOException {
+    final int count = Math.toIntExact((size + BYTES_PER_MAPPING - 1) / BYTES_PER_MAPPING);
+    final MappedByteBuffer[] mappings = new MappedByteBuffer[count];
+    for (int i = 0; i < count; i++) {
+      final long position = (long) i * BYTES_PER_MAPPING;
+      mappings[i] = channel.map(mode, position, Math.min(BYTES_PER_MAPPING, size - position));
+    }
+    return mappings;
+  }
+}
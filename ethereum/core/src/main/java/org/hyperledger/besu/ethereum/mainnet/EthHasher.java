@@ -14,6 +14,23 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 public interface EthHasher {
 
   /**
@@ -39,4 +56,121 @@ public interface EthHasher {
       System.arraycopy(hash, 0, buffer, 0, hash.length);
     }
   }
+
+  /**
+   * Hashes against the full dataset of the epoch, memory-mapped from a file in the given directory.
+   *
+   * <p>Datasets are generated in the background: until the dataset of an epoch is ready, hashes are
+   * computed from the light cache. Once it is ready, the dataset of the next epoch is generated too
+   * so it is available as soon as that epoch starts. Only the datasets of the current and next
+   * epoch are kept, in memory and on disk.
+   */
+  final class Full implements EthHasher {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final EthHashCacheFactory cacheFactory = new EthHashCacheFactory();
+    private final Map<Long, CompletableFuture<EthHashDataset>> datasets = new ConcurrentHashMap<>();
+    private final ExecutorService generator =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("EthHashDatasetGenerator-%d")
+                .setDaemon(true)
+                .build());
+    private final Path datasetDirectory;
+    private volatile long readyEpoch = -1;
+
+    public Full(final Path datasetDirectory) {
+      this.datasetDirectory = datasetDirectory;
+    }
+
+    @Override
+    public void hash(
+        final byte[] buffer, final long nonce, final long number, final byte[] headerHash) {
+      final EthHashCacheFactory.EthHashDescriptor cache = cacheFactory.ethHashCacheFor(number);
+      final byte[] hash =
+          datasetFor(EthHash.epoch(number))
+              .map(
+                  dataset ->
+                      EthHash.hashimoto(headerHash, cache.getDatasetSize(), nonce, dataset::lookup))
+              .orElseGet(
+                  () ->
+                      EthHash.hashimotoLight(
+                          cache.getDatasetSize(), cache.getCache(), headerHash, nonce));
+      System.arraycopy(hash, 0, buffer, 0, hash.length);
+    }
+
+    private Optional<EthHashDataset> datasetFor(final long epoch) {
+      final CompletableFuture<EthHashDataset> dataset =
+          datasets.computeIfAbsent(epoch, this::generateDataset);
+      if (!dataset.isDone() || dataset.isCompletedExceptionally()) {
+        return Optional.empty();
+      }
+      if (epoch != readyEpoch) {
+        readyEpoch = epoch;
+        datasets.computeIfAbsent(epoch + 1, this::generateDataset);
+        datasets.keySet().removeIf(datasetEpoch -> datasetEpoch < epoch);
+      }
+      return Optional.of(dataset.join());
+    }
+
+    private CompletableFuture<EthHashDataset> generateDataset(final long epoch) {
+      return CompletableFuture.supplyAsync(
+              () -> {
+                final long start = System.currentTimeMillis();
+                final EthHashCacheFactory.EthHashDescriptor cache =
+                    cacheFactory.ethHashCacheFor(epoch * EthHash.EPOCH_LENGTH);
+                try {
+                  Files.createDirectories(datasetDirectory);
+                  // the previous epoch may still be in use while the next one is generated
+                  deleteDatasetsBefore(epoch - 1);
+                  final EthHashDataset dataset =
+                      EthHashDataset.loadOrGenerate(
+                          EthHashDataset.datasetFile(datasetDirectory, epoch),
+                          cache.getCache(),
+                          cache.getDatasetSize());
+                  LOG.info(
+                      "EthHash dataset for epoch {} ready after {} ms",
+                      epoch,
+                      System.currentTimeMillis() - start);
+                  return dataset;
+                } catch (final IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              },
+              generator)
+          .whenComplete(
+              (dataset, error) -> {
+                if (error != null) {
+                  LOG.warn(
+                      "Unable to create the EthHash dataset for epoch {}, using the light cache",
+                      epoch,
+                      error);
+                }
+              });
+    }
+
+    private void deleteDatasetsBefore(final long epoch) throws IOException {
+      try (final Stream<Path> files = Files.list(datasetDirectory)) {
+        files
+            .filter(
+                file -> {
+                  final String name = file.getFileName().toString();
+                  final Long fileEpoch =
+                      name.startsWith(EthHashDataset.FILE_PREFIX)
+                          ? Longs.tryParse(name.substring(EthHashDataset.FILE_PREFIX.length()))
+                          : null;
+                  return fileEpoch != null && fileEpoch < epoch;
+                })
+            .forEach(
+                file -> {
+                  try {
+                    Files.deleteIfExists(file);
+                  } catch (final IOException e) {
+                    LOG.debug("Unable to delete old EthHash dataset {}", file, e);
+                  }
+                });
+      }
+    }
+  }
 }
@@ -23,6 +23,8 @@ import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 
 import java.math.BigInteger;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -37,6 +39,10 @@ public final class ProofOfWorkValidationRule implements DetachedBlockHeaderValid
 
   static final EthHasher HASHER = new EthHasher.Light();
 
+  // headers are validated more than once during sync: when downloaded and again when imported
+  private static final Cache<Bytes, byte[]> ETHASH_RESULTS =
+      CacheBuilder.newBuilder().maximumSize(4096).build();
+
   private final boolean includeBaseFee;
 
   public ProofOfWorkValidationRule() {
@@ -59,9 +65,7 @@ public final class ProofOfWorkValidationRule implements DetachedBlockHeaderValid
       }
     }
 
-    final byte[] hashBuffer = new byte[64];
-    final Hash headerHash = hashHeader(header);
-    HASHER.hash(hashBuffer, header.getNonce(), header.getNumber(), headerHash.toArray());
+    final byte[] hashBuffer = ethHash(header);
 
     if (header.getDifficulty().isZero()) {
       LOG.trace("Rejecting header because difficulty is 0");
@@ -98,6 +102,19 @@ public final class ProofOfWorkValidationRule implements DetachedBlockHeaderValid
     return true;
   }
 
+  private byte[] ethHash(final BlockHeader header) {
+    final Hash headerHash = hashHeader(header);
+    final Bytes key = Bytes.concatenate(headerHash, Bytes.ofUnsignedLong(header.getNonce()));
+    final byte[] cached = ETHASH_RESULTS.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    final byte[] hashBuffer = new byte[64];
+    HASHER.hash(hashBuffer, header.getNonce(), header.getNumber(), headerHash.toArray());
+    ETHASH_RESULTS.put(key, hashBuffer);
+    return hashBuffer;
+  }
+
   Hash hashHeader(final BlockHeader header) {
     final BytesValueRLPOutput out = new BytesValueRLPOutput();
 
@@ -95,6 +95,9 @@ public class PrivateGroupRehydrationBlockProcessor {
     final PrivateMetadataUpdater metadataUpdater =
         new PrivateMetadataUpdater(blockHeader, privateStateStorage);
 
+    final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
+    final Address miningBeneficiary = miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
+
     for (final Transaction transaction : transactions) {
 
       final long remainingGasBudget = blockHeader.getGasLimit() - gasUsed;
@@ -107,9 +110,6 @@ public class PrivateGroupRehydrationBlockProcessor {
       }
 
       final WorldUpdater worldStateUpdater = worldState.updater();
-      final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
-      final Address miningBeneficiary =
-          miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
 
       final Hash transactionHash = transaction.getHash();
       if (forExecution.containsKey(transactionHash)) {
@@ -138,7 +138,7 @@ public class PrivateGroupRehydrationBlockProcessor {
                 privateTransaction,
                 miningBeneficiary,
                 OperationTracer.NO_TRACING,
-                new BlockHashLookup(blockHeader, blockchain),
+                blockHashLookup,
                 privateTransaction.getPrivacyGroupId().get());
 
         privateStateUpdater.commit();
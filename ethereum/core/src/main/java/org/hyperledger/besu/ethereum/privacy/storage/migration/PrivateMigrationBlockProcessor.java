@@ -80,6 +80,9 @@ public class PrivateMigrationBlockProcessor {
     long gasUsed = 0;
     final List<TransactionReceipt> receipts = new ArrayList<>();
 
+    final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
+    final Address miningBeneficiary = miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
+
     for (final Transaction transaction : transactions) {
       final long remainingGasBudget = blockHeader.getGasLimit() - gasUsed;
       if (Long.compareUnsigned(transaction.getGasLimit(), remainingGasBudget) > 0) {
@@ -91,9 +94,6 @@ public class PrivateMigrationBlockProcessor {
       }
 
       final WorldUpdater worldStateUpdater = worldState.updater();
-      final BlockHashLookup blockHashLookup = new BlockHashLookup(blockHeader, blockchain);
-      final Address miningBeneficiary =
-          miningBeneficiaryCalculator.calculateBeneficiary(blockHeader);
 
       final TransactionProcessor.Result result =
           transactionProcessor.processTransaction(
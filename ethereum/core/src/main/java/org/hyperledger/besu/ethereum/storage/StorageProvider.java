@@ -32,5 +32,7 @@ public interface StorageProvider extends Closeable {
 
   KeyValueStorage createPruningStorage();
 
+  KeyValueStorage createLogIndexStorage();
+
   boolean isWorldStateIterable();
 }
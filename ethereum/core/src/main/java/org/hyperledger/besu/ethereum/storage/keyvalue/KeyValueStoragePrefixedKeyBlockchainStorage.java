@@ -80,10 +80,15 @@ public class KeyValueStoragePrefixedKeyBlockchainStorage implements BlockchainSt
 
   @Override
   public Optional<BlockBody> getBlockBody(final Hash blockHash) {
-    return get(BLOCK_BODY_PREFIX, blockHash)
+    return getBlockBodyRlp(blockHash)
         .map(bytes -> BlockBody.readFrom(RLP.input(bytes), blockHeaderFunctions));
   }
 
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return get(BLOCK_BODY_PREFIX, blockHash);
+  }
+
   @Override
   public Optional<List<TransactionReceipt>> getTransactionReceipts(final Hash blockHash) {
     return get(TRANSACTION_RECEIPTS_PREFIX, blockHash).map(this::rlpDecodeTransactionReceipts);
@@ -30,6 +30,7 @@ public class KeyValueStorageProvider implements StorageProvider {
   private final KeyValueStorage worldStateStorage;
   private final KeyValueStorage worldStatePreimageStorage;
   private final KeyValueStorage pruningStorage;
+  private final KeyValueStorage logIndexStorage;
   private final boolean isWorldStateIterable;
 
   public KeyValueStorageProvider(
@@ -37,11 +38,13 @@ public class KeyValueStorageProvider implements StorageProvider {
       final KeyValueStorage worldStateStorage,
       final KeyValueStorage worldStatePreimageStorage,
       final KeyValueStorage pruningStorage,
+      final KeyValueStorage logIndexStorage,
       final boolean isWorldStateIterable) {
     this.blockchainStorage = blockchainStorage;
     this.worldStateStorage = worldStateStorage;
     this.worldStatePreimageStorage = worldStatePreimageStorage;
     this.pruningStorage = pruningStorage;
+    this.logIndexStorage = logIndexStorage;
     this.isWorldStateIterable = isWorldStateIterable;
   }
 
@@ -66,6 +69,11 @@ public class KeyValueStorageProvider implements StorageProvider {
     return pruningStorage;
   }
 
+  @Override
+  public KeyValueStorage createLogIndexStorage() {
+    return logIndexStorage;
+  }
+
   @Override
   public boolean isWorldStateIterable() {
     return isWorldStateIterable;
@@ -76,5 +84,6 @@ public class KeyValueStorageProvider implements StorageProvider {
     blockchainStorage.close();
     worldStateStorage.close();
     pruningStorage.close();
+    logIndexStorage.close();
   }
 }
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.storage.keyvalue;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.BLOCKCHAIN;
+import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.LOG_INDEX;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.PRUNING_STATE;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.WORLD_STATE;
 
@@ -65,6 +66,7 @@ public class KeyValueStorageProviderBuilder {
         storageFactory.create(WORLD_STATE, commonConfiguration, metricsSystem),
         worldStatePreImageStorage,
         storageFactory.create(PRUNING_STATE, commonConfiguration, metricsSystem),
+        storageFactory.create(LOG_INDEX, commonConfiguration, metricsSystem),
         storageFactory.isSegmentIsolationSupported());
   }
 }
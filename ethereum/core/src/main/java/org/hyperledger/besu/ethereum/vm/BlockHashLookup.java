@@ -15,12 +15,12 @@
 package org.hyperledger.besu.ethereum.vm;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.vm.operations.BlockHashOperation;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Calculates and caches block hashes by number following the chain for a specific branch. This is
@@ -28,31 +28,84 @@ import java.util.Map;
  * the block being imported is on a fork.
  *
  * <p>A new BlockHashCache must be created for each block being processed but should be reused for
- * all transactions within that block.
+ * all transactions within that block. When processing consecutive blocks, the lookup of a block can
+ * be created from the lookup of its parent with {@link #forBlock(ProcessableBlockHeader,
+ * Blockchain)}, so that the hashes already found are not looked up again.
+ *
+ * <p>Only the hashes of the 256 most recent ancestors, which are the ones the BLOCKHASH operation
+ * can read, are cached. They are kept in a ring indexed by block number.
  */
 public class BlockHashLookup {
 
-  private ProcessableBlockHeader searchStartHeader;
+  private static final int CACHED_ANCESTORS = 256;
+  private static final int SLOT_MASK = CACHED_ANCESTORS - 1;
+
+  private final ProcessableBlockHeader currentBlock;
   private final Blockchain blockchain;
-  private final Map<Long, Hash> hashByNumber = new HashMap<>();
+  private final Hash[] hashes = new Hash[CACHED_ANCESTORS];
+  // the hashes of all blocks from this number up to the parent of the current block are cached
+  private volatile long lowestCachedNumber;
 
   public BlockHashLookup(final ProcessableBlockHeader currentBlock, final Blockchain blockchain) {
-    this.searchStartHeader = currentBlock;
+    this.currentBlock = currentBlock;
     this.blockchain = blockchain;
-    hashByNumber.put(currentBlock.getNumber() - 1, currentBlock.getParentHash());
+    lowestCachedNumber = currentBlock.getNumber() - 1;
+    hashes[slot(lowestCachedNumber)] = currentBlock.getParentHash();
+  }
+
+  /**
+   * Creates the lookup for another block. If that block is a child of the current block, the hashes
+   * this lookup has already found are shared with the new lookup.
+   *
+   * @param block the block to create a lookup for
+   * @param blockchain the blockchain to look up the ancestors of the block in
+   * @return the lookup for the block
+   */
+  public BlockHashLookup forBlock(final ProcessableBlockHeader block, final Blockchain blockchain) {
+    final BlockHashLookup lookup = new BlockHashLookup(block, blockchain);
+    if (isParentOf(block)) {
+      final long lowestSharedNumber =
+          Math.max(lowestCachedNumber, block.getNumber() - CACHED_ANCESTORS);
+      for (long number = lowestSharedNumber; number < currentBlock.getNumber(); number++) {
+        lookup.hashes[slot(number)] = hashes[slot(number)];
+      }
+      lookup.lowestCachedNumber = lowestSharedNumber;
+    }
+    return lookup;
   }
 
   public Hash getBlockHash(final long blockNumber) {
-    final Hash cachedHash = hashByNumber.get(blockNumber);
-    if (cachedHash != null) {
-      return cachedHash;
+    if (blockNumber < 0 || blockNumber >= currentBlock.getNumber()) {
+      return Hash.ZERO;
     }
-    while (searchStartHeader != null && searchStartHeader.getNumber() - 1 > blockNumber) {
-      searchStartHeader = blockchain.getBlockHeader(searchStartHeader.getParentHash()).orElse(null);
-      if (searchStartHeader != null) {
-        hashByNumber.put(searchStartHeader.getNumber() - 1, searchStartHeader.getParentHash());
+    long number = lowestCachedNumber;
+    if (blockNumber >= number) {
+      return hashes[slot(blockNumber)];
+    }
+    // walk back from the lowest cached block, following parent hashes
+    Hash hash = hashes[slot(number)];
+    while (number > blockNumber) {
+      final Optional<BlockHeader> header = blockchain.getBlockHeader(hash);
+      if (header.isEmpty()) {
+        return Hash.ZERO;
+      }
+      hash = header.get().getParentHash();
+      number--;
+      if (number >= currentBlock.getNumber() - CACHED_ANCESTORS) {
+        hashes[slot(number)] = hash;
+        lowestCachedNumber = number;
       }
     }
-    return hashByNumber.getOrDefault(blockNumber, Hash.ZERO);
+    return hash;
+  }
+
+  private boolean isParentOf(final ProcessableBlockHeader block) {
+    return currentBlock instanceof BlockHeader
+        && block.getNumber() == currentBlock.getNumber() + 1
+        && ((BlockHeader) currentBlock).getHash().equals(block.getParentHash());
+  }
+
+  private static int slot(final long blockNumber) {
+    return (int) blockNumber & SLOT_MASK;
   }
 }
@@ -87,6 +87,11 @@ public class InMemoryStorageProvider implements StorageProvider {
     return new InMemoryKeyValueStorage();
   }
 
+  @Override
+  public KeyValueStorage createLogIndexStorage() {
+    return new InMemoryKeyValueStorage();
+  }
+
   @Override
   public boolean isWorldStateIterable() {
     return true;
@@ -0,0 +1,62 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class BlockBodyTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator(1);
+  private final BlockBody body =
+      new BlockBody(
+          Arrays.asList(gen.transaction(), gen.transaction(), gen.transaction()),
+          Arrays.asList(gen.header(), gen.header()));
+  private final Bytes encoded = RLP.encode(body::writeTo);
+
+  @Test
+  public void readsTransactionCountWithoutDecodingTransactions() {
+    assertThat(BlockBody.readTransactionCount(RLP.input(encoded))).isEqualTo(3);
+    assertThat(BlockBody.readTransactionCount(RLP.input(RLP.encode(BlockBody.empty()::writeTo))))
+        .isZero();
+  }
+
+  @Test
+  public void readsOmmerCountWithoutDecodingOmmers() {
+    assertThat(BlockBody.readOmmerCount(RLP.input(encoded))).isEqualTo(2);
+    assertThat(BlockBody.readOmmerCount(RLP.input(RLP.encode(BlockBody.empty()::writeTo))))
+        .isZero();
+  }
+
+  @Test
+  public void decodedTransactionsHaveTheHashOfTheirEncoding() {
+    final List<Transaction> decoded =
+        BlockBody.readFrom(RLP.input(encoded), new MainnetBlockHeaderFunctions()).getTransactions();
+
+    for (int i = 0; i < decoded.size(); i++) {
+      final Transaction transaction = decoded.get(i);
+      assertThat(transaction.getHash()).isEqualTo(body.getTransactions().get(i).getHash());
+      assertThat(transaction.getHash()).isEqualTo(Hash.hash(RLP.encode(transaction::writeTo)));
+    }
+  }
+}
@@ -69,4 +69,23 @@ public class TransactionIntegrationTest {
     assertThat(transaction.getTo())
         .contains(Address.fromHexString("0xd30c3d13b07029deba00de1da369cd69a02c2056"));
   }
+
+  @Test
+  public void shouldHashTransactionFromTheBytesItWasDecodedFrom() {
+    final Bytes encoded =
+        Bytes.fromHexString(
+            "0xf86a018609184e72a0008276c094d30c3d13b07029deba00de1da369cd69a02c20560180850100000021a07d344f26d7329e8932d2878b99f07b12752bbd13a0b3b822644dbf9600fe718da01d6e6b6c66e1aadf4e33e318a7eef03d3bd3602de52662f0cb5af5b372d44dcd");
+    final BytesValueRLPOutput list = new BytesValueRLPOutput();
+    list.startList();
+    list.writeRLPUnsafe(encoded);
+    list.writeLongScalar(1L);
+    list.endList();
+
+    final RLPInput input = RLP.input(list.encoded());
+    input.enterList();
+    final Transaction transaction = Transaction.readFrom(input);
+
+    assertThat(transaction.getHash()).isEqualTo(Hash.hash(encoded));
+    assertThat(input.readLongScalar()).isEqualTo(1L);
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EthHashDatasetTest {
+
+  // small enough to generate in a unit test, real sizes are in the order of gigabytes
+  private static final int CACHE_SIZE = 31 * EthHash.HASH_BYTES;
+  private static final long DATASET_SIZE = 67 * 128;
+  private static final int[] CACHE = EthHash.mkCache(CACHE_SIZE, 0);
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void generatedDatasetMatchesItemsComputedFromCache() throws Exception {
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(datasetFile(), CACHE, DATASET_SIZE);
+
+    final byte[] expected = new byte[EthHash.HASH_BYTES];
+    final byte[] actual = new byte[EthHash.HASH_BYTES];
+    for (int index = 0; index < DATASET_SIZE / EthHash.HASH_BYTES; index++) {
+      EthHash.calcDatasetItem(expected, CACHE, index);
+      dataset.lookup(actual, index);
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void hashimotoOverDatasetMatchesHashimotoLight() throws Exception {
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(datasetFile(), CACHE, DATASET_SIZE);
+    final byte[] header = new byte[32];
+
+    for (long nonce = 0; nonce < 10; nonce++) {
+      assertThat(EthHash.hashimoto(header, DATASET_SIZE, nonce, dataset::lookup))
+          .isEqualTo(EthHash.hashimotoLight(DATASET_SIZE, CACHE, header, nonce));
+    }
+  }
+
+  @Test
+  public void existingDatasetIsReused() throws Exception {
+    final Path file = datasetFile();
+    EthHashDataset.generate(file, CACHE, DATASET_SIZE);
+    final FileTime generatedAt = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(file, generatedAt);
+
+    EthHashDataset.loadOrGenerate(file, CACHE, DATASET_SIZE);
+
+    assertThat(Files.getLastModifiedTime(file)).isEqualTo(generatedAt);
+  }
+
+  @Test
+  public void inconsistentDatasetIsRegenerated() throws Exception {
+    final Path file = datasetFile();
+    Files.write(file, new byte[(int) DATASET_SIZE]);
+
+    final EthHashDataset dataset = EthHashDataset.loadOrGenerate(file, CACHE, DATASET_SIZE);
+
+    final byte[] expected = new byte[EthHash.HASH_BYTES];
+    final byte[] actual = new byte[EthHash.HASH_BYTES];
+    EthHash.calcDatasetItem(expected, CACHE, 1);
+    dataset.lookup(actual, 1);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  private Path datasetFile() {
+    return EthHashDataset.datasetFile(folder.getRoot().toPath(), 0);
+  }
+}
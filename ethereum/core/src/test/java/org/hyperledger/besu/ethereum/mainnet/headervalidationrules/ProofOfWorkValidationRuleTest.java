@@ -124,6 +124,26 @@ public class ProofOfWorkValidationRuleTest {
     assertThat(validationRule.validate(header, parentHeader)).isFalse();
   }
 
+  @Test
+  public void revalidatingUsesTheSameResult() {
+    assertThat(validationRule.validate(blockHeader, parentHeader)).isTrue();
+    assertThat(validationRule.validate(blockHeader, parentHeader)).isTrue();
+  }
+
+  @Test
+  public void failsWithMisMatchedMixHashAfterValidHeaderWasValidated() {
+    assertThat(validationRule.validate(blockHeader, parentHeader)).isTrue();
+
+    final Hash updateMixHash =
+        Hash.wrap(UInt256.fromBytes(blockHeader.getMixHash()).subtract(1L).toBytes());
+    final BlockHeader header =
+        BlockHeaderBuilder.fromHeader(blockHeader)
+            .mixHash(updateMixHash)
+            .blockHeaderFunctions(mainnetBlockHashFunction())
+            .buildBlockHeader();
+    assertThat(validationRule.validate(header, parentHeader)).isFalse();
+  }
+
   @Test
   public void failsWithMisMatchedNonce() {
     final long updatedNonce = blockHeader.getNonce() + 1;
@@ -14,9 +14,11 @@
  */
 package org.hyperledger.besu.ethereum.vm;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -109,6 +111,32 @@ public class BlockHashLookupTest {
     verifyNoMoreInteractions(blockchain);
   }
 
+  @Test
+  public void shouldShareCachedHashesWithLookupOfChildBlock() {
+    final BlockHeader parent = headers[CURRENT_BLOCK_NUMBER - 1];
+    final BlockHashLookup parentLookup = new BlockHashLookup(parent, blockchain);
+    Assertions.assertThat(parentLookup.getBlockHash(10)).isEqualTo(headers[10].getHash());
+    verify(blockchain, times(CURRENT_BLOCK_NUMBER - 12)).getBlockHeader(any(Hash.class));
+
+    final BlockHashLookup childLookup =
+        parentLookup.forBlock(createHeader(CURRENT_BLOCK_NUMBER, parent), blockchain);
+    for (int blockNumber = 10; blockNumber < CURRENT_BLOCK_NUMBER; blockNumber++) {
+      Assertions.assertThat(childLookup.getBlockHash(blockNumber))
+          .isEqualTo(headers[blockNumber].getHash());
+    }
+    verifyNoMoreInteractions(blockchain);
+  }
+
+  @Test
+  public void shouldNotShareCachedHashesWithLookupOfUnrelatedBlock() {
+    final BlockHashLookup otherLookup =
+        new BlockHashLookup(headers[CURRENT_BLOCK_NUMBER - 1], blockchain)
+            .forBlock(
+                new BlockHeaderTestFixture().number(CURRENT_BLOCK_NUMBER).buildHeader(),
+                blockchain);
+    Assertions.assertThat(otherLookup.getBlockHash(CURRENT_BLOCK_NUMBER - 2)).isEqualTo(Hash.ZERO);
+  }
+
   private void assertHashForBlockNumber(final int blockNumber) {
     Assertions.assertThat(lookup.getBlockHash(blockNumber))
         .isEqualTo(headers[blockNumber].getHash());
@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions.TransactionSelectionResult;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how fast transactions can be added to the pool while block creation repeatedly selects
+ * from it. Each evaluation burns some CPU to stand in for executing the transaction.
+ */
+@State(Scope.Group)
+public class PendingTransactionsBenchmark {
+
+  // one transaction per sender, so selection evaluates every pending transaction
+  private static final int SENDERS = 8192;
+
+  @Param({"4096"})
+  public int maxPendingTransactions;
+
+  @Param({"500"})
+  public long evaluationCost;
+
+  private Transaction[] transactions;
+  private PendingTransactions pendingTransactions;
+
+  @Setup(Level.Trial)
+  public void createTransactions() {
+    final BlockHeader chainHead = new BlockHeaderTestFixture().buildHeader();
+    pendingTransactions =
+        new PendingTransactions(
+            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+            maxPendingTransactions,
+            maxPendingTransactions,
+            Clock.systemUTC(),
+            new NoOpMetricsSystem(),
+            () -> chainHead,
+            Optional.empty(),
+            TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
+
+    transactions = new Transaction[SENDERS];
+    for (int sender = 0; sender < SENDERS; sender++) {
+      final Transaction transaction =
+          new TransactionTestFixture()
+              .nonce(0)
+              .gasPrice(Wei.of(1 + sender % 10))
+              .createTransaction(KeyPair.generate());
+      // recover the sender up front, as transaction validation does before the pool sees it
+      transaction.getSender();
+      transactions[sender] = transaction;
+    }
+  }
+
+  @Benchmark
+  @Group("addWhileSelecting")
+  @GroupThreads(3)
+  public boolean addRemoteTransaction() {
+    final Transaction transaction =
+        transactions[ThreadLocalRandom.current().nextInt(transactions.length)];
+    return pendingTransactions.addRemoteTransaction(transaction, 0);
+  }
+
+  @Benchmark
+  @Group("addWhileSelecting")
+  @GroupThreads(1)
+  public void selectTransactions() {
+    pendingTransactions.selectTransactions(
+        transaction -> {
+          Blackhole.consumeCPU(evaluationCost);
+          return TransactionSelectionResult.CONTINUE;
+        });
+  }
+}
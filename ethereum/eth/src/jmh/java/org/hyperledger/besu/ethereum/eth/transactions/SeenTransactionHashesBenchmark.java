@@ -0,0 +1,109 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Simulates a transaction flood: every new transaction is marked as seen by, and checked against,
+ * each connected peer. Compares the compact per-peer {@link SeenTransactionHashes} against the
+ * access ordered hash sets the peer transaction trackers used before. Run with {@code -prof gc} to
+ * compare allocation rates; the retained size per peer is about 10,000 hashes at over 100 bytes
+ * each for the sets, against two fixed tables of 16,384 longs for the compact tracker.
+ */
+@State(Scope.Thread)
+public class SeenTransactionHashesBenchmark {
+
+  private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
+  private static final int FLOOD_SIZE = 1 << 16;
+
+  @Param({"100"})
+  public int peers;
+
+  private Hash[] flood;
+  private SeenTransactionHashes[] compact;
+  private Set<Hash>[] linkedSets;
+  private int next;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    flood = new Hash[FLOOD_SIZE];
+    for (int i = 0; i < FLOOD_SIZE; i++) {
+      flood[i] = Hash.wrap(Bytes32.random());
+    }
+    compact = new SeenTransactionHashes[peers];
+    linkedSets = new Set[peers];
+    for (int i = 0; i < peers; i++) {
+      compact[i] = SeenTransactionHashes.withMaxTracked(MAX_TRACKED_SEEN_TRANSACTIONS);
+      linkedSets[i] = createLinkedSet();
+    }
+  }
+
+  @Benchmark
+  public int compactTracker() {
+    final Hash hash = nextHash();
+    int unseen = 0;
+    for (final SeenTransactionHashes seen : compact) {
+      if (!seen.contains(hash)) {
+        seen.add(hash);
+        unseen++;
+      }
+    }
+    return unseen;
+  }
+
+  @Benchmark
+  public int linkedHashSetTracker() {
+    final Hash hash = nextHash();
+    int unseen = 0;
+    for (final Set<Hash> seen : linkedSets) {
+      if (!seen.contains(hash)) {
+        seen.add(hash);
+        unseen++;
+      }
+    }
+    return unseen;
+  }
+
+  private Hash nextHash() {
+    final Hash hash = flood[next];
+    next = (next + 1) & (FLOOD_SIZE - 1);
+    return hash;
+  }
+
+  private static Set<Hash> createLinkedSet() {
+    return Collections.newSetFromMap(
+        new LinkedHashMap<Hash, Boolean>(1 << 4, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Hash, Boolean> eldest) {
+            return size() > MAX_TRACKED_SEEN_TRANSACTIONS;
+          }
+        });
+  }
+}
@@ -18,6 +18,7 @@ import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV65;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
 
 import java.util.ArrayList;
@@ -140,6 +141,21 @@ public class EthProtocol implements SubProtocol {
     }
   }
 
+  @Override
+  public MessagePriority messagePriority(final int protocolVersion, final int code) {
+    switch (code) {
+      case EthPV62.STATUS:
+      case EthPV62.NEW_BLOCK_HASHES:
+      case EthPV62.NEW_BLOCK:
+        return MessagePriority.HIGH;
+      case EthPV62.TRANSACTIONS:
+      case EthPV65.NEW_POOLED_TRANSACTION_HASHES:
+        return MessagePriority.LOW;
+      default:
+        return MessagePriority.NORMAL;
+    }
+  }
+
   public static EthProtocol get() {
     return INSTANCE;
   }
@@ -127,6 +127,16 @@ public class EthPeer {
     return connection.isDisconnected();
   }
 
+  /**
+   * Whether the connection to this peer has room for more outbound messages. Senders of messages
+   * that can be deferred, such as transaction announcements, should skip peers that are not.
+   *
+   * @return true if the connection's outbound queue is below its high water mark
+   */
+  public boolean isWritable() {
+    return connection.isWritable();
+  }
+
   public long addChainEstimatedHeightListener(final ChainState.EstimatedHeightListener listener) {
     return chainHeadState.addEstimatedHeightListener(listener);
   }
@@ -15,7 +15,6 @@
 package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
-import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -216,20 +215,21 @@ class EthServer {
     final GetBlockBodiesMessage getBlockBodiesMessage = GetBlockBodiesMessage.readFrom(message);
     final Iterable<Hash> hashes = getBlockBodiesMessage.hashes();
 
-    final Collection<BlockBody> bodies = new ArrayList<>();
+    // Bodies are sent as stored, without decoding them
+    final Collection<Bytes> bodies = new ArrayList<>();
     int count = 0;
     for (final Hash hash : hashes) {
       if (count >= requestLimit) {
         break;
       }
       count++;
-      final Optional<BlockBody> maybeBody = blockchain.getBlockBody(hash);
+      final Optional<Bytes> maybeBody = blockchain.getBlockBodyRlp(hash);
       if (!maybeBody.isPresent()) {
         continue;
       }
       bodies.add(maybeBody.get());
     }
-    return BlockBodiesMessage.create(bodies);
+    return BlockBodiesMessage.createFromEncoded(bodies);
   }
 
   static MessageData constructGetReceiptsResponse(
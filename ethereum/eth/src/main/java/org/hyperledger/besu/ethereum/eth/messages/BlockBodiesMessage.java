@@ -49,6 +49,21 @@ public final class BlockBodiesMessage extends AbstractMessageData {
     return new BlockBodiesMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from block bodies that are already RLP encoded, such as bodies read from
+   * storage, so that they are sent without being decoded and encoded again.
+   *
+   * @param encodedBodies the RLP encoded block bodies
+   * @return the message
+   */
+  public static BlockBodiesMessage createFromEncoded(final Iterable<Bytes> encodedBodies) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedBodies.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new BlockBodiesMessage(tmp.encoded());
+  }
+
   private BlockBodiesMessage(final Bytes data) {
     super(data);
   }
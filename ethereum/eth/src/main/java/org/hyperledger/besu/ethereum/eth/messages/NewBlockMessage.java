@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.eth.messages;
 
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -35,6 +36,10 @@ public class NewBlockMessage extends AbstractMessageData {
 
   private NewBlockMessageData messageFields = null;
 
+  // Decoded on their own, so that blocks we already have or do not want are never fully decoded
+  private BlockHeader header = null;
+  private Difficulty totalDifficulty = null;
+
   private NewBlockMessage(final Bytes data) {
     super(data);
   }
@@ -67,8 +72,37 @@ public class NewBlockMessage extends AbstractMessageData {
     return messageFields(protocolSchedule).block();
   }
 
+  /**
+   * Returns the header of the block, without decoding the block's transactions and ommers.
+   *
+   * @param protocolSchedule the protocol schedule
+   * @return the header of the block
+   */
+  public BlockHeader header(final ProtocolSchedule protocolSchedule) {
+    if (messageFields != null) {
+      return messageFields.block().getHeader();
+    }
+    if (header == null) {
+      final RLPInput input = RLP.input(data);
+      input.enterList();
+      input.enterList();
+      header =
+          BlockHeader.readFrom(input, ScheduleBasedBlockHeaderFunctions.create(protocolSchedule));
+    }
+    return header;
+  }
+
   public Difficulty totalDifficulty(final ProtocolSchedule protocolSchedule) {
-    return messageFields(protocolSchedule).totalDifficulty();
+    if (messageFields != null) {
+      return messageFields.totalDifficulty();
+    }
+    if (totalDifficulty == null) {
+      final RLPInput input = RLP.input(data);
+      input.enterList();
+      input.skipNext();
+      totalDifficulty = Difficulty.of(input.readUInt256Scalar());
+    }
+    return totalDifficulty;
   }
 
   private NewBlockMessageData messageFields(final ProtocolSchedule protocolSchedule) {
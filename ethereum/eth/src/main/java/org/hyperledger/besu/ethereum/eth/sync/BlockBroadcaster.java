@@ -17,22 +17,72 @@ package org.hyperledger.besu.ethereum.eth.sync;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
+import org.hyperledger.besu.ethereum.eth.messages.NewBlockHashesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.NewBlockHashesMessage.NewBlockHash;
 import org.hyperledger.besu.ethereum.eth.messages.NewBlockMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.Subscribers;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Propagates new blocks to peers.
+ *
+ * <p>The full block is only sent to the square root of the number of peers that have not seen it,
+ * picking the peers with the best chains. The others are sent an announcement of the block hash and
+ * fetch the block from whichever peer they prefer. This spares most of the upload bandwidth of
+ * sending a copy of the block to every peer, while the block still reaches the whole network in few
+ * hops.
+ */
 public class BlockBroadcaster {
   private static final Logger LOG = LogManager.getLogger();
 
   private final EthContext ethContext;
   private final Subscribers<BlockPropagatedSubscriber> blockPropagatedSubscribers =
       Subscribers.create();
+  private final Counter fullBlockMessages;
+  private final Counter blockHashesMessages;
+  private final Counter bytesSent;
+  private final OperationTimer timeToFirstSend;
 
   public BlockBroadcaster(final EthContext ethContext) {
+    this(ethContext, new NoOpMetricsSystem());
+  }
+
+  public BlockBroadcaster(final EthContext ethContext, final MetricsSystem metricsSystem) {
     this.ethContext = ethContext;
+    final LabelledMetric<Counter> messages =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "block_propagation_messages_total",
+            "Count of messages sent to propagate new blocks, by message",
+            "message");
+    fullBlockMessages = messages.labels("NewBlock");
+    blockHashesMessages = messages.labels("NewBlockHashes");
+    bytesSent =
+        metricsSystem.createCounter(
+            BesuMetricCategory.NETWORK,
+            "block_propagation_bytes_total",
+            "Total size of the messages sent to propagate new blocks");
+    timeToFirstSend =
+        metricsSystem.createTimer(
+            BesuMetricCategory.NETWORK,
+            "block_propagation_time_to_first_send_seconds",
+            "Time from when a block is propagated until it has been sent to the first peer");
   }
 
   public long subscribePropagateNewBlocks(final BlockPropagatedSubscriber callback) {
@@ -44,21 +94,55 @@ public class BlockBroadcaster {
   }
 
   public void propagate(final Block block, final Difficulty totalDifficulty) {
+    final OperationTimer.TimingContext timingContext = timeToFirstSend.startTimer();
     blockPropagatedSubscribers.forEach(listener -> listener.accept(block, totalDifficulty));
+    final List<EthPeer> peers =
+        ethContext
+            .getEthPeers()
+            .streamAvailablePeers()
+            .filter(ethPeer -> !ethPeer.hasSeenBlock(block.getHash()))
+            .sorted(EthPeers.BEST_CHAIN.reversed())
+            .collect(Collectors.toList());
+    if (peers.isEmpty()) {
+      return;
+    }
+    final int fullBlockPeers = (int) Math.sqrt(peers.size());
     final NewBlockMessage newBlockMessage = NewBlockMessage.create(block, totalDifficulty);
-    ethContext
-        .getEthPeers()
-        .streamAvailablePeers()
-        .filter(ethPeer -> !ethPeer.hasSeenBlock(block.getHash()))
-        .forEach(
-            ethPeer -> {
-              ethPeer.registerKnownBlock(block.getHash());
-              try {
-                ethPeer.send(newBlockMessage);
-              } catch (final PeerConnection.PeerNotConnected e) {
-                LOG.trace("Failed to broadcast new block to peer", e);
-              }
-            });
+    boolean sentToFirstPeer = false;
+    for (final EthPeer ethPeer : peers.subList(0, fullBlockPeers)) {
+      if (send(ethPeer, block, newBlockMessage)) {
+        if (!sentToFirstPeer) {
+          timingContext.stopTimer();
+          sentToFirstPeer = true;
+        }
+        fullBlockMessages.inc();
+      }
+    }
+    final List<EthPeer> announcementPeers = peers.subList(fullBlockPeers, peers.size());
+    if (announcementPeers.isEmpty()) {
+      return;
+    }
+    final NewBlockHashesMessage newBlockHashesMessage =
+        NewBlockHashesMessage.create(
+            Collections.singletonList(
+                new NewBlockHash(block.getHash(), block.getHeader().getNumber())));
+    for (final EthPeer ethPeer : announcementPeers) {
+      if (send(ethPeer, block, newBlockHashesMessage)) {
+        blockHashesMessages.inc();
+      }
+    }
+  }
+
+  private boolean send(final EthPeer ethPeer, final Block block, final MessageData message) {
+    ethPeer.registerKnownBlock(block.getHash());
+    try {
+      ethPeer.send(message);
+      bytesSent.inc(message.getSize());
+      return true;
+    } catch (final PeerConnection.PeerNotConnected e) {
+      LOG.trace("Failed to broadcast new block to peer", e);
+      return false;
+    }
   }
 
   @FunctionalInterface
@@ -155,26 +155,26 @@ public class BlockPropagationManager {
     final Blockchain blockchain = protocolContext.getBlockchain();
     final NewBlockMessage newBlockMessage = NewBlockMessage.readFrom(message.getData());
     try {
-      final Block block = newBlockMessage.block(protocolSchedule);
+      // The transactions and ommers are only decoded if the block is imported
+      final BlockHeader header = newBlockMessage.header(protocolSchedule);
       final Difficulty totalDifficulty = newBlockMessage.totalDifficulty(protocolSchedule);
 
-      message.getPeer().chainState().updateForAnnouncedBlock(block.getHeader(), totalDifficulty);
+      message.getPeer().chainState().updateForAnnouncedBlock(header, totalDifficulty);
 
       // Return early if we don't care about this block
       final long localChainHeight = protocolContext.getBlockchain().getChainHeadBlockNumber();
       final long bestChainHeight = syncState.bestChainHeight(localChainHeight);
-      if (!shouldImportBlockAtHeight(
-          block.getHeader().getNumber(), localChainHeight, bestChainHeight)) {
+      if (!shouldImportBlockAtHeight(header.getNumber(), localChainHeight, bestChainHeight)) {
         return;
       }
-      if (pendingBlocks.contains(block.getHash())) {
+      if (pendingBlocks.contains(header.getHash())) {
         return;
       }
-      if (blockchain.contains(block.getHash())) {
+      if (blockchain.contains(header.getHash())) {
         return;
       }
 
-      importOrSavePendingBlock(block);
+      importOrSavePendingBlock(newBlockMessage.block(protocolSchedule));
     } catch (final RLPException e) {
       LOG.debug(
           "Malformed NEW_BLOCK message received from peer, disconnecting: {}",
@@ -29,11 +29,13 @@ import org.hyperledger.besu.ethereum.eth.manager.task.GetHeadersFromPeerByHashTa
 import org.hyperledger.besu.ethereum.eth.sync.ValidationPolicy;
 import org.hyperledger.besu.ethereum.eth.sync.tasks.exceptions.InvalidBlockException;
 import org.hyperledger.besu.ethereum.mainnet.BlockHeaderValidator;
+import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -178,45 +180,76 @@ public class DownloadHeaderSequenceTask extends AbstractRetryingPeerTask<List<Bl
     return executeWorkerSubTask(
         ethContext.getScheduler(),
         () -> {
-          final CompletableFuture<List<BlockHeader>> future = new CompletableFuture<>();
+          final List<BlockHeader> receivedHeaders = new ArrayList<>();
+          final List<BlockHeader> children = new ArrayList<>();
+          final List<CompletableFuture<Boolean>> validations = new ArrayList<>();
           BlockHeader child = null;
           boolean firstSkipped = false;
-          final int previousHeaderIndex = lastFilledHeaderIndex;
           for (final BlockHeader header : headersResult.getResult()) {
-            final int headerIndex =
-                Ints.checkedCast(
-                    segmentLength - (referenceHeader.getNumber() - header.getNumber()));
             if (!firstSkipped) {
               // Skip over reference header
               firstSkipped = true;
               continue;
             }
             if (child == null) {
+              final int headerIndex = headerIndex(header);
               child =
                   (headerIndex == segmentLength - 1) ? referenceHeader : headers[headerIndex + 1];
             }
-
-            if (!validateHeader(child, header)) {
-              // Invalid headers - disconnect from peer
-              LOG.debug(
-                  "Received invalid headers from peer, disconnecting from: {}",
-                  headersResult.getPeer());
-              headersResult.getPeer().disconnect(DisconnectReason.BREACH_OF_PROTOCOL);
-              future.completeExceptionally(
-                  new InvalidBlockException(
-                      "Header failed validation.", child.getNumber(), child.getHash()));
-              return future;
-            }
-            headers[headerIndex] = header;
-            lastFilledHeaderIndex = headerIndex;
+            // each header is validated against the one received before it, so all of them can be
+            // validated at once, which matters for expensive rules like proof of work
+            final BlockHeader validatedChild = child;
+            final HeaderValidationMode validationMode =
+                validationPolicy.getValidationModeForNextBlock();
+            validations.add(
+                ethContext
+                    .getScheduler()
+                    .scheduleComputationTask(
+                        () -> validateHeader(validatedChild, header, validationMode)));
+            receivedHeaders.add(header);
+            children.add(child);
             child = header;
           }
-          future.complete(asList(headers).subList(lastFilledHeaderIndex, previousHeaderIndex));
-          return future;
+          return CompletableFuture.allOf(validations.toArray(CompletableFuture[]::new))
+              .thenCompose(
+                  ignored -> fillHeaders(headersResult, receivedHeaders, children, validations));
         });
   }
 
-  private boolean validateHeader(final BlockHeader child, final BlockHeader header) {
+  private CompletableFuture<List<BlockHeader>> fillHeaders(
+      final PeerTaskResult<List<BlockHeader>> headersResult,
+      final List<BlockHeader> receivedHeaders,
+      final List<BlockHeader> children,
+      final List<CompletableFuture<Boolean>> validations) {
+    final CompletableFuture<List<BlockHeader>> future = new CompletableFuture<>();
+    final int previousHeaderIndex = lastFilledHeaderIndex;
+    for (int i = 0; i < receivedHeaders.size(); i++) {
+      final BlockHeader header = receivedHeaders.get(i);
+      final BlockHeader child = children.get(i);
+      if (!validations.get(i).join()) {
+        // Invalid headers - disconnect from peer
+        LOG.debug(
+            "Received invalid headers from peer, disconnecting from: {}", headersResult.getPeer());
+        headersResult.getPeer().disconnect(DisconnectReason.BREACH_OF_PROTOCOL);
+        future.completeExceptionally(
+            new InvalidBlockException(
+                "Header failed validation.", child.getNumber(), child.getHash()));
+        return future;
+      }
+      final int headerIndex = headerIndex(header);
+      headers[headerIndex] = header;
+      lastFilledHeaderIndex = headerIndex;
+    }
+    future.complete(asList(headers).subList(lastFilledHeaderIndex, previousHeaderIndex));
+    return future;
+  }
+
+  private int headerIndex(final BlockHeader header) {
+    return Ints.checkedCast(segmentLength - (referenceHeader.getNumber() - header.getNumber()));
+  }
+
+  private boolean validateHeader(
+      final BlockHeader child, final BlockHeader header, final HeaderValidationMode mode) {
     final long finalBlockNumber = startingBlockNumber + segmentLength;
     final boolean blockInRange =
         header.getNumber() >= startingBlockNumber && header.getNumber() < finalBlockNumber;
@@ -229,7 +262,6 @@ public class DownloadHeaderSequenceTask extends AbstractRetryingPeerTask<List<Bl
 
     final ProtocolSpec protocolSpec = protocolSchedule.getByBlockNumber(child.getNumber());
     final BlockHeaderValidator blockHeaderValidator = protocolSpec.getBlockHeaderValidator();
-    return blockHeaderValidator.validateHeader(
-        child, header, protocolContext, validationPolicy.getValidationModeForNextBlock());
+    return blockHeaderValidator.validateHeader(child, header, protocolContext, mode);
   }
 }
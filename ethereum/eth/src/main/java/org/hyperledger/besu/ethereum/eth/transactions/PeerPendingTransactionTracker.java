@@ -30,7 +30,7 @@ import java.util.stream.Collectors;
 
 public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback {
   private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
-  private final Map<EthPeer, Set<Hash>> seenTransactions = new ConcurrentHashMap<>();
+  private final Map<EthPeer, SeenTransactionHashes> seenTransactions = new ConcurrentHashMap<>();
   private final Map<EthPeer, Set<Hash>> transactionsToSend = new ConcurrentHashMap<>();
   private final PendingTransactions pendingTransactions;
 
@@ -40,8 +40,8 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
 
   public synchronized void markTransactionsHashesAsSeen(
       final EthPeer peer, final Collection<Hash> transactions) {
-    final Set<Hash> seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
-    transactions.stream().forEach(seenTransactionsForPeer::add);
+    final SeenTransactionHashes seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
+    transactions.forEach(seenTransactionsForPeer::add);
   }
 
   public synchronized void addToPeerSendQueue(final EthPeer peer, final Hash hash) {
@@ -72,12 +72,13 @@ public class PeerPendingTransactionTracker implements EthPeer.DisconnectCallback
     return peer.getAgreedCapabilities().contains(capability);
   }
 
-  private Set<Hash> getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
-    return seenTransactions.computeIfAbsent(peer, key -> createTransactionsSet());
+  private SeenTransactionHashes getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
+    return seenTransactions.computeIfAbsent(
+        peer, key -> SeenTransactionHashes.withMaxTracked(MAX_TRACKED_SEEN_TRANSACTIONS));
   }
 
   private boolean hasPeerSeenTransaction(final EthPeer peer, final Hash hash) {
-    final Set<Hash> seenTransactionsForPeer = seenTransactions.get(peer);
+    final SeenTransactionHashes seenTransactionsForPeer = seenTransactions.get(peer);
     return seenTransactionsForPeer != null && seenTransactionsForPeer.contains(hash);
   }
 
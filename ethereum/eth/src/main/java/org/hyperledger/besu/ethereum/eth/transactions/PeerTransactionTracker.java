@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static java.util.Collections.emptySet;
 
-import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 
@@ -29,12 +28,12 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
   private static final int MAX_TRACKED_SEEN_TRANSACTIONS = 10_000;
-  private final Map<EthPeer, Set<Hash>> seenTransactions = new ConcurrentHashMap<>();
+  private final Map<EthPeer, SeenTransactionHashes> seenTransactions = new ConcurrentHashMap<>();
   private final Map<EthPeer, Set<Transaction>> transactionsToSend = new ConcurrentHashMap<>();
 
   public synchronized void markTransactionsAsSeen(
       final EthPeer peer, final Collection<Transaction> transactions) {
-    final Set<Hash> seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
+    final SeenTransactionHashes seenTransactionsForPeer = getOrCreateSeenTransactionsForPeer(peer);
     transactions.stream().map(Transaction::getHash).forEach(seenTransactionsForPeer::add);
   }
 
@@ -58,12 +57,13 @@ public class PeerTransactionTracker implements EthPeer.DisconnectCallback {
     }
   }
 
-  private Set<Hash> getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
-    return seenTransactions.computeIfAbsent(peer, key -> createTransactionsSet());
+  private SeenTransactionHashes getOrCreateSeenTransactionsForPeer(final EthPeer peer) {
+    return seenTransactions.computeIfAbsent(
+        peer, key -> SeenTransactionHashes.withMaxTracked(MAX_TRACKED_SEEN_TRANSACTIONS));
   }
 
   private boolean hasPeerSeenTransaction(final EthPeer peer, final Transaction transaction) {
-    final Set<Hash> seenTransactionsForPeer = seenTransactions.get(peer);
+    final SeenTransactionHashes seenTransactionsForPeer = seenTransactions.get(peer);
     return seenTransactionsForPeer != null
         && seenTransactionsForPeer.contains(transaction.getHash());
   }
@@ -19,11 +19,22 @@ import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool.TransactionBatchAddedListener;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Announces the hashes of newly added transactions to eth/65 peers. Transactions added in quick
+ * succession are announced together, at most once per {@link #ANNOUNCEMENT_INTERVAL}, so a flood of
+ * small batches results in a few large announcements rather than one message per batch per peer.
+ */
 class PendingTransactionSender implements TransactionBatchAddedListener {
 
+  static final Duration ANNOUNCEMENT_INTERVAL = Duration.ofMillis(100);
+
   private final PeerPendingTransactionTracker transactionTracker;
   private final PendingTransactionsMessageSender transactionsMessageSender;
   private final EthContext ethContext;
+  private final AtomicBoolean announcementScheduled = new AtomicBoolean(false);
 
   public PendingTransactionSender(
       final PeerPendingTransactionTracker transactionTracker,
@@ -45,6 +56,16 @@ class PendingTransactionSender implements TransactionBatchAddedListener {
                 transactions.forEach(
                     transaction ->
                         transactionTracker.addToPeerSendQueue(peer, transaction.getHash())));
+    if (announcementScheduled.compareAndSet(false, true)) {
+      ethContext
+          .getScheduler()
+          .scheduleFutureTask(this::announceTransactions, ANNOUNCEMENT_INTERVAL);
+    }
+  }
+
+  private void announceTransactions() {
+    // clear the flag first so transactions queued from now on get another announcement
+    announcementScheduled.set(false);
     ethContext
         .getScheduler()
         .scheduleSyncWorkerTask(transactionsMessageSender::sendTransactionsToPeers);
@@ -19,7 +19,6 @@ import static org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions
 import static org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions.TransactionAddedStatus.ALREADY_KNOWN;
 import static org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions.TransactionAddedStatus.REJECTED_UNDERPRICED_REPLACEMENT;
 
-import org.hyperledger.besu.ethereum.core.AccountTransactionOrder;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
@@ -27,6 +26,7 @@ import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.fees.EIP1559;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator.TransactionInvalidReason;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.data.Quantity;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -38,6 +38,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -50,11 +51,13 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.EvictingQueue;
+import org.apache.tuweni.bytes.Bytes;
 
 /**
  * Holds the current set of pending transactions with the ability to iterate them based on priority
@@ -74,6 +77,17 @@ public class PendingTransactions {
           comparing(TransactionInfo::isReceivedFromLocalSource)
               .thenComparing(TransactionInfo::getSequence)
               .reversed());
+  // the prioritized transactions that could be executed next, without waiting for a nonce gap
+  private final NavigableSet<TransactionInfo> readyTransactions =
+      new TreeSet<>(prioritizedTransactions.comparator());
+  // the order in which transactions are evicted when the pool exceeds its memory limit: remote
+  // transactions paying the least per byte of memory they occupy go first
+  private final NavigableSet<TransactionInfo> transactionsByPriceDensity =
+      new TreeSet<>(
+          comparing(TransactionInfo::isReceivedFromLocalSource)
+              .thenComparingDouble(TransactionInfo::getPricePerByte)
+              .thenComparing(TransactionInfo::getSequence));
+  private final AtomicLong pendingTransactionsBytes = new AtomicLong();
   private final Map<Address, TransactionsForSenderInfo> transactionsBySender =
       new ConcurrentHashMap<>();
 
@@ -87,8 +101,11 @@ public class PendingTransactions {
   private final Counter localTransactionAddedCounter;
   private final Counter remoteTransactionAddedCounter;
   private final Counter localTransactionHashesAddedCounter;
+  private final Counter countLimitEvictionCounter;
+  private final Counter memoryLimitEvictionCounter;
 
   private final long maxPendingTransactions;
+  private final long maxPendingTransactionsBytes;
   private final TransactionPoolReplacementHandler transactionReplacementHandler;
   private final Supplier<BlockHeader> chainHeadHeaderSupplier;
 
@@ -101,8 +118,31 @@ public class PendingTransactions {
       final Supplier<BlockHeader> chainHeadHeaderSupplier,
       final Optional<EIP1559> eip1559,
       final Percentage priceBump) {
+    this(
+        maxTransactionRetentionHours,
+        maxPendingTransactions,
+        Long.MAX_VALUE,
+        maxPooledTransactionHashes,
+        clock,
+        metricsSystem,
+        chainHeadHeaderSupplier,
+        eip1559,
+        priceBump);
+  }
+
+  public PendingTransactions(
+      final int maxTransactionRetentionHours,
+      final int maxPendingTransactions,
+      final long maxPendingTransactionsBytes,
+      final int maxPooledTransactionHashes,
+      final Clock clock,
+      final MetricsSystem metricsSystem,
+      final Supplier<BlockHeader> chainHeadHeaderSupplier,
+      final Optional<EIP1559> eip1559,
+      final Percentage priceBump) {
     this.maxTransactionRetentionHours = maxTransactionRetentionHours;
     this.maxPendingTransactions = maxPendingTransactions;
+    this.maxPendingTransactionsBytes = maxPendingTransactionsBytes;
     this.clock = clock;
     this.newPooledHashes = EvictingQueue.create(maxPooledTransactionHashes);
     this.chainHeadHeaderSupplier = chainHeadHeaderSupplier;
@@ -124,6 +164,21 @@ public class PendingTransactions {
             "Count of transactions removed from the transaction pool",
             "source",
             "operation");
+
+    final LabelledMetric<Counter> transactionEvictedCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "transactions_evicted_total",
+            "Count of transactions evicted because the transaction pool was full",
+            "limit");
+    countLimitEvictionCounter = transactionEvictedCounter.labels("count");
+    memoryLimitEvictionCounter = transactionEvictedCounter.labels("bytes");
+
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.TRANSACTION_POOL,
+        "transactions_bytes",
+        "Estimated memory used by the transactions in the transaction pool",
+        pendingTransactionsBytes::get);
   }
 
   public void evictOldTransactions() {
@@ -142,10 +197,33 @@ public class PendingTransactions {
         .collect(Collectors.toList());
   }
 
-  public boolean addRemoteTransaction(final Transaction transaction) {
+  /**
+   * Adds a transaction received from a peer.
+   *
+   * @param transaction the transaction to add
+   * @param senderNonce the nonce of the sender's account at the chain head, which the sender's
+   *     transactions must continue from to be ready
+   * @return whether the transaction was added
+   */
+  public boolean addRemoteTransaction(final Transaction transaction, final long senderNonce) {
+    return addRemoteTransaction(transaction, () -> senderNonce);
+  }
+
+  /**
+   * Adds a transaction received from a peer.
+   *
+   * @param transaction the transaction to add
+   * @param senderNonce reads the nonce of the sender's account at the chain head. It is only read
+   *     when the pool holds no transactions from the sender, while no block can be applied to the
+   *     pool, so blocks imported since the transaction was validated are taken into account
+   * @return whether the transaction was added
+   */
+  public boolean addRemoteTransaction(
+      final Transaction transaction, final LongSupplier senderNonce) {
     final TransactionInfo transactionInfo =
         new TransactionInfo(transaction, false, clock.instant());
-    final TransactionAddedStatus transactionAddedStatus = addTransaction(transactionInfo);
+    final TransactionAddedStatus transactionAddedStatus =
+        addTransaction(transactionInfo, senderNonce);
     final boolean added = transactionAddedStatus.equals(ADDED);
     if (added) {
       remoteTransactionAddedCounter.inc();
@@ -164,10 +242,32 @@ public class PendingTransactions {
     return hashAdded;
   }
 
+  /**
+   * Adds a transaction submitted to this node.
+   *
+   * @param transaction the transaction to add
+   * @param senderNonce the nonce of the sender's account at the chain head, which the sender's
+   *     transactions must continue from to be ready
+   * @return whether the transaction was added, or why it wasn't
+   */
   @VisibleForTesting
-  public TransactionAddedStatus addLocalTransaction(final Transaction transaction) {
+  public TransactionAddedStatus addLocalTransaction(
+      final Transaction transaction, final long senderNonce) {
+    return addLocalTransaction(transaction, () -> senderNonce);
+  }
+
+  /**
+   * Adds a transaction submitted to this node.
+   *
+   * @param transaction the transaction to add
+   * @param senderNonce reads the nonce of the sender's account at the chain head, only when the
+   *     pool holds no transactions from the sender
+   * @return whether the transaction was added, or why it wasn't
+   */
+  TransactionAddedStatus addLocalTransaction(
+      final Transaction transaction, final LongSupplier senderNonce) {
     final TransactionAddedStatus transactionAdded =
-        addTransaction(new TransactionInfo(transaction, true, clock.instant()));
+        addTransaction(new TransactionInfo(transaction, true, clock.instant()), senderNonce);
     if (transactionAdded.equals(ADDED)) {
       localTransactionAddedCounter.inc();
     }
@@ -179,8 +279,44 @@ public class PendingTransactions {
     notifyTransactionDropped(transaction);
   }
 
+  /**
+   * Removes a transaction that has been included in a block. The sender's transactions that follow
+   * it become ready, and any others using the same or a lower nonce are dropped as they can no
+   * longer be executed.
+   *
+   * @param transaction the transaction included in a block
+   */
   void transactionAddedToBlock(final Transaction transaction) {
-    doRemoveTransaction(transaction, true);
+    final List<Transaction> staleTransactions = new ArrayList<>();
+    synchronized (prioritizedTransactions) {
+      final TransactionsForSenderInfo transactionsForSender =
+          transactionsBySender.get(transaction.getSender());
+      if (transactionsForSender != null) {
+        transactionsForSender.nonceUsed(transaction.getNonce());
+        transactionsForSender.getTransactionsInfos().headMap(transaction.getNonce(), true).values()
+            .stream()
+            .map(TransactionInfo::getTransaction)
+            .filter(pending -> !pending.getHash().equals(transaction.getHash()))
+            .forEach(staleTransactions::add);
+      }
+      doRemoveTransaction(transaction, true);
+      staleTransactions.forEach(stale -> doRemoveTransaction(stale, false));
+    }
+    staleTransactions.forEach(this::notifyTransactionDropped);
+  }
+
+  /**
+   * Notes that a block including the transaction has been removed from the canonical chain, so its
+   * sender is expected to use the transaction's nonce again.
+   *
+   * @param transaction a transaction from a block removed from the chain
+   */
+  void transactionRemovedFromBlock(final Transaction transaction) {
+    synchronized (prioritizedTransactions) {
+      Optional.ofNullable(transactionsBySender.get(transaction.getSender()))
+          .ifPresent(
+              transactionsForSender -> transactionsForSender.nonceReverted(transaction.getNonce()));
+    }
   }
 
   private void doRemoveTransaction(final Transaction transaction, final boolean addedToBlock) {
@@ -189,6 +325,9 @@ public class PendingTransactions {
           pendingTransactions.remove(transaction.getHash());
       if (removedTransactionInfo != null) {
         prioritizedTransactions.remove(removedTransactionInfo);
+        readyTransactions.remove(removedTransactionInfo);
+        transactionsByPriceDensity.remove(removedTransactionInfo);
+        pendingTransactionsBytes.addAndGet(-removedTransactionInfo.getSize());
         removeTransactionTrackedBySenderAndNonce(transaction);
         incrementTransactionRemovedCounter(
             removedTransactionInfo.isReceivedFromLocalSource(), addedToBlock);
@@ -203,72 +342,96 @@ public class PendingTransactions {
     transactionRemovedCounter.labels(location, operation).inc();
   }
 
+  /**
+   * Offers the ready transactions to the selector in priority order, deferring transactions that
+   * have lower nonce transactions from the same sender still to come. Transactions waiting for a
+   * nonce gap to be filled are never offered, as they cannot be executed.
+   *
+   * <p>The selector works through a snapshot of the ready transactions taken when selection starts,
+   * so adding or removing transactions never waits for block creation to evaluate the candidates.
+   * Transactions the selector asks to delete are removed once selection has finished.
+   *
+   * @param selector evaluates each transaction and decides whether selection continues
+   */
   public void selectTransactions(final TransactionSelector selector) {
+    final List<TransactionInfo> candidates;
     synchronized (prioritizedTransactions) {
-      final List<Transaction> transactionsToRemove = new ArrayList<>();
-      final Map<Address, AccountTransactionOrder> accountTransactions = new HashMap<>();
-      for (final TransactionInfo transactionInfo : prioritizedTransactions) {
-        final AccountTransactionOrder accountTransactionOrder =
-            accountTransactions.computeIfAbsent(
-                transactionInfo.getSender(), this::createSenderTransactionOrder);
-
-        for (final Transaction transactionToProcess :
-            accountTransactionOrder.transactionsToProcess(transactionInfo.getTransaction())) {
-          final TransactionSelectionResult result =
-              selector.evaluateTransaction(transactionToProcess);
-          switch (result) {
-            case DELETE_TRANSACTION_AND_CONTINUE:
-              transactionsToRemove.add(transactionToProcess);
-              break;
-            case CONTINUE:
-              break;
-            case COMPLETE_OPERATION:
-              transactionsToRemove.forEach(this::removeTransaction);
-              return;
-            default:
-              throw new RuntimeException("Illegal value for TransactionSelectionResult.");
-          }
+      candidates = new ArrayList<>(readyTransactions);
+    }
+
+    // the ready transactions of a sender have consecutive nonces, so each sender's transactions
+    // are offered in order starting from the lowest of them
+    final Map<Address, SenderTransactionOrder> senderOrders = new HashMap<>();
+    for (final TransactionInfo transactionInfo : candidates) {
+      senderOrders
+          .computeIfAbsent(transactionInfo.getSender(), sender -> new SenderTransactionOrder())
+          .includeNonce(transactionInfo.getNonce());
+    }
+    final List<Transaction> transactionsToRemove = new ArrayList<>();
+    for (final TransactionInfo transactionInfo : candidates) {
+      final SenderTransactionOrder senderOrder = senderOrders.get(transactionInfo.getSender());
+      for (final Transaction transactionToProcess :
+          senderOrder.transactionsToProcess(transactionInfo.getTransaction())) {
+        final TransactionSelectionResult result =
+            selector.evaluateTransaction(transactionToProcess);
+        switch (result) {
+          case DELETE_TRANSACTION_AND_CONTINUE:
+            transactionsToRemove.add(transactionToProcess);
+            break;
+          case CONTINUE:
+            break;
+          case COMPLETE_OPERATION:
+            transactionsToRemove.forEach(this::removeTransaction);
+            return;
+          default:
+            throw new RuntimeException("Illegal value for TransactionSelectionResult.");
         }
       }
-      transactionsToRemove.forEach(this::removeTransaction);
     }
+    transactionsToRemove.forEach(this::removeTransaction);
   }
 
-  private AccountTransactionOrder createSenderTransactionOrder(final Address address) {
-    return new AccountTransactionOrder(
-        transactionsBySender.get(address).getTransactionsInfos().values().stream()
-            .map(TransactionInfo::getTransaction));
-  }
-
-  private TransactionAddedStatus addTransaction(final TransactionInfo transactionInfo) {
-    Optional<Transaction> droppedTransaction = Optional.empty();
+  private TransactionAddedStatus addTransaction(
+      final TransactionInfo transactionInfo, final LongSupplier senderNonce) {
+    final List<Transaction> droppedTransactions = new ArrayList<>();
     synchronized (prioritizedTransactions) {
       if (pendingTransactions.containsKey(transactionInfo.getHash())) {
         return ALREADY_KNOWN;
       }
 
       final TransactionAddedStatus transactionAddedStatus =
-          addTransactionForSenderAndNonce(transactionInfo);
+          addTransactionForSenderAndNonce(transactionInfo, senderNonce);
       if (!transactionAddedStatus.equals(ADDED)) {
         return transactionAddedStatus;
       }
       prioritizedTransactions.add(transactionInfo);
+      transactionsByPriceDensity.add(transactionInfo);
       pendingTransactions.put(transactionInfo.getHash(), transactionInfo);
+      pendingTransactionsBytes.addAndGet(transactionInfo.getSize());
       tryEvictTransactionHash(transactionInfo.getHash());
 
       if (pendingTransactions.size() > maxPendingTransactions) {
         final TransactionInfo toRemove = prioritizedTransactions.last();
         doRemoveTransaction(toRemove.getTransaction(), false);
-        droppedTransaction = Optional.of(toRemove.getTransaction());
+        droppedTransactions.add(toRemove.getTransaction());
+        countLimitEvictionCounter.inc();
+      }
+      // local transactions are never evicted to make room, so only remote ones are considered
+      while (pendingTransactionsBytes.get() > maxPendingTransactionsBytes
+          && !transactionsByPriceDensity.first().isReceivedFromLocalSource()) {
+        final TransactionInfo toRemove = transactionsByPriceDensity.first();
+        doRemoveTransaction(toRemove.getTransaction(), false);
+        droppedTransactions.add(toRemove.getTransaction());
+        memoryLimitEvictionCounter.inc();
       }
     }
     notifyTransactionAdded(transactionInfo.getTransaction());
-    droppedTransaction.ifPresent(this::notifyTransactionDropped);
+    droppedTransactions.forEach(this::notifyTransactionDropped);
     return ADDED;
   }
 
   private TransactionAddedStatus addTransactionForSenderAndNonce(
-      final TransactionInfo transactionInfo) {
+      final TransactionInfo transactionInfo, final LongSupplier senderNonce) {
     final TransactionInfo existingTransaction =
         getTrackedTransactionBySenderAndNonce(transactionInfo);
     if (existingTransaction != null) {
@@ -278,14 +441,16 @@ public class PendingTransactions {
       }
       removeTransaction(existingTransaction.getTransaction());
     }
-    trackTransactionBySenderAndNonce(transactionInfo);
+    trackTransactionBySenderAndNonce(transactionInfo, senderNonce);
     return ADDED;
   }
 
-  private void trackTransactionBySenderAndNonce(final TransactionInfo transactionInfo) {
+  private void trackTransactionBySenderAndNonce(
+      final TransactionInfo transactionInfo, final LongSupplier senderNonce) {
     final TransactionsForSenderInfo transactionsForSenderInfo =
         transactionsBySender.computeIfAbsent(
-            transactionInfo.getSender(), key -> new TransactionsForSenderInfo());
+            transactionInfo.getSender(),
+            key -> createTransactionsForSenderInfo(senderNonce.getAsLong()));
     transactionsForSenderInfo.addTransactionToTrack(transactionInfo.getNonce(), transactionInfo);
   }
 
@@ -293,7 +458,7 @@ public class PendingTransactions {
     Optional.ofNullable(transactionsBySender.get(transaction.getSender()))
         .ifPresent(
             transactionsForSender -> {
-              transactionsForSender.getTransactionsInfos().remove(transaction.getNonce());
+              transactionsForSender.removeTrackedTransaction(transaction.getNonce());
               if (transactionsForSender.getTransactionsInfos().isEmpty()) {
                 transactionsBySender.remove(transaction.getSender());
                 transactionsForSender.updateGaps();
@@ -304,9 +469,15 @@ public class PendingTransactions {
   private TransactionInfo getTrackedTransactionBySenderAndNonce(
       final TransactionInfo transactionInfo) {
     final TransactionsForSenderInfo transactionsForSenderInfo =
-        transactionsBySender.computeIfAbsent(
-            transactionInfo.getSender(), key -> new TransactionsForSenderInfo());
-    return transactionsForSenderInfo.getTransactionsInfos().get(transactionInfo.getNonce());
+        transactionsBySender.get(transactionInfo.getSender());
+    return transactionsForSenderInfo == null
+        ? null
+        : transactionsForSenderInfo.getTransactionsInfos().get(transactionInfo.getNonce());
+  }
+
+  private TransactionsForSenderInfo createTransactionsForSenderInfo(final long senderNonce) {
+    return new TransactionsForSenderInfo(
+        senderNonce, readyTransactions::add, readyTransactions::remove);
   }
 
   private void notifyTransactionAdded(final Transaction transaction) {
@@ -325,6 +496,17 @@ public class PendingTransactions {
     return pendingTransactions.size();
   }
 
+  public long sizeInBytes() {
+    return pendingTransactionsBytes.get();
+  }
+
+  @VisibleForTesting
+  int readySize() {
+    synchronized (prioritizedTransactions) {
+      return readyTransactions.size();
+    }
+  }
+
   public boolean containsTransaction(final Hash transactionHash) {
     return pendingTransactions.containsKey(transactionHash);
   }
@@ -338,11 +520,11 @@ public class PendingTransactions {
     return new HashSet<>(pendingTransactions.values());
   }
 
-  long subscribePendingTransactions(final PendingTransactionListener listener) {
+  public long subscribePendingTransactions(final PendingTransactionListener listener) {
     return pendingTransactionSubscribers.subscribe(listener);
   }
 
-  void unsubscribePendingTransactions(final long id) {
+  public void unsubscribePendingTransactions(final long id) {
     pendingTransactionSubscribers.unsubscribe(id);
   }
 
@@ -383,11 +565,16 @@ public class PendingTransactions {
    */
   public static class TransactionInfo {
 
+    // rough heap cost of a pooled transaction besides its payload: the transaction with its
+    // signature and cached hashes, plus the entries tracking it in the pool
+    private static final int ESTIMATED_OVERHEAD_BYTES = 1024;
     private static final AtomicLong TRANSACTIONS_ADDED = new AtomicLong();
     private final Transaction transaction;
     private final boolean receivedFromLocalSource;
     private final Instant addedToPoolAt;
     private final long sequence; // Allows prioritization based on order transactions are added
+    private final long size;
+    private final double pricePerByte;
 
     public TransactionInfo(
         final Transaction transaction,
@@ -397,6 +584,12 @@ public class PendingTransactions {
       this.receivedFromLocalSource = receivedFromLocalSource;
       this.addedToPoolAt = addedToPoolAt;
       this.sequence = TRANSACTIONS_ADDED.getAndIncrement();
+      // tolerates partially built transactions, which have no payload or price
+      final Bytes payload = transaction.getPayload();
+      this.size = ESTIMATED_OVERHEAD_BYTES + (payload == null ? 0L : payload.size());
+      // EIP-1559 transactions pay at most their fee cap
+      final Quantity price = transaction.getFeeCap().orElse(transaction.getGasPrice());
+      this.pricePerByte = price == null ? 0 : price.getValue().doubleValue() / size;
     }
 
     public Transaction getTransaction() {
@@ -426,6 +619,44 @@ public class PendingTransactions {
     public Instant getAddedToPoolAt() {
       return addedToPoolAt;
     }
+
+    /** @return the estimated memory used by the transaction while it is in the pool, in bytes */
+    public long getSize() {
+      return size;
+    }
+
+    public double getPricePerByte() {
+      return pricePerByte;
+    }
+  }
+
+  /**
+   * Orders the transactions of one sender within a selection pass. A transaction reached in
+   * priority order is deferred until every lower nonce transaction of the sender has been reached.
+   */
+  private static class SenderTransactionOrder {
+    private final Map<Long, Transaction> deferredTransactions = new HashMap<>();
+    private long nextNonce = Long.MAX_VALUE;
+
+    private void includeNonce(final long nonce) {
+      nextNonce = Math.min(nextNonce, nonce);
+    }
+
+    private List<Transaction> transactionsToProcess(final Transaction transaction) {
+      if (transaction.getNonce() != nextNonce) {
+        deferredTransactions.put(transaction.getNonce(), transaction);
+        return Collections.emptyList();
+      }
+      final List<Transaction> transactionsToProcess = new ArrayList<>();
+      transactionsToProcess.add(transaction);
+      nextNonce++;
+      Transaction deferred;
+      while ((deferred = deferredTransactions.remove(nextNonce)) != null) {
+        transactionsToProcess.add(deferred);
+        nextNonce++;
+      }
+      return transactionsToProcess;
+    }
   }
 
   public enum TransactionSelectionResult {
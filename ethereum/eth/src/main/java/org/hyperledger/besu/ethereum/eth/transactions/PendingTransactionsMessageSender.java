@@ -33,6 +33,9 @@ class PendingTransactionsMessageSender {
   public void sendTransactionsToPeers() {
     StreamSupport.stream(transactionTracker.getEthPeersWithUnsentTransactions().spliterator(), true)
         .parallel()
+        // peers whose connection is backed up keep their transaction hashes queued for a later
+        // round
+        .filter(EthPeer::isWritable)
         .forEach(this::sendTransactionsToPeer);
   }
 
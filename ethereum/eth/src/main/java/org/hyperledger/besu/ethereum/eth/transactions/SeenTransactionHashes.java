@@ -0,0 +1,144 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.Arrays;
+
+/**
+ * A bounded record of the transaction hashes a peer is known to have seen.
+ *
+ * <p>Only a 64 bit fingerprint of each hash is kept, in two generations of open addressed tables.
+ * New hashes go into the current generation and, once it holds {@code capacity} hashes, it replaces
+ * the previous generation which is dropped. The most recent {@code capacity} to {@code 2 *
+ * capacity} hashes are therefore remembered in a bounded amount of memory, without allocating per
+ * hash. The current table starts small and doubles as it fills, so peers that send few transactions
+ * don't hold full size tables, and the previous one is only allocated once the first generation is
+ * full. From then on the two tables are reused.
+ *
+ * <p>Two hashes sharing a fingerprint are indistinguishable, so a hash may rarely be reported as
+ * seen when it was not. For transaction propagation that only means the peer does not get the
+ * transaction from us.
+ *
+ * <p>This class is not thread safe.
+ */
+final class SeenTransactionHashes {
+
+  private static final long EMPTY = 0L;
+  private static final int INITIAL_TABLE_SIZE = 64;
+
+  private final int capacity;
+  private final int maxTableSize;
+  private long[] current;
+  private long[] previous;
+  private int currentSize;
+
+  SeenTransactionHashes(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.capacity = capacity;
+    // keep each table at most half full so probe sequences stay short
+    this.maxTableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+    this.current = new long[Math.min(INITIAL_TABLE_SIZE, maxTableSize)];
+  }
+
+  /**
+   * Creates a record that remembers between half and all of the most recent {@code
+   * maxTrackedHashes} hashes.
+   *
+   * @param maxTrackedHashes the most hashes remembered at once
+   * @return a record of seen hashes
+   */
+  static SeenTransactionHashes withMaxTracked(final int maxTrackedHashes) {
+    return new SeenTransactionHashes(Math.max(1, maxTrackedHashes / 2));
+  }
+
+  void add(final Hash hash) {
+    final long fingerprint = fingerprint(hash);
+    if (!insert(current, fingerprint)) {
+      return;
+    }
+    if (++currentSize >= capacity) {
+      rotate();
+    } else if (currentSize * 2 >= current.length && current.length < maxTableSize) {
+      grow();
+    }
+  }
+
+  boolean contains(final Hash hash) {
+    final long fingerprint = fingerprint(hash);
+    return contains(current, fingerprint) || (previous != null && contains(previous, fingerprint));
+  }
+
+  private static boolean insert(final long[] table, final long fingerprint) {
+    final int mask = table.length - 1;
+    int index = slot(fingerprint, mask);
+    while (table[index] != EMPTY) {
+      if (table[index] == fingerprint) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+    table[index] = fingerprint;
+    return true;
+  }
+
+  private static boolean contains(final long[] table, final long fingerprint) {
+    final int mask = table.length - 1;
+    int index = slot(fingerprint, mask);
+    while (table[index] != EMPTY) {
+      if (table[index] == fingerprint) {
+        return true;
+      }
+      index = (index + 1) & mask;
+    }
+    return false;
+  }
+
+  private void grow() {
+    final long[] grown = new long[current.length * 2];
+    for (final long fingerprint : current) {
+      if (fingerprint != EMPTY) {
+        insert(grown, fingerprint);
+      }
+    }
+    current = grown;
+  }
+
+  private void rotate() {
+    // the current table has grown to its full size by the time it holds capacity hashes
+    final long[] dropped = previous;
+    previous = current;
+    if (dropped == null) {
+      current = new long[maxTableSize];
+    } else {
+      Arrays.fill(dropped, EMPTY);
+      current = dropped;
+    }
+    currentSize = 0;
+  }
+
+  private static int slot(final long fingerprint, final int mask) {
+    return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+  }
+
+  private static long fingerprint(final Hash hash) {
+    // transaction hashes are uniformly distributed, so any 8 bytes will do
+    final long fingerprint = hash.getLong(0);
+    return fingerprint == EMPTY ? 1L : fingerprint;
+  }
+}
@@ -24,10 +24,12 @@ import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
 import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.core.fees.BaseFee;
 import org.hyperledger.besu.ethereum.core.fees.EIP1559;
 import org.hyperledger.besu.ethereum.core.fees.TransactionPriceCalculator;
@@ -45,13 +47,21 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import com.google.common.base.Suppliers;
 import org.apache.logging.log4j.Logger;
 
 /**
@@ -68,14 +78,20 @@ public class TransactionPool implements BlockAddedObserver {
   private static final long SYNC_TOLERANCE = 100L;
   private static final String REMOTE = "remote";
   private static final String LOCAL = "local";
+  // larger batches get a computation task helping with sender recovery per this many transactions
+  private static final int SENDER_RECOVERY_BATCH_SIZE = 32;
   private final PendingTransactions pendingTransactions;
   private final ProtocolSchedule protocolSchedule;
   private final ProtocolContext protocolContext;
   private final TransactionBatchAddedListener transactionBatchAddedListener;
   private final Optional<TransactionBatchAddedListener> pendingTransactionBatchAddedListener;
   private final SyncState syncState;
+  private final EthContext ethContext;
   private final Wei minTransactionGasPrice;
   private final LabelledMetric<Counter> duplicateTransactionCounter;
+  private final Counter remoteTransactionsValidatedCounter;
+  private final LabelledMetric<Counter> remoteTransactionsRejectedCounter;
+  private final OperationTimer remoteTransactionsValidationTimer;
   private final PeerTransactionTracker peerTransactionTracker;
   private final Optional<PeerPendingTransactionTracker> peerPendingTransactionTracker;
   private final Optional<EIP1559> eip1559;
@@ -105,6 +121,7 @@ public class TransactionPool implements BlockAddedObserver {
     this.transactionBatchAddedListener = transactionBatchAddedListener;
     this.pendingTransactionBatchAddedListener = pendingTransactionBatchAddedListener;
     this.syncState = syncState;
+    this.ethContext = ethContext;
     this.peerTransactionTracker = peerTransactionTracker;
     this.peerPendingTransactionTracker = peerPendingTransactionTracker;
     this.minTransactionGasPrice = minTransactionGasPrice;
@@ -117,6 +134,22 @@ public class TransactionPool implements BlockAddedObserver {
             "transactions_duplicates_total",
             "Total number of duplicate transactions received",
             "source");
+    remoteTransactionsValidatedCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "remote_transactions_validated_total",
+            "Total number of remote transactions validated against the chain head");
+    remoteTransactionsRejectedCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "remote_transactions_rejected_total",
+            "Total number of remote transactions rejected, by reason",
+            "reason");
+    remoteTransactionsValidationTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "remote_transactions_validation_seconds",
+            "Time taken to validate a batch of remote transactions");
 
     ethContext.getEthPeers().subscribeConnect(this::handleConnect);
   }
@@ -161,11 +194,13 @@ public class TransactionPool implements BlockAddedObserver {
       return ValidationResult.invalid(TransactionInvalidReason.TX_FEECAP_EXCEEDED);
     }
 
+    final ChainHeadState chainHeadState = new ChainHeadState();
     final ValidationResult<TransactionInvalidReason> validationResult =
-        validateTransaction(transaction);
+        validateTransaction(transaction, chainHeadState);
     if (validationResult.isValid()) {
       final TransactionAddedStatus transactionAddedStatus =
-          pendingTransactions.addLocalTransaction(transaction);
+          pendingTransactions.addLocalTransaction(
+              transaction, () -> chainHeadState.currentSenderNonce(transaction.getSender()));
       if (!transactionAddedStatus.equals(TransactionAddedStatus.ADDED)) {
         duplicateTransactionCounter.labels(LOCAL).inc();
         return ValidationResult.invalid(transactionAddedStatus.getInvalidReason().orElseThrow());
@@ -178,11 +213,20 @@ public class TransactionPool implements BlockAddedObserver {
     return validationResult;
   }
 
+  /**
+   * Validates a batch of transactions received from peers and adds the valid ones to the pool.
+   *
+   * <p>The senders of the batch are recovered in parallel and every transaction is checked against
+   * the same view of the chain head, so the head world state is opened once per batch rather than
+   * once per transaction.
+   *
+   * @param transactions the transactions to add
+   */
   public void addRemoteTransactions(final Collection<Transaction> transactions) {
     if (!syncState.isInSync(SYNC_TOLERANCE)) {
       return;
     }
-    final Set<Transaction> addedTransactions = new HashSet<>();
+    final List<Transaction> candidates = new ArrayList<>(transactions.size());
     for (final Transaction transaction : transactions) {
       pendingTransactions.tryEvictTransactionHash(transaction.getHash());
       if (pendingTransactions.containsTransaction(transaction.getHash())) {
@@ -192,22 +236,44 @@ public class TransactionPool implements BlockAddedObserver {
       }
       final Wei transactionGasPrice = minTransactionGasPrice(transaction);
       if (transactionGasPrice.compareTo(minTransactionGasPrice) < 0) {
+        remoteTransactionsRejectedCounter
+            .labels(TransactionInvalidReason.GAS_PRICE_TOO_LOW.name())
+            .inc();
         continue;
       }
-      final ValidationResult<TransactionInvalidReason> validationResult =
-          validateTransaction(transaction);
-      if (validationResult.isValid()) {
-        final boolean added = pendingTransactions.addRemoteTransaction(transaction);
-        if (added) {
-          addedTransactions.add(transaction);
+      candidates.add(transaction);
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    final Set<Transaction> addedTransactions = new HashSet<>();
+    try (final OperationTimer.TimingContext ignored =
+        remoteTransactionsValidationTimer.startTimer()) {
+      recoverSenders(candidates);
+      final ChainHeadState chainHeadState = new ChainHeadState();
+      for (final Transaction transaction : candidates) {
+        final ValidationResult<TransactionInvalidReason> validationResult =
+            validateTransaction(transaction, chainHeadState);
+        remoteTransactionsValidatedCounter.inc();
+        if (validationResult.isValid()) {
+          final boolean added =
+              pendingTransactions.addRemoteTransaction(
+                  transaction, () -> chainHeadState.currentSenderNonce(transaction.getSender()));
+          if (added) {
+            addedTransactions.add(transaction);
+          } else {
+            duplicateTransactionCounter.labels(REMOTE).inc();
+          }
         } else {
-          duplicateTransactionCounter.labels(REMOTE).inc();
+          remoteTransactionsRejectedCounter
+              .labels(validationResult.getInvalidReason().name())
+              .inc();
+          LOG.trace(
+              "Validation failed ({}) for transaction {}. Discarding.",
+              validationResult.getInvalidReason(),
+              transaction);
         }
-      } else {
-        LOG.trace(
-            "Validation failed ({}) for transaction {}. Discarding.",
-            validationResult.getInvalidReason(),
-            transaction);
       }
     }
     if (!addedTransactions.isEmpty()) {
@@ -215,6 +281,56 @@ public class TransactionPool implements BlockAddedObserver {
     }
   }
 
+  /**
+   * Recovers and caches the sender of each transaction. Large batches are shared with the
+   * computation executor, but the calling thread works through the batch as well and only waits for
+   * transactions a helper has already started on, so a busy executor can't stall it.
+   */
+  private void recoverSenders(final List<Transaction> transactions) {
+    final int helpers = (transactions.size() - 1) / SENDER_RECOVERY_BATCH_SIZE;
+    if (helpers == 0) {
+      transactions.forEach(TransactionPool::recoverSender);
+      return;
+    }
+    final AtomicInteger nextIndex = new AtomicInteger();
+    final CountDownLatch recovered = new CountDownLatch(transactions.size());
+    final Runnable recoverRemaining =
+        () -> {
+          for (int i = nextIndex.getAndIncrement();
+              i < transactions.size();
+              i = nextIndex.getAndIncrement()) {
+            try {
+              recoverSender(transactions.get(i));
+            } finally {
+              recovered.countDown();
+            }
+          }
+        };
+    for (int i = 0; i < helpers; i++) {
+      ethContext
+          .getScheduler()
+          .scheduleComputationTask(
+              () -> {
+                recoverRemaining.run();
+                return null;
+              });
+    }
+    recoverRemaining.run();
+    try {
+      recovered.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void recoverSender(final Transaction transaction) {
+    try {
+      transaction.getSender();
+    } catch (final IllegalArgumentException | IllegalStateException e) {
+      // the signature is invalid, which is reported when the transaction is validated
+    }
+  }
+
   public long subscribePendingTransactions(final PendingTransactionListener listener) {
     return pendingTransactions.subscribePendingTransactions(listener);
   }
@@ -233,6 +349,7 @@ public class TransactionPool implements BlockAddedObserver {
 
   @Override
   public void onBlockAdded(final BlockAddedEvent event) {
+    event.getRemovedTransactions().forEach(pendingTransactions::transactionRemovedFromBlock);
     event.getAddedTransactions().forEach(pendingTransactions::transactionAddedToBlock);
     addRemoteTransactions(event.getRemovedTransactions());
   }
@@ -248,10 +365,11 @@ public class TransactionPool implements BlockAddedObserver {
   }
 
   private ValidationResult<TransactionInvalidReason> validateTransaction(
-      final Transaction transaction) {
-    final BlockHeader chainHeadBlockHeader = getChainHeadBlockHeader();
+      final Transaction transaction, final ChainHeadState chainHeadState) {
+    final BlockHeader chainHeadBlockHeader = chainHeadState.blockHeader;
+    final TransactionValidator transactionValidator = chainHeadState.transactionValidator;
     final ValidationResult<TransactionInvalidReason> basicValidationResult =
-        getTransactionValidator().validate(transaction, chainHeadBlockHeader.getBaseFee());
+        transactionValidator.validate(transaction, chainHeadBlockHeader.getBaseFee());
     if (!basicValidationResult.isValid()) {
       return basicValidationResult;
     }
@@ -264,15 +382,15 @@ public class TransactionPool implements BlockAddedObserver {
               transaction.getGasLimit(), chainHeadBlockHeader.getGasLimit()));
     }
 
-    return protocolContext
-        .getWorldStateArchive()
-        .get(chainHeadBlockHeader.getStateRoot())
+    return chainHeadState
+        .worldState
+        .get()
         .map(
             worldState -> {
-              final Account senderAccount = worldState.get(transaction.getSender());
-              return getTransactionValidator()
-                  .validateForSender(
-                      transaction, senderAccount, TransactionValidationParams.transactionPool());
+              final Account senderAccount =
+                  chainHeadState.senderAccount(transaction.getSender()).orElse(null);
+              return transactionValidator.validateForSender(
+                  transaction, senderAccount, TransactionValidationParams.transactionPool());
             })
         .orElseGet(() -> ValidationResult.invalid(CHAIN_HEAD_WORLD_STATE_NOT_AVAILABLE));
   }
@@ -286,6 +404,47 @@ public class TransactionPool implements BlockAddedObserver {
     return blockchain.getBlockHeader(blockchain.getChainHeadHash()).get();
   }
 
+  /**
+   * The chain head transactions are validated against. The head world state is only opened when a
+   * transaction first needs it, and is then shared by all the transactions checked against this
+   * view, as are the sender accounts read from it.
+   */
+  private class ChainHeadState {
+    private final BlockHeader blockHeader = getChainHeadBlockHeader();
+    private final TransactionValidator transactionValidator = getTransactionValidator();
+    private final Supplier<Optional<WorldState>> worldState =
+        Suppliers.memoize(
+            () -> protocolContext.getWorldStateArchive().get(blockHeader.getStateRoot()));
+    private final Map<Address, Optional<Account>> senderAccounts = new HashMap<>();
+
+    private Optional<Account> senderAccount(final Address sender) {
+      return senderAccounts.computeIfAbsent(
+          sender, key -> worldState.get().map(state -> state.get(key)));
+    }
+
+    /** The nonce the sender's next transaction must use, which is zero for a new account. */
+    private long senderNonce(final Address sender) {
+      return senderAccount(sender).map(Account::getNonce).orElse(0L);
+    }
+
+    /**
+     * The nonce the sender's next transaction must use at the current chain head, which may have
+     * moved on since this view was taken if blocks were imported while a batch was validated.
+     */
+    private long currentSenderNonce(final Address sender) {
+      final BlockHeader currentHeader = getChainHeadBlockHeader();
+      if (currentHeader.getHash().equals(blockHeader.getHash())) {
+        return senderNonce(sender);
+      }
+      return protocolContext
+          .getWorldStateArchive()
+          .get(currentHeader.getStateRoot())
+          .map(state -> state.get(sender))
+          .map(Account::getNonce)
+          .orElse(0L);
+    }
+  }
+
   public interface TransactionBatchAddedListener {
 
     void onTransactionsAdded(Iterable<Transaction> transactions);
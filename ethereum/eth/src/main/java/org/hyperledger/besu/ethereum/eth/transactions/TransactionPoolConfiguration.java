@@ -23,6 +23,7 @@ public class TransactionPoolConfiguration {
   public static final int DEFAULT_TX_MSG_KEEP_ALIVE = 60;
   public static final int MAX_PENDING_TRANSACTIONS = 4096;
   public static final int MAX_PENDING_TRANSACTIONS_HASHES = 4096;
+  public static final long MAX_PENDING_TRANSACTIONS_BYTES = 64L * 1024 * 1024;
   public static final int DEFAULT_TX_RETENTION_HOURS = 13;
   public static final Percentage DEFAULT_PRICE_BUMP = Percentage.fromInt(10);
   public static final Wei DEFAULT_RPC_TX_FEE_CAP = Wei.fromEth(1);
@@ -30,6 +31,7 @@ public class TransactionPoolConfiguration {
       TransactionPoolConfiguration.builder().build();
 
   private final int txPoolMaxSize;
+  private final long txPoolMaxBytes;
   private final int pooledTransactionHashesSize;
   private final int pendingTxRetentionPeriod;
   private final int txMessageKeepAliveSeconds;
@@ -39,12 +41,14 @@ public class TransactionPoolConfiguration {
 
   public TransactionPoolConfiguration(
       final int txPoolMaxSize,
+      final long txPoolMaxBytes,
       final int pooledTransactionHashesSize,
       final int pendingTxRetentionPeriod,
       final int txMessageKeepAliveSeconds,
       final Percentage priceBump,
       final Wei txFeeCap) {
     this.txPoolMaxSize = txPoolMaxSize;
+    this.txPoolMaxBytes = txPoolMaxBytes;
     this.pooledTransactionHashesSize = pooledTransactionHashesSize;
     this.pendingTxRetentionPeriod = pendingTxRetentionPeriod;
     this.txMessageKeepAliveSeconds = txMessageKeepAliveSeconds;
@@ -56,6 +60,10 @@ public class TransactionPoolConfiguration {
     return txPoolMaxSize;
   }
 
+  public long getTxPoolMaxBytes() {
+    return txPoolMaxBytes;
+  }
+
   public int getPooledTransactionHashesSize() {
     return pooledTransactionHashesSize;
   }
@@ -86,6 +94,7 @@ public class TransactionPoolConfiguration {
     }
     final TransactionPoolConfiguration that = (TransactionPoolConfiguration) o;
     return txPoolMaxSize == that.txPoolMaxSize
+        && txPoolMaxBytes == that.txPoolMaxBytes
         && Objects.equals(pendingTxRetentionPeriod, that.pendingTxRetentionPeriod)
         && Objects.equals(txMessageKeepAliveSeconds, that.txMessageKeepAliveSeconds)
         && Objects.equals(priceBump, that.priceBump)
@@ -95,7 +104,12 @@ public class TransactionPoolConfiguration {
   @Override
   public int hashCode() {
     return Objects.hash(
-        txPoolMaxSize, pendingTxRetentionPeriod, txMessageKeepAliveSeconds, priceBump, txFeeCap);
+        txPoolMaxSize,
+        txPoolMaxBytes,
+        pendingTxRetentionPeriod,
+        txMessageKeepAliveSeconds,
+        priceBump,
+        txFeeCap);
   }
 
   @Override
@@ -103,6 +117,8 @@ public class TransactionPoolConfiguration {
     return "TransactionPoolConfiguration{"
         + "txPoolMaxSize="
         + txPoolMaxSize
+        + ", txPoolMaxBytes="
+        + txPoolMaxBytes
         + ", pendingTxRetentionPeriod="
         + pendingTxRetentionPeriod
         + ", txMessageKeepAliveSeconds="
@@ -120,6 +136,7 @@ public class TransactionPoolConfiguration {
 
   public static class Builder {
     private int txPoolMaxSize = MAX_PENDING_TRANSACTIONS;
+    private long txPoolMaxBytes = MAX_PENDING_TRANSACTIONS_BYTES;
     private int pendingTxRetentionPeriod = DEFAULT_TX_RETENTION_HOURS;
     private Integer txMessageKeepAliveSeconds = DEFAULT_TX_MSG_KEEP_ALIVE;
     private int pooledTransactionHashesSize = MAX_PENDING_TRANSACTIONS_HASHES;
@@ -131,6 +148,11 @@ public class TransactionPoolConfiguration {
       return this;
     }
 
+    public Builder txPoolMaxBytes(final long txPoolMaxBytes) {
+      this.txPoolMaxBytes = txPoolMaxBytes;
+      return this;
+    }
+
     public Builder pooledTransactionHashesSize(final int pooledTransactionHashesSize) {
       this.pooledTransactionHashesSize = pooledTransactionHashesSize;
       return this;
@@ -163,6 +185,7 @@ public class TransactionPoolConfiguration {
     public TransactionPoolConfiguration build() {
       return new TransactionPoolConfiguration(
           txPoolMaxSize,
+          txPoolMaxBytes,
           pooledTransactionHashesSize,
           pendingTxRetentionPeriod,
           txMessageKeepAliveSeconds,
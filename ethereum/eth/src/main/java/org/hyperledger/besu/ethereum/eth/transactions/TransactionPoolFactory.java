@@ -48,6 +48,7 @@ public class TransactionPoolFactory {
         new PendingTransactions(
             transactionPoolConfiguration.getPendingTxRetentionPeriod(),
             transactionPoolConfiguration.getTxPoolMaxSize(),
+            transactionPoolConfiguration.getTxPoolMaxBytes(),
             transactionPoolConfiguration.getPooledTransactionHashesSize(),
             clock,
             metricsSystem,
@@ -23,14 +23,40 @@ import java.util.OptionalLong;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.LongStream;
 
+/**
+ * The pending transactions of a single sender, split into those that are ready to be executed and
+ * those waiting for a nonce gap before them to be filled.
+ *
+ * <p>The ready transactions are the run of consecutive nonces starting at the next nonce the sender
+ * is expected to use. That nonce starts as the sender's account nonce at the chain head when the
+ * sender's first transaction is added, and then follows the sender's transactions being included in
+ * and removed from blocks. Transactions are promoted to and demoted from the ready run as
+ * transactions are added and removed, and the supplied callbacks are told about each change.
+ */
 class TransactionsForSenderInfo {
   private final NavigableMap<Long, PendingTransactions.TransactionInfo> transactionsInfos;
   private final Queue<Long> gaps = new PriorityQueue<>();
+  private final Consumer<TransactionInfo> onPromoted;
+  private final Consumer<TransactionInfo> onDemoted;
 
-  TransactionsForSenderInfo() {
-    transactionsInfos = new TreeMap<>();
+  private long nextExpectedNonce;
+  // the ready transactions are those with nonces in [readyFrom, readyTo)
+  private long readyFrom;
+  private long readyTo;
+
+  TransactionsForSenderInfo(
+      final long senderNonce,
+      final Consumer<TransactionInfo> onPromoted,
+      final Consumer<TransactionInfo> onDemoted) {
+    this.transactionsInfos = new TreeMap<>();
+    this.nextExpectedNonce = senderNonce;
+    this.readyFrom = senderNonce;
+    this.readyTo = senderNonce;
+    this.onPromoted = onPromoted;
+    this.onDemoted = onDemoted;
   }
 
   void addTransactionToTrack(
@@ -43,6 +69,62 @@ class TransactionsForSenderInfo {
         }
       }
       transactionsInfos.put(nonce, transactionInfo);
+      updateReadyTransactions();
+    }
+  }
+
+  /**
+   * Stops tracking the transaction with the given nonce. Any ready transactions that followed it
+   * are demoted, as they can no longer be executed.
+   *
+   * @param nonce the nonce of the transaction to remove
+   * @return the removed transaction, if there was one
+   */
+  TransactionInfo removeTrackedTransaction(final long nonce) {
+    synchronized (transactionsInfos) {
+      final TransactionInfo removed = transactionsInfos.remove(nonce);
+      if (removed == null) {
+        return null;
+      }
+      if (nonce == readyFrom && readyFrom < readyTo) {
+        readyFrom++;
+      } else if (nonce > readyFrom && nonce < readyTo) {
+        demote(nonce + 1, readyTo);
+        readyTo = nonce;
+      }
+      updateReadyTransactions();
+      return removed;
+    }
+  }
+
+  /**
+   * Records that the sender has used the given nonce, so its next transaction must have the
+   * following nonce. The caller is responsible for removing any transactions with nonces up to and
+   * including the used one.
+   *
+   * @param nonce the nonce of a transaction from this sender that has been included in a block
+   */
+  void nonceUsed(final long nonce) {
+    synchronized (transactionsInfos) {
+      if (nonce >= nextExpectedNonce) {
+        nextExpectedNonce = nonce + 1;
+        updateReadyTransactions();
+      }
+    }
+  }
+
+  /**
+   * Records that a transaction from the sender is no longer included in the chain, so the sender is
+   * expected to use its nonce again.
+   *
+   * @param nonce the nonce of a transaction from this sender in a block removed from the chain
+   */
+  void nonceReverted(final long nonce) {
+    synchronized (transactionsInfos) {
+      if (nonce < nextExpectedNonce) {
+        nextExpectedNonce = nonce;
+        updateReadyTransactions();
+      }
     }
   }
 
@@ -67,4 +149,33 @@ class TransactionsForSenderInfo {
       return gaps.isEmpty() ? OptionalLong.empty() : OptionalLong.of(gaps.poll());
     }
   }
+
+  private void updateReadyTransactions() {
+    final long from = nextExpectedNonce;
+    if (from > readyFrom && from <= readyTo) {
+      // the front of the ready run has been used up
+      demote(readyFrom, from);
+    } else if (from == readyFrom - 1
+        && readyFrom < readyTo
+        && transactionsInfos.containsKey(from)) {
+      // the transaction before the ready run joins its front
+      promote(from);
+    } else if (from != readyFrom) {
+      demote(readyFrom, readyTo);
+      readyTo = from;
+    }
+    readyFrom = from;
+    while (transactionsInfos.containsKey(readyTo)) {
+      promote(readyTo);
+      readyTo++;
+    }
+  }
+
+  private void promote(final long nonce) {
+    onPromoted.accept(transactionsInfos.get(nonce));
+  }
+
+  private void demote(final long fromNonce, final long toNonce) {
+    transactionsInfos.subMap(fromNonce, true, toNonce, false).values().forEach(onDemoted);
+  }
 }
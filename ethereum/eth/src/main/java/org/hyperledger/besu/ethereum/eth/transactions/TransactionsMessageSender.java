@@ -33,6 +33,8 @@ class TransactionsMessageSender {
   public void sendTransactionsToPeers() {
     StreamSupport.stream(transactionTracker.getEthPeersWithUnsentTransactions().spliterator(), true)
         .parallel()
+        // peers whose connection is backed up keep their transactions queued for a later round
+        .filter(EthPeer::isWritable)
         .forEach(this::sendTransactionsToPeer);
   }
 
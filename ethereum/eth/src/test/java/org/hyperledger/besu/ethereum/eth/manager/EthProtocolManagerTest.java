@@ -47,6 +47,7 @@ import org.hyperledger.besu.ethereum.eth.messages.GetBlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetBlockHeadersMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetNodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetReceiptsMessage;
+import org.hyperledger.besu.ethereum.eth.messages.NewBlockHashesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.NewBlockMessage;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.ReceiptsMessage;
@@ -834,7 +835,7 @@ public final class EthProtocolManagerTest {
   }
 
   @Test
-  public void newBlockMinedSendsNewBlockMessageToAllPeers() {
+  public void newBlockMinedSendsNewBlockMessageToSquareRootOfPeers() {
     try (final EthProtocolManager ethManager =
         EthProtocolManagerTestUtil.create(
             blockchain,
@@ -863,8 +864,8 @@ public final class EthProtocolManagerTest {
 
       ethManager.blockMined(minedBlock);
 
-      final ArgumentCaptor<NewBlockMessage> messageSentCaptor =
-          ArgumentCaptor.forClass(NewBlockMessage.class);
+      final ArgumentCaptor<MessageData> messageSentCaptor =
+          ArgumentCaptor.forClass(MessageData.class);
       final ArgumentCaptor<PeerConnection> receivingPeerCaptor =
           ArgumentCaptor.forClass(PeerConnection.class);
       final ArgumentCaptor<Capability> capabilityCaptor = ArgumentCaptor.forClass(Capability.class);
@@ -879,9 +880,21 @@ public final class EthProtocolManagerTest {
       assertThat(capabilityCaptor.getAllValues().stream().distinct().collect(Collectors.toList()))
           .isEqualTo(Collections.singletonList(EthProtocol.ETH63));
 
-      // assert that all messages transmitted contain the expected block & total difficulty.
+      // assert that the full block went to the square root of the peers, and the others were sent
+      // its hash
+      final List<NewBlockMessage> newBlockMessages =
+          messageSentCaptor.getAllValues().stream()
+              .filter(NewBlockMessage.class::isInstance)
+              .map(NewBlockMessage.class::cast)
+              .collect(Collectors.toList());
+      assertThat(newBlockMessages).hasSize(2);
+      assertThat(messageSentCaptor.getAllValues())
+          .filteredOn(NewBlockHashesMessage.class::isInstance)
+          .hasSize(PEER_COUNT - 2);
+
+      // assert that all full block messages contain the expected block & total difficulty.
       final ProtocolSchedule protocolSchdeule = MainnetProtocolSchedule.create();
-      for (final NewBlockMessage msg : messageSentCaptor.getAllValues()) {
+      for (final NewBlockMessage msg : newBlockMessages) {
         assertThat(msg.block(protocolSchdeule)).isEqualTo(minedBlock);
         assertThat(msg.totalDifficulty(protocolSchdeule)).isEqualTo(expectedTotalDifficulty);
       }
@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.eth.messages;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
 import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.difficulty.fixed.FixedDifficultyProtocolSchedule;
@@ -29,8 +30,10 @@ import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.google.common.io.Resources;
 import org.apache.tuweni.bytes.Bytes;
@@ -74,4 +77,15 @@ public final class BlockBodiesMessageTest {
       Assertions.assertThat(readBodies.next()).isEqualTo(bodies.get(i));
     }
   }
+
+  @Test
+  public void encodedBlockBodiesAreSentAsIs() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<BlockBody> bodies = Arrays.asList(gen.body(), gen.body(), BlockBody.empty());
+    final List<Bytes> encodedBodies =
+        bodies.stream().map(body -> RLP.encode(body::writeTo)).collect(Collectors.toList());
+
+    Assertions.assertThat(BlockBodiesMessage.createFromEncoded(encodedBodies).getData())
+        .isEqualTo(BlockBodiesMessage.create(bodies).getData());
+  }
 }
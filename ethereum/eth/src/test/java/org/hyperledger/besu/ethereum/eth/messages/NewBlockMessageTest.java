@@ -16,14 +16,17 @@ package org.hyperledger.besu.ethereum.eth.messages;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
@@ -66,6 +69,33 @@ public class NewBlockMessageTest {
     assertThat(extractedBlock).isEqualTo(blockForInsertion);
   }
 
+  @Test
+  public void headerAndTotalDifficultyAreReadWithoutDecodingTheBlockBody() {
+    final Difficulty totalDifficulty = Difficulty.of(12345);
+    final BlockHeader header = new BlockDataGenerator().header();
+
+    // a block whose single "transaction" is not a valid transaction
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    tmp.startList();
+    header.writeTo(tmp);
+    tmp.startList();
+    tmp.writeBytes(Bytes.fromHexString("0x0102"));
+    tmp.endList();
+    tmp.startList();
+    tmp.endList();
+    tmp.endList();
+    tmp.writeUInt256Scalar(totalDifficulty);
+    tmp.endList();
+
+    final NewBlockMessage newBlockMsg =
+        NewBlockMessage.readFrom(new RawMessage(EthPV62.NEW_BLOCK, tmp.encoded()));
+
+    assertThat(newBlockMsg.header(protocolSchedule)).isEqualTo(header);
+    assertThat(newBlockMsg.totalDifficulty(protocolSchedule)).isEqualTo(totalDifficulty);
+    assertThatThrownBy(() -> newBlockMsg.block(protocolSchedule)).isInstanceOf(RLPException.class);
+  }
+
   @Test
   public void readFromMessageWithWrongCodeThrows() {
     final RawMessage rawMsg = new RawMessage(EthPV62.BLOCK_HEADERS, Bytes.of(0));
@@ -25,13 +25,19 @@ import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.eth.manager.ChainState;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
+import org.hyperledger.besu.ethereum.eth.messages.NewBlockHashesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.NewBlockHashesMessage.NewBlockHash;
 import org.hyperledger.besu.ethereum.eth.messages.NewBlockMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -81,6 +87,47 @@ public class BlockBroadcasterTest {
     verify(ethPeer1, times(1)).send(newBlockMessage);
   }
 
+  @Test
+  public void fullBlockIsOnlySentToSquareRootOfBestPeers() throws PeerConnection.PeerNotConnected {
+    final List<EthPeer> peers = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      peers.add(peerWithTotalDifficulty(i));
+    }
+    final EthPeers ethPeers = mock(EthPeers.class);
+    when(ethPeers.streamAvailablePeers()).thenReturn(peers.stream());
+
+    final EthContext ethContext = mock(EthContext.class);
+    when(ethContext.getEthPeers()).thenReturn(ethPeers);
+
+    final BlockBroadcaster blockBroadcaster = new BlockBroadcaster(ethContext);
+    final Block block = generateBlock();
+    final NewBlockMessage newBlockMessage = NewBlockMessage.create(block, Difficulty.ZERO);
+    final NewBlockHashesMessage newBlockHashesMessage =
+        NewBlockHashesMessage.create(
+            Collections.singletonList(
+                new NewBlockHash(block.getHash(), block.getHeader().getNumber())));
+
+    blockBroadcaster.propagate(block, Difficulty.ZERO);
+
+    for (final EthPeer bestPeer : peers.subList(6, 9)) {
+      verify(bestPeer).send(newBlockMessage);
+      verify(bestPeer).registerKnownBlock(block.getHash());
+    }
+    for (final EthPeer otherPeer : peers.subList(0, 6)) {
+      verify(otherPeer).send(newBlockHashesMessage);
+      verify(otherPeer, never()).send(newBlockMessage);
+      verify(otherPeer).registerKnownBlock(block.getHash());
+    }
+  }
+
+  private EthPeer peerWithTotalDifficulty(final long totalDifficulty) {
+    final ChainState chainState = new ChainState();
+    chainState.statusReceived(Hash.EMPTY, Difficulty.of(totalDifficulty));
+    final EthPeer ethPeer = mock(EthPeer.class);
+    when(ethPeer.chainState()).thenReturn(chainState);
+    return ethPeer;
+  }
+
   private Block generateBlock() {
     final BlockBody body = new BlockBody(Collections.emptyList(), Collections.emptyList());
     return new Block(new BlockHeaderTestFixture().buildHeader(), body);
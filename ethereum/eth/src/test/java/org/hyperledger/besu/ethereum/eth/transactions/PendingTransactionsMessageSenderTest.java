@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -62,6 +63,8 @@ public class PendingTransactionsMessageSenderTest {
   public void setUp() {
     Transaction tx = mock(Transaction.class);
     when(pendingTransactions.getTransactionByHash(any())).thenReturn(Optional.of(tx));
+    when(peer1.isWritable()).thenReturn(true);
+    when(peer2.isWritable()).thenReturn(true);
   }
 
   @Test
@@ -75,9 +78,28 @@ public class PendingTransactionsMessageSenderTest {
 
     verify(peer1).send(transactionsMessageContaining(transaction1, transaction2));
     verify(peer2).send(transactionsMessageContaining(transaction3));
+    verify(peer1).isWritable();
+    verify(peer2).isWritable();
     verifyNoMoreInteractions(peer1, peer2);
   }
 
+  @Test
+  public void shouldHoldBackTransactionsForPeersThatAreNotWritable() throws Exception {
+    when(peer2.isWritable()).thenReturn(false);
+    transactionTracker.addToPeerSendQueue(peer1, transaction1);
+    transactionTracker.addToPeerSendQueue(peer2, transaction2);
+
+    messageSender.sendTransactionsToPeers();
+
+    verify(peer1).send(transactionsMessageContaining(transaction1));
+    verify(peer2, never()).send(any());
+
+    when(peer2.isWritable()).thenReturn(true);
+    messageSender.sendTransactionsToPeers();
+
+    verify(peer2).send(transactionsMessageContaining(transaction2));
+  }
+
   @Test
   public void shouldSendTransactionsInBatchesWithLimit() throws Exception {
     final Set<Hash> transactions =
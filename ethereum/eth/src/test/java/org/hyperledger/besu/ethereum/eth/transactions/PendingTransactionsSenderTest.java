@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.eth.transactions;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -28,11 +30,14 @@ import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.stream.Stream;
 
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class PendingTransactionsSenderTest {
 
@@ -64,4 +69,37 @@ public class PendingTransactionsSenderTest {
     verify(peerPendingTransactionTracker, times(1)).addToPeerSendQueue(peer1, hash);
     verify(peerPendingTransactionTracker, never()).addToPeerSendQueue(peer2, hash);
   }
+
+  @Test
+  public void shouldBatchAnnouncementsOfTransactionsAddedBeforeTheyAreSent() {
+    final PendingTransactionsMessageSender pendingTransactionsMessageSender =
+        mock(PendingTransactionsMessageSender.class);
+    final EthContext ethContext = mock(EthContext.class);
+    final EthScheduler ethScheduler = mock(EthScheduler.class);
+    final EthPeers ethPeers = mock(EthPeers.class);
+    when(ethContext.getScheduler()).thenReturn(ethScheduler);
+    when(ethContext.getEthPeers()).thenReturn(ethPeers);
+    when(ethPeers.streamAvailablePeers()).thenAnswer(invocation -> Stream.empty());
+    final PendingTransactionSender sender =
+        new PendingTransactionSender(
+            mock(PeerPendingTransactionTracker.class),
+            pendingTransactionsMessageSender,
+            ethContext);
+
+    sender.onTransactionsAdded(Collections.singleton(mock(Transaction.class)));
+    sender.onTransactionsAdded(Collections.singleton(mock(Transaction.class)));
+
+    final ArgumentCaptor<Runnable> announcement = ArgumentCaptor.forClass(Runnable.class);
+    verify(ethScheduler, times(1))
+        .scheduleFutureTask(
+            announcement.capture(), eq(PendingTransactionSender.ANNOUNCEMENT_INTERVAL));
+    verify(ethScheduler, never()).scheduleSyncWorkerTask(any(Runnable.class));
+
+    announcement.getValue().run();
+    verify(ethScheduler, times(1)).scheduleSyncWorkerTask(any(Runnable.class));
+
+    // transactions added after the announcement went out are announced again
+    sender.onTransactionsAdded(Collections.singleton(mock(Transaction.class)));
+    verify(ethScheduler, times(2)).scheduleFutureTask(any(Runnable.class), any(Duration.class));
+  }
 }
@@ -38,8 +38,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class PendingTransactionsTest {
@@ -78,13 +86,13 @@ public class PendingTransactionsTest {
   @Test
   public void shouldReturnExclusivelyLocalTransactionsWhenAppropriate() {
     final Transaction localTransaction0 = createTransaction(0);
-    transactions.addLocalTransaction(localTransaction0);
+    transactions.addLocalTransaction(localTransaction0, 0);
     assertThat(transactions.size()).isEqualTo(1);
 
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(2);
 
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
     assertThat(transactions.size()).isEqualTo(3);
 
     final List<Transaction> localTransactions = transactions.getLocalTransactions();
@@ -93,11 +101,11 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldAddATransaction() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(1);
 
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
     assertThat(transactions.size()).isEqualTo(2);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(2);
   }
@@ -109,21 +117,21 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldGetTransactionByHash() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertTransactionPending(transaction1);
   }
 
   @Test
   public void shouldDropOldestTransactionWhenLimitExceeded() {
     final Transaction oldestTransaction = createTransaction(0);
-    transactions.addRemoteTransaction(oldestTransaction);
+    transactions.addRemoteTransaction(oldestTransaction, 0);
     for (int i = 1; i < MAX_TRANSACTIONS; i++) {
-      transactions.addRemoteTransaction(createTransaction(i));
+      transactions.addRemoteTransaction(createTransaction(i), 0);
     }
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
     assertThat(metricsSystem.getCounterValue(REMOVED_COUNTER, REMOTE, DROPPED)).isZero();
 
-    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 1));
+    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 1), 0);
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
     assertTransactionNotPending(oldestTransaction);
     assertThat(metricsSystem.getCounterValue(REMOVED_COUNTER, REMOTE, DROPPED)).isEqualTo(1);
@@ -131,26 +139,26 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldHandleMaximumTransactionLimitCorrectlyWhenSameTransactionAddedMultipleTimes() {
-    transactions.addRemoteTransaction(createTransaction(0));
-    transactions.addRemoteTransaction(createTransaction(0));
+    transactions.addRemoteTransaction(createTransaction(0), 0);
+    transactions.addRemoteTransaction(createTransaction(0), 0);
 
     for (int i = 1; i < MAX_TRANSACTIONS; i++) {
-      transactions.addRemoteTransaction(createTransaction(i));
+      transactions.addRemoteTransaction(createTransaction(i), 0);
     }
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
 
-    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 1));
-    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 2));
+    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 1), 0);
+    transactions.addRemoteTransaction(createTransaction(MAX_TRANSACTIONS + 2), 0);
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
   }
 
   @Test
   public void shouldPrioritizeLocalTransaction() {
     final Transaction localTransaction = createTransaction(0);
-    transactions.addLocalTransaction(localTransaction);
+    transactions.addLocalTransaction(localTransaction, 0);
 
     for (int i = 1; i <= MAX_TRANSACTIONS; i++) {
-      transactions.addRemoteTransaction(createTransaction(i));
+      transactions.addRemoteTransaction(createTransaction(i), 0);
     }
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
     assertTransactionPending(localTransaction);
@@ -159,10 +167,10 @@ public class PendingTransactionsTest {
   @Test
   public void shouldStartDroppingLocalTransactionsWhenPoolIsFullOfLocalTransactions() {
     final Transaction firstLocalTransaction = createTransaction(0);
-    transactions.addLocalTransaction(firstLocalTransaction);
+    transactions.addLocalTransaction(firstLocalTransaction, 0);
 
     for (int i = 1; i <= MAX_TRANSACTIONS; i++) {
-      transactions.addLocalTransaction(createTransaction(i));
+      transactions.addLocalTransaction(createTransaction(i), 0);
     }
     assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
     assertTransactionNotPending(firstLocalTransaction);
@@ -172,7 +180,7 @@ public class PendingTransactionsTest {
   public void shouldNotifyListenerWhenRemoteTransactionAdded() {
     transactions.subscribePendingTransactions(listener);
 
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
 
     verify(listener).onTransactionAdded(transaction1);
   }
@@ -181,13 +189,13 @@ public class PendingTransactionsTest {
   public void shouldNotNotifyListenerAfterUnsubscribe() {
     final long id = transactions.subscribePendingTransactions(listener);
 
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
 
     verify(listener).onTransactionAdded(transaction1);
 
     transactions.unsubscribePendingTransactions(id);
 
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     verifyZeroInteractions(listener);
   }
@@ -196,14 +204,14 @@ public class PendingTransactionsTest {
   public void shouldNotifyListenerWhenLocalTransactionAdded() {
     transactions.subscribePendingTransactions(listener);
 
-    transactions.addLocalTransaction(transaction1);
+    transactions.addLocalTransaction(transaction1, 1);
 
     verify(listener).onTransactionAdded(transaction1);
   }
 
   @Test
   public void shouldNotifyDroppedListenerWhenRemoteTransactionDropped() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
 
     transactions.subscribeDroppedTransactions(droppedListener);
 
@@ -214,8 +222,8 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldNotNotifyDroppedListenerAfterUnsubscribe() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     final long id = transactions.subscribeDroppedTransactions(droppedListener);
 
@@ -232,7 +240,7 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldNotifyDroppedListenerWhenLocalTransactionDropped() {
-    transactions.addLocalTransaction(transaction1);
+    transactions.addLocalTransaction(transaction1, 1);
 
     transactions.subscribeDroppedTransactions(droppedListener);
 
@@ -243,7 +251,7 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldNotNotifyDroppedListenerWhenTransactionAddedToBlock() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
 
     transactions.subscribeDroppedTransactions(droppedListener);
 
@@ -254,8 +262,8 @@ public class PendingTransactionsTest {
 
   @Test
   public void selectTransactionsUntilSelectorRequestsNoMore() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     final List<Transaction> parsedTransactions = Lists.newArrayList();
     transactions.selectTransactions(
@@ -270,8 +278,8 @@ public class PendingTransactionsTest {
 
   @Test
   public void selectTransactionsUntilPendingIsEmpty() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     final List<Transaction> parsedTransactions = Lists.newArrayList();
     transactions.selectTransactions(
@@ -290,8 +298,8 @@ public class PendingTransactionsTest {
     final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
     final Transaction transaction2 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 2);
 
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     final List<Transaction> parsedTransactions = Lists.newArrayList();
     transactions.selectTransactions(
@@ -305,8 +313,8 @@ public class PendingTransactionsTest {
 
   @Test
   public void invalidTransactionIsDeletedFromPendingTransactions() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
 
     final List<Transaction> parsedTransactions = Lists.newArrayList();
     transactions.selectTransactions(
@@ -330,7 +338,7 @@ public class PendingTransactionsTest {
   @Test
   public void shouldReturnEmptyOptionalAsMaximumNonceWhenLastTransactionForSenderRemoved() {
     final Transaction transaction = transactionWithNonceAndSender(1, KEYS1);
-    transactions.addRemoteTransaction(transaction);
+    transactions.addRemoteTransaction(transaction, 1);
     transactions.removeTransaction(transaction);
     assertThat(transactions.getNextNonceForSender(SENDER1)).isEmpty();
   }
@@ -340,9 +348,9 @@ public class PendingTransactionsTest {
     final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
     final Transaction transaction1b = transactionWithNonceSenderAndGasPrice(1, KEYS1, 2);
     final Transaction transaction2 = transactionWithNonceSenderAndGasPrice(2, KEYS1, 1);
-    assertThat(transactions.addRemoteTransaction(transaction1)).isTrue();
-    assertThat(transactions.addRemoteTransaction(transaction2)).isTrue();
-    assertThat(transactions.addRemoteTransaction(transaction1b)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction1, 1)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction2, 1)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction1b, 1)).isTrue();
 
     assertTransactionNotPending(transaction1);
     assertTransactionPending(transaction1b);
@@ -359,12 +367,12 @@ public class PendingTransactionsTest {
     for (int i = 0; i < replacedTxCount; i++) {
       final Transaction duplicateTx = transactionWithNonceSenderAndGasPrice(1, KEYS1, i + 1);
       replacedTransactions.add(duplicateTx);
-      transactions.addRemoteTransaction(duplicateTx);
+      transactions.addRemoteTransaction(duplicateTx, 1);
     }
     final Transaction finalReplacingTx = transactionWithNonceSenderAndGasPrice(1, KEYS1, 100);
     final Transaction independentTx = transactionWithNonceSenderAndGasPrice(2, KEYS1, 1);
-    assertThat(transactions.addRemoteTransaction(independentTx)).isTrue();
-    assertThat(transactions.addRemoteTransaction(finalReplacingTx)).isTrue();
+    assertThat(transactions.addRemoteTransaction(independentTx, 1)).isTrue();
+    assertThat(transactions.addRemoteTransaction(finalReplacingTx, 1)).isTrue();
 
     // All tx's except the last duplicate should be removed
     replacedTransactions.forEach(this::assertTransactionNotPending);
@@ -389,17 +397,17 @@ public class PendingTransactionsTest {
           transactionWithNonceSenderAndGasPrice(1, KEYS1, (i * 110 / 100) + 1);
       replacedTransactions.add(duplicateTx);
       if (i % 2 == 0) {
-        transactions.addRemoteTransaction(duplicateTx);
+        transactions.addRemoteTransaction(duplicateTx, 1);
         remoteDuplicateCount++;
       } else {
-        transactions.addLocalTransaction(duplicateTx);
+        transactions.addLocalTransaction(duplicateTx, 1);
       }
     }
     final Transaction finalReplacingTx = transactionWithNonceSenderAndGasPrice(1, KEYS1, 100);
     final Transaction independentTx = transactionWithNonceSenderAndGasPrice(2, KEYS1, 1);
-    assertThat(transactions.addLocalTransaction(finalReplacingTx))
+    assertThat(transactions.addLocalTransaction(finalReplacingTx, 1))
         .isEqualTo(TransactionAddedStatus.ADDED);
-    assertThat(transactions.addRemoteTransaction(independentTx)).isTrue();
+    assertThat(transactions.addRemoteTransaction(independentTx, 1)).isTrue();
 
     // All tx's except the last duplicate should be removed
     replacedTransactions.forEach(this::assertTransactionNotPending);
@@ -423,8 +431,8 @@ public class PendingTransactionsTest {
   public void shouldReplaceOnlyTransactionFromSenderWhenItHasTheSameNonce() {
     final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
     final Transaction transaction1b = transactionWithNonceSenderAndGasPrice(1, KEYS1, 2);
-    assertThat(transactions.addRemoteTransaction(transaction1)).isTrue();
-    assertThat(transactions.addRemoteTransaction(transaction1b)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction1, 1)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction1b, 1)).isTrue();
 
     assertTransactionNotPending(transaction1);
     assertTransactionPending(transaction1b);
@@ -437,10 +445,10 @@ public class PendingTransactionsTest {
   public void shouldNotReplaceTransactionWithSameSenderAndNonceWhenGasPriceIsLower() {
     final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 2);
     final Transaction transaction1b = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
-    assertThat(transactions.addRemoteTransaction(transaction1)).isTrue();
+    assertThat(transactions.addRemoteTransaction(transaction1, 1)).isTrue();
 
     transactions.subscribePendingTransactions(listener);
-    assertThat(transactions.addRemoteTransaction(transaction1b)).isFalse();
+    assertThat(transactions.addRemoteTransaction(transaction1b, 1)).isFalse();
 
     assertTransactionNotPending(transaction1b);
     assertTransactionPending(transaction1);
@@ -450,16 +458,16 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldTrackMaximumNonceForEachSender() {
-    transactions.addRemoteTransaction(transactionWithNonceAndSender(0, KEYS1));
+    transactions.addRemoteTransaction(transactionWithNonceAndSender(0, KEYS1), 0);
     assertMaximumNonceForSender(SENDER1, 1);
 
-    transactions.addRemoteTransaction(transactionWithNonceAndSender(1, KEYS1));
+    transactions.addRemoteTransaction(transactionWithNonceAndSender(1, KEYS1), 0);
     assertMaximumNonceForSender(SENDER1, 2);
 
-    transactions.addRemoteTransaction(transactionWithNonceAndSender(2, KEYS1));
+    transactions.addRemoteTransaction(transactionWithNonceAndSender(2, KEYS1), 0);
     assertMaximumNonceForSender(SENDER1, 3);
 
-    transactions.addRemoteTransaction(transactionWithNonceAndSender(20, KEYS2));
+    transactions.addRemoteTransaction(transactionWithNonceAndSender(20, KEYS2), 20);
     assertMaximumNonceForSender(SENDER2, 21);
     assertMaximumNonceForSender(SENDER1, 3);
   }
@@ -470,9 +478,9 @@ public class PendingTransactionsTest {
     final Transaction transaction2 = transactionWithNonceAndSender(1, KEYS1);
     final Transaction transaction3 = transactionWithNonceAndSender(2, KEYS1);
 
-    transactions.addLocalTransaction(transaction1);
-    transactions.addLocalTransaction(transaction2);
-    transactions.addLocalTransaction(transaction3);
+    transactions.addLocalTransaction(transaction1, 0);
+    transactions.addLocalTransaction(transaction2, 0);
+    transactions.addLocalTransaction(transaction3, 0);
 
     final List<Transaction> iterationOrder = new ArrayList<>();
     transactions.selectTransactions(
@@ -489,8 +497,8 @@ public class PendingTransactionsTest {
     final Transaction transaction1 = transactionWithNonceAndSender(0, KEYS1);
     final Transaction transaction2 = transactionWithNonceAndSender(1, KEYS2);
 
-    transactions.addLocalTransaction(transaction1);
-    transactions.addLocalTransaction(transaction2);
+    transactions.addLocalTransaction(transaction1, 0);
+    transactions.addLocalTransaction(transaction2, 1);
 
     final List<Transaction> iterationOrder = new ArrayList<>();
     transactions.selectTransactions(
@@ -509,10 +517,10 @@ public class PendingTransactionsTest {
     final Transaction transaction3 = transactionWithNonceAndSender(2, KEYS1);
     final Transaction transaction4 = transactionWithNonceAndSender(5, KEYS2);
 
-    transactions.addLocalTransaction(transaction1);
-    transactions.addLocalTransaction(transaction4);
-    transactions.addLocalTransaction(transaction2);
-    transactions.addLocalTransaction(transaction3);
+    transactions.addLocalTransaction(transaction1, 0);
+    transactions.addLocalTransaction(transaction4, 5);
+    transactions.addLocalTransaction(transaction2, 0);
+    transactions.addLocalTransaction(transaction3, 0);
 
     final List<Transaction> iterationOrder = new ArrayList<>();
     transactions.selectTransactions(
@@ -530,6 +538,79 @@ public class PendingTransactionsTest {
     assertThat(transactions.getNextNonceForSender(sender1)).isEqualTo(OptionalLong.of(i));
   }
 
+  @Test
+  public void shouldEvictRemoteTransactionWithLowestPricePerByteWhenMemoryLimitIsReached() {
+    final PendingTransactions transactions = transactionsWithMaxBytes(4 * 1024);
+    final Transaction cheap = transactionWithNonceSenderAndGasPrice(0, KEYS1, 1);
+    final Transaction expensive = transactionWithNonceSenderAndGasPrice(0, KEYS2, 5);
+    final Transaction large =
+        new TransactionTestFixture()
+            .nonce(0)
+            .gasPrice(Wei.of(2))
+            .payload(Bytes.wrap(new byte[2048]))
+            .createTransaction(KeyPair.generate());
+
+    transactions.addRemoteTransaction(cheap, 0);
+    transactions.addRemoteTransaction(large, 0);
+    assertThat(transactions.sizeInBytes()).isEqualTo(4 * 1024);
+
+    // the large transaction pays less per byte than the cheap one, so it goes first
+    transactions.addRemoteTransaction(expensive, 0);
+
+    assertThat(transactions.getTransactionByHash(large.getHash())).isEmpty();
+    assertThat(transactions.getTransactionByHash(cheap.getHash())).contains(cheap);
+    assertThat(transactions.getTransactionByHash(expensive.getHash())).contains(expensive);
+    assertThat(transactions.sizeInBytes()).isEqualTo(2 * 1024);
+    assertThat(metricsSystem.getCounterValue("transactions_evicted_total", "bytes")).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotEvictLocalTransactionsWhenMemoryLimitIsReached() {
+    final PendingTransactions transactions = transactionsWithMaxBytes(2 * 1024);
+    final Transaction local1 = transactionWithNonceSenderAndGasPrice(0, KEYS1, 1);
+    final Transaction local2 = transactionWithNonceSenderAndGasPrice(0, KEYS2, 1);
+    final Transaction remote = transactionWithNonceSenderAndGasPrice(1, KEYS1, 5);
+
+    transactions.addLocalTransaction(local1, 0);
+    transactions.addLocalTransaction(local2, 0);
+    transactions.addRemoteTransaction(remote, 0);
+
+    assertThat(transactions.getTransactionByHash(remote.getHash())).isEmpty();
+    assertThat(transactions.size()).isEqualTo(2);
+
+    final Transaction local3 = transactionWithNonceSenderAndGasPrice(1, KEYS2, 1);
+    transactions.addLocalTransaction(local3, 0);
+
+    assertThat(transactions.size()).isEqualTo(3);
+    assertThat(transactions.sizeInBytes()).isEqualTo(3 * 1024);
+  }
+
+  @Test
+  public void shouldReleaseMemoryOfRemovedTransactions() {
+    final PendingTransactions transactions = transactionsWithMaxBytes(Long.MAX_VALUE);
+    final Transaction transaction =
+        new TransactionTestFixture().payload(Bytes.wrap(new byte[100])).createTransaction(KEYS1);
+
+    transactions.addRemoteTransaction(transaction, 0);
+    assertThat(transactions.sizeInBytes()).isEqualTo(1024 + 100);
+
+    transactions.removeTransaction(transaction);
+    assertThat(transactions.sizeInBytes()).isZero();
+  }
+
+  private PendingTransactions transactionsWithMaxBytes(final long maxBytes) {
+    return new PendingTransactions(
+        TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+        MAX_TRANSACTIONS,
+        maxBytes,
+        MAX_TRANSACTION_HASHES,
+        TestClock.fixed(),
+        metricsSystem,
+        PendingTransactionsTest::mockBlockHeader,
+        Optional.empty(),
+        TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
+  }
+
   private Transaction transactionWithNonceAndSender(final int nonce, final KeyPair keyPair) {
     return new TransactionTestFixture().nonce(nonce).createTransaction(keyPair);
   }
@@ -571,9 +652,9 @@ public class PendingTransactionsTest {
             Optional.empty(),
             TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
 
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
     assertThat(transactions.size()).isEqualTo(2);
 
     clock.step(2L, ChronoUnit.HOURS);
@@ -595,7 +676,7 @@ public class PendingTransactionsTest {
             () -> null,
             Optional.empty(),
             TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
     clock.step(2L, ChronoUnit.HOURS);
     transactions.evictOldTransactions();
@@ -616,10 +697,10 @@ public class PendingTransactionsTest {
             () -> null,
             Optional.empty(),
             TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
     clock.step(3L, ChronoUnit.HOURS);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
     assertThat(transactions.size()).isEqualTo(2);
     transactions.evictOldTransactions();
     assertThat(transactions.size()).isEqualTo(1);
@@ -628,12 +709,12 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldNotIncrementAddedCounterWhenRemoteTransactionAlreadyPresent() {
-    transactions.addLocalTransaction(transaction1);
+    transactions.addLocalTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, LOCAL)).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(0);
 
-    assertThat(transactions.addRemoteTransaction(transaction1)).isFalse();
+    assertThat(transactions.addRemoteTransaction(transaction1, 1)).isFalse();
     assertThat(transactions.size()).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, LOCAL)).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(0);
@@ -641,12 +722,12 @@ public class PendingTransactionsTest {
 
   @Test
   public void shouldNotIncrementAddedCounterWhenLocalTransactionAlreadyPresent() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, LOCAL)).isEqualTo(0);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(1);
 
-    assertThat(transactions.addLocalTransaction(transaction1))
+    assertThat(transactions.addLocalTransaction(transaction1, 1))
         .isEqualTo(TransactionAddedStatus.ALREADY_KNOWN);
     assertThat(transactions.size()).isEqualTo(1);
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, LOCAL)).isEqualTo(0);
@@ -672,10 +753,229 @@ public class PendingTransactionsTest {
 
   private void addLocalTransactions(final int... nonces) {
     for (int nonce : nonces) {
-      transactions.addLocalTransaction(createTransaction(nonce));
+      transactions.addLocalTransaction(createTransaction(nonce), 1);
     }
   }
 
+  @Test
+  public void shouldAcceptTransactionsWhileSelectionIsInProgress() {
+    final Transaction addedDuringSelection = transactionWithNonceSenderAndGasPrice(0, KEYS2, 1);
+    transactions.addRemoteTransaction(transaction1, 2);
+
+    final List<Transaction> selected = new ArrayList<>();
+    transactions.selectTransactions(
+        transaction -> {
+          selected.add(transaction);
+          // would block on the selecting thread if the pool stayed locked during evaluation
+          final boolean added =
+              CompletableFuture.supplyAsync(
+                      () -> transactions.addRemoteTransaction(addedDuringSelection, 0))
+                  .orTimeout(10, TimeUnit.SECONDS)
+                  .join();
+          assertThat(added).isTrue();
+          return PendingTransactions.TransactionSelectionResult.CONTINUE;
+        });
+
+    assertThat(selected).containsExactly(transaction1);
+    assertTransactionPending(addedDuringSelection);
+  }
+
+  @Test
+  public void shouldRemainConsistentUnderConcurrentAddsAndSelections() throws Exception {
+    final int senders = 4;
+    final int transactionsPerSender = 100;
+    final PendingTransactions transactions =
+        new PendingTransactions(
+            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+            senders * transactionsPerSender,
+            MAX_TRANSACTION_HASHES,
+            TestClock.fixed(),
+            metricsSystem,
+            PendingTransactionsTest::mockBlockHeader,
+            Optional.empty(),
+            TransactionPoolConfiguration.DEFAULT_PRICE_BUMP);
+    final List<List<Transaction>> transactionsBySender = new ArrayList<>();
+    for (int sender = 0; sender < senders; sender++) {
+      final KeyPair keyPair = KeyPair.generate();
+      final List<Transaction> senderTransactions = new ArrayList<>();
+      for (int nonce = 0; nonce < transactionsPerSender; nonce++) {
+        senderTransactions.add(transactionWithNonceSenderAndGasPrice(nonce, keyPair, 1));
+      }
+      transactionsBySender.add(senderTransactions);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(senders + 1);
+    try {
+      final AtomicBoolean adding = new AtomicBoolean(true);
+      final Future<Integer> selections =
+          executor.submit(
+              () -> {
+                int rounds = 0;
+                while (adding.get()) {
+                  transactions.selectTransactions(
+                      transaction ->
+                          transaction.getNonce() % 10 == 9
+                              ? PendingTransactions.TransactionSelectionResult
+                                  .DELETE_TRANSACTION_AND_CONTINUE
+                              : PendingTransactions.TransactionSelectionResult.CONTINUE);
+                  rounds++;
+                }
+                return rounds;
+              });
+      final List<Future<?>> adders = new ArrayList<>();
+      for (final List<Transaction> senderTransactions : transactionsBySender) {
+        adders.add(
+            executor.submit(
+                () ->
+                    senderTransactions.forEach(
+                        transaction -> transactions.addRemoteTransaction(transaction, 0))));
+      }
+      for (final Future<?> adder : adders) {
+        adder.get(30, TimeUnit.SECONDS);
+      }
+      adding.set(false);
+      assertThat(selections.get(30, TimeUnit.SECONDS)).isPositive();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // a final pass must see every ready transaction once, and for each sender the consecutive
+    // nonces up to the first deleted transaction
+    final List<Transaction> selected = new ArrayList<>();
+    transactions.selectTransactions(
+        transaction -> {
+          selected.add(transaction);
+          return PendingTransactions.TransactionSelectionResult.CONTINUE;
+        });
+    assertThat(selected).hasSize(transactions.readySize()).doesNotHaveDuplicates();
+    assertThat(transactions.getTransactionInfo()).hasSize(transactions.size());
+    for (final List<Transaction> senderTransactions : transactionsBySender) {
+      final List<Transaction> selectedForSender =
+          selected.stream()
+              .filter(t -> t.getSender().equals(senderTransactions.get(0).getSender()))
+              .collect(Collectors.toList());
+      assertThat(selectedForSender)
+          .isEqualTo(senderTransactions.subList(0, selectedForSender.size()));
+    }
+  }
+
+  @Test
+  public void shouldOnlySelectTransactionsWithoutNonceGapBeforeThem() {
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(1, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(2, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(4, KEYS1, 1), 1);
+
+    assertThat(transactions.readySize()).isEqualTo(2);
+    assertThat(selectedNonces()).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldPromoteFutureTransactionsWhenNonceGapIsFilled() {
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(1, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(4, KEYS1, 1), 1);
+    assertThat(transactions.readySize()).isEqualTo(1);
+
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(2, KEYS1, 1), 1);
+
+    assertThat(transactions.readySize()).isEqualTo(4);
+    assertThat(selectedNonces()).containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldDemoteLaterTransactionsWhenATransactionIsRemoved() {
+    final Transaction transaction2 = transactionWithNonceSenderAndGasPrice(2, KEYS1, 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(1, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transaction2, 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+
+    transactions.removeTransaction(transaction2);
+
+    assertThat(transactions.size()).isEqualTo(2);
+    assertThat(selectedNonces()).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldKeepTransactionsAfterAGapFutureOnceNextNonceIsKnown() {
+    final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+
+    transactions.transactionAddedToBlock(transaction1);
+
+    assertThat(transactions.size()).isEqualTo(1);
+    assertThat(transactions.readySize()).isZero();
+
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(2, KEYS1, 1), 1);
+
+    assertThat(selectedNonces()).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldDropTransactionsWithNonceUsedByBlock() {
+    final Transaction minedTransaction = transactionWithNonceSenderAndGasPrice(2, KEYS1, 2);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(1, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(2, KEYS1, 1), 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+
+    transactions.transactionAddedToBlock(minedTransaction);
+
+    assertThat(transactions.size()).isEqualTo(1);
+    assertThat(selectedNonces()).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldExpectNonceOfTransactionAgainWhenBlockIsRemovedFromChain() {
+    final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
+    final Transaction transaction2 = transactionWithNonceSenderAndGasPrice(2, KEYS1, 1);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+    transactions.transactionAddedToBlock(transaction1);
+    assertThat(selectedNonces()).containsExactly(2L, 3L);
+
+    transactions.transactionRemovedFromBlock(transaction1);
+
+    assertThat(transactions.readySize()).isZero();
+    transactions.addRemoteTransaction(transaction1, 1);
+    assertThat(selectedNonces()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldNotMakeTransactionAfterANonceGapReadyOnceSendersOtherTransactionsAreRemoved() {
+    final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.removeTransaction(transaction1);
+
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 1);
+
+    assertThat(transactions.readySize()).isZero();
+    assertThat(selectedNonces()).isEmpty();
+  }
+
+  @Test
+  public void shouldContinueFromSenderNonceWhenSendersLastTransactionWasMined() {
+    final Transaction transaction1 = transactionWithNonceSenderAndGasPrice(1, KEYS1, 1);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.transactionAddedToBlock(transaction1);
+
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(3, KEYS1, 1), 2);
+    assertThat(transactions.readySize()).isZero();
+
+    transactions.addRemoteTransaction(transactionWithNonceSenderAndGasPrice(2, KEYS1, 1), 2);
+    assertThat(selectedNonces()).containsExactly(2L, 3L);
+  }
+
+  private List<Long> selectedNonces() {
+    final List<Long> nonces = new ArrayList<>();
+    transactions.selectTransactions(
+        transaction -> {
+          nonces.add(transaction.getNonce());
+          return PendingTransactions.TransactionSelectionResult.CONTINUE;
+        });
+    return nonces;
+  }
+
   private static BlockHeader mockBlockHeader() {
     final BlockHeader blockHeader = mock(BlockHeader.class);
     when(blockHeader.getBaseFee()).thenReturn(Optional.empty());
@@ -0,0 +1,123 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.transactions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+public class SeenTransactionHashesTest {
+
+  private static final int CAPACITY = 100;
+
+  private final SeenTransactionHashes seenHashes = new SeenTransactionHashes(CAPACITY);
+
+  @Test
+  public void shouldRememberAddedHashes() {
+    final List<Hash> hashes = hashes(0, CAPACITY);
+    hashes.forEach(seenHashes::add);
+
+    assertThat(hashes).allMatch(seenHashes::contains);
+    assertThat(hashes(CAPACITY, 2 * CAPACITY)).noneMatch(seenHashes::contains);
+  }
+
+  @Test
+  public void shouldForgetOldestGenerationOnceFull() {
+    final List<Hash> oldest = hashes(0, CAPACITY);
+    final List<Hash> middle = hashes(CAPACITY, 2 * CAPACITY);
+    final List<Hash> newest = hashes(2 * CAPACITY, 2 * CAPACITY + 1);
+    oldest.forEach(seenHashes::add);
+    middle.forEach(seenHashes::add);
+    newest.forEach(seenHashes::add);
+
+    assertThat(oldest).noneMatch(seenHashes::contains);
+    assertThat(middle).allMatch(seenHashes::contains);
+    assertThat(newest).allMatch(seenHashes::contains);
+  }
+
+  @Test
+  public void shouldKeepHashesThatAreSeenAgain() {
+    final Hash refreshed = hash(0);
+    seenHashes.add(refreshed);
+    hashes(1, CAPACITY).forEach(seenHashes::add);
+    seenHashes.add(refreshed);
+    hashes(CAPACITY, 2 * CAPACITY).forEach(seenHashes::add);
+
+    assertThat(seenHashes.contains(refreshed)).isTrue();
+    assertThat(seenHashes.contains(hash(1))).isFalse();
+  }
+
+  @Test
+  public void shouldNotCountDuplicatesTowardsCapacity() {
+    final Hash first = hash(0);
+    for (int i = 0; i < 3 * CAPACITY; i++) {
+      seenHashes.add(first);
+    }
+    hashes(1, CAPACITY).forEach(seenHashes::add);
+
+    assertThat(seenHashes.contains(first)).isTrue();
+  }
+
+  @Test
+  public void shouldKeepRememberingOnceTablesAreReused() {
+    final List<Hash> dropped = hashes(0, 2 * CAPACITY);
+    final List<Hash> previous = hashes(2 * CAPACITY, 3 * CAPACITY);
+    final List<Hash> current = hashes(3 * CAPACITY, 3 * CAPACITY + 10);
+    dropped.forEach(seenHashes::add);
+    previous.forEach(seenHashes::add);
+    current.forEach(seenHashes::add);
+
+    assertThat(dropped).noneMatch(seenHashes::contains);
+    assertThat(previous).allMatch(seenHashes::contains);
+    assertThat(current).allMatch(seenHashes::contains);
+  }
+
+  @Test
+  public void shouldRememberBetweenHalfAndAllOfMaxTracked() {
+    final SeenTransactionHashes limitedHashes = SeenTransactionHashes.withMaxTracked(CAPACITY);
+    final List<Hash> hashes = hashes(0, CAPACITY);
+    hashes.forEach(limitedHashes::add);
+
+    assertThat(hashes.subList(0, CAPACITY / 2)).noneMatch(limitedHashes::contains);
+    assertThat(hashes.subList(CAPACITY / 2, CAPACITY)).allMatch(limitedHashes::contains);
+  }
+
+  @Test
+  public void shouldTrackHashWithZeroFingerprint() {
+    final Hash zero = Hash.wrap(Bytes32.ZERO);
+
+    assertThat(seenHashes.contains(zero)).isFalse();
+    seenHashes.add(zero);
+    assertThat(seenHashes.contains(zero)).isTrue();
+  }
+
+  private static List<Hash> hashes(final int from, final int to) {
+    return IntStream.range(from, to)
+        .mapToObj(SeenTransactionHashesTest::hash)
+        .collect(Collectors.toList());
+  }
+
+  private static Hash hash(final int i) {
+    return Hash.hash(Bytes.ofUnsignedInt(i));
+  }
+}
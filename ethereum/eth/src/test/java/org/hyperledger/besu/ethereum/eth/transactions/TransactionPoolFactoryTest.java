@@ -54,6 +54,7 @@ import org.hyperledger.besu.testutil.TestClock;
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import org.junit.Test;
 
@@ -92,6 +93,7 @@ public class TransactionPoolFactoryTest {
             Wei.of(1),
             new TransactionPoolConfiguration(
                 1,
+                TransactionPoolConfiguration.MAX_PENDING_TRANSACTIONS_BYTES,
                 1,
                 1,
                 1,
@@ -157,7 +159,8 @@ public class TransactionPoolFactoryTest {
     when(ethContext.getEthMessages()).thenReturn(mock(EthMessages.class));
     when(ethContext.getEthPeers()).thenReturn(ethPeers);
     when(ethContext.getScheduler()).thenReturn(ethScheduler);
-    when(pendingTransactions.addLocalTransaction(any())).thenReturn(TransactionAddedStatus.ADDED);
+    when(pendingTransactions.addLocalTransaction(any(), any(LongSupplier.class)))
+        .thenReturn(TransactionAddedStatus.ADDED);
     when(protocolSpec.getTransactionValidator()).thenReturn(transactionValidator);
     when(schedule.getByBlockNumber(anyLong())).thenReturn(protocolSpec);
     when(transactionValidator.validate(any(), any(Optional.class)))
@@ -176,6 +179,7 @@ public class TransactionPoolFactoryTest {
             Wei.of(1),
             new TransactionPoolConfiguration(
                 1,
+                TransactionPoolConfiguration.MAX_PENDING_TRANSACTIONS_BYTES,
                 1,
                 1,
                 1,
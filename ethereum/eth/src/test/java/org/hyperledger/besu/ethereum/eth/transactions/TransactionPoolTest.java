@@ -46,16 +46,19 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.ExecutionContextTestFixture;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.core.TransactionTestFixture;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManagerTestUtil;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -72,6 +75,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -157,13 +161,13 @@ public class TransactionPoolTest {
   @Test
   public void shouldReturnExclusivelyLocalTransactionsWhenAppropriate() {
     final Transaction localTransaction0 = createTransaction(0);
-    transactions.addLocalTransaction(localTransaction0);
+    transactions.addLocalTransaction(localTransaction0, 0);
     assertThat(transactions.size()).isEqualTo(1);
 
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertThat(transactions.size()).isEqualTo(2);
 
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction2, 1);
     assertThat(transactions.size()).isEqualTo(3);
 
     List<Transaction> localTransactions = transactions.getLocalTransactions();
@@ -172,7 +176,7 @@ public class TransactionPoolTest {
 
   @Test
   public void shouldRemoveTransactionsFromPendingListWhenIncludedInBlockOnChain() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     assertTransactionPending(transaction1);
     appendBlock(transaction1);
 
@@ -181,8 +185,8 @@ public class TransactionPoolTest {
 
   @Test
   public void shouldRemoveMultipleTransactionsAddedInOneBlock() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
     appendBlock(transaction1, transaction2);
 
     assertTransactionNotPending(transaction1);
@@ -192,7 +196,7 @@ public class TransactionPoolTest {
 
   @Test
   public void shouldIgnoreUnknownTransactionsThatAreAddedInABlock() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     appendBlock(transaction1, transaction2);
 
     assertTransactionNotPending(transaction1);
@@ -202,7 +206,7 @@ public class TransactionPoolTest {
 
   @Test
   public void shouldNotRemovePendingTransactionsWhenABlockAddedToAFork() {
-    transactions.addRemoteTransaction(transaction1);
+    transactions.addRemoteTransaction(transaction1, 1);
     final BlockHeader commonParent = getHeaderForCurrentChainHead();
     final Block canonicalHead = appendBlock(Difficulty.of(1000), commonParent);
     appendBlock(Difficulty.ONE, commonParent, transaction1);
@@ -214,8 +218,8 @@ public class TransactionPoolTest {
 
   @Test
   public void shouldRemovePendingTransactionsFromAllBlocksOnAForkWhenItBecomesTheCanonicalChain() {
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
     final BlockHeader commonParent = getHeaderForCurrentChainHead();
     final Block originalChainHead = appendBlock(Difficulty.of(1000), commonParent);
 
@@ -233,8 +237,8 @@ public class TransactionPoolTest {
   public void shouldReadTransactionsFromThePreviousCanonicalHeadWhenAReorgOccurs() {
     givenTransactionIsValid(transaction1);
     givenTransactionIsValid(transaction2);
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
     final BlockHeader commonParent = getHeaderForCurrentChainHead();
     final Block originalFork1 = appendBlock(Difficulty.of(1000), commonParent, transaction1);
     final Block originalFork2 =
@@ -260,8 +264,8 @@ public class TransactionPoolTest {
   public void shouldNotReadTransactionsThatAreInBothForksWhenReorgHappens() {
     givenTransactionIsValid(transaction1);
     givenTransactionIsValid(transaction2);
-    transactions.addRemoteTransaction(transaction1);
-    transactions.addRemoteTransaction(transaction2);
+    transactions.addRemoteTransaction(transaction1, 1);
+    transactions.addRemoteTransaction(transaction2, 1);
     final BlockHeader commonParent = getHeaderForCurrentChainHead();
     final Block originalFork1 = appendBlock(Difficulty.of(1000), commonParent, transaction1);
     final Block originalFork2 =
@@ -337,6 +341,27 @@ public class TransactionPoolTest {
     verify(batchAddedListener).onTransactionsAdded(singleton(transaction2));
   }
 
+  @Test
+  public void shouldValidateLargeRemoteBatchAgainstOneChainHeadView() {
+    // a scheduler that never runs its tasks, as if the computation executor were saturated
+    when(ethContext.getScheduler()).thenReturn(mock(EthScheduler.class));
+    final List<Transaction> batch =
+        IntStream.range(0, 40)
+            .mapToObj(i -> new TransactionTestFixture().createTransaction(KeyPair.generate()))
+            .collect(toList());
+    batch.forEach(this::givenTransactionIsValid);
+
+    transactionPool.addRemoteTransactions(batch);
+
+    verify(transactionValidator, times(batch.size()))
+        .validateForSender(
+            any(Transaction.class),
+            nullable(Account.class),
+            any(TransactionValidationParams.class));
+    verify(protocolSchedule, times(1)).getByBlockNumber(anyLong());
+    assertThat(transactions.size()).isEqualTo(MAX_TRANSACTIONS);
+  }
+
   @Test
   public void shouldAllowSequenceOfTransactionsWithIncreasingNonceFromSameSender() {
     final TransactionTestFixture builder = new TransactionTestFixture();
@@ -392,6 +417,45 @@ public class TransactionPoolTest {
     assertTransactionPending(transaction3);
   }
 
+  @Test
+  public void shouldOnlyMakeTransactionsReadyFromTheSendersAccountNonce() {
+    final TransactionTestFixture builder = new TransactionTestFixture();
+    final Transaction transaction0 = builder.nonce(0).createTransaction(KEY_PAIR1);
+    final Transaction transaction1 = builder.nonce(1).createTransaction(KEY_PAIR1);
+    givenTransactionIsValid(transaction0);
+    givenTransactionIsValid(transaction1);
+
+    // the sender has no account at the chain head, so its next transaction must use nonce zero
+    transactionPool.addRemoteTransactions(singletonList(transaction1));
+    assertTransactionPending(transaction1);
+    assertThat(transactions.readySize()).isZero();
+
+    transactionPool.addRemoteTransactions(singletonList(transaction0));
+    assertThat(transactions.readySize()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldStartSenderFromTheCurrentHeadWhenABlockIsImportedDuringValidation() {
+    final TransactionTestFixture builder = new TransactionTestFixture();
+    final Transaction transaction0 = builder.nonce(0).createTransaction(KEY_PAIR1);
+    final Transaction transaction1 = builder.nonce(1).createTransaction(KEY_PAIR1);
+    when(transactionValidator.validate(eq(transaction1), any(Optional.class))).thenReturn(valid());
+    // the block with the sender's previous transaction is imported after the batch has read the
+    // sender's account at the old chain head
+    when(transactionValidator.validateForSender(
+            eq(transaction1), nullable(Account.class), any(TransactionValidationParams.class)))
+        .thenAnswer(
+            invocation -> {
+              appendBlockWithSenderNonce(transaction0, 1);
+              return valid();
+            });
+
+    transactionPool.addRemoteTransactions(singletonList(transaction1));
+
+    assertTransactionPending(transaction1);
+    assertThat(transactions.readySize()).isEqualTo(1);
+  }
+
   @Test
   public void shouldDiscardRemoteTransactionThatAlreadyExistsBeforeValidation() {
     final PendingTransactions pendingTransactions = mock(PendingTransactions.class);
@@ -773,6 +837,25 @@ public class TransactionPoolTest {
     return block;
   }
 
+  private void appendBlockWithSenderNonce(final Transaction transaction, final long senderNonce) {
+    final MutableWorldState worldState = protocolContext.getWorldStateArchive().getMutable();
+    final WorldUpdater updater = worldState.updater();
+    updater.createAccount(transaction.getSender(), senderNonce, Wei.ZERO);
+    updater.commit();
+    worldState.persist();
+    final BlockHeader parentBlock = getHeaderForCurrentChainHead();
+    final Block block =
+        new Block(
+            new BlockHeaderTestFixture()
+                .parentHash(parentBlock.getHash())
+                .number(parentBlock.getNumber() + 1)
+                .stateRoot(worldState.rootHash())
+                .buildHeader(),
+            new BlockBody(singletonList(transaction), emptyList()));
+    blockchain.appendBlock(
+        block, singletonList(new TransactionReceipt(1, 1, emptyList(), Optional.empty())));
+  }
+
   private Transaction createTransaction(final int transactionNumber) {
     return new TransactionTestFixture()
         .nonce(transactionNumber)
@@ -16,11 +16,14 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -33,6 +36,7 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Sets;
+import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -50,6 +54,12 @@ public class TransactionsMessageSenderTest {
   private final TransactionsMessageSender messageSender =
       new TransactionsMessageSender(transactionTracker);
 
+  @Before
+  public void setUp() {
+    when(peer1.isWritable()).thenReturn(true);
+    when(peer2.isWritable()).thenReturn(true);
+  }
+
   @Test
   public void shouldSendTransactionsToEachPeer() throws Exception {
     transactionTracker.addToPeerSendQueue(peer1, transaction1);
@@ -60,9 +70,28 @@ public class TransactionsMessageSenderTest {
 
     verify(peer1).send(transactionsMessageContaining(transaction1, transaction2));
     verify(peer2).send(transactionsMessageContaining(transaction3));
+    verify(peer1).isWritable();
+    verify(peer2).isWritable();
     verifyNoMoreInteractions(peer1, peer2);
   }
 
+  @Test
+  public void shouldHoldBackTransactionsForPeersThatAreNotWritable() throws Exception {
+    when(peer2.isWritable()).thenReturn(false);
+    transactionTracker.addToPeerSendQueue(peer1, transaction1);
+    transactionTracker.addToPeerSendQueue(peer2, transaction2);
+
+    messageSender.sendTransactionsToPeers();
+
+    verify(peer1).send(transactionsMessageContaining(transaction1));
+    verify(peer2, never()).send(any());
+
+    when(peer2.isWritable()).thenReturn(true);
+    messageSender.sendTransactionsToPeers();
+
+    verify(peer2).send(transactionsMessageContaining(transaction2));
+  }
+
   @Test
   public void shouldSendTransactionsInBatchesWithLimit() throws Exception {
     final Set<Transaction> transactions = generator.transactions(6000);
@@ -0,0 +1,96 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.discovery.internal;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
+
+import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
+import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
+import org.hyperledger.besu.ethereum.p2p.peers.Peer;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures answering a FIND_NEIGHBORS request from a peer table that 10k peers were added to.
+ * Compares walking the buckets outwards from the target with sorting every bonded peer by its
+ * distance to the target.
+ */
+@State(Scope.Thread)
+public class PeerTableBenchmark {
+
+  private static final int NEIGHBORS = 16;
+  private static final int TARGETS = 1024;
+
+  @Param({"10000"})
+  public int peers;
+
+  // the default size, where most peers are rejected by full buckets, and large enough to hold all
+  @Param({"16", "10000"})
+  public int bucketSize;
+
+  private PeerTable table;
+  private Bytes[] targets;
+  private int nextTarget;
+
+  @Setup(Level.Trial)
+  public void createTable() {
+    table = new PeerTable(Peer.randomId(), bucketSize);
+    for (int i = 0; i < peers; i++) {
+      final DiscoveryPeer peer =
+          DiscoveryPeer.fromIdAndEndpoint(
+              Peer.randomId(), new Endpoint("10.0.0.1", 30303, Optional.empty()));
+      peer.setStatus(PeerDiscoveryStatus.BONDED);
+      table.tryAdd(peer);
+    }
+    targets = new Bytes[TARGETS];
+    for (int i = 0; i < TARGETS; i++) {
+      targets[i] = Peer.randomId();
+    }
+  }
+
+  @Benchmark
+  public List<DiscoveryPeer> nearestPeers() {
+    return table.nearestPeers(nextTarget(), NEIGHBORS);
+  }
+
+  @Benchmark
+  public List<DiscoveryPeer> sortAllPeers() {
+    final Bytes keccak256 = Hash.keccak256(nextTarget());
+    return table
+        .streamAllPeers()
+        .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
+        .sorted(
+            comparingInt((peer) -> PeerDistanceCalculator.distance(peer.keccak256(), keccak256)))
+        .limit(NEIGHBORS)
+        .collect(toList());
+  }
+
+  private Bytes nextTarget() {
+    nextTarget = (nextTarget + 1) % TARGETS;
+    return targets[nextTarget];
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static java.util.Collections.singletonList;
+
+import org.hyperledger.besu.crypto.KeyPairSecurityModule;
+import org.hyperledger.besu.crypto.NodeKey;
+import org.hyperledger.besu.crypto.SECP256K1;
+import org.hyperledger.besu.ethereum.p2p.config.RlpxConfiguration;
+import org.hyperledger.besu.ethereum.p2p.peers.DefaultPeer;
+import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
+import org.hyperledger.besu.ethereum.p2p.peers.MutableLocalNode;
+import org.hyperledger.besu.ethereum.p2p.peers.Peer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
+import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnectionEventDispatcher;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to complete a burst of concurrent RLPx handshakes over loopback, from
+ * opening the connections to both sides having exchanged HELLO messages. Each measurement opens a
+ * fresh set of connections, which the listening side closes afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HandshakeBenchmark {
+
+  private static final Capability CAPABILITY = Capability.create("bench", 1);
+
+  @Param({"2000"})
+  public int connections;
+
+  @Param({"1", "4"})
+  public int handshakeThreads;
+
+  private final List<PeerConnection> inboundConnections = new CopyOnWriteArrayList<>();
+  private NettyConnectionInitializer listener;
+  private NettyConnectionInitializer connector;
+  private Peer listenerPeer;
+
+  @Setup(Level.Trial)
+  public void start() throws Exception {
+    final NodeKey listenerKey = nodeKey();
+    final MutableLocalNode listenerNode = localNode();
+    listener = connectionInitializer(listenerKey, listenerNode);
+    listener.subscribeIncomingConnect(inboundConnections::add);
+    final InetSocketAddress listenAddress = listener.start().get();
+    final EnodeURL listenerEnode = enode(listenerKey, listenAddress);
+    listenerNode.setEnode(listenerEnode);
+    listenerPeer = DefaultPeer.fromEnodeURL(listenerEnode);
+
+    final NodeKey connectorKey = nodeKey();
+    final MutableLocalNode connectorNode = localNode();
+    connector = connectionInitializer(connectorKey, connectorNode);
+    connectorNode.setEnode(enode(connectorKey, connector.start().get()));
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() {
+    connector.stop().join();
+    listener.stop().join();
+  }
+
+  @Benchmark
+  public void handshakes() {
+    CompletableFuture.allOf(
+            IntStream.range(0, connections)
+                .mapToObj(i -> connector.connect(listenerPeer))
+                .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
+  @TearDown(Level.Invocation)
+  public void disconnect() {
+    // the listener may not have handled the connector's HELLO for the last few connections yet
+    while (inboundConnections.size() < connections) {
+      Thread.onSpinWait();
+    }
+    // closing from the listening side keeps the connector's ephemeral ports out of TIME_WAIT
+    inboundConnections.forEach(connection -> connection.disconnect(DisconnectReason.REQUESTED));
+    inboundConnections.clear();
+  }
+
+  private NettyConnectionInitializer connectionInitializer(
+      final NodeKey nodeKey, final MutableLocalNode localNode) {
+    final RlpxConfiguration config =
+        RlpxConfiguration.create()
+            .setBindHost("127.0.0.1")
+            .setBindPort(0)
+            .setSupportedProtocols(subProtocol())
+            .setHandshakeThreads(handshakeThreads)
+            .setMaxPendingInboundHandshakes(connections)
+            .setMaxInboundHandshakesPerIpPerMinute(Integer.MAX_VALUE);
+    return new NettyConnectionInitializer(
+        nodeKey, config, localNode, new NoOpEventDispatcher(), new NoOpMetricsSystem());
+  }
+
+  private static NodeKey nodeKey() {
+    return new NodeKey(new KeyPairSecurityModule(SECP256K1.KeyPair.generate()));
+  }
+
+  private static MutableLocalNode localNode() {
+    return MutableLocalNode.create("bench", 5, singletonList(CAPABILITY));
+  }
+
+  private static EnodeURL enode(final NodeKey nodeKey, final InetSocketAddress address) {
+    return EnodeURL.builder()
+        .nodeId(nodeKey.getPublicKey().getEncodedBytes())
+        .ipAddress(address.getAddress().getHostAddress())
+        .listeningPort(address.getPort())
+        .disableDiscovery()
+        .build();
+  }
+
+  private static SubProtocol subProtocol() {
+    return new SubProtocol() {
+      @Override
+      public String getName() {
+        return CAPABILITY.getName();
+      }
+
+      @Override
+      public int messageSpace(final int protocolVersion) {
+        return 8;
+      }
+
+      @Override
+      public boolean isValidMessageCode(final int protocolVersion, final int code) {
+        return true;
+      }
+
+      @Override
+      public String messageName(final int protocolVersion, final int code) {
+        return INVALID_MESSAGE_NAME;
+      }
+    };
+  }
+
+  private static class NoOpEventDispatcher implements PeerConnectionEventDispatcher {
+    @Override
+    public void dispatchDisconnect(
+        final PeerConnection connection,
+        final DisconnectReason reason,
+        final boolean initiatedByPeer) {}
+
+    @Override
+    public void dispatchMessage(
+        final Capability capability, final PeerConnection connection, final MessageData message) {}
+  }
+}
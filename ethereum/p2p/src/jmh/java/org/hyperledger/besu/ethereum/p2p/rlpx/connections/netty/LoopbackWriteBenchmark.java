@@ -0,0 +1,161 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static java.util.Collections.emptyList;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.framing.Framer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.handshake.HandshakeSecrets;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+
+import java.net.InetSocketAddress;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures messages per second sent over a loopback RLPx connection pair, with each message written
+ * and flushed on its own from outside the event loop, as peer connections send them. Compares the
+ * pipeline with and without flush consolidation.
+ */
+@State(Scope.Thread)
+public class LoopbackWriteBenchmark {
+
+  private static final int MESSAGES_PER_INVOCATION = 1000;
+
+  @Param({"false", "true"})
+  public boolean consolidateFlushes;
+
+  // a transaction hash announcement and a small batch of transactions
+  @Param({"64", "1024"})
+  public int messageSize;
+
+  private final AtomicLong received = new AtomicLong();
+  private EventLoopGroup serverGroup;
+  private EventLoopGroup clientGroup;
+  private Channel server;
+  private Channel client;
+  private MessageData message;
+  private int frameSize;
+  private long expected;
+
+  @Setup(Level.Trial)
+  public void connect() throws InterruptedException {
+    final Random random = new Random(1);
+    final HandshakeSecrets secrets =
+        new HandshakeSecrets(secret(random), secret(random), secret(random));
+    final byte[] data = new byte[messageSize];
+    random.nextBytes(data);
+    message = new RawMessage(0x10, Bytes.wrap(data));
+    final ByteBuf frame = Unpooled.buffer();
+    new Framer(secrets).frame(message, frame);
+    frameSize = frame.readableBytes();
+
+    serverGroup = new NioEventLoopGroup(1);
+    clientGroup = new NioEventLoopGroup(1);
+    server =
+        new ServerBootstrap()
+            .group(serverGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(
+                new ChannelInboundHandlerAdapter() {
+                  @Override
+                  public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+                    final ByteBuf buf = (ByteBuf) msg;
+                    received.addAndGet(buf.readableBytes());
+                    buf.release();
+                  }
+                })
+            .bind("127.0.0.1", 0)
+            .sync()
+            .channel();
+    client =
+        new Bootstrap()
+            .group(clientGroup)
+            .channel(NioSocketChannel.class)
+            .option(ChannelOption.TCP_NODELAY, true)
+            .handler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(final SocketChannel ch) {
+                    if (consolidateFlushes) {
+                      ch.pipeline().addLast(new FlushConsolidationHandler(256, true));
+                    }
+                    ch.pipeline()
+                        .addLast(
+                            new MessageFramer(
+                                new CapabilityMultiplexer(emptyList(), emptyList(), emptyList()),
+                                new Framer(secrets)));
+                  }
+                })
+            .connect((InetSocketAddress) server.localAddress())
+            .sync()
+            .channel();
+  }
+
+  @TearDown(Level.Trial)
+  public void disconnect() {
+    client.close().syncUninterruptibly();
+    server.close().syncUninterruptibly();
+    clientGroup.shutdownGracefully();
+    serverGroup.shutdownGracefully();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+  public long sendMessages() {
+    expected += (long) MESSAGES_PER_INVOCATION * frameSize;
+    for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+      client.writeAndFlush(new OutboundMessage(null, message));
+    }
+    // counts a message as sent once the other end of the connection has read it
+    while (received.get() < expected) {
+      Thread.onSpinWait();
+    }
+    return received.get();
+  }
+
+  private static byte[] secret(final Random random) {
+    final byte[] secret = new byte[32];
+    random.nextBytes(secret);
+    return secret;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.framing;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.handshake.HandshakeSecrets;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+
+import java.util.Random;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the CPU cost of framing one block-sized message for every connected peer, as when a new
+ * block is broadcast. Compares sharing one message across all peers, so it is compressed once, with
+ * handing each peer its own copy of the message.
+ */
+@State(Scope.Thread)
+public class BroadcastFramingBenchmark {
+
+  // roughly the size of an encoded mainnet block
+  private static final int MESSAGE_SIZE = 40 * 1024;
+
+  @Param({"50", "200"})
+  public int peers;
+
+  private Framer[] framers;
+  private Bytes data;
+  private ByteBuf out;
+
+  @Setup(Level.Trial)
+  public void createPeers() {
+    final Random random = new Random(1);
+    framers = new Framer[peers];
+    for (int i = 0; i < peers; i++) {
+      framers[i] = new Framer(new HandshakeSecrets(secret(random), secret(random), secret(random)));
+      framers[i].enableCompression();
+    }
+    // half random, half zeroes, so that compression has some effect
+    final byte[] bytes = new byte[MESSAGE_SIZE];
+    random.nextBytes(bytes);
+    for (int i = 0; i < MESSAGE_SIZE / 2; i++) {
+      bytes[i] = 0;
+    }
+    data = Bytes.wrap(bytes);
+    out = Unpooled.buffer(2 * MESSAGE_SIZE);
+  }
+
+  @Benchmark
+  public int sharedMessage() {
+    final MessageData message = new RawMessage(0x07, data);
+    int written = 0;
+    for (final Framer framer : framers) {
+      written += frame(framer, message);
+    }
+    return written;
+  }
+
+  @Benchmark
+  public int messagePerPeer() {
+    int written = 0;
+    for (final Framer framer : framers) {
+      written += frame(framer, new RawMessage(0x07, data));
+    }
+    return written;
+  }
+
+  private int frame(final Framer framer, final MessageData message) {
+    out.clear();
+    framer.frame(message, out);
+    return out.readableBytes();
+  }
+
+  private static byte[] secret(final Random random) {
+    final byte[] secret = new byte[32];
+    random.nextBytes(secret);
+    return secret;
+  }
+}
@@ -19,10 +19,12 @@ import static java.util.stream.Collectors.toList;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
 import org.hyperledger.besu.util.NetworkUtility;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -165,6 +167,7 @@ public class DiscoveryConfiguration {
   private String advertisedHost = "127.0.0.1";
   private int bucketSize = 16;
   private List<EnodeURL> bootnodes = new ArrayList<>();
+  private Optional<Path> peerCacheFile = Optional.empty();
 
   public static DiscoveryConfiguration create() {
     return new DiscoveryConfiguration();
@@ -238,6 +241,15 @@ public class DiscoveryConfiguration {
     return this;
   }
 
+  public Optional<Path> getPeerCacheFile() {
+    return peerCacheFile;
+  }
+
+  public DiscoveryConfiguration setPeerCacheFile(final Path peerCacheFile) {
+    this.peerCacheFile = Optional.ofNullable(peerCacheFile);
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (o == this) {
@@ -252,12 +264,14 @@ public class DiscoveryConfiguration {
         && bucketSize == that.bucketSize
         && Objects.equals(bindHost, that.bindHost)
         && Objects.equals(advertisedHost, that.advertisedHost)
-        && Objects.equals(bootnodes, that.bootnodes);
+        && Objects.equals(bootnodes, that.bootnodes)
+        && Objects.equals(peerCacheFile, that.peerCacheFile);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(active, bindHost, bindPort, advertisedHost, bucketSize, bootnodes);
+    return Objects.hash(
+        active, bindHost, bindPort, advertisedHost, bucketSize, bootnodes, peerCacheFile);
   }
 
   @Override
@@ -277,6 +291,8 @@ public class DiscoveryConfiguration {
         + bucketSize
         + ", bootnodes="
         + bootnodes
+        + ", peerCacheFile="
+        + peerCacheFile
         + '}';
   }
 }
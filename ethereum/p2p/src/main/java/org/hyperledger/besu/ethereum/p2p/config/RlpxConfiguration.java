@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.p2p.config;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
@@ -26,12 +27,30 @@ import java.util.Objects;
 
 public class RlpxConfiguration {
   public static final float DEFAULT_FRACTION_REMOTE_CONNECTIONS_ALLOWED = 0.6f;
+  // large enough to hold a full block, so a single propagation does not stall the connection
+  public static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 512 * 1024;
+  public static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 1024 * 1024;
+  public static final int DEFAULT_NETTY_WORKER_THREADS = 10;
+  public static final int DEFAULT_HANDSHAKE_THREADS = 4;
+  public static final int DEFAULT_MAX_PENDING_INBOUND_HANDSHAKES = 256;
+  public static final int DEFAULT_MAX_INBOUND_HANDSHAKES_PER_IP_PER_MINUTE = 60;
   private String clientId = "TestClient/1.0.0";
   private String bindHost = NetworkUtility.INADDR_ANY;
   private int bindPort = 30303;
   private int maxPeers = 25;
   private boolean limitRemoteWireConnectionsEnabled = false;
   private float fractionRemoteWireConnectionsAllowed = DEFAULT_FRACTION_REMOTE_CONNECTIONS_ALLOWED;
+  private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+  private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+  private boolean nativeTransportEnabled = true;
+  private int nettyWorkerThreads = DEFAULT_NETTY_WORKER_THREADS;
+  // 0 leaves the setting to the operating system or to Netty
+  private int socketSendBufferSize = 0;
+  private int socketReceiveBufferSize = 0;
+  private int nettyDirectArenas = 0;
+  private int handshakeThreads = DEFAULT_HANDSHAKE_THREADS;
+  private int maxPendingInboundHandshakes = DEFAULT_MAX_PENDING_INBOUND_HANDSHAKES;
+  private int maxInboundHandshakesPerIpPerMinute = DEFAULT_MAX_INBOUND_HANDSHAKES_PER_IP_PER_MINUTE;
   private List<SubProtocol> supportedProtocols = Collections.emptyList();
 
   public static RlpxConfiguration create() {
@@ -111,6 +130,144 @@ public class RlpxConfiguration {
     return (int) Math.floor(maxPeers * fractionRemoteWireConnectionsAllowed);
   }
 
+  public int getWriteBufferLowWaterMark() {
+    return writeBufferLowWaterMark;
+  }
+
+  public int getWriteBufferHighWaterMark() {
+    return writeBufferHighWaterMark;
+  }
+
+  /**
+   * Sets the number of bytes queued for writing on a connection above which it stops accepting
+   * optional messages, until the queue drains below the low water mark.
+   *
+   * @param lowWaterMark the queued bytes below which a connection becomes writable again
+   * @param highWaterMark the queued bytes above which a connection stops being writable
+   * @return this configuration
+   */
+  public RlpxConfiguration setWriteBufferWaterMarks(
+      final int lowWaterMark, final int highWaterMark) {
+    checkArgument(
+        lowWaterMark >= 0 && lowWaterMark <= highWaterMark,
+        "Write buffer low water mark must be between 0 and the high water mark.");
+    this.writeBufferLowWaterMark = lowWaterMark;
+    this.writeBufferHighWaterMark = highWaterMark;
+    return this;
+  }
+
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  /**
+   * Whether connections use Netty's native transport, such as epoll on Linux, when it is available
+   * on this host. Connections fall back to the JDK's NIO transport otherwise.
+   *
+   * @param nativeTransportEnabled whether to prefer the native transport
+   * @return this configuration
+   */
+  public RlpxConfiguration setNativeTransportEnabled(final boolean nativeTransportEnabled) {
+    this.nativeTransportEnabled = nativeTransportEnabled;
+    return this;
+  }
+
+  public int getNettyWorkerThreads() {
+    return nettyWorkerThreads;
+  }
+
+  public RlpxConfiguration setNettyWorkerThreads(final int nettyWorkerThreads) {
+    checkArgument(nettyWorkerThreads > 0, "Netty worker threads must be positive.");
+    this.nettyWorkerThreads = nettyWorkerThreads;
+    return this;
+  }
+
+  public int getSocketSendBufferSize() {
+    return socketSendBufferSize;
+  }
+
+  public RlpxConfiguration setSocketSendBufferSize(final int socketSendBufferSize) {
+    checkArgument(socketSendBufferSize >= 0, "Socket send buffer size must not be negative.");
+    this.socketSendBufferSize = socketSendBufferSize;
+    return this;
+  }
+
+  public int getSocketReceiveBufferSize() {
+    return socketReceiveBufferSize;
+  }
+
+  public RlpxConfiguration setSocketReceiveBufferSize(final int socketReceiveBufferSize) {
+    checkArgument(socketReceiveBufferSize >= 0, "Socket receive buffer size must not be negative.");
+    this.socketReceiveBufferSize = socketReceiveBufferSize;
+    return this;
+  }
+
+  public int getNettyDirectArenas() {
+    return nettyDirectArenas;
+  }
+
+  /**
+   * Sets the number of arenas of the pooled allocator that connections take their direct buffers
+   * from. Threads are spread across arenas, so fewer arenas than worker threads trade memory for
+   * contention.
+   *
+   * @param nettyDirectArenas the number of direct arenas, or 0 to use Netty's shared allocator
+   * @return this configuration
+   */
+  public RlpxConfiguration setNettyDirectArenas(final int nettyDirectArenas) {
+    checkArgument(nettyDirectArenas >= 0, "Netty direct arenas must not be negative.");
+    this.nettyDirectArenas = nettyDirectArenas;
+    return this;
+  }
+
+  public int getHandshakeThreads() {
+    return handshakeThreads;
+  }
+
+  /**
+   * Sets the number of threads that run the cryptographic handshake of new connections, so that a
+   * burst of incoming connections doesn't hold up the event loops serving established peers.
+   *
+   * @param handshakeThreads the number of handshake threads
+   * @return this configuration
+   */
+  public RlpxConfiguration setHandshakeThreads(final int handshakeThreads) {
+    checkArgument(handshakeThreads > 0, "Handshake threads must be positive.");
+    this.handshakeThreads = handshakeThreads;
+    return this;
+  }
+
+  public int getMaxPendingInboundHandshakes() {
+    return maxPendingInboundHandshakes;
+  }
+
+  /**
+   * Sets how many incoming connections may be handshaking at once. Further connections are closed
+   * as soon as they are accepted.
+   *
+   * @param maxPendingInboundHandshakes the maximum number of incomplete inbound handshakes
+   * @return this configuration
+   */
+  public RlpxConfiguration setMaxPendingInboundHandshakes(final int maxPendingInboundHandshakes) {
+    checkArgument(
+        maxPendingInboundHandshakes > 0, "Max pending inbound handshakes must be positive.");
+    this.maxPendingInboundHandshakes = maxPendingInboundHandshakes;
+    return this;
+  }
+
+  public int getMaxInboundHandshakesPerIpPerMinute() {
+    return maxInboundHandshakesPerIpPerMinute;
+  }
+
+  public RlpxConfiguration setMaxInboundHandshakesPerIpPerMinute(
+      final int maxInboundHandshakesPerIpPerMinute) {
+    checkArgument(
+        maxInboundHandshakesPerIpPerMinute > 0,
+        "Max inbound handshakes per IP per minute must be positive.");
+    this.maxInboundHandshakesPerIpPerMinute = maxInboundHandshakesPerIpPerMinute;
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+
+import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persists the bonded peers of the discovery table so that a restarted node can reconnect to the
+ * peers it was last talking to instead of walking the network again from the bootnodes.
+ *
+ * <p>The cache is a JSON array of <code>{"enode": ..., "lastSeen": ...}</code> objects, most
+ * recently seen peers first. A missing or unreadable cache is treated as empty.
+ */
+public class DiscoveryPeerCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String DEFAULT_FILE_NAME = "discovery-peers.json";
+
+  @VisibleForTesting static final int MAX_CACHED_PEERS = 256;
+  @VisibleForTesting static final long MAX_PEER_AGE_MS = TimeUnit.DAYS.toMillis(3);
+
+  private static final String ENODE = "enode";
+  private static final String LAST_SEEN = "lastSeen";
+
+  private final Path path;
+  private final Clock clock;
+
+  public DiscoveryPeerCache(final Path path) {
+    this(path, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  DiscoveryPeerCache(final Path path, final Clock clock) {
+    this.path = path;
+    this.clock = clock;
+  }
+
+  /**
+   * Reads the cached peers, skipping any that have not been seen for longer than {@link
+   * #MAX_PEER_AGE_MS}.
+   *
+   * @return the cached peers, most recently seen first
+   */
+  public List<DiscoveryPeer> load() {
+    final String content;
+    try {
+      content = new String(Files.readAllBytes(path), UTF_8);
+    } catch (final NoSuchFileException e) {
+      LOG.debug("Discovery peer cache {} does not exist", path);
+      return emptyList();
+    } catch (final IOException e) {
+      LOG.warn("Unable to read discovery peer cache {}", path, e);
+      return emptyList();
+    }
+    if (content.isBlank()) {
+      return emptyList();
+    }
+
+    final JsonArray entries;
+    try {
+      entries = new JsonArray(content);
+    } catch (final DecodeException e) {
+      LOG.warn("Discovery peer cache {} is not valid json and will be ignored", path);
+      return emptyList();
+    }
+
+    final long oldestAllowed = clock.millis() - MAX_PEER_AGE_MS;
+    final List<DiscoveryPeer> peers = new ArrayList<>(entries.size());
+    for (final Object entry : entries) {
+      try {
+        final JsonObject json = (JsonObject) entry;
+        final long lastSeen = json.getLong(LAST_SEEN, 0L);
+        if (lastSeen < oldestAllowed) {
+          continue;
+        }
+        final EnodeURL enode = EnodeURL.fromString(json.getString(ENODE));
+        if (!enode.isRunningDiscovery()) {
+          continue;
+        }
+        final DiscoveryPeer peer = DiscoveryPeer.fromEnode(enode);
+        peer.setLastSeen(lastSeen);
+        peers.add(peer);
+      } catch (final ClassCastException | IllegalArgumentException | NullPointerException e) {
+        LOG.debug("Ignoring invalid discovery peer cache entry {}", entry);
+      }
+    }
+    LOG.debug("Loaded {} peers from discovery peer cache {}", peers.size(), path);
+    return peers;
+  }
+
+  /**
+   * Replaces the cache with the most recently seen bonded peers from the given stream.
+   *
+   * @param peers the peers currently known to discovery
+   */
+  public void save(final Stream<DiscoveryPeer> peers) {
+    final List<DiscoveryPeer> bondedPeers =
+        peers
+            .filter(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED)
+            .filter(peer -> peer.getLastSeen() > 0)
+            .sorted(Comparator.comparingLong(DiscoveryPeer::getLastSeen).reversed())
+            .limit(MAX_CACHED_PEERS)
+            .collect(Collectors.toList());
+    if (bondedPeers.isEmpty()) {
+      // don't throw away a good cache because we are shutting down before bonding with anyone
+      return;
+    }
+
+    final JsonArray entries = new JsonArray();
+    bondedPeers.forEach(
+        peer ->
+            entries.add(
+                new JsonObject()
+                    .put(ENODE, peer.getEnodeURLString())
+                    .put(LAST_SEEN, peer.getLastSeen())));
+    try {
+      final Path directory = path.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      final Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      Files.write(tempFile, entries.encode().getBytes(UTF_8));
+      Files.move(
+          tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      LOG.debug("Saved {} peers to discovery peer cache {}", bondedPeers.size(), path);
+    } catch (final IOException e) {
+      LOG.warn("Unable to write discovery peer cache {}", path, e);
+    }
+  }
+}
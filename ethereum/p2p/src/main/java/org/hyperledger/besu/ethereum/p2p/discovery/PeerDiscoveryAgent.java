@@ -37,8 +37,10 @@ import org.hyperledger.besu.util.Subscribers;
 
 import java.net.InetSocketAddress;
 import java.net.SocketException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
@@ -62,6 +64,7 @@ public abstract class PeerDiscoveryAgent {
   private static final int MAX_PACKET_SIZE_BYTES = 1600;
 
   protected final List<DiscoveryPeer> bootstrapPeers;
+  private final Optional<DiscoveryPeerCache> peerCache;
   private final List<PeerRequirement> peerRequirements = new CopyOnWriteArrayList<>();
   private final PeerPermissions peerPermissions;
   private final NatService natService;
@@ -97,8 +100,8 @@ public abstract class PeerDiscoveryAgent {
 
     this.peerPermissions = peerPermissions;
     this.natService = natService;
-    this.bootstrapPeers =
-        config.getBootnodes().stream().map(DiscoveryPeer::fromEnode).collect(Collectors.toList());
+    this.peerCache = config.getPeerCacheFile().map(DiscoveryPeerCache::new);
+    this.bootstrapPeers = initialPeers(config.getBootnodes(), peerCache);
 
     this.config = config;
     this.nodeKey = nodeKey;
@@ -106,6 +109,24 @@ public abstract class PeerDiscoveryAgent {
     id = nodeKey.getPublicKey().getEncodedBytes();
   }
 
+  private static List<DiscoveryPeer> initialPeers(
+      final List<EnodeURL> bootnodes, final Optional<DiscoveryPeerCache> peerCache) {
+    final List<DiscoveryPeer> peers =
+        bootnodes.stream().map(DiscoveryPeer::fromEnode).collect(Collectors.toList());
+    // peers we were bonded with before a restart are likely to still be around, so try them
+    // alongside the bootnodes rather than rediscovering them one lookup at a time
+    final Set<Bytes> bootnodeIds = peers.stream().map(Peer::getId).collect(Collectors.toSet());
+    final List<DiscoveryPeer> cachedPeers =
+        peerCache.map(DiscoveryPeerCache::load).orElse(Collections.emptyList()).stream()
+            .filter(peer -> !bootnodeIds.contains(peer.getId()))
+            .collect(Collectors.toList());
+    if (!cachedPeers.isEmpty()) {
+      LOG.info("Seeding peer discovery with {} previously bonded peers", cachedPeers.size());
+      peers.addAll(cachedPeers);
+    }
+    return peers;
+  }
+
   protected abstract TimerUtil createTimer();
 
   protected abstract AsyncExecutor createWorkerExecutor();
@@ -173,6 +194,7 @@ public abstract class PeerDiscoveryAgent {
         .peerRequirement(PeerRequirement.combine(peerRequirements))
         .peerPermissions(peerPermissions)
         .peerBondedObservers(peerBondedObservers)
+        .peerCache(peerCache)
         .metricsSystem(metricsSystem)
         .build();
   }
@@ -22,6 +22,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
+import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeerCache;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerBondedObserver;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryEvent;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
@@ -46,6 +47,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -106,10 +108,19 @@ public class PeerDiscoveryController {
   private static final Logger LOG = LogManager.getLogger();
   private static final long REFRESH_CHECK_INTERVAL_MILLIS = MILLISECONDS.convert(30, SECONDS);
   private static final int PEER_REFRESH_ROUND_TIMEOUT_IN_SECONDS = 5;
+  // a full lookup by a peer asks us at most a few times, so this only limits abusive peers
+  @VisibleForTesting static final int MAX_FIND_NEIGHBORS_PER_WINDOW = 10;
+  private static final long FIND_NEIGHBORS_WINDOW_SECONDS = 10;
   protected final TimerUtil timerUtil;
   private final PeerTable peerTable;
   private final Cache<Bytes, DiscoveryPeer> bondingPeers =
       CacheBuilder.newBuilder().maximumSize(50).expireAfterWrite(10, TimeUnit.MINUTES).build();
+  // FIND_NEIGHBORS requests received from each peer in its current window
+  private final Cache<Bytes, AtomicInteger> findNeighborsRequests =
+      CacheBuilder.newBuilder()
+          .maximumSize(1000)
+          .expireAfterWrite(FIND_NEIGHBORS_WINDOW_SECONDS, TimeUnit.SECONDS)
+          .build();
 
   private final Collection<DiscoveryPeer> bootstrapNodes;
 
@@ -126,6 +137,7 @@ public class PeerDiscoveryController {
   private final DiscoveryProtocolLogger discoveryProtocolLogger;
   private final LabelledMetric<Counter> interactionCounter;
   private final LabelledMetric<Counter> interactionRetryCounter;
+  private final Counter rateLimitedFindNeighborsCounter;
 
   private RetryDelayFunction retryDelayFunction = RetryDelayFunction.linear(1.5, 2000, 60000);
 
@@ -140,6 +152,12 @@ public class PeerDiscoveryController {
   private final AtomicBoolean peerTableIsDirty = new AtomicBoolean(false);
   private OptionalLong cleanTableTimerId = OptionalLong.empty();
 
+  private final Optional<DiscoveryPeerCache> peerCache;
+  private final long peerCacheSaveIntervalMs;
+  private OptionalLong peerCacheTimerId = OptionalLong.empty();
+  // held while writing the peer cache, so a periodic save can't finish after the final one
+  private final Object peerCacheLock = new Object();
+
   // Observers for "peer bonded" discovery events.
   private final Subscribers<PeerBondedObserver> peerBondedObservers;
 
@@ -158,6 +176,8 @@ public class PeerDiscoveryController {
       final PeerRequirement peerRequirement,
       final PeerPermissions peerPermissions,
       final Subscribers<PeerBondedObserver> peerBondedObservers,
+      final Optional<DiscoveryPeerCache> peerCache,
+      final long peerCacheSaveIntervalMs,
       final MetricsSystem metricsSystem) {
     this.timerUtil = timerUtil;
     this.nodeKey = nodeKey;
@@ -170,6 +190,8 @@ public class PeerDiscoveryController {
     this.peerRequirement = peerRequirement;
     this.outboundMessageHandler = outboundMessageHandler;
     this.peerBondedObservers = peerBondedObservers;
+    this.peerCache = peerCache;
+    this.peerCacheSaveIntervalMs = peerCacheSaveIntervalMs;
     this.discoveryProtocolLogger = new DiscoveryProtocolLogger(metricsSystem);
 
     this.peerPermissions = new PeerDiscoveryPermissions(localPeer, peerPermissions);
@@ -193,6 +215,12 @@ public class PeerDiscoveryController {
             "discovery_interaction_retry_count",
             "Total number of interaction retries performed",
             "type");
+
+    rateLimitedFindNeighborsCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.NETWORK,
+            "discovery_find_neighbors_rate_limited_count",
+            "Total number of FIND_NEIGHBORS requests ignored because the sender sent too many");
   }
 
   public static Builder builder() {
@@ -234,6 +262,11 @@ public class PeerDiscoveryController {
     cleanTableTimerId =
         OptionalLong.of(
             timerUtil.setPeriodic(cleanPeerTableIntervalMs, this::cleanPeerTableIfRequired));
+
+    if (peerCache.isPresent()) {
+      peerCacheTimerId =
+          OptionalLong.of(timerUtil.setPeriodic(peerCacheSaveIntervalMs, this::savePeerCache));
+    }
   }
 
   public CompletableFuture<?> stop() {
@@ -245,6 +278,12 @@ public class PeerDiscoveryController {
     tableRefreshTimerId = OptionalLong.empty();
     cleanTableTimerId.ifPresent(timerUtil::cancelTimer);
     cleanTableTimerId = OptionalLong.empty();
+    peerCacheTimerId.ifPresent(timerUtil::cancelTimer);
+    peerCacheTimerId = OptionalLong.empty();
+    // write the final snapshot synchronously so that it isn't lost when the process exits
+    synchronized (peerCacheLock) {
+      peerCache.ifPresent(cache -> cache.save(streamDiscoveredPeers()));
+    }
     inflightInteractions.values().forEach(PeerInteractionState::cancelTimers);
     inflightInteractions.clear();
     return CompletableFuture.completedFuture(null);
@@ -327,7 +366,8 @@ public class PeerDiscoveryController {
         break;
       case FIND_NEIGHBORS:
         if (PeerDiscoveryStatus.BONDED.equals(peer.getStatus())
-            && peerPermissions.allowInboundNeighborsRequest(peer)) {
+            && peerPermissions.allowInboundNeighborsRequest(peer)
+            && withinFindNeighborsRateLimit(peer)) {
           final FindNeighborsPacketData fn =
               packet.getPacketData(FindNeighborsPacketData.class).get();
           respondToFindNeighbors(fn, peer);
@@ -337,6 +377,20 @@ public class PeerDiscoveryController {
     }
   }
 
+  private boolean withinFindNeighborsRateLimit(final DiscoveryPeer peer) {
+    final int requests =
+        findNeighborsRequests
+            .asMap()
+            .computeIfAbsent(peer.getId(), id -> new AtomicInteger())
+            .incrementAndGet();
+    if (requests > MAX_FIND_NEIGHBORS_PER_WINDOW) {
+      rateLimitedFindNeighborsCounter.inc();
+      LOG.trace("Ignoring FIND_NEIGHBORS from {}, which sent {} requests", peer, requests);
+      return false;
+    }
+    return true;
+  }
+
   private List<DiscoveryPeer> getPeersFromNeighborsPacket(final Packet packet) {
     final Optional<NeighborsPacketData> maybeNeighborsData =
         packet.getPacketData(NeighborsPacketData.class);
@@ -417,6 +471,23 @@ public class PeerDiscoveryController {
     }
   }
 
+  private void savePeerCache() {
+    // snapshot the table here, but keep the file system off the timer thread
+    final List<DiscoveryPeer> peers = streamDiscoveredPeers().collect(Collectors.toList());
+    peerCache.ifPresent(
+        cache ->
+            workerExecutor.execute(
+                () -> {
+                  synchronized (peerCacheLock) {
+                    // once stopped, the final save has written a newer snapshot
+                    if (started.get()) {
+                      cache.save(peers.stream());
+                    }
+                  }
+                  return null;
+                }));
+  }
+
   @VisibleForTesting
   RecursivePeerRefreshState getRecursivePeerRefreshState() {
     return recursivePeerRefreshState;
@@ -694,6 +765,8 @@ public class PeerDiscoveryController {
     private final List<DiscoveryPeer> bootstrapNodes = new ArrayList<>();
     private PeerTable peerTable;
     private Subscribers<PeerBondedObserver> peerBondedObservers = Subscribers.create();
+    private Optional<DiscoveryPeerCache> peerCache = Optional.empty();
+    private long peerCacheSaveIntervalMs = MILLISECONDS.convert(5, TimeUnit.MINUTES);
 
     // Required dependencies
     private NodeKey nodeKey;
@@ -724,6 +797,8 @@ public class PeerDiscoveryController {
           peerRequirement,
           peerPermissions,
           peerBondedObservers,
+          peerCache,
+          peerCacheSaveIntervalMs,
           metricsSystem);
     }
 
@@ -787,6 +862,18 @@ public class PeerDiscoveryController {
       return this;
     }
 
+    public Builder peerCache(final Optional<DiscoveryPeerCache> peerCache) {
+      checkNotNull(peerCache);
+      this.peerCache = peerCache;
+      return this;
+    }
+
+    public Builder peerCacheSaveIntervalMs(final long peerCacheSaveIntervalMs) {
+      checkArgument(peerCacheSaveIntervalMs > 0);
+      this.peerCacheSaveIntervalMs = peerCacheSaveIntervalMs;
+      return this;
+    }
+
     public Builder cleanPeerTableIntervalMs(final long cleanPeerTableIntervalMs) {
       checkArgument(cleanPeerTableIntervalMs >= 0);
       this.cleanPeerTableIntervalMs = cleanPeerTableIntervalMs;
@@ -14,9 +14,6 @@
  */
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
-import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
-
 import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
@@ -24,6 +21,7 @@ import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.peers.PeerId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +32,7 @@ import java.util.stream.Stream;
 
 import com.google.common.hash.BloomFilter;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 
 /**
  * Implements a Kademlia routing table based on k-buckets with a keccak-256 XOR-based distance
@@ -45,7 +44,7 @@ public class PeerTable {
   private static final int BLOOM_FILTER_REGENERATION_THRESHOLD = 50; // evictions
 
   private final Bucket[] table;
-  private final Bytes keccak256;
+  private final Bytes32 keccak256;
   private final int maxEntriesCnt;
 
   private final Map<Bytes, Integer> distanceCache;
@@ -61,9 +60,7 @@ public class PeerTable {
   public PeerTable(final Bytes nodeId, final int bucketSize) {
     this.keccak256 = Hash.keccak256(nodeId);
     this.table =
-        Stream.generate(() -> new Bucket(DEFAULT_BUCKET_SIZE))
-            .limit(N_BUCKETS + 1)
-            .toArray(Bucket[]::new);
+        Stream.generate(() -> new Bucket(bucketSize)).limit(N_BUCKETS + 1).toArray(Bucket[]::new);
     this.distanceCache = new ConcurrentHashMap<>();
     this.maxEntriesCnt = N_BUCKETS * bucketSize;
 
@@ -186,18 +183,52 @@ public class PeerTable {
    * Returns the <code>limit</code> peers (at most) closest to the provided target, based on the XOR
    * distance between the keccak-256 hash of the ID and the keccak-256 hash of the target.
    *
+   * <p>Rather than sorting the whole table, this walks the buckets outwards from the target's
+   * bucket. A peer in bucket <code>i</code> first differs from us at bit <code>i</code>, so if the
+   * target is in bucket <code>t</code>, peers in buckets below <code>t</code> are all at distance
+   * <code>t</code> from it and peers in a bucket <code>i</code> above <code>t</code> are all at
+   * distance <code>i</code>. Only the peers sharing the target's bucket need their distance to it
+   * computed.
+   *
    * @param target The target node ID.
    * @param limit The amount of results to return.
    * @return The <code>limit</code> closest peers, at most.
    */
   public List<DiscoveryPeer> nearestPeers(final Bytes target, final int limit) {
-    final Bytes keccak256 = Hash.keccak256(target);
-    return streamAllPeers()
-        .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
-        .sorted(
-            comparingInt((peer) -> PeerDistanceCalculator.distance(peer.keccak256(), keccak256)))
-        .limit(limit)
-        .collect(toList());
+    final Bytes32 targetKeccak256 = Hash.keccak256(target);
+    final int targetBucket = PeerDistanceCalculator.distance(keccak256, targetKeccak256);
+    final List<DiscoveryPeer> nearest = new ArrayList<>(limit);
+
+    final List<DiscoveryPeer> closest = bondedPeers(table[targetBucket]);
+    // sort by distance then position, computing each peer's distance once
+    final long[] keys = new long[closest.size()];
+    for (int i = 0; i < keys.length; i++) {
+      final int distance =
+          PeerDistanceCalculator.distance(closest.get(i).keccak256(), targetKeccak256);
+      keys[i] = ((long) distance << 32) | i;
+    }
+    Arrays.sort(keys);
+    for (int i = 0; i < keys.length && nearest.size() < limit; i++) {
+      nearest.add(closest.get((int) keys[i]));
+    }
+    for (int i = 1; i < targetBucket && nearest.size() < limit; i++) {
+      addUpTo(nearest, bondedPeers(table[i]), limit);
+    }
+    for (int i = targetBucket + 1; i <= N_BUCKETS && nearest.size() < limit; i++) {
+      addUpTo(nearest, bondedPeers(table[i]), limit);
+    }
+    return nearest;
+  }
+
+  private static List<DiscoveryPeer> bondedPeers(final Bucket bucket) {
+    final List<DiscoveryPeer> bonded = new ArrayList<>(bucket.getPeers());
+    bonded.removeIf(peer -> peer.getStatus() != PeerDiscoveryStatus.BONDED);
+    return bonded;
+  }
+
+  private static void addUpTo(
+      final List<DiscoveryPeer> nearest, final List<DiscoveryPeer> peers, final int limit) {
+    nearest.addAll(peers.subList(0, Math.min(peers.size(), limit - nearest.size())));
   }
 
   public Stream<DiscoveryPeer> streamAllPeers() {
@@ -108,6 +108,17 @@ public interface PeerConnection {
    */
   boolean isDisconnected();
 
+  /**
+   * Whether the bytes queued for sending to this peer are below the configured high water mark.
+   * Messages can still be sent to a connection that is not writable, but callers sending optional
+   * messages should hold them back until it drains.
+   *
+   * @return True if messages can be sent without growing the outbound queue further
+   */
+  default boolean isWritable() {
+    return true;
+  }
+
   InetSocketAddress getLocalAddress();
 
   InetSocketAddress getRemoteAddress();
@@ -26,12 +26,17 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.HelloMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.WireMessageCodes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.ByteToMessageDecoder;
@@ -40,6 +45,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 
+/**
+ * Runs the encryption handshake of a connection. The handler itself lives on the connection's event
+ * loop, but every step that does crypto runs on a separate handshake executor, so that a burst of
+ * new connections does not hold up the event loops serving established peers. Bytes received while
+ * a step is running are buffered and handed to the next step, and once the handshake succeeds any
+ * bytes left over are passed on to the {@link DeFramer} in the order they were received.
+ */
 abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
   private static final Logger LOG = LogManager.getLogger();
@@ -56,6 +68,13 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
   private final List<SubProtocol> subProtocols;
 
   private final MetricsSystem metricsSystem;
+  private final OutboundQueueMetrics outboundQueueMetrics;
+  private final Executor handshakeExecutor;
+  private final OperationTimer.TimingContext handshakeTimingContext;
+
+  // only accessed on the event loop
+  private ByteBuf pendingBytes;
+  private boolean stepInProgress = false;
 
   AbstractHandshakeHandler(
       final List<SubProtocol> subProtocols,
@@ -63,13 +82,19 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
       final Optional<Peer> expectedPeer,
       final CompletableFuture<PeerConnection> connectionFuture,
       final PeerConnectionEventDispatcher connectionEventDispatcher,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final OutboundQueueMetrics outboundQueueMetrics,
+      final Executor handshakeExecutor,
+      final OperationTimer handshakeTimer) {
     this.subProtocols = subProtocols;
     this.localNode = localNode;
     this.expectedPeer = expectedPeer;
     this.connectionFuture = connectionFuture;
     this.connectionEventDispatcher = connectionEventDispatcher;
     this.metricsSystem = metricsSystem;
+    this.outboundQueueMetrics = outboundQueueMetrics;
+    this.handshakeExecutor = handshakeExecutor;
+    this.handshakeTimingContext = handshakeTimer.startTimer();
   }
 
   /**
@@ -82,50 +107,129 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
 
   @Override
   protected final void channelRead0(final ChannelHandlerContext ctx, final ByteBuf msg) {
-    final Optional<ByteBuf> nextMsg = nextHandshakeMessage(msg);
-    if (nextMsg.isPresent()) {
-      ctx.writeAndFlush(nextMsg.get());
-    } else if (handshaker.getStatus() != Handshaker.HandshakeStatus.SUCCESS) {
-      LOG.debug("waiting for more bytes");
-    } else {
+    if (pendingBytes == null) {
+      pendingBytes = ctx.alloc().buffer(msg.readableBytes());
+    }
+    pendingBytes.writeBytes(msg);
+    if (!stepInProgress) {
+      processPendingBytes(ctx);
+    }
+  }
+
+  private void processPendingBytes(final ChannelHandlerContext ctx) {
+    final ByteBuf input = pendingBytes;
+    pendingBytes = null;
+    runHandshakeStep(ctx, input, () -> nextHandshakeMessage(input));
+  }
+
+  /**
+   * Runs a step of the handshake on the handshake executor and continues on the event loop once it
+   * is done, writing the message it produced, if any.
+   *
+   * @param ctx the channel context
+   * @param input the bytes the step reads from, which it may leave partially consumed
+   * @param step the step to run
+   */
+  protected void runHandshakeStep(
+      final ChannelHandlerContext ctx,
+      final ByteBuf input,
+      final Supplier<Optional<ByteBuf>> step) {
+    stepInProgress = true;
+    CompletableFuture.supplyAsync(step, handshakeExecutor)
+        .whenComplete(
+            (nextMsg, error) ->
+                ctx.executor().execute(() -> onHandshakeStepComplete(ctx, input, nextMsg, error)));
+  }
+
+  private void onHandshakeStepComplete(
+      final ChannelHandlerContext ctx,
+      final ByteBuf input,
+      final Optional<ByteBuf> nextMsg,
+      final Throwable error) {
+    stepInProgress = false;
+    if (ctx.isRemoved()) {
+      input.release();
+      nextMsg.ifPresent(ByteBuf::release);
+      return;
+    }
+    if (error != null) {
+      input.release();
+      exceptionCaught(ctx, error instanceof CompletionException ? error.getCause() : error);
+      return;
+    }
 
-      final Bytes nodeId = handshaker.partyPubKey().getEncodedBytes();
-      if (!localNode.isReady()) {
-        // If we're handling a connection before the node is fully up, just disconnect
-        LOG.debug("Rejecting connection because local node is not ready {}", nodeId);
-        disconnect(ctx, DisconnectMessage.DisconnectReason.UNKNOWN);
-        return;
+    final boolean receivedDuringStep = pendingBytes != null;
+    // whatever the step didn't consume was received before anything that arrived in the meantime
+    if (input.isReadable()) {
+      if (receivedDuringStep) {
+        input.writeBytes(pendingBytes);
+        pendingBytes.release();
       }
+      pendingBytes = input;
+    } else {
+      input.release();
+    }
+
+    nextMsg.ifPresent(ctx::writeAndFlush);
+    if (handshaker.getStatus() == Handshaker.HandshakeStatus.SUCCESS) {
+      completeHandshake(ctx);
+    } else if (receivedDuringStep) {
+      processPendingBytes(ctx);
+    } else {
+      LOG.debug("waiting for more bytes");
+    }
+  }
+
+  private void completeHandshake(final ChannelHandlerContext ctx) {
+    handshakeTimingContext.stopTimer();
+    final ByteBuf remainingBytes = pendingBytes == null ? Unpooled.EMPTY_BUFFER : pendingBytes;
+    pendingBytes = null;
+
+    final Bytes nodeId = handshaker.partyPubKey().getEncodedBytes();
+    if (!localNode.isReady()) {
+      // If we're handling a connection before the node is fully up, just disconnect
+      LOG.debug("Rejecting connection because local node is not ready {}", nodeId);
+      remainingBytes.release();
+      disconnect(ctx, DisconnectMessage.DisconnectReason.UNKNOWN);
+      return;
+    }
+
+    LOG.debug("Sending framed hello");
+
+    // Exchange keys done
+    final Framer framer = new Framer(handshaker.secrets());
+
+    final ByteToMessageDecoder deFramer =
+        new DeFramer(
+            framer,
+            subProtocols,
+            localNode,
+            expectedPeer,
+            connectionEventDispatcher,
+            connectionFuture,
+            metricsSystem,
+            outboundQueueMetrics);
 
-      LOG.debug("Sending framed hello");
-
-      // Exchange keys done
-      final Framer framer = new Framer(handshaker.secrets());
-
-      final ByteToMessageDecoder deFramer =
-          new DeFramer(
-              framer,
-              subProtocols,
-              localNode,
-              expectedPeer,
-              connectionEventDispatcher,
-              connectionFuture,
-              metricsSystem);
-
-      ctx.channel()
-          .pipeline()
-          .addFirst(new ValidateFirstOutboundMessage(framer))
-          .replace(this, "DeFramer", deFramer);
-
-      ctx.writeAndFlush(new OutboundMessage(null, HelloMessage.create(localNode.getPeerInfo())))
-          .addListener(
-              ff -> {
-                if (ff.isSuccess()) {
-                  LOG.debug("Successfully wrote hello message");
-                }
-              });
-      msg.retain();
-      ctx.fireChannelRead(msg);
+    ctx.channel()
+        .pipeline()
+        .addFirst(new ValidateFirstOutboundMessage(framer))
+        .replace(this, "DeFramer", deFramer);
+
+    ctx.writeAndFlush(new OutboundMessage(null, HelloMessage.create(localNode.getPeerInfo())))
+        .addListener(
+            ff -> {
+              if (ff.isSuccess()) {
+                LOG.debug("Successfully wrote hello message");
+              }
+            });
+    ctx.fireChannelRead(remainingBytes);
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) {
+    if (pendingBytes != null) {
+      pendingBytes.release();
+      pendingBytes = null;
     }
   }
 
@@ -140,6 +244,14 @@ abstract class AbstractHandshakeHandler extends SimpleChannelInboundHandler<Byte
             });
   }
 
+  @Override
+  public void channelInactive(final ChannelHandlerContext ctx) {
+    // fail fast rather than waiting for the timeout when the other side hangs up on us
+    connectionFuture.completeExceptionally(
+        new IllegalStateException("Connection closed before the handshake completed"));
+    ctx.fireChannelInactive();
+  }
+
   @Override
   public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable throwable) {
     LOG.debug("Handshake error:", throwable);
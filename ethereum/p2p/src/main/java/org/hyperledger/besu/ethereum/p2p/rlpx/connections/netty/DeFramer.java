@@ -51,6 +51,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.handler.codec.DecoderException;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -59,6 +60,9 @@ final class DeFramer extends ByteToMessageDecoder {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  // flushes deferred before one is forced through, bounding how long a frame can be held back
+  private static final int MAX_CONSOLIDATED_FLUSHES = 256;
+
   private final CompletableFuture<PeerConnection> connectFuture;
 
   private final PeerConnectionEventDispatcher connectionEventDispatcher;
@@ -70,6 +74,7 @@ final class DeFramer extends ByteToMessageDecoder {
   private final List<SubProtocol> subProtocols;
   private boolean hellosExchanged;
   private final LabelledMetric<Counter> outboundMessagesCounter;
+  private final OutboundQueueMetrics outboundQueueMetrics;
 
   DeFramer(
       final Framer framer,
@@ -78,13 +83,15 @@ final class DeFramer extends ByteToMessageDecoder {
       final Optional<Peer> expectedPeer,
       final PeerConnectionEventDispatcher connectionEventDispatcher,
       final CompletableFuture<PeerConnection> connectFuture,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final OutboundQueueMetrics outboundQueueMetrics) {
     this.framer = framer;
     this.subProtocols = subProtocols;
     this.localNode = localNode;
     this.expectedPeer = expectedPeer;
     this.connectFuture = connectFuture;
     this.connectionEventDispatcher = connectionEventDispatcher;
+    this.outboundQueueMetrics = outboundQueueMetrics;
     this.outboundMessagesCounter =
         metricsSystem.createLabelledCounter(
             BesuMetricCategory.NETWORK,
@@ -163,7 +170,14 @@ final class DeFramer extends ByteToMessageDecoder {
                 new WireKeepAlive(connection, waitingForPong),
                 new ApiHandler(
                     capabilityMultiplexer, connection, connectionEventDispatcher, waitingForPong),
-                new MessageFramer(capabilityMultiplexer, framer));
+                new MessageFramer(capabilityMultiplexer, framer),
+                new OutboundMessageQueue(capabilityMultiplexer, outboundQueueMetrics));
+        // Messages are written and flushed one at a time from many threads. Consolidating the
+        // flushes on the event loop lets the frames queued in the meantime go out in a single
+        // gathering write instead of a syscall per message.
+        ctx.channel()
+            .pipeline()
+            .addFirst(new FlushConsolidationHandler(MAX_CONSOLIDATED_FLUSHES, true));
         connectFuture.complete(connection);
       } else if (message.getCode() == WireMessageCodes.DISCONNECT) {
         DisconnectMessage disconnectMessage = DisconnectMessage.readFrom(message);
@@ -21,30 +21,55 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnectionEventDis
 import org.hyperledger.besu.ethereum.p2p.rlpx.handshake.Handshaker;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
 
 final class HandshakeHandlerInbound extends AbstractHandshakeHandler {
 
+  private final NodeKey nodeKey;
+
   public HandshakeHandlerInbound(
       final NodeKey nodeKey,
       final List<SubProtocol> subProtocols,
       final LocalNode localNode,
       final CompletableFuture<PeerConnection> connectionFuture,
       final PeerConnectionEventDispatcher connectionEventDispatcher,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final OutboundQueueMetrics outboundQueueMetrics,
+      final Executor handshakeExecutor,
+      final OperationTimer handshakeTimer) {
     super(
         subProtocols,
         localNode,
         Optional.empty(),
         connectionFuture,
         connectionEventDispatcher,
-        metricsSystem);
-    handshaker.prepareResponder(nodeKey);
+        metricsSystem,
+        outboundQueueMetrics,
+        handshakeExecutor,
+        handshakeTimer);
+    this.nodeKey = nodeKey;
+  }
+
+  @Override
+  public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+    super.channelActive(ctx);
+    // generating our ephemeral key is the first step of the handshake
+    runHandshakeStep(
+        ctx,
+        Unpooled.EMPTY_BUFFER,
+        () -> {
+          handshaker.prepareResponder(nodeKey);
+          return Optional.empty();
+        });
   }
 
   @Override
@@ -23,12 +23,15 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnectionEventDis
 import org.hyperledger.besu.ethereum.p2p.rlpx.handshake.Handshaker;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,7 +40,8 @@ final class HandshakeHandlerOutbound extends AbstractHandshakeHandler {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final ByteBuf first;
+  private final NodeKey nodeKey;
+  private final Peer peer;
 
   public HandshakeHandlerOutbound(
       final NodeKey nodeKey,
@@ -46,16 +50,22 @@ final class HandshakeHandlerOutbound extends AbstractHandshakeHandler {
       final LocalNode localNode,
       final CompletableFuture<PeerConnection> connectionFuture,
       final PeerConnectionEventDispatcher connectionEventDispatcher,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final OutboundQueueMetrics outboundQueueMetrics,
+      final Executor handshakeExecutor,
+      final OperationTimer handshakeTimer) {
     super(
         subProtocols,
         localNode,
         Optional.of(peer),
         connectionFuture,
         connectionEventDispatcher,
-        metricsSystem);
-    handshaker.prepareInitiator(nodeKey, SECP256K1.PublicKey.create(peer.getId()));
-    this.first = handshaker.firstMessage();
+        metricsSystem,
+        outboundQueueMetrics,
+        handshakeExecutor,
+        handshakeTimer);
+    this.nodeKey = nodeKey;
+    this.peer = peer;
   }
 
   @Override
@@ -72,13 +82,13 @@ final class HandshakeHandlerOutbound extends AbstractHandshakeHandler {
   @Override
   public void channelActive(final ChannelHandlerContext ctx) throws Exception {
     super.channelActive(ctx);
-    ctx.writeAndFlush(first)
-        .addListener(
-            f -> {
-              if (f.isSuccess()) {
-                LOG.debug(
-                    "Wrote initial crypto handshake message to {}.", ctx.channel().remoteAddress());
-              }
-            });
+    runHandshakeStep(
+        ctx,
+        Unpooled.EMPTY_BUFFER,
+        () -> {
+          handshaker.prepareInitiator(nodeKey, SECP256K1.PublicKey.create(peer.getId()));
+          LOG.debug("Writing initial crypto handshake message to {}.", peer.getId());
+          return Optional.of(handshaker.firstMessage());
+        });
   }
 }
@@ -26,30 +26,58 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnectionEventDispatcher;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.Subscribers;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 import java.util.stream.StreamSupport;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class NettyConnectionInitializer implements ConnectionInitializer {
 
+  private static final Logger LOG = LogManager.getLogger();
   private static final int TIMEOUT_SECONDS = 10;
+  // the ratios Vert.x uses for its own acceptor and event loop groups
+  private static final int BOSS_IO_RATIO = 100;
+  private static final int WORKER_IO_RATIO = 50;
+  private static final long LATENCY_PROBE_INTERVAL_SECONDS = 1;
+  private static final int MAX_TRACKED_HANDSHAKE_ADDRESSES = 10_000;
 
   private final NodeKey nodeKey;
   private final RlpxConfiguration config;
@@ -59,8 +87,24 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
   private final Subscribers<ConnectCallback> connectSubscribers = Subscribers.create();
 
   private ChannelFuture server;
-  private final EventLoopGroup boss = new NioEventLoopGroup(1);
-  private final EventLoopGroup workers = new NioEventLoopGroup(10);
+  private final boolean nativeTransport;
+  private final EventLoopGroup boss;
+  private final EventLoopGroup workers;
+  private final ByteBufAllocator allocator;
+  // runs the handshake crypto of new connections, away from the event loops of established peers.
+  // Each connection has at most one step queued, so pending inbound handshakes bound the queue.
+  private final EventExecutorGroup handshakeExecutors;
+  private final AtomicInteger pendingInboundHandshakes = new AtomicInteger();
+  // inbound handshakes started by each address in its current one minute window
+  private final Cache<InetAddress, AtomicInteger> inboundHandshakesByAddress =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_TRACKED_HANDSHAKE_ADDRESSES)
+          .expireAfterWrite(1, TimeUnit.MINUTES)
+          .build();
+  private final LabelledMetric<OperationTimer> handshakeLatency;
+  private final OutboundQueueMetrics outboundQueueMetrics;
+  private final Counter tooManyPendingHandshakesCounter;
+  private final Counter rateLimitedHandshakesCounter;
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final AtomicBoolean stopped = new AtomicBoolean(false);
 
@@ -75,6 +119,17 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
     this.localNode = localNode;
     this.eventDispatcher = eventDispatcher;
     this.metricsSystem = metricsSystem;
+    this.nativeTransport = useNativeTransport(config.isNativeTransportEnabled());
+    this.boss = eventLoopGroup(1, new DefaultThreadFactory("rlpx-boss"), BOSS_IO_RATIO);
+    this.workers =
+        eventLoopGroup(
+            config.getNettyWorkerThreads(),
+            new DefaultThreadFactory("rlpx-worker"),
+            WORKER_IO_RATIO);
+    this.allocator = allocator(config.getNettyDirectArenas());
+    this.handshakeExecutors =
+        new DefaultEventExecutorGroup(
+            config.getHandshakeThreads(), new DefaultThreadFactory("rlpx-handshake"));
 
     metricsSystem.createIntegerGauge(
         BesuMetricCategory.NETWORK,
@@ -87,6 +142,53 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
         "netty_boss_pending_tasks",
         "The number of pending tasks in the Netty boss event loop",
         pendingTaskCounter(boss));
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.NETWORK,
+        "netty_handshake_pending_tasks",
+        "The number of pending tasks in the RLPx handshake executors",
+        pendingTaskCounter(handshakeExecutors));
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.NETWORK,
+        "rlpx_inbound_handshakes_pending",
+        "The number of incoming connections that have not completed their handshake",
+        pendingInboundHandshakes::get);
+
+    handshakeLatency =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.NETWORK,
+            "rlpx_handshake_latency_seconds",
+            "Time from opening a connection to completing its encryption handshake",
+            "direction");
+
+    final LabelledMetric<Counter> rejectedHandshakes =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "rlpx_handshake_rejected_count",
+            "Total number of incoming connections closed before their handshake started",
+            "reason");
+    tooManyPendingHandshakesCounter = rejectedHandshakes.labels("too_many_pending");
+    rateLimitedHandshakesCounter = rejectedHandshakes.labels("rate_limited");
+
+    metricsSystem.createIntegerGauge(
+        BesuMetricCategory.NETWORK,
+        "netty_workers_max_pending_tasks",
+        "The largest number of pending tasks in any single Netty workers event loop",
+        maxPendingTaskCounter(workers));
+
+    final LabelledMetric<OperationTimer> eventLoopLatency =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.NETWORK,
+            "netty_event_loop_latency_seconds",
+            "Time a task submitted to a Netty event loop waits before it runs",
+            "group",
+            "loop");
+    probeLatency(boss, "boss", eventLoopLatency);
+    probeLatency(workers, "workers", eventLoopLatency);
+    probeLatency(handshakeExecutors, "handshake", eventLoopLatency);
+
+    outboundQueueMetrics = new OutboundQueueMetrics(metricsSystem);
   }
 
   @Override
@@ -99,12 +201,21 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
       return listeningPortFuture;
     }
 
-    this.server =
+    final ServerBootstrap serverBootstrap =
         new ServerBootstrap()
             .group(boss, workers)
-            .channel(NioServerSocketChannel.class)
-            .childHandler(inboundChannelInitializer())
-            .bind(config.getBindHost(), config.getBindPort());
+            .channel(
+                nativeTransport ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
+            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark())
+            .childOption(ChannelOption.ALLOCATOR, allocator)
+            .childHandler(inboundChannelInitializer());
+    if (config.getSocketSendBufferSize() > 0) {
+      serverBootstrap.childOption(ChannelOption.SO_SNDBUF, config.getSocketSendBufferSize());
+    }
+    if (config.getSocketReceiveBufferSize() > 0) {
+      serverBootstrap.childOption(ChannelOption.SO_RCVBUF, config.getSocketReceiveBufferSize());
+    }
+    this.server = serverBootstrap.bind(config.getBindHost(), config.getBindPort());
     server.addListener(
         future -> {
           final InetSocketAddress socketAddress =
@@ -136,6 +247,7 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
 
     workers.shutdownGracefully();
     boss.shutdownGracefully();
+    handshakeExecutors.shutdownGracefully();
     server
         .channel()
         .closeFuture()
@@ -164,12 +276,22 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
     }
 
     final EnodeURL enode = peer.getEnodeURL();
-    new Bootstrap()
-        .group(workers)
-        .channel(NioSocketChannel.class)
-        .remoteAddress(new InetSocketAddress(enode.getIp(), enode.getListeningPort().get()))
-        .option(ChannelOption.TCP_NODELAY, true)
-        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TIMEOUT_SECONDS * 1000)
+    final Bootstrap bootstrap =
+        new Bootstrap()
+            .group(workers)
+            .channel(nativeTransport ? EpollSocketChannel.class : NioSocketChannel.class)
+            .remoteAddress(new InetSocketAddress(enode.getIp(), enode.getListeningPort().get()))
+            .option(ChannelOption.TCP_NODELAY, true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, TIMEOUT_SECONDS * 1000)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark())
+            .option(ChannelOption.ALLOCATOR, allocator);
+    if (config.getSocketSendBufferSize() > 0) {
+      bootstrap.option(ChannelOption.SO_SNDBUF, config.getSocketSendBufferSize());
+    }
+    if (config.getSocketReceiveBufferSize() > 0) {
+      bootstrap.option(ChannelOption.SO_RCVBUF, config.getSocketReceiveBufferSize());
+    }
+    bootstrap
         .handler(
             new ChannelInitializer<SocketChannel>() {
               @Override
@@ -191,7 +313,10 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
                             localNode,
                             connectionFuture,
                             eventDispatcher,
-                            metricsSystem));
+                            metricsSystem,
+                            outboundQueueMetrics,
+                            handshakeExecutors,
+                            handshakeLatency.labels("outbound")));
               }
             })
         .connect()
@@ -210,7 +335,13 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
     return new ChannelInitializer<SocketChannel>() {
       @Override
       protected void initChannel(final SocketChannel ch) {
+        if (!tryStartInboundHandshake(ch.remoteAddress().getAddress())) {
+          ch.close();
+          return;
+        }
         final CompletableFuture<PeerConnection> connectionFuture = new CompletableFuture<>();
+        connectionFuture.whenComplete(
+            (connection, error) -> pendingInboundHandshakes.decrementAndGet());
         connectionFuture.thenAccept(
             connection -> connectSubscribers.forEach(c -> c.onConnect(connection)));
 
@@ -229,12 +360,119 @@ public class NettyConnectionInitializer implements ConnectionInitializer {
                     localNode,
                     connectionFuture,
                     eventDispatcher,
-                    metricsSystem));
+                    metricsSystem,
+                    outboundQueueMetrics,
+                    handshakeExecutors,
+                    handshakeLatency.labels("inbound")));
       }
     };
   }
 
-  private IntSupplier pendingTaskCounter(final EventLoopGroup eventLoopGroup) {
+  /**
+   * Admits an incoming connection to the handshake executors unless too many handshakes are already
+   * pending or its address has started too many handshakes in the last minute. Rejected connections
+   * are closed before any crypto is done for them.
+   */
+  private boolean tryStartInboundHandshake(final InetAddress address) {
+    if (pendingInboundHandshakes.incrementAndGet() > config.getMaxPendingInboundHandshakes()) {
+      pendingInboundHandshakes.decrementAndGet();
+      tooManyPendingHandshakesCounter.inc();
+      LOG.trace("Rejecting connection from {}, too many pending handshakes", address);
+      return false;
+    }
+    final int handshakes =
+        inboundHandshakesByAddress
+            .asMap()
+            .computeIfAbsent(address, key -> new AtomicInteger())
+            .incrementAndGet();
+    if (handshakes > config.getMaxInboundHandshakesPerIpPerMinute()) {
+      pendingInboundHandshakes.decrementAndGet();
+      rateLimitedHandshakesCounter.inc();
+      LOG.trace("Rejecting connection from {}, too many handshakes from this address", address);
+      return false;
+    }
+    return true;
+  }
+
+  private WriteBufferWaterMark writeBufferWaterMark() {
+    return new WriteBufferWaterMark(
+        config.getWriteBufferLowWaterMark(), config.getWriteBufferHighWaterMark());
+  }
+
+  private static boolean useNativeTransport(final boolean nativeTransportEnabled) {
+    if (!nativeTransportEnabled) {
+      return false;
+    }
+    if (Epoll.isAvailable()) {
+      LOG.debug("Using native epoll transport for RLPx connections");
+      return true;
+    }
+    LOG.debug(
+        "Native epoll transport is not available, using NIO for RLPx connections",
+        Epoll.unavailabilityCause());
+    return false;
+  }
+
+  private EventLoopGroup eventLoopGroup(
+      final int threads, final ThreadFactory threadFactory, final int ioRatio) {
+    if (nativeTransport) {
+      final EpollEventLoopGroup group = new EpollEventLoopGroup(threads, threadFactory);
+      group.setIoRatio(ioRatio);
+      return group;
+    }
+    final NioEventLoopGroup group = new NioEventLoopGroup(threads, threadFactory);
+    group.setIoRatio(ioRatio);
+    return group;
+  }
+
+  private static ByteBufAllocator allocator(final int directArenas) {
+    if (directArenas == 0) {
+      return ByteBufAllocator.DEFAULT;
+    }
+    return new PooledByteBufAllocator(
+        true,
+        PooledByteBufAllocator.defaultNumHeapArena(),
+        directArenas,
+        PooledByteBufAllocator.defaultPageSize(),
+        PooledByteBufAllocator.defaultMaxOrder(),
+        PooledByteBufAllocator.defaultTinyCacheSize(),
+        PooledByteBufAllocator.defaultSmallCacheSize(),
+        PooledByteBufAllocator.defaultNormalCacheSize(),
+        PooledByteBufAllocator.defaultUseCacheForAllThreads());
+  }
+
+  /**
+   * Periodically submits a task to every event loop of a group and times how long it waits to run,
+   * which shows an overloaded event loop even when the group as a whole keeps up.
+   */
+  private static void probeLatency(
+      final EventExecutorGroup eventLoopGroup,
+      final String groupName,
+      final LabelledMetric<OperationTimer> eventLoopLatency) {
+    int index = 0;
+    for (final EventExecutor eventLoop : eventLoopGroup) {
+      final OperationTimer timer = eventLoopLatency.labels(groupName, String.valueOf(index++));
+      eventLoop.scheduleAtFixedRate(
+          () -> {
+            final OperationTimer.TimingContext timingContext = timer.startTimer();
+            eventLoop.execute(timingContext::stopTimer);
+          },
+          LATENCY_PROBE_INTERVAL_SECONDS,
+          LATENCY_PROBE_INTERVAL_SECONDS,
+          TimeUnit.SECONDS);
+    }
+  }
+
+  private IntSupplier maxPendingTaskCounter(final EventLoopGroup eventLoopGroup) {
+    return () ->
+        StreamSupport.stream(eventLoopGroup.spliterator(), false)
+            .filter(eventExecutor -> eventExecutor instanceof SingleThreadEventExecutor)
+            .mapToInt(eventExecutor -> ((SingleThreadEventExecutor) eventExecutor).pendingTasks())
+            .max()
+            .orElse(0);
+  }
+
+  private IntSupplier pendingTaskCounter(final EventExecutorGroup eventLoopGroup) {
     return () ->
         StreamSupport.stream(eventLoopGroup.spliterator(), false)
             .filter(eventExecutor -> eventExecutor instanceof SingleThreadEventExecutor)
@@ -67,6 +67,11 @@ final class NettyPeerConnection extends AbstractPeerConnection {
     ctx.channel().writeAndFlush(new OutboundMessage(capability, message));
   }
 
+  @Override
+  public boolean isWritable() {
+    return ctx.channel().isWritable();
+  }
+
   @Override
   protected void closeConnectionImmediately() {
     ctx.close();
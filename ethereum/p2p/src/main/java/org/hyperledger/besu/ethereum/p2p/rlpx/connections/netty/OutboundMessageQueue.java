@@ -0,0 +1,267 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.nio.channels.ClosedChannelException;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Holds back the messages written to a connection while it is above its high water mark and sends
+ * them in order of their {@link MessagePriority} once it drains, so that a backlog of sync
+ * responses or transaction gossip doesn't delay new blocks and consensus messages.
+ *
+ * <p>High priority messages are always sent first. Normal and low priority messages share the
+ * connection by deficit round robin over their size in bytes. Low priority messages are dropped if
+ * they have been queued for too long, or when too many of them are queued.
+ *
+ * <p>Messages are only queued while the connection is backed up; otherwise they are passed straight
+ * on. All state is confined to the channel's event loop.
+ */
+final class OutboundMessageQueue extends ChannelDuplexHandler {
+
+  @VisibleForTesting static final int NORMAL_PRIORITY_QUANTUM = 48 * 1024;
+  @VisibleForTesting static final int LOW_PRIORITY_QUANTUM = 16 * 1024;
+  // roughly a block interval, after which queued transactions are likely to be known or mined
+  @VisibleForTesting static final long MAX_LOW_PRIORITY_AGE_MS = TimeUnit.SECONDS.toMillis(10);
+  @VisibleForTesting static final long MAX_LOW_PRIORITY_BYTES = 4 * 1024 * 1024;
+
+  private final CapabilityMultiplexer multiplexer;
+  private final OutboundQueueMetrics metrics;
+  private final Clock clock;
+
+  private final PriorityClass highPriority = new PriorityClass(MessagePriority.HIGH, 0);
+  private final PriorityClass normalPriority =
+      new PriorityClass(MessagePriority.NORMAL, NORMAL_PRIORITY_QUANTUM);
+  private final PriorityClass lowPriority =
+      new PriorityClass(MessagePriority.LOW, LOW_PRIORITY_QUANTUM);
+  // the first turn goes to normal priority messages
+  private PriorityClass fairTurn = lowPriority;
+  private int queuedMessages = 0;
+
+  OutboundMessageQueue(
+      final CapabilityMultiplexer multiplexer, final OutboundQueueMetrics metrics) {
+    this(multiplexer, metrics, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  OutboundMessageQueue(
+      final CapabilityMultiplexer multiplexer,
+      final OutboundQueueMetrics metrics,
+      final Clock clock) {
+    this.multiplexer = multiplexer;
+    this.metrics = metrics;
+    this.clock = clock;
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+    if (!(msg instanceof OutboundMessage) || (queuedMessages == 0 && ctx.channel().isWritable())) {
+      ctx.write(msg, promise);
+      return;
+    }
+
+    final OutboundMessage message = (OutboundMessage) msg;
+    final MessagePriority priority = priority(message);
+    final PriorityClass priorityClass = priorityClass(priority);
+    priorityClass.add(
+        new QueuedMessage(
+            message,
+            promise,
+            priority,
+            message.getData().getSize(),
+            clock.millis(),
+            metrics.startWaitTimer(priority)));
+
+    while (lowPriority.bytes > MAX_LOW_PRIORITY_BYTES && lowPriority.messages.size() > 1) {
+      drop(lowPriority.poll());
+      metrics.overflowingMessageDropped();
+    }
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) {
+    writeQueuedMessages(ctx);
+    ctx.flush();
+  }
+
+  @Override
+  public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+    if (ctx.channel().isWritable() && queuedMessages > 0) {
+      writeQueuedMessages(ctx);
+      ctx.flush();
+    }
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void channelInactive(final ChannelHandlerContext ctx) {
+    dropAll();
+    ctx.fireChannelInactive();
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) {
+    dropAll();
+  }
+
+  private void writeQueuedMessages(final ChannelHandlerContext ctx) {
+    QueuedMessage next;
+    while (ctx.channel().isWritable() && (next = nextMessage()) != null) {
+      next.waitTime.stopTimer();
+      ctx.write(next.message, next.promise);
+    }
+  }
+
+  private QueuedMessage nextMessage() {
+    while (queuedMessages > 0) {
+      final QueuedMessage next =
+          highPriority.messages.isEmpty() ? nextFairMessage() : highPriority.poll();
+      if (next.priority == MessagePriority.LOW
+          && clock.millis() - next.queuedAt > MAX_LOW_PRIORITY_AGE_MS) {
+        drop(next);
+        metrics.staleMessageDropped();
+        continue;
+      }
+      return next;
+    }
+    return null;
+  }
+
+  /**
+   * Deficit round robin between normal and low priority messages: on each turn a class is credited
+   * with its quantum of bytes and sends messages for as long as its credit covers them.
+   */
+  private QueuedMessage nextFairMessage() {
+    while (true) {
+      final PriorityClass current = fairTurn;
+      if (current.messages.isEmpty()) {
+        current.deficit = 0;
+      } else if (current.deficit >= current.messages.peekFirst().size) {
+        final QueuedMessage next = current.poll();
+        current.deficit -= next.size;
+        return next;
+      }
+      fairTurn = current == normalPriority ? lowPriority : normalPriority;
+      fairTurn.deficit += fairTurn.quantum;
+    }
+  }
+
+  private void drop(final QueuedMessage message) {
+    message.promise.tryFailure(
+        new IllegalStateException("Message dropped from the outbound queue before being sent"));
+  }
+
+  private void dropAll() {
+    for (final PriorityClass priorityClass : List.of(highPriority, normalPriority, lowPriority)) {
+      QueuedMessage message;
+      while ((message = priorityClass.poll()) != null) {
+        message.promise.tryFailure(new ClosedChannelException());
+      }
+    }
+  }
+
+  private MessagePriority priority(final OutboundMessage message) {
+    final Capability capability = message.getCapability();
+    if (capability == null) {
+      // messages of the wire protocol, such as pings and disconnects
+      return MessagePriority.HIGH;
+    }
+    final SubProtocol subProtocol = multiplexer.subProtocol(capability);
+    return subProtocol == null
+        ? MessagePriority.NORMAL
+        : subProtocol.messagePriority(capability.getVersion(), message.getData().getCode());
+  }
+
+  private PriorityClass priorityClass(final MessagePriority priority) {
+    switch (priority) {
+      case HIGH:
+        return highPriority;
+      case LOW:
+        return lowPriority;
+      default:
+        return normalPriority;
+    }
+  }
+
+  private final class PriorityClass {
+    private final MessagePriority priority;
+    private final int quantum;
+    private final Deque<QueuedMessage> messages = new ArrayDeque<>();
+    private long bytes = 0;
+    private long deficit = 0;
+
+    private PriorityClass(final MessagePriority priority, final int quantum) {
+      this.priority = priority;
+      this.quantum = quantum;
+    }
+
+    private void add(final QueuedMessage message) {
+      messages.addLast(message);
+      bytes += message.size;
+      queuedMessages++;
+      metrics.messageQueued(priority, message.size);
+    }
+
+    private QueuedMessage poll() {
+      final QueuedMessage message = messages.pollFirst();
+      if (message != null) {
+        bytes -= message.size;
+        queuedMessages--;
+        metrics.messageRemoved(priority, message.size);
+      }
+      return message;
+    }
+  }
+
+  private static final class QueuedMessage {
+    private final OutboundMessage message;
+    private final ChannelPromise promise;
+    private final MessagePriority priority;
+    private final int size;
+    private final long queuedAt;
+    private final OperationTimer.TimingContext waitTime;
+
+    private QueuedMessage(
+        final OutboundMessage message,
+        final ChannelPromise promise,
+        final MessagePriority priority,
+        final int size,
+        final long queuedAt,
+        final OperationTimer.TimingContext waitTime) {
+      this.message = message;
+      this.promise = promise;
+      this.priority = priority;
+      this.size = size;
+      this.queuedAt = queuedAt;
+      this.waitTime = waitTime;
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Metrics shared by the {@link OutboundMessageQueue} of every connection. */
+final class OutboundQueueMetrics {
+
+  private final Map<MessagePriority, AtomicLong> queuedMessages =
+      new EnumMap<>(MessagePriority.class);
+  private final Map<MessagePriority, AtomicLong> queuedBytes = new EnumMap<>(MessagePriority.class);
+  private final Map<MessagePriority, OperationTimer> waitTimers =
+      new EnumMap<>(MessagePriority.class);
+  private final Counter staleMessagesDropped;
+  private final Counter overflowingMessagesDropped;
+
+  OutboundQueueMetrics(final MetricsSystem metricsSystem) {
+    final LabelledMetric<OperationTimer> waitTime =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.NETWORK,
+            "rlpx_outbound_queue_wait_seconds",
+            "Time messages wait in the outbound queue of a backed up connection",
+            "priority");
+    for (final MessagePriority priority : MessagePriority.values()) {
+      final String label = priority.name().toLowerCase(Locale.ROOT);
+      final AtomicLong messages = new AtomicLong();
+      final AtomicLong bytes = new AtomicLong();
+      metricsSystem.createLongGauge(
+          BesuMetricCategory.NETWORK,
+          "rlpx_outbound_queue_" + label + "_messages",
+          "The number of " + label + " priority messages queued for backed up connections",
+          messages::get);
+      metricsSystem.createLongGauge(
+          BesuMetricCategory.NETWORK,
+          "rlpx_outbound_queue_" + label + "_bytes",
+          "The size of the " + label + " priority messages queued for backed up connections",
+          bytes::get);
+      queuedMessages.put(priority, messages);
+      queuedBytes.put(priority, bytes);
+      waitTimers.put(priority, waitTime.labels(label));
+    }
+
+    final LabelledMetric<Counter> droppedMessages =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "rlpx_outbound_queue_dropped_count",
+            "Total number of low priority messages dropped from outbound queues before being sent",
+            "reason");
+    staleMessagesDropped = droppedMessages.labels("stale");
+    overflowingMessagesDropped = droppedMessages.labels("overflow");
+  }
+
+  OperationTimer.TimingContext startWaitTimer(final MessagePriority priority) {
+    return waitTimers.get(priority).startTimer();
+  }
+
+  void messageQueued(final MessagePriority priority, final int size) {
+    queuedMessages.get(priority).incrementAndGet();
+    queuedBytes.get(priority).addAndGet(size);
+  }
+
+  void messageRemoved(final MessagePriority priority, final int size) {
+    queuedMessages.get(priority).decrementAndGet();
+    queuedBytes.get(priority).addAndGet(-size);
+  }
+
+  void staleMessageDropped() {
+    staleMessagesDropped.inc();
+  }
+
+  void overflowingMessageDropped() {
+    overflowingMessagesDropped.inc();
+  }
+}
@@ -264,12 +264,16 @@ public class Framer {
     // Write message data to ByteBuf, decompressing as necessary
     final Bytes data;
     if (compressionEnabled) {
-      final byte[] compressedMessageData = Arrays.copyOfRange(frameData, 1, frameData.length - pad);
-      final int uncompressedLength = compressor.uncompressedLength(compressedMessageData);
+      // Decompress straight from the frame data, without copying the compressed message out
+      final int compressedLength = frameSize - LENGTH_MESSAGE_ID;
+      final int uncompressedLength =
+          compressor.uncompressedLength(frameData, LENGTH_MESSAGE_ID, compressedLength);
       if (uncompressedLength >= LENGTH_MAX_MESSAGE_FRAME) {
         throw error("Message size %s in excess of maximum length.", uncompressedLength);
       }
-      final byte[] decompressedMessageData = compressor.decompress(compressedMessageData);
+      final byte[] decompressedMessageData = new byte[uncompressedLength];
+      compressor.decompress(
+          frameData, LENGTH_MESSAGE_ID, compressedLength, decompressedMessageData);
       data = Bytes.wrap(decompressedMessageData);
     } else {
       // Move data to a ByteBuf
@@ -300,11 +304,11 @@ public class Framer {
         message.getSize() < LENGTH_MAX_MESSAGE_FRAME, "Message size in excess of maximum length.");
     // Compress message
     if (compressionEnabled) {
-      // Extract data from message
-      // Compress data
-      final byte[] compressed = compressor.compress(message.getData().toArrayUnsafe());
+      // Compress data, or reuse the data compressed when sending the message to another peer
+      final Bytes compressed =
+          message.getCompressedData(data -> Bytes.wrap(compressor.compress(data.toArrayUnsafe())));
       // Construct new, compressed message
-      frameMessage(new RawMessage(message.getCode(), Bytes.wrap(compressed)), output);
+      frameMessage(new RawMessage(message.getCode(), compressed), output);
     } else {
       frameMessage(message, output);
     }
@@ -45,6 +45,16 @@ public class SnappyCompressor {
     }
   }
 
+  public void decompress(
+      final byte[] compressed, final int offset, final int length, final byte[] uncompressed) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      Snappy.uncompress(compressed, offset, length, uncompressed, 0);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy decompression failed", e);
+    }
+  }
+
   public int uncompressedLength(final byte[] compressed) {
     checkNotNull(compressed, "input data must not be null");
     try {
@@ -53,4 +63,13 @@ public class SnappyCompressor {
       throw new FramingException("Snappy uncompressedLength failed", e);
     }
   }
+
+  public int uncompressedLength(final byte[] compressed, final int offset, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      return Snappy.uncompressedLength(compressed, offset, length);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy uncompressedLength failed", e);
+    }
+  }
 }
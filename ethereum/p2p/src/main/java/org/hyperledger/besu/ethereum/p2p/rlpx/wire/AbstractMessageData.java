@@ -15,12 +15,14 @@
 package org.hyperledger.besu.ethereum.p2p.rlpx.wire;
 
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 import org.apache.tuweni.bytes.Bytes;
 
 public abstract class AbstractMessageData implements MessageData {
 
   protected final Bytes data;
+  private volatile Bytes compressedData;
 
   protected AbstractMessageData(final Bytes data) {
     this.data = data;
@@ -36,6 +38,17 @@ public abstract class AbstractMessageData implements MessageData {
     return data;
   }
 
+  @Override
+  public Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+    // peers may compress the message concurrently the first time, with the same result
+    Bytes compressed = compressedData;
+    if (compressed == null) {
+      compressed = compressor.apply(data);
+      compressedData = compressed;
+    }
+    return compressed;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
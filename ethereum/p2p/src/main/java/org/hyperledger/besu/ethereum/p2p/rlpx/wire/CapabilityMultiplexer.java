@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableRangeMap;
@@ -107,6 +108,11 @@ public class CapabilityMultiplexer {
       public Bytes getData() {
         return originalMessage.getData();
       }
+
+      @Override
+      public Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+        return originalMessage.getCompressedData(compressor);
+      }
     };
   }
 
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.p2p.rlpx.wire;
 
+import java.util.function.UnaryOperator;
+
 import org.apache.tuweni.bytes.Bytes;
 
 /** A P2P Network Message's Data. */
@@ -39,4 +41,17 @@ public interface MessageData {
    * @return the serialized representation of this message
    */
   Bytes getData();
+
+  /**
+   * Get the serialized representation for this message, compressed for the wire.
+   *
+   * <p>A message sent to several peers may keep its compressed data, so that it is compressed once
+   * rather than once per peer. The same compressor must therefore be used for all calls.
+   *
+   * @param compressor the compressor of the wire protocol
+   * @return the compressed serialized representation of this message
+   */
+  default Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+    return compressor.apply(getData());
+  }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.wire;
+
+/**
+ * The order in which messages queued for a peer are sent once its connection is backed up. Messages
+ * of higher priority are always sent first. Messages of the remaining classes share the connection
+ * by bytes sent, so that large sync responses can't hold back transaction gossip indefinitely.
+ */
+public enum MessagePriority {
+  /** Consensus messages, new blocks and messages of the wire protocol. */
+  HIGH,
+  /** Requests and responses for syncing chain data. */
+  NORMAL,
+  /** Transaction gossip, which may be dropped if it can't be sent while it is still relevant. */
+  LOW
+}
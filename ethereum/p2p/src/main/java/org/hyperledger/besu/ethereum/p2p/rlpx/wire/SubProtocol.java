@@ -52,4 +52,16 @@ public interface SubProtocol {
    *     it is not a valid in the protocol.
    */
   String messageName(int protocolVersion, int code);
+
+  /**
+   * Returns the priority with which the given message is sent when the connection to a peer is
+   * backed up.
+   *
+   * @param protocolVersion The version of the protocol for the message code.
+   * @param code The message code.
+   * @return the priority of the message
+   */
+  default MessagePriority messagePriority(final int protocolVersion, final int code) {
+    return MessagePriority.NORMAL;
+  }
 }
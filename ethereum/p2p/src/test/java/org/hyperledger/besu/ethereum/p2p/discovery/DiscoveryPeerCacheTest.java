@@ -0,0 +1,141 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiscoveryPeerCacheTest {
+
+  private static final long NOW = 1_600_000_000_000L;
+
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
+  private final PeerDiscoveryTestHelper helper = new PeerDiscoveryTestHelper();
+  private Path cacheFile;
+  private DiscoveryPeerCache cache;
+
+  @Before
+  public void setUp() {
+    cacheFile = tempDir.getRoot().toPath().resolve("peers.json");
+    cache =
+        new DiscoveryPeerCache(cacheFile, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+  }
+
+  @Test
+  public void loadReturnsNothingWhenFileDoesNotExist() {
+    assertThat(cache.load()).isEmpty();
+  }
+
+  @Test
+  public void loadReturnsNothingWhenFileIsCorrupt() throws Exception {
+    Files.write(cacheFile, "not json".getBytes(UTF_8));
+
+    assertThat(cache.load()).isEmpty();
+  }
+
+  @Test
+  public void savedBondedPeersAreLoadedMostRecentlySeenFirst() {
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(3);
+    bond(peers.get(0), NOW - 3000);
+    bond(peers.get(1), NOW - 1000);
+    bond(peers.get(2), NOW - 2000);
+
+    cache.save(peers.stream());
+
+    final List<DiscoveryPeer> loaded = cache.load();
+    assertThat(loaded).containsExactly(peers.get(1), peers.get(2), peers.get(0));
+    assertThat(loaded.get(0).getLastSeen()).isEqualTo(NOW - 1000);
+  }
+
+  @Test
+  public void peersThatAreNotBondedAreNotSaved() {
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(2);
+    bond(peers.get(0), NOW);
+    peers.get(1).setStatus(PeerDiscoveryStatus.BONDING);
+    peers.get(1).setLastSeen(NOW);
+
+    cache.save(peers.stream());
+
+    assertThat(cache.load()).containsExactly(peers.get(0));
+  }
+
+  @Test
+  public void numberOfSavedPeersIsCapped() {
+    final List<DiscoveryPeer> peers =
+        helper.createDiscoveryPeers(DiscoveryPeerCache.MAX_CACHED_PEERS + 10);
+    for (int i = 0; i < peers.size(); i++) {
+      bond(peers.get(i), NOW - i);
+    }
+
+    cache.save(peers.stream());
+
+    assertThat(cache.load())
+        .containsExactlyElementsOf(peers.subList(0, DiscoveryPeerCache.MAX_CACHED_PEERS));
+  }
+
+  @Test
+  public void peersNotSeenRecentlyAreNotLoaded() {
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(2);
+    bond(peers.get(0), NOW - DiscoveryPeerCache.MAX_PEER_AGE_MS + 1);
+    bond(peers.get(1), NOW - DiscoveryPeerCache.MAX_PEER_AGE_MS - 1);
+
+    cache.save(peers.stream());
+
+    assertThat(cache.load()).containsExactly(peers.get(0));
+  }
+
+  @Test
+  public void savingWithoutBondedPeersKeepsPreviousCache() {
+    final DiscoveryPeer peer = helper.createDiscoveryPeer();
+    bond(peer, NOW);
+    cache.save(Stream.of(peer));
+
+    cache.save(Stream.empty());
+
+    assertThat(cache.load()).containsExactly(peer);
+  }
+
+  @Test
+  public void saveOverwritesPreviousCache() {
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(2);
+    peers.forEach(peer -> bond(peer, NOW));
+    cache.save(Stream.of(peers.get(0)));
+
+    cache.save(Stream.of(peers.get(1)));
+
+    assertThat(cache.load().stream().map(DiscoveryPeer::getId).collect(Collectors.toList()))
+        .containsExactly(peers.get(1).getId());
+  }
+
+  private void bond(final DiscoveryPeer peer, final long lastSeen) {
+    peer.setStatus(PeerDiscoveryStatus.BONDED);
+    peer.setLastSeen(lastSeen);
+  }
+}
@@ -38,18 +38,23 @@ import org.hyperledger.besu.ethereum.p2p.permissions.PeerPermissions;
 import org.hyperledger.besu.ethereum.p2p.permissions.PeerPermissions.Action;
 import org.hyperledger.besu.ethereum.p2p.permissions.PeerPermissionsDenylist;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class PeerDiscoveryAgentTest {
 
   private static final int BROADCAST_TCP_PORT = 30303;
   private final PeerDiscoveryTestHelper helper = new PeerDiscoveryTestHelper();
 
+  @Rule public TemporaryFolder tempDir = new TemporaryFolder();
+
   @Test
   public void createAgentWithInvalidBootnodes() {
     final EnodeURL invalidBootnode =
@@ -67,6 +72,36 @@ public class PeerDiscoveryAgentTest {
         .hasMessageContaining("Bootnodes must have discovery enabled");
   }
 
+  @Test
+  public void restartedAgentBondsWithCachedPeersWithoutBootnodes() throws Exception {
+    final Path peerCacheFile = tempDir.getRoot().toPath().resolve("peers.json");
+    final NodeKey nodeKey = NodeKeyUtils.generate();
+    final List<MockPeerDiscoveryAgent> otherAgents = helper.startDiscoveryAgents(3);
+    final List<DiscoveryPeer> otherPeers =
+        otherAgents.stream()
+            .map(MockPeerDiscoveryAgent::getAdvertisedPeer)
+            .map(Optional::get)
+            .collect(toList());
+
+    final MockPeerDiscoveryAgent agent =
+        helper.startDiscoveryAgent(
+            helper
+                .agentBuilder()
+                .nodeKey(nodeKey)
+                .peerCacheFile(peerCacheFile)
+                .bootstrapPeers(otherPeers));
+    assertThat(agent.streamDiscoveredPeers()).containsExactlyInAnyOrderElementsOf(otherPeers);
+    agent.stop().get();
+
+    // Without bootnodes, the restarted agent can only find its old peers through the cache
+    final MockPeerDiscoveryAgent restartedAgent =
+        helper.startDiscoveryAgent(
+            helper.agentBuilder().nodeKey(nodeKey).peerCacheFile(peerCacheFile));
+    assertThat(restartedAgent.streamDiscoveredPeers())
+        .containsExactlyInAnyOrderElementsOf(otherPeers)
+        .allMatch(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED);
+  }
+
   @Test
   public void neighborsPacketFromUnbondedPeerIsDropped() {
     // Start an agent with no bootstrap peers.
@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.permissions.PeerPermissions;
 import org.hyperledger.besu.nat.NatService;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -199,6 +200,7 @@ public class PeerDiscoveryTestHelper {
     private String advertisedHost = "127.0.0.1";
     private OptionalInt bindPort = OptionalInt.empty();
     private NodeKey nodeKey = NodeKeyUtils.generate();
+    private Optional<Path> peerCacheFile = Optional.empty();
 
     private AgentBuilder(
         final Map<Bytes, MockPeerDiscoveryAgent> agents, final AtomicInteger nextAvailablePort) {
@@ -256,6 +258,12 @@ public class PeerDiscoveryTestHelper {
       return this;
     }
 
+    public AgentBuilder peerCacheFile(final Path peerCacheFile) {
+      checkNotNull(peerCacheFile);
+      this.peerCacheFile = Optional.of(peerCacheFile);
+      return this;
+    }
+
     public MockPeerDiscoveryAgent build() {
       final int port = bindPort.orElseGet(nextAvailablePort::incrementAndGet);
       final DiscoveryConfiguration config = new DiscoveryConfiguration();
@@ -264,6 +272,7 @@ public class PeerDiscoveryTestHelper {
       config.setAdvertisedHost(advertisedHost);
       config.setBindPort(port);
       config.setActive(active);
+      peerCacheFile.ifPresent(config::setPeerCacheFile);
 
       return new MockPeerDiscoveryAgent(nodeKey, config, peerPermissions, agents, natService);
     }
@@ -129,6 +129,7 @@ public class MockPeerDiscoveryAgent extends PeerDiscoveryAgent {
   @Override
   public CompletableFuture<?> stop() {
     isRunning = false;
+    controller.ifPresent(PeerDiscoveryController::stop);
     return CompletableFuture.completedFuture(null);
   }
 
@@ -32,10 +32,12 @@ import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.crypto.NodeKey;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
+import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeerCache;
 import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerBondedObserver;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryTestHelper;
+import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerDiscoveryController.AsyncExecutor;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.permissions.PeerPermissions;
@@ -51,9 +53,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -483,6 +487,37 @@ public class PeerDiscoveryControllerTest {
         .isEqualTo(PeerDiscoveryStatus.BONDED);
   }
 
+  @Test
+  public void periodicPeerCacheSaveDoesNotOverwriteTheFinalSave() {
+    final MockTimerUtil timer = new MockTimerUtil();
+    final DiscoveryPeerCache peerCache = mock(DiscoveryPeerCache.class);
+    // hold the worker's tasks back, as if the periodic save were still queued when stopping
+    final List<Supplier<?>> workerTasks = new ArrayList<>();
+    final AsyncExecutor workerExecutor =
+        new AsyncExecutor() {
+          @Override
+          public <T> CompletableFuture<T> execute(final Supplier<T> action) {
+            workerTasks.add(action);
+            return new CompletableFuture<>();
+          }
+        };
+    controller =
+        getControllerBuilder()
+            .timerUtil(timer)
+            .workerExecutor(workerExecutor)
+            .peerCache(peerCache)
+            .build();
+    controller.start();
+
+    timer.runPeriodicHandlers();
+    assertThat(workerTasks).isNotEmpty();
+    controller.stop().join();
+    verify(peerCache, times(1)).save(any());
+
+    workerTasks.forEach(Supplier::get);
+    verify(peerCache, times(1)).save(any());
+  }
+
   private ControllerBuilder getControllerBuilder() {
     return ControllerBuilder.create()
         .nodeKey(localNodeKey)
@@ -811,6 +846,42 @@ public class PeerDiscoveryControllerTest {
         .send(eq(discoPeer), matchPacketOfType(PacketType.NEIGHBORS));
   }
 
+  @Test
+  public void shouldStopRespondingToPeerSendingTooManyNeighborsRequests() {
+    final List<DiscoveryPeer> peers = createPeersInLastBucket(localPeer, 1);
+
+    final DiscoveryPeer discoPeer = peers.get(0);
+
+    final OutboundMessageHandler outboundMessageHandler = mock(OutboundMessageHandler.class);
+    controller =
+        getControllerBuilder()
+            .peers(discoPeer)
+            .outboundMessageHandler(outboundMessageHandler)
+            .build();
+
+    final Endpoint localEndpoint = localPeer.getEndpoint();
+
+    // Setup ping to be sent to discoPeer
+    final List<NodeKey> nodeKeys = PeerDiscoveryTestHelper.generateNodeKeys(1);
+    final PingPacketData pingPacketData =
+        PingPacketData.create(localEndpoint, discoPeer.getEndpoint());
+    final Packet discoPeerPing = Packet.create(PacketType.PING, pingPacketData, nodeKeys.get(0));
+    mockPingPacketCreation(discoPeer, discoPeerPing);
+
+    controller.start();
+    final Packet pongFromDiscoPeer =
+        MockPacketDataFactory.mockPongPacket(discoPeer, discoPeerPing.getHash());
+    controller.onMessage(pongFromDiscoPeer, discoPeer);
+
+    final Packet findNeighborsPacket = MockPacketDataFactory.mockFindNeighborsPacket(discoPeer);
+    for (int i = 0; i < PeerDiscoveryController.MAX_FIND_NEIGHBORS_PER_WINDOW + 5; i++) {
+      controller.onMessage(findNeighborsPacket, discoPeer);
+    }
+
+    verify(outboundMessageHandler, times(PeerDiscoveryController.MAX_FIND_NEIGHBORS_PER_WINDOW))
+        .send(eq(discoPeer), matchPacketOfType(PacketType.NEIGHBORS));
+  }
+
   @Test
   public void shouldNotRespondToNeighborsRequestFromUnknownPeer() {
     final List<DiscoveryPeer> peers = createPeersInLastBucket(localPeer, 2);
@@ -1333,6 +1404,8 @@ public class PeerDiscoveryControllerTest {
     private static final PeerDiscoveryTestHelper helper = new PeerDiscoveryTestHelper();
     private final Subscribers<PeerBondedObserver> peerBondedObservers = Subscribers.create();
     private PeerPermissions peerPermissions = PeerPermissions.noop();
+    private AsyncExecutor workerExecutor = new BlockingAsyncExecutor();
+    private Optional<DiscoveryPeerCache> peerCache = Optional.empty();
 
     public static ControllerBuilder create() {
       return new ControllerBuilder();
@@ -1378,6 +1451,16 @@ public class PeerDiscoveryControllerTest {
       return this;
     }
 
+    ControllerBuilder workerExecutor(final AsyncExecutor workerExecutor) {
+      this.workerExecutor = workerExecutor;
+      return this;
+    }
+
+    ControllerBuilder peerCache(final DiscoveryPeerCache peerCache) {
+      this.peerCache = Optional.of(peerCache);
+      return this;
+    }
+
     PeerDiscoveryController build() {
       checkNotNull(nodeKey);
       if (localPeer == null) {
@@ -1394,7 +1477,8 @@ public class PeerDiscoveryControllerTest {
               .bootstrapNodes(discoPeers)
               .outboundMessageHandler(outboundMessageHandler)
               .timerUtil(timerUtil)
-              .workerExecutor(new BlockingAsyncExecutor())
+              .workerExecutor(workerExecutor)
+              .peerCache(peerCache)
               .tableRefreshIntervalMs(TABLE_REFRESH_INTERVAL_MS)
               .peerRequirement(PEER_REQUIREMENT)
               .peerPermissions(peerPermissions)
@@ -14,11 +14,14 @@
  */
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
 import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryTestHelper;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.AddOutcome;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.EvictResult;
@@ -30,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
 
 public class PeerTableTest {
@@ -175,4 +179,48 @@ public class PeerTableTest {
     final EvictResult evictResult = table.tryEvict(peer);
     assertThat(evictResult.getOutcome()).isEqualTo(EvictOutcome.SELF);
   }
+
+  @Test
+  public void nearestPeersAreTheClosestBondedPeers() {
+    final PeerTable table = new PeerTable(Peer.randomId(), 1000);
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(2000);
+    for (int i = 0; i < peers.size(); i++) {
+      // leave some peers unbonded, which must never be returned
+      if (i % 5 != 0) {
+        peers.get(i).setStatus(PeerDiscoveryStatus.BONDED);
+      }
+      table.tryAdd(peers.get(i));
+    }
+
+    for (int i = 0; i < 20; i++) {
+      // targets both outside and inside the table
+      final Bytes target = i % 2 == 0 ? Peer.randomId() : peers.get(i * 7).getId();
+      final Bytes32 targetKeccak256 = Hash.keccak256(target);
+      final List<Integer> expectedDistances =
+          table
+              .streamAllPeers()
+              .filter(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED)
+              .map(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256))
+              .sorted()
+              .limit(16)
+              .collect(toList());
+
+      final List<DiscoveryPeer> nearest = table.nearestPeers(target, 16);
+
+      assertThat(nearest).allMatch(peer -> peer.getStatus() == PeerDiscoveryStatus.BONDED);
+      assertThat(nearest)
+          .extracting(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256))
+          .containsExactlyElementsOf(expectedDistances);
+    }
+  }
+
+  @Test
+  public void nearestPeersReturnsFewerPeersThanLimitForSmallTable() {
+    final PeerTable table = new PeerTable(Peer.randomId(), 16);
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(5);
+    peers.forEach(peer -> peer.setStatus(PeerDiscoveryStatus.BONDED));
+    peers.forEach(table::tryAdd);
+
+    assertThat(table.nearestPeers(Peer.randomId(), 16)).containsExactlyInAnyOrderElementsOf(peers);
+  }
 }
@@ -86,6 +86,71 @@ public class P2PNetworkTest {
     }
   }
 
+  @Test
+  public void handshakingWithCustomTransportSettings() throws Exception {
+    final NetworkingConfiguration customConfig =
+        NetworkingConfiguration.create()
+            .setDiscovery(DiscoveryConfiguration.create().setActive(false))
+            .setRlpx(
+                RlpxConfiguration.create()
+                    .setBindPort(0)
+                    .setSupportedProtocols(subProtocol())
+                    .setNativeTransportEnabled(false)
+                    .setNettyWorkerThreads(2)
+                    .setNettyDirectArenas(1)
+                    .setSocketSendBufferSize(64 * 1024)
+                    .setSocketReceiveBufferSize(64 * 1024));
+    final NodeKey nodeKey = NodeKeyUtils.generate();
+    try (final P2PNetwork listener = builder().nodeKey(nodeKey).config(customConfig).build();
+        final P2PNetwork connector = builder().config(customConfig).build()) {
+
+      listener.start();
+      connector.start();
+      final EnodeURL listenerEnode = listener.getLocalEnode().get();
+      final Bytes listenId = listenerEnode.getNodeId();
+      final int listenPort = listenerEnode.getListeningPort().get();
+
+      assertThat(
+              connector
+                  .connect(createPeer(listenId, listenPort))
+                  .get(30L, TimeUnit.SECONDS)
+                  .getPeerInfo()
+                  .getNodeId())
+          .isEqualTo(listenId);
+    }
+  }
+
+  @Test
+  public void rejectIncomingConnectionsAboveHandshakeRateLimit() throws Exception {
+    final NetworkingConfiguration listenerConfig =
+        NetworkingConfiguration.create()
+            .setDiscovery(DiscoveryConfiguration.create().setActive(false))
+            .setRlpx(
+                RlpxConfiguration.create()
+                    .setBindPort(0)
+                    .setSupportedProtocols(subProtocol())
+                    .setHandshakeThreads(1)
+                    .setMaxInboundHandshakesPerIpPerMinute(1));
+    try (final P2PNetwork listener = builder().config(listenerConfig).build();
+        final P2PNetwork connector1 = builder().build();
+        final P2PNetwork connector2 = builder().build()) {
+
+      listener.start();
+      connector1.start();
+      connector2.start();
+      final EnodeURL listenerEnode = listener.getLocalEnode().get();
+      final Bytes listenId = listenerEnode.getNodeId();
+      final int listenPort = listenerEnode.getListeningPort().get();
+
+      assertThat(connector1.connect(createPeer(listenId, listenPort)).get(30L, TimeUnit.SECONDS))
+          .isNotNull();
+      // both connectors connect from the same address, which has used up its handshakes
+      assertThatThrownBy(
+              () -> connector2.connect(createPeer(listenId, listenPort)).get(30L, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalStateException.class);
+    }
+  }
+
   @Test
   public void preventMultipleConnections() throws Exception {
     final NodeKey listenNodeKey = NodeKeyUtils.generate();
@@ -394,6 +394,7 @@ public class DeFramerTest {
         Optional.ofNullable(expectedPeer),
         connectionEventDispatcher,
         connectFuture,
-        new NoOpMetricsSystem());
+        new NoOpMetricsSystem(),
+        new OutboundQueueMetrics(new NoOpMetricsSystem()));
   }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessagePriority;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.PingMessage;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OutboundMessageQueueTest {
+
+  private static final int HIGH = 0;
+  private static final int NORMAL = 1;
+  private static final int LOW = 2;
+  private static final Capability CAPABILITY = Capability.create("eth", 63);
+
+  private final Clock clock = mock(Clock.class);
+  private EmbeddedChannel channel;
+
+  @Before
+  public void setUp() {
+    final CapabilityMultiplexer multiplexer =
+        new CapabilityMultiplexer(List.of(subProtocol()), List.of(CAPABILITY), List.of(CAPABILITY));
+    channel =
+        new EmbeddedChannel(
+            new OutboundMessageQueue(
+                multiplexer, new OutboundQueueMetrics(new NoOpMetricsSystem()), clock));
+  }
+
+  @Test
+  public void messagesArePassedOnWhileConnectionIsWritable() {
+    final OutboundMessage low = message(LOW, 10);
+    final OutboundMessage high = message(HIGH, 10);
+
+    channel.writeAndFlush(low);
+    channel.writeAndFlush(high);
+
+    assertThat(readOutbound()).containsExactly(low, high);
+  }
+
+  @Test
+  public void higherPriorityMessagesAreSentFirstOnceConnectionDrains() {
+    setWritable(false);
+    final OutboundMessage low = message(LOW, 10);
+    final OutboundMessage normal = message(NORMAL, 10);
+    final OutboundMessage high = message(HIGH, 10);
+    final OutboundMessage wire = new OutboundMessage(null, PingMessage.get());
+
+    channel.writeAndFlush(low);
+    channel.writeAndFlush(normal);
+    channel.writeAndFlush(high);
+    channel.writeAndFlush(wire);
+    assertThat(readOutbound()).isEmpty();
+
+    setWritable(true);
+    assertThat(readOutbound()).containsExactly(high, wire, normal, low);
+  }
+
+  @Test
+  public void normalAndLowPriorityMessagesShareConnectionByBytes() {
+    setWritable(false);
+    final int size = OutboundMessageQueue.LOW_PRIORITY_QUANTUM;
+    final List<OutboundMessage> normal = new ArrayList<>();
+    final List<OutboundMessage> low = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      normal.add(message(NORMAL, size));
+      low.add(message(LOW, size));
+    }
+    normal.forEach(channel::write);
+    low.forEach(channel::write);
+    channel.flush();
+
+    setWritable(true);
+    assertThat(readOutbound())
+        .containsExactly(
+            normal.get(0),
+            normal.get(1),
+            normal.get(2),
+            low.get(0),
+            normal.get(3),
+            normal.get(4),
+            normal.get(5),
+            low.get(1),
+            low.get(2),
+            low.get(3),
+            low.get(4),
+            low.get(5));
+  }
+
+  @Test
+  public void staleLowPriorityMessagesAreDropped() {
+    when(clock.millis()).thenReturn(0L);
+    setWritable(false);
+    final ChannelFuture staleLow = channel.writeAndFlush(message(LOW, 10));
+    final OutboundMessage normal = message(NORMAL, 10);
+    channel.writeAndFlush(normal);
+    when(clock.millis()).thenReturn(OutboundMessageQueue.MAX_LOW_PRIORITY_AGE_MS);
+    final OutboundMessage low = message(LOW, 10);
+    channel.writeAndFlush(low);
+
+    when(clock.millis()).thenReturn(OutboundMessageQueue.MAX_LOW_PRIORITY_AGE_MS + 1);
+    setWritable(true);
+
+    assertThat(readOutbound()).containsExactly(normal, low);
+    assertThat(staleLow.isSuccess()).isFalse();
+    assertThat(staleLow.cause()).isNotNull();
+  }
+
+  @Test
+  public void oldestLowPriorityMessagesAreDroppedWhenTooManyAreQueued() {
+    setWritable(false);
+    final int size = (int) OutboundMessageQueue.MAX_LOW_PRIORITY_BYTES / 4;
+    final ChannelFuture oldest = channel.writeAndFlush(message(LOW, size));
+    final List<OutboundMessage> newest = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      newest.add(message(LOW, size));
+    }
+    newest.forEach(channel::writeAndFlush);
+
+    setWritable(true);
+
+    assertThat(readOutbound()).containsExactlyElementsOf(newest);
+    assertThat(oldest.cause()).isNotNull();
+  }
+
+  @Test
+  public void queuedMessagesFailWhenConnectionCloses() {
+    setWritable(false);
+    final ChannelFuture queued = channel.writeAndFlush(message(HIGH, 10));
+
+    channel.close();
+
+    assertThat(queued.cause()).isNotNull();
+    assertThat(readOutbound()).isEmpty();
+  }
+
+  private void setWritable(final boolean writable) {
+    channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+    channel.runPendingTasks();
+  }
+
+  private List<Object> readOutbound() {
+    final List<Object> messages = new ArrayList<>();
+    Object message;
+    while ((message = channel.readOutbound()) != null) {
+      messages.add(message);
+    }
+    return messages;
+  }
+
+  private static OutboundMessage message(final int code, final int size) {
+    return new OutboundMessage(CAPABILITY, new RawMessage(code, Bytes.wrap(new byte[size])));
+  }
+
+  private static SubProtocol subProtocol() {
+    return new SubProtocol() {
+      @Override
+      public String getName() {
+        return CAPABILITY.getName();
+      }
+
+      @Override
+      public int messageSpace(final int protocolVersion) {
+        return 8;
+      }
+
+      @Override
+      public boolean isValidMessageCode(final int protocolVersion, final int code) {
+        return true;
+      }
+
+      @Override
+      public String messageName(final int protocolVersion, final int code) {
+        return INVALID_MESSAGE_NAME;
+      }
+
+      @Override
+      public MessagePriority messagePriority(final int protocolVersion, final int code) {
+        return MessagePriority.values()[code];
+      }
+    };
+  }
+}
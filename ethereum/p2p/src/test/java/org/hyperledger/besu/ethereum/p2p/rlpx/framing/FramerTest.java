@@ -242,6 +242,61 @@ public class FramerTest {
     assertThatThrownBy(() -> receivingFramer.deframe(out)).isInstanceOf(FramingException.class);
   }
 
+  @Test
+  public void compressesMessageFramedForSeveralPeersOnlyOnce() throws IOException {
+    final JsonNode td = MAPPER.readTree(FramerTest.class.getResource("/peer1.json"));
+    final Framer[] senders = {new Framer(secretsFrom(td, true)), new Framer(secretsFrom(td, true))};
+    final Framer receiver = new Framer(secretsFrom(td, false));
+    for (final Framer sender : senders) {
+      sender.enableCompression();
+    }
+    receiver.enableCompression();
+
+    final byte[] data = new byte[1024];
+    new Random(1).nextBytes(data);
+    final MessageData message = new RawMessage(0x10, Bytes.wrap(data));
+
+    final ByteBuf first = Unpooled.buffer();
+    final ByteBuf second = Unpooled.buffer();
+    senders[0].frame(message, first);
+    senders[1].frame(message, second);
+
+    assertThat(
+            message.getCompressedData(
+                uncompressed -> {
+                  throw new AssertionError("Message compressed again");
+                }))
+        .isEqualTo(Bytes.wrap(Snappy.compress(data)));
+    // both peers' frames decrypt to the original message
+    assertThat(first).isEqualTo(second);
+    final MessageData received = receiver.deframe(first);
+    assertThat(received.getCode()).isEqualTo(0x10);
+    assertThat(received.getData()).isEqualTo(Bytes.wrap(data));
+  }
+
+  @Test
+  public void deframesCompressedMessagesWhateverTheirPadding() throws IOException {
+    final JsonNode td = MAPPER.readTree(FramerTest.class.getResource("/peer1.json"));
+    final Framer sender = new Framer(secretsFrom(td, true));
+    final Framer receiver = new Framer(secretsFrom(td, false));
+    sender.enableCompression();
+    receiver.enableCompression();
+
+    // the compressed payload follows the message id in the frame, and is followed by up to 15
+    // bytes of padding, so decompression must read just the payload out of the frame
+    final Random random = new Random(1);
+    for (int size = 0; size < 32; size++) {
+      final byte[] data = new byte[size];
+      random.nextBytes(data);
+      final ByteBuf framed = Unpooled.buffer();
+      sender.frame(new RawMessage(0x10, Bytes.wrap(data)), framed);
+
+      final MessageData received = receiver.deframe(framed);
+      assertThat(received.getCode()).isEqualTo(0x10);
+      assertThat(received.getData()).isEqualTo(Bytes.wrap(data));
+    }
+  }
+
   private HandshakeSecrets secretsFrom(final JsonNode td, final boolean swap) {
     final byte[] aes = decodeHexDump(td.get("aes_secret").asText());
     final byte[] mac = decodeHexDump(td.get("mac_secret").asText());
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
@@ -75,6 +76,41 @@ public class SnappyCompressorTest {
         .isInstanceOf(FramingException.class);
   }
 
+  @Test
+  public void decompressesFromWithinALargerArray() {
+    final byte[] data = "Sample text found within a frame".getBytes(StandardCharsets.UTF_8);
+    final byte[] compressed = snappy.compress(data);
+    // the compressed data sits between a prefix and trailing bytes, as in a padded frame
+    final byte[] frame = new byte[compressed.length + 9];
+    Arrays.fill(frame, (byte) 0xff);
+    System.arraycopy(compressed, 0, frame, 3, compressed.length);
+
+    assertThat(snappy.uncompressedLength(frame, 3, compressed.length)).isEqualTo(data.length);
+    final byte[] uncompressed = new byte[data.length];
+    snappy.decompress(frame, 3, compressed.length, uncompressed);
+    assertThat(uncompressed).isEqualTo(data);
+  }
+
+  @Test
+  public void shouldRejectTruncatedCompressedDataWithinALargerArray() {
+    final byte[] data = "Sample text found within a frame".getBytes(StandardCharsets.UTF_8);
+    final byte[] compressed = snappy.compress(data);
+    final byte[] frame = new byte[compressed.length + 4];
+    System.arraycopy(compressed, 0, frame, 1, compressed.length);
+
+    assertThatThrownBy(
+            () -> snappy.decompress(frame, 1, compressed.length - 2, new byte[data.length]))
+        .isInstanceOf(FramingException.class);
+  }
+
+  @Test
+  public void decompressWithOffsetNull() {
+    assertThatThrownBy(() -> snappy.decompress(null, 0, 0, new byte[0]))
+        .isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> snappy.uncompressedLength(null, 0, 0))
+        .isInstanceOf(NullPointerException.class);
+  }
+
   @Test
   public void roundTripEthereumData() {
     // First data set.
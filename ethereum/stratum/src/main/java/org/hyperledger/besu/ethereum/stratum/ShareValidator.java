@@ -0,0 +1,91 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.stratum;
+
+import org.hyperledger.besu.ethereum.mainnet.EthHashSolution;
+import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Verifies the solutions submitted by miners on a dedicated executor.
+ *
+ * <p>Checking a solution computes its EthHash, which must not happen on the event loop threads
+ * serving the miner connections: with many miners submitting at once, it would delay sending new
+ * work and lead to stale shares. Solutions for a job other than the current one are rejected as
+ * stale without being hashed.
+ */
+final class ShareValidator {
+
+  private final Executor executor;
+  private final OperationTimer shareLatencyTimer;
+  private final Counter acceptedShares;
+  private final Counter rejectedShares;
+  private final Counter staleShares;
+
+  ShareValidator(final Executor executor, final MetricsSystem metricsSystem) {
+    this.executor = executor;
+    shareLatencyTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.BLOCKCHAIN,
+            "stratum_share_latency_seconds",
+            "Time from when a miner submits a share until it has been verified");
+    final LabelledMetric<Counter> shares =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "stratum_shares_total",
+            "Count of shares submitted by miners, by result",
+            "result");
+    acceptedShares = shares.labels("accepted");
+    rejectedShares = shares.labels("rejected");
+    staleShares = shares.labels("stale");
+  }
+
+  /**
+   * Verifies a solution submitted by a miner.
+   *
+   * @param solution the submitted solution
+   * @param currentInput the job currently sent to miners, or null if there is none yet
+   * @param submitCallback submits the solution to the miner, returning whether it is valid
+   * @return a future completing with whether the solution was accepted
+   */
+  CompletableFuture<Boolean> validate(
+      final EthHashSolution solution,
+      final EthHashSolverInputs currentInput,
+      final Function<EthHashSolution, Boolean> submitCallback) {
+    if (currentInput == null
+        || !Arrays.equals(currentInput.getPrePowHash(), solution.getPowHash())) {
+      staleShares.inc();
+      return CompletableFuture.completedFuture(false);
+    }
+    final OperationTimer.TimingContext timingContext = shareLatencyTimer.startTimer();
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final boolean accepted = submitCallback.apply(solution);
+          timingContext.stopTimer();
+          (accepted ? acceptedShares : rejectedShares).inc();
+          return accepted;
+        },
+        executor);
+  }
+}
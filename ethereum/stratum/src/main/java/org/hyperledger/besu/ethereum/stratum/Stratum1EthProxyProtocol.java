@@ -25,14 +25,15 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.mainnet.DirectAcyclicGraphSeed;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolution;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.google.common.io.BaseEncoding;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -47,11 +48,20 @@ public class Stratum1EthProxyProtocol implements StratumProtocol {
   private static final JsonMapper mapper = new JsonMapper();
 
   private final MiningCoordinator miningCoordinator;
-  private EthHashSolverInputs currentInput;
-  private Function<EthHashSolution, Boolean> submitCallback;
+  private final ShareValidator shareValidator;
+  private volatile EthHashSolverInputs currentInput;
+  private volatile Function<EthHashSolution, Boolean> submitCallback;
 
   public Stratum1EthProxyProtocol(final MiningCoordinator miningCoordinator) {
+    this(
+        miningCoordinator,
+        new ShareValidator(MoreExecutors.directExecutor(), new NoOpMetricsSystem()));
+  }
+
+  Stratum1EthProxyProtocol(
+      final MiningCoordinator miningCoordinator, final ShareValidator shareValidator) {
     this.miningCoordinator = miningCoordinator;
+    this.shareValidator = shareValidator;
   }
 
   @Override
@@ -81,11 +91,12 @@ public class Stratum1EthProxyProtocol implements StratumProtocol {
   }
 
   private void sendNewWork(final StratumConnection conn, final Object id) {
-    byte[] dagSeed = DirectAcyclicGraphSeed.dagSeed(currentInput.getBlockNumber());
+    final EthHashSolverInputs input = currentInput;
+    byte[] dagSeed = DirectAcyclicGraphSeed.dagSeed(input.getBlockNumber());
     final String[] result = {
-      "0x" + BaseEncoding.base16().lowerCase().encode(currentInput.getPrePowHash()),
+      "0x" + BaseEncoding.base16().lowerCase().encode(input.getPrePowHash()),
       "0x" + BaseEncoding.base16().lowerCase().encode(dagSeed),
-      currentInput.getTarget().toHexString()
+      input.getTarget().toHexString()
     };
     JsonRpcSuccessResponse req = new JsonRpcSuccessResponse(id, result);
     try {
@@ -118,18 +129,27 @@ public class Stratum1EthProxyProtocol implements StratumProtocol {
   private void handleMiningSubmit(final StratumConnection conn, final JsonRpcRequest req)
       throws IOException {
     LOG.debug("Miner submitted solution {}", req);
-    boolean result = false;
     final EthHashSolution solution =
         new EthHashSolution(
             Bytes.fromHexString(req.getRequiredParameter(0, String.class)).getLong(0),
             req.getRequiredParameter(2, Hash.class),
             Bytes.fromHexString(req.getRequiredParameter(1, String.class)).toArrayUnsafe());
-    if (Arrays.equals(currentInput.getPrePowHash(), solution.getPowHash())) {
-      result = submitCallback.apply(solution);
-    }
-
-    String response = mapper.writeValueAsString(new JsonRpcSuccessResponse(req.getId(), result));
-    conn.send(response + "\n");
+    shareValidator
+        .validate(solution, currentInput, submitCallback)
+        .whenComplete(
+            (result, error) -> {
+              if (error != null) {
+                LOG.debug("Failed to verify solution {}", solution, error);
+              }
+              try {
+                String response =
+                    mapper.writeValueAsString(
+                        new JsonRpcSuccessResponse(req.getId(), error == null && result));
+                conn.send(response + "\n");
+              } catch (JsonProcessingException e) {
+                LOG.debug(e.getMessage(), e);
+              }
+            });
   }
 
   @Override
@@ -24,18 +24,19 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.mainnet.DirectAcyclicGraphSeed;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolution;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -58,11 +59,13 @@ public class Stratum1Protocol implements StratumProtocol {
 
   private final MiningCoordinator miningCoordinator;
   private final String extranonce;
-  private EthHashSolverInputs currentInput;
-  private Function<EthHashSolution, Boolean> submitCallback;
+  private volatile EthHashSolverInputs currentInput;
+  private volatile String currentWork;
+  private volatile Function<EthHashSolution, Boolean> submitCallback;
   private final Supplier<String> jobIdSupplier;
   private final Supplier<String> subscriptionIdCreator;
-  private final List<StratumConnection> activeConnections = new ArrayList<>();
+  private final ShareValidator shareValidator;
+  private final Set<StratumConnection> activeConnections = ConcurrentHashMap.newKeySet();
 
   public Stratum1Protocol(final String extranonce, final MiningCoordinator miningCoordinator) {
     this(
@@ -75,15 +78,45 @@ public class Stratum1Protocol implements StratumProtocol {
         Stratum1Protocol::createSubscriptionID);
   }
 
+  Stratum1Protocol(
+      final String extranonce,
+      final MiningCoordinator miningCoordinator,
+      final ShareValidator shareValidator) {
+    this(
+        extranonce,
+        miningCoordinator,
+        () -> {
+          Bytes timeValue = Bytes.minimalBytes(Instant.now().toEpochMilli());
+          return timeValue.slice(timeValue.size() - 4, 4).toShortHexString();
+        },
+        Stratum1Protocol::createSubscriptionID,
+        shareValidator);
+  }
+
   Stratum1Protocol(
       final String extranonce,
       final MiningCoordinator miningCoordinator,
       final Supplier<String> jobIdSupplier,
       final Supplier<String> subscriptionIdCreator) {
+    this(
+        extranonce,
+        miningCoordinator,
+        jobIdSupplier,
+        subscriptionIdCreator,
+        new ShareValidator(MoreExecutors.directExecutor(), new NoOpMetricsSystem()));
+  }
+
+  Stratum1Protocol(
+      final String extranonce,
+      final MiningCoordinator miningCoordinator,
+      final Supplier<String> jobIdSupplier,
+      final Supplier<String> subscriptionIdCreator,
+      final ShareValidator shareValidator) {
     this.extranonce = extranonce;
     this.miningCoordinator = miningCoordinator;
     this.jobIdSupplier = jobIdSupplier;
     this.subscriptionIdCreator = subscriptionIdCreator;
+    this.shareValidator = shareValidator;
   }
 
   @Override
@@ -122,27 +155,24 @@ public class Stratum1Protocol implements StratumProtocol {
 
   private void registerConnection(final StratumConnection conn) {
     activeConnections.add(conn);
-    if (currentInput != null) {
-      sendNewWork(conn);
+    final String work = currentWork;
+    if (work != null) {
+      conn.sendWork(work);
     }
   }
 
-  private void sendNewWork(final StratumConnection conn) {
-    byte[] dagSeed = DirectAcyclicGraphSeed.dagSeed(currentInput.getBlockNumber());
+  private String encodeWork(final EthHashSolverInputs input) throws JsonProcessingException {
+    byte[] dagSeed = DirectAcyclicGraphSeed.dagSeed(input.getBlockNumber());
     Object[] params =
         new Object[] {
           jobIdSupplier.get(),
-          Bytes.wrap(currentInput.getPrePowHash()).toHexString(),
+          Bytes.wrap(input.getPrePowHash()).toHexString(),
           Bytes.wrap(dagSeed).toHexString(),
-          currentInput.getTarget().toBytes().toHexString(),
+          input.getTarget().toBytes().toHexString(),
           true
         };
     JsonRpcRequest req = new JsonRpcRequest("2.0", "mining.notify", params);
-    try {
-      conn.send(mapper.writeValueAsString(req) + "\n");
-    } catch (JsonProcessingException e) {
-      LOG.debug(e.getMessage(), e);
-    }
+    return mapper.writeValueAsString(req) + "\n";
   }
 
   @Override
@@ -170,19 +200,27 @@ public class Stratum1Protocol implements StratumProtocol {
   private void handleMiningSubmit(final StratumConnection conn, final JsonRpcRequest message)
       throws IOException {
     LOG.debug("Miner submitted solution {}", message);
-    boolean result = false;
     final EthHashSolution solution =
         new EthHashSolution(
             Bytes.fromHexString(message.getRequiredParameter(2, String.class)).getLong(0),
             Hash.fromHexString(message.getRequiredParameter(4, String.class)),
             Bytes.fromHexString(message.getRequiredParameter(3, String.class)).toArrayUnsafe());
-    if (Arrays.equals(currentInput.getPrePowHash(), solution.getPowHash())) {
-      result = submitCallback.apply(solution);
-    }
-
-    String response =
-        mapper.writeValueAsString(new JsonRpcSuccessResponse(message.getId(), result));
-    conn.send(response + "\n");
+    shareValidator
+        .validate(solution, currentInput, submitCallback)
+        .whenComplete(
+            (result, error) -> {
+              if (error != null) {
+                LOG.debug("Failed to verify solution {}", solution, error);
+              }
+              try {
+                String response =
+                    mapper.writeValueAsString(
+                        new JsonRpcSuccessResponse(message.getId(), error == null && result));
+                conn.send(response + "\n");
+              } catch (JsonProcessingException e) {
+                LOG.debug(e.getMessage(), e);
+              }
+            });
   }
 
   private void handleMiningAuthorize(final StratumConnection conn, final JsonRpcRequest message)
@@ -197,10 +235,19 @@ public class Stratum1Protocol implements StratumProtocol {
 
   @Override
   public void setCurrentWorkTask(final EthHashSolverInputs input) {
+    final String work;
+    try {
+      // the same notification goes to every miner, so it is only encoded once
+      work = encodeWork(input);
+    } catch (JsonProcessingException e) {
+      LOG.debug(e.getMessage(), e);
+      return;
+    }
     this.currentInput = input;
-    LOG.debug("Sending new work to miners: {}", input);
+    this.currentWork = work;
+    LOG.debug("Sending new work to {} miners: {}", activeConnections.size(), input);
     for (StratumConnection conn : activeConnections) {
-      sendNewWork(conn);
+      conn.sendWork(work);
     }
   }
 
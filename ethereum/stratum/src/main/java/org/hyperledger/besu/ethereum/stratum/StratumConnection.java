@@ -18,6 +18,7 @@ import static org.apache.logging.log4j.LogManager.getLogger;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import com.google.common.base.Splitter;
@@ -36,16 +37,27 @@ final class StratumConnection {
   private final StratumProtocol[] protocols;
   private final Runnable closeHandle;
   private final Consumer<String> sender;
+  private final BooleanSupplier writable;
 
   private StratumProtocol protocol;
+  private String pendingWork;
 
   StratumConnection(
       final StratumProtocol[] protocols,
       final Runnable closeHandle,
       final Consumer<String> sender) {
+    this(protocols, closeHandle, sender, () -> true);
+  }
+
+  StratumConnection(
+      final StratumProtocol[] protocols,
+      final Runnable closeHandle,
+      final Consumer<String> sender,
+      final BooleanSupplier writable) {
     this.protocols = protocols;
     this.closeHandle = closeHandle;
     this.sender = sender;
+    this.writable = writable;
   }
 
   void handleBuffer(final Buffer buffer) {
@@ -102,4 +114,29 @@ final class StratumConnection {
     LOG.debug("Sending message {}", message);
     sender.accept(message);
   }
+
+  /**
+   * Sends new work to the miner. While the connection cannot take more writes, only the latest work
+   * is kept, to be sent once it drains: older work would only lead to stale shares.
+   *
+   * @param notification the message announcing the new work
+   */
+  synchronized void sendWork(final String notification) {
+    if (writable.getAsBoolean()) {
+      pendingWork = null;
+      send(notification);
+    } else {
+      LOG.trace("Connection congested, holding back work {}", notification);
+      pendingWork = notification;
+    }
+  }
+
+  /** Callback when the connection can take writes again. */
+  synchronized void drained() {
+    if (pendingWork != null) {
+      final String notification = pendingWork;
+      pendingWork = null;
+      send(notification);
+    }
+  }
 }
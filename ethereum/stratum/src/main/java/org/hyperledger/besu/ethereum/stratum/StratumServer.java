@@ -20,11 +20,15 @@ import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.chain.EthHashObserver;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolution;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.net.NetServer;
@@ -45,6 +49,7 @@ public class StratumServer implements EthHashObserver {
   private final String networkInterface;
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final StratumProtocol[] protocols;
+  private final ExecutorService shareValidationExecutor;
   private NetServer server;
 
   public StratumServer(
@@ -52,14 +57,25 @@ public class StratumServer implements EthHashObserver {
       final MiningCoordinator miningCoordinator,
       final int port,
       final String networkInterface,
-      final String extraNonce) {
+      final String extraNonce,
+      final MetricsSystem metricsSystem) {
     this.vertx = vertx;
     this.port = port;
     this.networkInterface = networkInterface;
+    // solutions are verified off the event loop, so sending work to miners is never held up
+    shareValidationExecutor =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("stratum-share-validation-%d")
+                .setDaemon(true)
+                .build());
+    final ShareValidator shareValidator =
+        new ShareValidator(shareValidationExecutor, metricsSystem);
     protocols =
         new StratumProtocol[] {
-          new Stratum1Protocol(extraNonce, miningCoordinator),
-          new Stratum1EthProxyProtocol(miningCoordinator)
+          new Stratum1Protocol(extraNonce, miningCoordinator, shareValidator),
+          new Stratum1EthProxyProtocol(miningCoordinator, shareValidator)
         };
   }
 
@@ -91,16 +107,36 @@ public class StratumServer implements EthHashObserver {
   private void handle(final NetSocket socket) {
     StratumConnection conn =
         new StratumConnection(
-            protocols, socket::close, bytes -> socket.write(Buffer.buffer(bytes)));
-    socket.handler(conn::handleBuffer);
+            protocols,
+            socket::close,
+            bytes -> socket.write(Buffer.buffer(bytes)),
+            () -> !socket.writeQueueFull());
+    socket.handler(
+        buffer -> {
+          conn.handleBuffer(buffer);
+          // stop reading requests from a miner that is not reading our responses
+          if (socket.writeQueueFull()) {
+            socket.pause();
+          }
+        });
+    socket.drainHandler(
+        v -> {
+          socket.resume();
+          conn.drained();
+        });
     socket.closeHandler(conn::close);
   }
 
+  int actualPort() {
+    return server.actualPort();
+  }
+
   public CompletableFuture<?> stop() {
     if (started.compareAndSet(true, false)) {
       CompletableFuture<?> result = new CompletableFuture<>();
       server.close(
           res -> {
+            shareValidationExecutor.shutdownNow();
             if (res.failed()) {
               result.completeExceptionally(
                   new StratumServerException(
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -132,6 +134,25 @@ public class StratumConnectionTest {
             "{\"jsonrpc\":\"2.0\",\"method\":\"mining.notify\",\"params\":[\"abcd\",\"0xdeadbeef\",\"0x0000000000000000000000000000000000000000000000000000000000000000\",\"0x0000000000000000000000000000000000000000000000000000000000000003\",true],\"id\":null}\n");
   }
 
+  @Test
+  public void onlyLatestWorkIsSentOnceCongestedConnectionDrains() {
+    AtomicBoolean writable = new AtomicBoolean(true);
+    List<String> messages = new ArrayList<>();
+
+    StratumConnection conn =
+        new StratumConnection(new StratumProtocol[] {}, () -> {}, messages::add, writable::get);
+    conn.sendWork("work1");
+    writable.set(false);
+    conn.sendWork("work2");
+    conn.sendWork("work3");
+    assertThat(messages).containsExactly("work1");
+
+    writable.set(true);
+    conn.drained();
+    conn.drained();
+    assertThat(messages).containsExactly("work1", "work3");
+  }
+
   @Test
   public void testStratum1SubmitHashrate() {
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.stratum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
+import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import io.vertx.core.parsetools.RecordParser;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Drives the server with many concurrent miners over local TCP connections. */
+public class StratumServerTest {
+
+  private static final int MINERS = 50;
+  private static final String PRE_POW_HASH =
+      "0xdeadbeefdeadbeefdeadbeefdeadbeefdeadbeefdeadbeefdeadbeefdeadbeef";
+  private static final String MIX_HASH =
+      "0x0101010101010101010101010101010101010101010101010101010101010101";
+
+  private final Vertx vertx = Vertx.vertx();
+  private final AtomicInteger submittedSolutions = new AtomicInteger();
+  private final List<Miner> miners = new ArrayList<>();
+  private StratumServer server;
+  private NetClient client;
+
+  @Before
+  public void startServer() throws Exception {
+    server =
+        new StratumServer(
+            vertx, mock(MiningCoordinator.class), 0, "127.0.0.1", "", new NoOpMetricsSystem());
+    server.setSubmitWorkCallback(
+        solution -> {
+          submittedSolutions.incrementAndGet();
+          return true;
+        });
+    server.start().get(10, TimeUnit.SECONDS);
+    client = vertx.createNetClient();
+    for (int i = 0; i < MINERS; i++) {
+      miners.add(connectMiner());
+    }
+  }
+
+  @After
+  public void stopServer() throws Exception {
+    client.close();
+    server.stop().get(10, TimeUnit.SECONDS);
+    vertx.close();
+  }
+
+  @Test
+  public void allMinersReceiveTheSameWork() throws Exception {
+    server.newJob(
+        new EthHashSolverInputs(
+            UInt256.valueOf(3), Bytes.fromHexString(PRE_POW_HASH).toArray(), 1));
+
+    final JsonArray firstWork = miners.get(0).nextMessage().getJsonArray("params");
+    assertThat(firstWork.getString(1)).isEqualTo(PRE_POW_HASH);
+    for (final Miner miner : miners.subList(1, MINERS)) {
+      assertThat(miner.nextMessage().getJsonArray("params")).isEqualTo(firstWork);
+    }
+  }
+
+  @Test
+  public void sharesFromAllMinersAreVerified() throws Exception {
+    server.newJob(
+        new EthHashSolverInputs(
+            UInt256.valueOf(3), Bytes.fromHexString(PRE_POW_HASH).toArray(), 1));
+    for (final Miner miner : miners) {
+      miner.nextMessage();
+    }
+
+    for (int i = 0; i < MINERS; i++) {
+      miners.get(i).submit(i, PRE_POW_HASH);
+    }
+
+    for (int i = 0; i < MINERS; i++) {
+      final JsonObject response = miners.get(i).nextMessage();
+      assertThat(response.getInteger("id")).isEqualTo(i);
+      assertThat(response.getBoolean("result")).isTrue();
+    }
+    assertThat(submittedSolutions.get()).isEqualTo(MINERS);
+  }
+
+  @Test
+  public void staleSharesAreRejectedWithoutVerification() throws Exception {
+    server.newJob(
+        new EthHashSolverInputs(
+            UInt256.valueOf(3), Bytes.fromHexString(PRE_POW_HASH).toArray(), 1));
+    final Miner miner = miners.get(0);
+    miner.nextMessage();
+
+    miner.submit(7, "0x" + "ab".repeat(32));
+
+    final JsonObject response = miner.nextMessage();
+    assertThat(response.getInteger("id")).isEqualTo(7);
+    assertThat(response.getBoolean("result")).isFalse();
+    assertThat(submittedSolutions.get()).isZero();
+  }
+
+  private Miner connectMiner() throws Exception {
+    final CompletableFuture<NetSocket> connected = new CompletableFuture<>();
+    client.connect(
+        server.actualPort(),
+        "127.0.0.1",
+        result -> {
+          if (result.succeeded()) {
+            connected.complete(result.result());
+          } else {
+            connected.completeExceptionally(result.cause());
+          }
+        });
+    final Miner miner = new Miner(connected.get(10, TimeUnit.SECONDS));
+    miner.send(
+        new JsonObject()
+            .put("id", 1)
+            .put("method", "mining.subscribe")
+            .put("params", new JsonArray().add("MinerName/1.0.0").add("EthereumStratum/1.0.0")));
+    miner.nextMessage();
+    miner.send(
+        new JsonObject()
+            .put("id", 2)
+            .put("method", "mining.authorize")
+            .put("params", new JsonArray().add("someusername").add("password")));
+    miner.nextMessage();
+    return miner;
+  }
+
+  private static class Miner {
+    private final NetSocket socket;
+    private final BlockingQueue<JsonObject> received = new LinkedBlockingQueue<>();
+
+    Miner(final NetSocket socket) {
+      this.socket = socket;
+      socket.handler(
+          RecordParser.newDelimited("\n", line -> received.add(new JsonObject(line.toString()))));
+    }
+
+    void send(final JsonObject message) {
+      socket.write(Buffer.buffer(message.encode() + "\n"));
+    }
+
+    void submit(final int id, final String powHash) {
+      send(
+          new JsonObject()
+              .put("id", id)
+              .put("method", "mining.submit")
+              .put(
+                  "params",
+                  new JsonArray()
+                      .add("someusername")
+                      .add("abcd")
+                      .add(Bytes.ofUnsignedLong(id).toHexString())
+                      .add(powHash)
+                      .add(MIX_HASH)));
+    }
+
+    JsonObject nextMessage() throws InterruptedException {
+      final JsonObject message = received.poll(10, TimeUnit.SECONDS);
+      assertThat(message).isNotNull();
+      return message;
+    }
+  }
+}